@@ -1,4 +1,5 @@
 import org.gradle.api.attributes.java.TargetJvmVersion
+import java.util.concurrent.TimeUnit
 
 plugins {
     id("java")
@@ -6,6 +7,12 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
 }
 
+// -PspringAot=true also bakes Spring AOT-processed bean definitions into the jar
+val springAot = providers.gradleProperty("springAot").map { it.toBoolean() }.getOrElse(false)
+if (springAot) {
+    apply(plugin = "org.springframework.boot.aot")
+}
+
 group = "com.example"
 version = "0.0.1-SNAPSHOT"
 
@@ -29,6 +36,11 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+    // Webhook delivery: connects only to the addresses its DnsResolver has checked
+    implementation("org.apache.httpcomponents.client5:httpclient5")
     implementation("org.flywaydb:flyway-core")
     
     // JWT
@@ -39,6 +51,10 @@ dependencies {
     // Database
     implementation("org.xerial:sqlite-jdbc:3.51.1.0")
     implementation("org.hibernate.orm:hibernate-community-dialects")
+
+    // Second-level cache
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
     
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     
@@ -54,3 +70,181 @@ tasks.withType<JavaCompile> {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("memory", "benchmark")
+    }
+}
+
+// Large-volume tests that must pass under a deliberately small heap
+val memoryTest by tasks.registering(Test::class) {
+    description = "Runs memory-bounded tests under a small heap."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("memory")
+    }
+    maxHeapSize = "64m"
+}
+
+tasks.named("check") {
+    dependsOn(memoryTest)
+}
+
+// Timing comparisons that print results instead of gating the build
+val benchmarkTest by tasks.registering(Test::class) {
+    description = "Runs benchmarks tagged with 'benchmark' and prints their results."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
+
+// JDK AOT cache (JEP 483/514). The cache is only valid for the exact classpath it
+// was trained on, so training and production both run the extracted boot jar.
+val aotJavaLauncher = javaToolchains.launcherFor {
+    languageVersion = JavaLanguageVersion.of(25)
+}
+val aotDir = layout.buildDirectory.dir("aot")
+val aotApplicationDir = aotDir.map { it.dir("application") }
+val aotCacheFile = aotApplicationDir.map { it.file("app.aot") }
+
+fun extractedJar(): File =
+    aotApplicationDir.get().asFile.listFiles { file -> file.extension == "jar" }!!.single()
+
+val extractBootJar by tasks.registering {
+    description = "Extracts the boot jar into the layout used with the JDK AOT cache."
+    group = "aot"
+    val bootJarFile = tasks.bootJar.flatMap { it.archiveFile }
+    inputs.file(bootJarFile)
+    outputs.dir(aotApplicationDir)
+    doLast {
+        val destination = aotApplicationDir.get().asFile
+        destination.deleteRecursively()
+        val java = aotJavaLauncher.get().executablePath.asFile.absolutePath
+        val exitCode = ProcessBuilder(
+            java, "-Djarmode=tools", "-jar", bootJarFile.get().asFile.absolutePath,
+            "extract", "--destination", destination.absolutePath
+        ).inheritIO().start().waitFor()
+        check(exitCode == 0) { "Boot jar extraction failed with exit code $exitCode" }
+    }
+}
+
+// The training traffic is the loadtest driver's aot-training profile, run against the API started here
+val aotTrainingClasspath = files(provider {
+    project(":loadtest").extensions.getByType<SourceSetContainer>()["main"].runtimeClasspath
+})
+
+val aotTrain by tasks.registering {
+    description = "Runs the training workload against the API and records a JDK AOT cache."
+    group = "aot"
+    dependsOn(extractBootJar, ":loadtest:classes")
+    inputs.files(aotTrainingClasspath)
+    outputs.file(aotCacheFile)
+    doLast {
+        val java = aotJavaLauncher.get().executablePath.asFile.absolutePath
+        val workDir = aotDir.get().asFile
+        val trainingDb = workDir.resolve("training.db").also { it.delete() }
+        val trainingLog = workDir.resolve("training.log")
+        val cache = aotCacheFile.get().asFile.also { it.delete() }
+        val port = providers.gradleProperty("aotTrainingPort").getOrElse("18080")
+
+        val command = mutableListOf(java, "-XX:AOTCacheOutput=${cache.absolutePath}")
+        if (springAot) {
+            command += "-Dspring.aot.enabled=true"
+        }
+        command += listOf(
+            "-jar", extractedJar().absolutePath,
+            "--server.port=$port",
+            "--spring.datasource.url=jdbc:sqlite:${trainingDb.absolutePath}",
+            "--spring.jpa.show-sql=false",
+            "--app.sweeper.enabled=false"
+        )
+        val app = ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(trainingLog)
+            .start()
+        try {
+            val workload = ProcessBuilder(
+                java, "-cp", aotTrainingClasspath.asPath, "com.example.api.loadtest.LoadTestMain",
+                "--base-url", "http://localhost:$port",
+                "--profile", "aot-training",
+                "--label", "aot-training",
+                "--organizations", "1",
+                "--users-per-project", "5",
+                "--rate", "20",
+                "--warmup", "PT0S",
+                "--duration", providers.gradleProperty("aotTrainingDuration").getOrElse("PT20S"),
+                "--output", workDir.resolve("training-report").absolutePath
+            ).inheritIO().start()
+            check(workload.waitFor() == 0) { "AOT training workload failed; see $trainingLog" }
+        } finally {
+            // SIGTERM lets the JVM exit normally, which is when the cache is written
+            app.destroy()
+            if (!app.waitFor(5, TimeUnit.MINUTES)) {
+                app.destroyForcibly()
+            }
+        }
+        check(cache.isFile) { "No AOT cache was written; see $trainingLog" }
+
+        val springAotMarker = aotApplicationDir.get().asFile.resolve("spring-aot.enabled")
+        if (springAot) springAotMarker.writeText("") else springAotMarker.delete()
+        logger.lifecycle("AOT cache written to $cache (${cache.length() / (1024 * 1024)} MB)")
+    }
+}
+
+val aotStartupBenchmark by tasks.registering {
+    description = "Compares time to a refreshed application context with and without the AOT cache."
+    group = "aot"
+    dependsOn(aotTrain)
+    doLast {
+        val java = aotJavaLauncher.get().executablePath.asFile.absolutePath
+        val workDir = aotDir.get().asFile
+        val runs = providers.gradleProperty("aotBenchmarkRuns").getOrElse("5").toInt()
+        val benchmarkDb = workDir.resolve("training.db").copyTo(workDir.resolve("benchmark.db"), overwrite = true)
+        val benchmarkLog = workDir.resolve("benchmark.log").also { it.delete() }
+
+        fun startupMillis(jvmArgs: List<String>): Long {
+            val command = mutableListOf(java)
+            command += jvmArgs
+            if (springAot) {
+                command += "-Dspring.aot.enabled=true"
+            }
+            command += listOf(
+                "-jar", extractedJar().absolutePath,
+                "--spring.context.exit=onRefresh",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:sqlite:${benchmarkDb.absolutePath}",
+                "--spring.jpa.show-sql=false",
+                "--app.sweeper.enabled=false"
+            )
+            val started = System.nanoTime()
+            val exitCode = ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(benchmarkLog))
+                .start()
+                .waitFor()
+            check(exitCode == 0) { "Benchmark run failed with exit code $exitCode; see $benchmarkLog" }
+            return (System.nanoTime() - started) / 1_000_000
+        }
+
+        // One untimed run of each so file-system caches are warm for both
+        startupMillis(emptyList())
+        val withCache = listOf("-XX:AOTCache=${aotCacheFile.get().asFile.absolutePath}", "-XX:AOTMode=on")
+        startupMillis(withCache)
+
+        val baseline = (1..runs).map { startupMillis(emptyList()) }.sorted()
+        val cached = (1..runs).map { startupMillis(withCache) }.sorted()
+        logger.lifecycle("Startup, median of $runs runs: ${baseline[runs / 2]} ms without AOT cache, ${cached[runs / 2]} ms with AOT cache")
+        logger.lifecycle("  without: $baseline")
+        logger.lifecycle("  with:    $cached")
+    }
+}
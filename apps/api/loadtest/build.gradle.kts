@@ -0,0 +1,55 @@
+plugins {
+    id("java")
+    id("application")
+    id("io.spring.dependency-management")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(25)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:4.0.2")
+    }
+}
+
+dependencies {
+    implementation("tools.jackson.core:jackson-databind")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+application {
+    mainClass = "com.example.api.loadtest.LoadTestMain"
+}
+
+// ./gradlew :loadtest:loadTest -PloadTest.rate=200 -PloadTest.duration=PT2M -PloadTest.label=baseline
+val loadTest by tasks.registering(JavaExec::class) {
+    description = "Boots the API against a temporary SQLite file, seeds tenants and drives a traffic mix."
+    group = "verification"
+    val bootJar = project(":").tasks.named("bootJar")
+    dependsOn(bootJar)
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = application.mainClass
+    javaLauncher = javaToolchains.launcherFor { languageVersion = JavaLanguageVersion.of(25) }
+
+    val reportsDir = layout.buildDirectory.dir("reports/loadtest")
+    doFirst {
+        val options = mutableListOf(
+            "--api-jar", bootJar.get().outputs.files.singleFile.absolutePath,
+            "--java", javaLauncher.get().executablePath.asFile.absolutePath,
+            "--output", reportsDir.get().asFile.absolutePath
+        )
+        // Every -PloadTest.<option>=<value> becomes --<option> <value>
+        providers.gradlePropertiesPrefixedBy("loadTest.").get().forEach { (key, value) ->
+            options += listOf("--" + key.removePrefix("loadTest."), value)
+        }
+        args = options
+    }
+}
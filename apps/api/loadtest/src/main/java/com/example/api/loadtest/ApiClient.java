@@ -0,0 +1,104 @@
+package com.example.api.loadtest;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal JSON-over-HTTP client for the API under test.
+ */
+public final class ApiClient implements AutoCloseable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Response status and parsed body; the body is {@code null} when empty or not JSON.
+     */
+    public record ApiResponse(int status, JsonNode body) {
+
+        public String text(String field) {
+            return body == null ? null : body.path(field).asString(null);
+        }
+    }
+
+    public ApiResponse get(String path, String bearerToken, String apiKey)
+            throws IOException, InterruptedException {
+        return send("GET", path, bearerToken, apiKey, null);
+    }
+
+    public ApiResponse post(String path, String bearerToken, String apiKey, Map<String, ?> body)
+            throws IOException, InterruptedException {
+        return send("POST", path, bearerToken, apiKey, body);
+    }
+
+    /**
+     * Sends a request and throws unless it returns the expected status; used while seeding.
+     */
+    public ApiResponse expect(int expectedStatus, String method, String path, String bearerToken, String apiKey,
+                              Map<String, ?> body) throws IOException, InterruptedException {
+        final var response = send(method, path, bearerToken, apiKey, body);
+        if (response.status() != expectedStatus) {
+            throw new IllegalStateException(method + " " + path + " returned " + response.status()
+                    + " (expected " + expectedStatus + "): " + response.body());
+        }
+        return response;
+    }
+
+    private ApiResponse send(String method, String path, String bearerToken, String apiKey, Map<String, ?> body)
+            throws IOException, InterruptedException {
+        final var builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT);
+        if (bearerToken != null) {
+            builder.header("Authorization", "Bearer " + bearerToken);
+        }
+        if (apiKey != null) {
+            builder.header("X-API-Key", apiKey);
+        }
+        if (body != null) {
+            builder.header("Content-Type", "application/json");
+            builder.method(method, HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        final var response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        return new ApiResponse(response.statusCode(), parse(response.body()));
+    }
+
+    private JsonNode parse(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            return jsonMapper.readTree(body);
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+}
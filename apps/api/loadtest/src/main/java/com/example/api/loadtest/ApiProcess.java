@@ -0,0 +1,122 @@
+package com.example.api.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The API under test, started from its boot jar against a temporary SQLite file.
+ *
+ * <p>Application output goes to {@code api.log} in the report directory so it can be
+ * inspected alongside the results.</p>
+ */
+public final class ApiProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Process process;
+    private final Path dataDirectory;
+    private final String baseUrl;
+
+    private ApiProcess(Process process, Path dataDirectory, String baseUrl) {
+        this.process = process;
+        this.dataDirectory = dataDirectory;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Starts the API and blocks until its health endpoint answers.
+     */
+    public static ApiProcess start(LoadTestConfig config) throws IOException, InterruptedException {
+        final var dataDirectory = Files.createTempDirectory("auctoritas-loadtest");
+        final var port = freePort();
+        final var command = new ArrayList<>(List.of(
+                config.java().toString(),
+                "-jar", config.apiJar().toString(),
+                "--server.port=" + port,
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:sqlite:" + dataDirectory.resolve("app.db"),
+                // Plan quotas and per-project bulkheads would turn the offered load
+                // into 429s and 503s instead of measuring it
+                "--app.quotas.enabled=false",
+                "--app.tenant-bulkheads.enabled=false"
+        ));
+        if (config.virtualThreads() != null) {
+            command.add("--spring.threads.virtual.enabled=" + config.virtualThreads());
+        }
+        Files.createDirectories(config.output());
+        final var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(config.output().resolve("api.log").toFile())
+                .start();
+
+        final var api = new ApiProcess(process, dataDirectory, "http://localhost:" + port);
+        try {
+            awaitHealthy(api.baseUrl, process);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            api.close();
+            throw e;
+        }
+        return api;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Blocks until the health endpoint at {@code baseUrl} answers, failing early if
+     * {@code process} (when the API was started here) exits first.
+     */
+    static void awaitHealthy(String baseUrl, Process process) throws IOException, InterruptedException {
+        try (var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build()) {
+            final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/health"))
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            final var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (process != null && !process.isAlive()) {
+                    throw new IllegalStateException("API exited with status " + process.exitValue() + " during startup");
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(250);
+            }
+        }
+        throw new IllegalStateException("API did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        try (var paths = Files.walk(dataDirectory)) {
+            for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.api.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tenants, keys and end users created by {@link Seeder} and shared by the workload.
+ */
+public record Fixture(List<Organization> organizations, List<Project> projects, List<SdkUser> users) {
+
+    public static final String PASSWORD = "LoadTest123!";
+
+    /**
+     * An organization and its owner's dashboard token.
+     */
+    public record Organization(String id, String accessToken) {
+    }
+
+    /**
+     * A project with its DEV key, which carries SDK traffic. Rotations only target the
+     * PROD key so SDK requests never race a key that was just revoked.
+     */
+    public record Project(Organization organization, String id, String sdkApiKey) {
+    }
+
+    /**
+     * A registered end user and the tokens from its seeding login.
+     */
+    public record SdkUser(Project project, String email, String accessToken, String refreshToken) {
+    }
+
+    public Project randomProject() {
+        return projects.get(ThreadLocalRandom.current().nextInt(projects.size()));
+    }
+
+    public SdkUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+}
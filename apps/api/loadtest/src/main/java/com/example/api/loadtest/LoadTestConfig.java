@@ -0,0 +1,144 @@
+package com.example.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Options for a load-test run, parsed from {@code --name value} pairs.
+ *
+ * <p>Operation weights are relative: {@code --sdk-login 6 --sdk-me 3 --key-rotation 1}
+ * sends roughly 60% logins, 30% profile reads and 10% rotations. A {@code --profile}
+ * picks a starting set of weights, which individual weight options then override.</p>
+ *
+ * <p>With {@code --base-url} the run drives an API that is already running instead
+ * of booting {@code --api-jar}; the AOT training task uses this. {@code --virtual-threads}
+ * starts the booted API with virtual threads on or off, to compare the two modes.</p>
+ */
+public record LoadTestConfig(
+        Path apiJar,
+        String baseUrl,
+        Boolean virtualThreads,
+        Path java,
+        Path output,
+        String label,
+        String profile,
+        int organizations,
+        int projectsPerOrganization,
+        int usersPerProject,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Map<Operation, Integer> weights
+) {
+
+    private static final Map<String, Map<Operation, Integer>> PROFILES = Map.of(
+            "mixed", Map.of(
+                    Operation.SDK_REGISTER, 5,
+                    Operation.SDK_LOGIN, 25,
+                    Operation.SDK_REFRESH, 15,
+                    Operation.SDK_ME, 35,
+                    Operation.ORG_DASHBOARD, 19,
+                    Operation.KEY_ROTATION, 1
+            ),
+            // Mostly rejected logins against real and unknown accounts, plus key probing
+            "credential-stuffing", Map.of(
+                    Operation.SDK_BAD_LOGIN, 85,
+                    Operation.SDK_BAD_KEY, 10,
+                    Operation.SDK_LOGIN, 5
+            ),
+            // The two SDK calls compared between platform and virtual threads
+            "threading", Map.of(
+                    Operation.SDK_LOGIN, 50,
+                    Operation.SDK_ME, 50
+            ),
+            // Every operation, including the 401 paths, so the AOT cache covers their classes
+            "aot-training", Map.of(
+                    Operation.SDK_REGISTER, 15,
+                    Operation.SDK_LOGIN, 15,
+                    Operation.SDK_REFRESH, 10,
+                    Operation.SDK_ME, 20,
+                    Operation.ORG_DASHBOARD, 20,
+                    Operation.KEY_ROTATION, 5,
+                    Operation.SDK_BAD_LOGIN, 10,
+                    Operation.SDK_BAD_KEY, 5
+            )
+    );
+
+    public LoadTestConfig {
+        if (organizations < 1 || projectsPerOrganization < 1 || usersPerProject < 1) {
+            throw new IllegalArgumentException("organizations, projects-per-org and users-per-project must be at least 1");
+        }
+        if (rate < 1) {
+            throw new IllegalArgumentException("rate must be at least 1 request per second");
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("At least one operation weight must be positive");
+        }
+        weights = Map.copyOf(weights);
+    }
+
+    /**
+     * Parses command-line options, falling back to defaults for anything not given.
+     */
+    public static LoadTestConfig parse(String[] args) {
+        Path apiJar = null;
+        String baseUrl = null;
+        Boolean virtualThreads = null;
+        var java = Path.of(System.getProperty("java.home"), "bin", "java");
+        var output = Path.of("build", "reports", "loadtest");
+        var label = "unlabelled";
+        var profile = "mixed";
+        var organizations = 3;
+        var projectsPerOrganization = 2;
+        var usersPerProject = 20;
+        var rate = 100;
+        var duration = Duration.ofMinutes(1);
+        var warmup = Duration.ofSeconds(15);
+        final var weightOverrides = new EnumMap<Operation, Integer>(Operation.class);
+
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option: " + args[i]);
+            }
+            final var value = args[i + 1];
+            switch (args[i]) {
+                case "--api-jar" -> apiJar = Path.of(value);
+                case "--base-url" -> baseUrl = value;
+                case "--virtual-threads" -> virtualThreads = Boolean.parseBoolean(value);
+                case "--java" -> java = Path.of(value);
+                case "--output" -> output = Path.of(value);
+                case "--label" -> label = value;
+                case "--profile" -> profile = value;
+                case "--organizations" -> organizations = Integer.parseInt(value);
+                case "--projects-per-org" -> projectsPerOrganization = Integer.parseInt(value);
+                case "--users-per-project" -> usersPerProject = Integer.parseInt(value);
+                case "--rate" -> rate = Integer.parseInt(value);
+                case "--duration" -> duration = Duration.parse(value);
+                case "--warmup" -> warmup = Duration.parse(value);
+                default -> {
+                    final var operation = Operation.fromOption(args[i].substring(2));
+                    if (operation == null) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    weightOverrides.put(operation, Integer.parseInt(value));
+                }
+            }
+        }
+        if (apiJar == null && baseUrl == null) {
+            throw new IllegalArgumentException("--api-jar or --base-url is required");
+        }
+        if (baseUrl != null && virtualThreads != null) {
+            throw new IllegalArgumentException("--virtual-threads only applies to an API started from --api-jar");
+        }
+        if (!PROFILES.containsKey(profile)) {
+            throw new IllegalArgumentException("Unknown profile: " + profile + ", expected one of " + PROFILES.keySet());
+        }
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        weights.putAll(PROFILES.get(profile));
+        weights.putAll(weightOverrides);
+        return new LoadTestConfig(apiJar, baseUrl, virtualThreads, java, output, label, profile, organizations, projectsPerOrganization,
+                usersPerProject, rate, duration, warmup, weights);
+    }
+}
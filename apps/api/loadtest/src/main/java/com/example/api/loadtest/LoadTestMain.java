@@ -0,0 +1,46 @@
+package com.example.api.loadtest;
+
+import java.time.Instant;
+
+/**
+ * Entry point for the {@code loadTest} Gradle task.
+ *
+ * <pre>
+ * ./gradlew :loadtest:loadTest -PloadTest.rate=200 -PloadTest.duration=PT2M -PloadTest.label=baseline
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final var config = LoadTestConfig.parse(args);
+        if (config.baseUrl() != null) {
+            ApiProcess.awaitHealthy(config.baseUrl(), null);
+            run(config, config.baseUrl());
+            return;
+        }
+        try (var api = ApiProcess.start(config)) {
+            run(config, api.baseUrl());
+        }
+    }
+
+    private static void run(LoadTestConfig config, String baseUrl) throws Exception {
+        try (var client = new ApiClient(baseUrl)) {
+            System.out.println("API running at " + baseUrl + ", seeding fixture");
+            final var fixture = new Seeder(client).seed(config);
+            System.out.printf("Seeded %d organizations, %d projects, %d users%n",
+                    fixture.organizations().size(), fixture.projects().size(), fixture.users().size());
+
+            System.out.printf("Driving %d req/s: %s warmup, %s measured%n",
+                    config.rate(), config.warmup(), config.duration());
+            final var startedAt = Instant.now();
+            final var results = new Workload(client, fixture, config).run();
+
+            for (final var path : new Report(config, startedAt, results).write()) {
+                System.out.println("Report written to " + path.toAbsolutePath());
+            }
+        }
+    }
+}
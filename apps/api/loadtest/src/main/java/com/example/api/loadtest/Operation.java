@@ -0,0 +1,45 @@
+package com.example.api.loadtest;
+
+/**
+ * Request types in the traffic mix, each selectable by a {@code --<option> <weight>} flag.
+ *
+ * <p>Rejection operations model attack traffic: they succeed when the API answers 401.</p>
+ */
+public enum Operation {
+    SDK_REGISTER("sdk-register", false),
+    SDK_LOGIN("sdk-login", false),
+    SDK_REFRESH("sdk-refresh", false),
+    SDK_ME("sdk-me", false),
+    ORG_DASHBOARD("org-dashboard", false),
+    KEY_ROTATION("key-rotation", false),
+    SDK_BAD_LOGIN("sdk-bad-login", true),
+    SDK_BAD_KEY("sdk-bad-key", true);
+
+    private final String option;
+    private final boolean rejection;
+
+    Operation(String option, boolean rejection) {
+        this.option = option;
+        this.rejection = rejection;
+    }
+
+    public String option() {
+        return option;
+    }
+
+    /**
+     * Whether the status is the outcome this operation is meant to produce.
+     */
+    public boolean isExpected(int status) {
+        return rejection ? status == 401 : status >= 200 && status < 300;
+    }
+
+    static Operation fromOption(String option) {
+        for (final var operation : values()) {
+            if (operation.option.equals(option)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.api.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a run's results as JSON (for diffing between commits) and HTML (for reading).
+ */
+public final class Report {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final LoadTestConfig config;
+    private final Instant startedAt;
+    private final Results results;
+
+    public Report(LoadTestConfig config, Instant startedAt, Results results) {
+        this.config = config;
+        this.startedAt = startedAt;
+        this.results = results;
+    }
+
+    /**
+     * Writes both reports to the configured output directory.
+     *
+     * @return the paths written, JSON first
+     */
+    public List<Path> write() throws IOException {
+        Files.createDirectories(config.output());
+        final var baseName = "loadtest-" + config.label().replaceAll("[^A-Za-z0-9._-]", "_")
+                + "-" + FILE_TIMESTAMP.format(startedAt);
+        final var json = toJson();
+        final var jsonPath = config.output().resolve(baseName + ".json");
+        final var htmlPath = config.output().resolve(baseName + ".html");
+        Files.writeString(jsonPath, jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(json));
+        Files.writeString(htmlPath, toHtml(json));
+        return List.of(jsonPath, htmlPath);
+    }
+
+    private ObjectNode toJson() {
+        final var seconds = config.duration().toNanos() / 1e9;
+        final var root = jsonMapper.createObjectNode();
+        root.put("label", config.label());
+        root.put("commit", gitCommit());
+        root.put("startedAt", startedAt.toString());
+
+        final var settings = root.putObject("config");
+        settings.put("profile", config.profile());
+        if (config.virtualThreads() != null) {
+            settings.put("virtualThreads", config.virtualThreads());
+        }
+        settings.put("organizations", config.organizations());
+        settings.put("projectsPerOrganization", config.projectsPerOrganization());
+        settings.put("usersPerProject", config.usersPerProject());
+        settings.put("rate", config.rate());
+        settings.put("duration", config.duration().toString());
+        settings.put("warmup", config.warmup().toString());
+        final var weights = settings.putObject("weights");
+        for (final var operation : Operation.values()) {
+            weights.put(operation.option(), config.weights().getOrDefault(operation, 0));
+        }
+
+        long totalRequests = 0;
+        long totalFailures = 0;
+        final var operations = root.putObject("operations");
+        for (final var operation : Operation.values()) {
+            final var successes = results.successes(operation);
+            final var failures = results.failureCount(operation);
+            if (successes + failures == 0) {
+                continue;
+            }
+            totalRequests += successes + failures;
+            totalFailures += failures;
+
+            final var node = operations.putObject(operation.option());
+            node.put("requests", successes + failures);
+            node.put("failures", failures);
+            node.put("throughput", round((successes + failures) / seconds));
+            final var histogram = results.latencyMicros(operation);
+            final var latency = node.putObject("latencyMillis");
+            latency.put("mean", round(histogram.getMean() / 1000.0));
+            for (final var percentile : PERCENTILES) {
+                latency.put(percentileName(percentile), millis(histogram.getValueAtPercentile(percentile)));
+            }
+            latency.put("max", millis(histogram.getMaxValue()));
+            final var breakdown = node.putObject("failureBreakdown");
+            results.failures(operation).forEach((outcome, count) -> breakdown.put(outcome, count.longValue()));
+        }
+
+        final var totals = root.putObject("totals");
+        totals.put("requests", totalRequests);
+        totals.put("failures", totalFailures);
+        totals.put("throughput", round(totalRequests / seconds));
+        return root;
+    }
+
+    private String toHtml(ObjectNode json) {
+        final var html = new StringBuilder();
+        html.append("""
+                <!DOCTYPE html>
+                <html lang="en">
+                <head>
+                <meta charset="utf-8">
+                <title>Load test: %s</title>
+                <style>
+                body { font-family: sans-serif; margin: 2rem; }
+                table { border-collapse: collapse; margin-bottom: 2rem; }
+                th, td { border: 1px solid #ccc; padding: 0.3rem 0.7rem; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                .failed { color: #b00020; }
+                </style>
+                </head>
+                <body>
+                """.formatted(escape(config.label())));
+        html.append("<h1>Load test: ").append(escape(config.label())).append("</h1>\n");
+        html.append("<p>Commit <code>").append(escape(json.path("commit").asString()))
+                .append("</code>, started ").append(escape(startedAt.toString()))
+                .append(", profile ").append(escape(config.profile()))
+                .append(config.virtualThreads() == null ? "" : ", virtual threads " + config.virtualThreads())
+                .append(", ").append(config.rate()).append(" req/s for ").append(config.duration())
+                .append(" after ").append(config.warmup()).append(" warmup. ")
+                .append(config.organizations()).append(" organizations, ")
+                .append(config.projectsPerOrganization()).append(" projects each, ")
+                .append(config.usersPerProject()).append(" users per project.</p>\n");
+
+        final var totals = json.path("totals");
+        html.append("<p>").append(totals.path("requests").asLong()).append(" requests, ")
+                .append(totals.path("throughput").asDouble()).append(" req/s, ")
+                .append(totals.path("failures").asLong()).append(" failures.</p>\n");
+
+        html.append("<h2>Latency (ms, requests with the expected outcome)</h2>\n<table>\n<tr><th>Operation</th><th>Requests</th>"
+                + "<th>req/s</th><th>Mean</th>");
+        for (final var percentile : PERCENTILES) {
+            html.append("<th>").append(percentileName(percentile)).append("</th>");
+        }
+        html.append("<th>Max</th><th>Failures</th></tr>\n");
+        for (final var entry : json.path("operations").properties()) {
+            final var node = entry.getValue();
+            final var latency = node.path("latencyMillis");
+            html.append("<tr><td>").append(escape(entry.getKey())).append("</td>")
+                    .append("<td>").append(node.path("requests").asLong()).append("</td>")
+                    .append("<td>").append(node.path("throughput").asDouble()).append("</td>")
+                    .append("<td>").append(latency.path("mean").asDouble()).append("</td>");
+            for (final var percentile : PERCENTILES) {
+                html.append("<td>").append(latency.path(percentileName(percentile)).asDouble()).append("</td>");
+            }
+            html.append("<td>").append(latency.path("max").asDouble()).append("</td>");
+            final var failures = node.path("failures").asLong();
+            html.append(failures > 0 ? "<td class=\"failed\">" : "<td>").append(failures).append("</td></tr>\n");
+        }
+        html.append("</table>\n");
+
+        html.append("<h2>Failures</h2>\n<table>\n<tr><th>Operation</th><th>Outcome</th><th>Count</th></tr>\n");
+        for (final var entry : json.path("operations").properties()) {
+            for (final var failure : entry.getValue().path("failureBreakdown").properties()) {
+                html.append("<tr><td>").append(escape(entry.getKey())).append("</td><td>")
+                        .append(escape(failure.getKey())).append("</td><td>")
+                        .append(failure.getValue().asLong()).append("</td></tr>\n");
+            }
+        }
+        html.append("</table>\n</body>\n</html>\n");
+        return html.toString();
+    }
+
+    private static String percentileName(double percentile) {
+        return "p" + (percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace(".", ""));
+    }
+
+    private static double millis(long micros) {
+        return round(micros / (double) TimeUnit.MILLISECONDS.toMicros(1));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String gitCommit() {
+        try {
+            final var process = new ProcessBuilder("git", "describe", "--always", "--dirty")
+                    .redirectErrorStream(true)
+                    .start();
+            final var output = new String(process.getInputStream().readAllBytes()).strip();
+            return process.waitFor() == 0 && !output.isEmpty() ? output : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+}
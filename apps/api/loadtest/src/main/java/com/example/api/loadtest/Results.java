@@ -0,0 +1,75 @@
+package com.example.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and outcome counts per operation, safe to record from any thread.
+ *
+ * <p>Only requests with the operation's expected outcome feed the latency histogram;
+ * fast unexpected errors would otherwise pull the percentiles down. Failures are
+ * counted by HTTP status or exception type instead.</p>
+ */
+public final class Results {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Operation, OperationResults> operations = new EnumMap<>(Operation.class);
+
+    public Results() {
+        for (final var operation : Operation.values()) {
+            operations.put(operation, new OperationResults());
+        }
+    }
+
+    /**
+     * Records one request.
+     *
+     * @param latencyNanos time from the request's scheduled start to its completion
+     * @param failure      {@code null} for the expected outcome, otherwise e.g. {@code "HTTP 503"} or an exception name
+     */
+    public void record(Operation operation, long latencyNanos, String failure) {
+        final var results = operations.get(operation);
+        if (failure == null) {
+            final var micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+            results.latencyMicros.recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+            results.successes.increment();
+        } else {
+            results.failures.computeIfAbsent(failure, key -> new LongAdder()).increment();
+        }
+    }
+
+    public Histogram latencyMicros(Operation operation) {
+        return operations.get(operation).latencyMicros;
+    }
+
+    public long successes(Operation operation) {
+        return operations.get(operation).successes.sum();
+    }
+
+    /**
+     * Failure counts by outcome, sorted by name.
+     */
+    public Map<String, Long> failures(Operation operation) {
+        final var counts = new TreeMap<String, Long>();
+        operations.get(operation).failures.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+
+    public long failureCount(Operation operation) {
+        return operations.get(operation).failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static final class OperationResults {
+        private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder successes = new LongAdder();
+        private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.api.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Creates the organizations, projects and end users a run needs, through the public API.
+ */
+public final class Seeder {
+
+    // Registrations are BCrypt-bound; more parallelism only queues on the server's hashing limit
+    private static final int PARALLELISM = 8;
+
+    private final ApiClient client;
+
+    public Seeder(ApiClient client) {
+        this.client = client;
+    }
+
+    public Fixture seed(LoadTestConfig config) throws Exception {
+        final var runId = UUID.randomUUID().toString().substring(0, 8);
+
+        final var organizationTasks = new ArrayList<Callable<Fixture.Organization>>();
+        for (int index = 0; index < config.organizations(); index++) {
+            final var organizationIndex = index;
+            organizationTasks.add(() -> createOrganization(runId, organizationIndex));
+        }
+        final var organizations = invokeAll(organizationTasks);
+
+        final var projectTasks = new ArrayList<Callable<Fixture.Project>>();
+        for (final var organization : organizations) {
+            for (int index = 0; index < config.projectsPerOrganization(); index++) {
+                final var projectIndex = index;
+                projectTasks.add(() -> createProject(organization, projectIndex));
+            }
+        }
+        final var projects = invokeAll(projectTasks);
+
+        final var userTasks = new ArrayList<Callable<Fixture.SdkUser>>();
+        for (final var project : projects) {
+            for (int index = 0; index < config.usersPerProject(); index++) {
+                final var email = "user-" + index + "-" + project.id() + "@loadtest.example";
+                userTasks.add(() -> createUser(project, email));
+            }
+        }
+        final var users = invokeAll(userTasks);
+
+        return new Fixture(organizations, projects, users);
+    }
+
+    private Fixture.Organization createOrganization(String runId, int index) throws Exception {
+        final var slug = "load-" + runId + "-" + index;
+        final var ownerEmail = "owner@" + slug + ".example";
+        final var registered = client.expect(201, "POST", "/api/v1/customers/orgs/register", null, null, Map.of(
+                "name", "Load " + runId + " " + index,
+                "slug", slug,
+                "ownerEmail", ownerEmail,
+                "ownerPassword", Fixture.PASSWORD,
+                "ownerName", "Load Owner"
+        ));
+        final var organizationId = registered.text("organizationId");
+        final var login = client.expect(200, "POST", "/api/v1/customers/auth/login", null, null, Map.of(
+                "organizationId", organizationId,
+                "email", ownerEmail,
+                "password", Fixture.PASSWORD
+        ));
+        return new Fixture.Organization(organizationId, login.text("accessToken"));
+    }
+
+    private Fixture.Project createProject(Fixture.Organization organization, int index) throws Exception {
+        final var created = client.expect(201, "POST",
+                "/api/v1/customers/orgs/" + organization.id() + "/projects", organization.accessToken(), null, Map.of(
+                        "name", "App " + index,
+                        "slug", "app-" + index,
+                        "description", "Load test project"
+                ));
+        String devKey = null;
+        for (final var apiKey : created.body().path("apiKeys")) {
+            if ("DEV".equals(apiKey.path("environmentType").asString(null))) {
+                devKey = apiKey.path("rawKey").asString(null);
+            }
+        }
+        if (devKey == null) {
+            throw new IllegalStateException("Project response has no DEV key: " + created.body());
+        }
+        return new Fixture.Project(organization, created.text("id"), devKey);
+    }
+
+    private Fixture.SdkUser createUser(Fixture.Project project, String email) throws Exception {
+        client.expect(201, "POST", "/api/v1/end-users/auth/register", null, project.sdkApiKey(), Map.of(
+                "email", email,
+                "password", Fixture.PASSWORD,
+                "name", "Load User"
+        ));
+        final var login = client.expect(200, "POST", "/api/v1/end-users/auth/login", null, project.sdkApiKey(), Map.of(
+                "email", email,
+                "password", Fixture.PASSWORD
+        ));
+        return new Fixture.SdkUser(project, email, login.text("accessToken"), login.text("refreshToken"));
+    }
+
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks) throws Exception {
+        try (var executor = Executors.newFixedThreadPool(PARALLELISM, Thread.ofVirtual().factory())) {
+            final var results = new ArrayList<T>(tasks.size());
+            for (final Future<T> future : executor.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.api.loadtest;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model traffic generator: requests start on a fixed schedule whether or not
+ * earlier ones have finished, each on its own virtual thread.
+ *
+ * <p>Latency is measured from the scheduled start rather than the moment the request
+ * was actually sent, so a stalled server shows up in the percentiles instead of
+ * silently lowering the offered rate (coordinated omission).</p>
+ */
+public final class Workload {
+
+    private final ApiClient client;
+    private final Fixture fixture;
+    private final LoadTestConfig config;
+    private final Operation[] operations = Operation.values();
+    private final int[] cumulativeWeights = new int[operations.length];
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong registrations = new AtomicLong();
+
+    public Workload(ApiClient client, Fixture fixture, LoadTestConfig config) {
+        this.client = client;
+        this.fixture = fixture;
+        this.config = config;
+        var total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += Math.max(config.weights().getOrDefault(operations[i], 0), 0);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Runs the warmup and measurement phases back to back and waits for in-flight requests.
+     * Only requests scheduled after the warmup are recorded.
+     */
+    public Results run() {
+        final var results = new Results();
+        final var intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        final var start = System.nanoTime();
+        final var measureFrom = start + config.warmup().toNanos();
+        final var end = measureFrom + config.duration().toNanos();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                final var scheduledStart = start + i * intervalNanos;
+                if (scheduledStart >= end) {
+                    break;
+                }
+                long remaining;
+                while ((remaining = scheduledStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(remaining);
+                }
+                final var operation = nextOperation();
+                final var recorder = scheduledStart >= measureFrom ? results : null;
+                executor.execute(() -> execute(operation, scheduledStart, recorder));
+            }
+        }
+        return results;
+    }
+
+    private Operation nextOperation() {
+        final var pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weights do not cover " + pick);
+    }
+
+    private void execute(Operation operation, long scheduledStart, Results results) {
+        String failure;
+        try {
+            final var response = send(operation);
+            failure = operation.isExpected(response.status()) ? null : "HTTP " + response.status();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (IOException | RuntimeException e) {
+            failure = e.getClass().getSimpleName();
+        }
+        if (results != null) {
+            results.record(operation, System.nanoTime() - scheduledStart, failure);
+        }
+    }
+
+    private ApiClient.ApiResponse send(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case SDK_REGISTER -> {
+                final var project = fixture.randomProject();
+                final var email = "new-" + runId + "-" + registrations.incrementAndGet() + "@loadtest.example";
+                yield client.post("/api/v1/end-users/auth/register", null, project.sdkApiKey(), Map.of(
+                        "email", email,
+                        "password", Fixture.PASSWORD,
+                        "name", "Load User"
+                ));
+            }
+            case SDK_LOGIN -> {
+                final var user = fixture.randomUser();
+                yield client.post("/api/v1/end-users/auth/login", null, user.project().sdkApiKey(), Map.of(
+                        "email", user.email(),
+                        "password", Fixture.PASSWORD
+                ));
+            }
+            // SDK end users are users, so their refresh tokens go through the shared endpoint
+            case SDK_REFRESH -> client.post("/api/auth/refresh", null, null,
+                    Map.of("refreshToken", fixture.randomUser().refreshToken()));
+            case SDK_ME -> {
+                final var user = fixture.randomUser();
+                yield client.get("/api/v1/end-users/me", user.accessToken(), user.project().sdkApiKey());
+            }
+            case ORG_DASHBOARD -> {
+                final var project = fixture.randomProject();
+                final var organization = project.organization();
+                final var path = switch (ThreadLocalRandom.current().nextInt(3)) {
+                    case 0 -> "/api/v1/customers/orgs/" + organization.id() + "/projects";
+                    case 1 -> "/api/v1/customers/orgs/" + organization.id() + "/projects/" + project.id();
+                    default -> "/api/v1/customers/orgs/" + organization.id() + "/projects/" + project.id() + "/keys";
+                };
+                yield client.get(path, organization.accessToken(), null);
+            }
+            case SDK_BAD_LOGIN -> {
+                final var user = fixture.randomUser();
+                // Half wrong passwords for real accounts (a full hash check), half unknown emails
+                final var email = ThreadLocalRandom.current().nextBoolean()
+                        ? user.email()
+                        : "stuffed-" + ThreadLocalRandom.current().nextInt(1_000_000) + "@loadtest.example";
+                yield client.post("/api/v1/end-users/auth/login", null, user.project().sdkApiKey(), Map.of(
+                        "email", email,
+                        "password", "Wrong" + ThreadLocalRandom.current().nextInt(1_000_000)
+                ));
+            }
+            case SDK_BAD_KEY -> client.post("/api/v1/end-users/auth/login", null,
+                    "pk_invalid_" + ThreadLocalRandom.current().nextInt(1_000_000), Map.of(
+                            "email", fixture.randomUser().email(),
+                            "password", Fixture.PASSWORD
+                    ));
+            case KEY_ROTATION -> {
+                final var project = fixture.randomProject();
+                yield client.post("/api/v1/customers/orgs/" + project.organization().id()
+                                + "/projects/" + project.id() + "/keys",
+                        project.organization().accessToken(), null, Map.of("environmentId", "PROD"));
+            }
+        };
+    }
+}
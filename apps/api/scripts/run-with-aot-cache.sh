@@ -0,0 +1,24 @@
+#!/usr/bin/env sh
+# Starts the API from the extracted jar produced by `./gradlew aotTrain`,
+# using the JDK AOT cache (and Spring AOT bean definitions) when present.
+set -eu
+
+APP_DIR="${APP_DIR:-$(dirname "$0")/../build/aot/application}"
+JAR="$(find "$APP_DIR" -maxdepth 1 -name '*.jar' | head -n 1)"
+
+if [ -z "$JAR" ]; then
+    echo "No extracted jar in $APP_DIR; run ./gradlew aotTrain first" >&2
+    exit 1
+fi
+
+set -- -jar "$JAR" "$@"
+if [ -f "$APP_DIR/spring-aot.enabled" ]; then
+    set -- -Dspring.aot.enabled=true "$@"
+fi
+if [ -f "$APP_DIR/app.aot" ]; then
+    set -- "-XX:AOTCache=$APP_DIR/app.aot" "$@"
+fi
+
+# JAVA_OPTS is intentionally unquoted so it can carry several options
+# shellcheck disable=SC2086
+exec java ${JAVA_OPTS:-} "$@"
@@ -4,9 +4,13 @@ import com.example.api.application.apikey.dto.RotateApiKeyRequest;
 import com.example.api.application.apikey.dto.RotatedApiKeyResponse;
 import com.example.api.domain.apikey.ApiKey;
 import com.example.api.domain.apikey.ApiKeyRepository;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.environment.Environment;
 import com.example.api.domain.environment.EnvironmentRepository;
 import com.example.api.domain.environment.EnvironmentType;
+import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.project.ProjectId;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,15 +27,21 @@ public class RotateProjectApiKeyUseCase {
 
     private final ApiKeyRepository apiKeyRepository;
     private final EnvironmentRepository environmentRepository;
+    private final AuditEventPublisher auditEventPublisher;
 
     public RotateProjectApiKeyUseCase(ApiKeyRepository apiKeyRepository,
-                                      EnvironmentRepository environmentRepository) {
+                                      EnvironmentRepository environmentRepository,
+                                      AuditEventPublisher auditEventPublisher) {
         this.apiKeyRepository = apiKeyRepository;
         this.environmentRepository = environmentRepository;
+        this.auditEventPublisher = auditEventPublisher;
     }
 
     @Transactional
-    public RotatedApiKeyResponse execute(ProjectId projectId, RotateApiKeyRequest request) {
+    public RotatedApiKeyResponse execute(OrganizationId organizationId,
+                                         ProjectId projectId,
+                                         String actorId,
+                                         RotateApiKeyRequest request) {
         final var environment = environmentRepository
             .findByProjectIdAndType(projectId, EnvironmentType.valueOf(request.environmentId()))
             .orElseThrow(() -> new IllegalArgumentException("Environment not found for project"));
@@ -57,6 +67,14 @@ public class RotateProjectApiKeyUseCase {
         );
 
         apiKeyRepository.save(newApiKey);
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.API_KEY_ROTATED,
+                actorId,
+                organizationId,
+                projectId,
+                newApiKey.getId().value(),
+                "revoked=" + keyToRevoke.getId().value() + " environment=" + environment.getEnvironmentType()
+        ));
 
         return RotatedApiKeyResponse.from(newApiKey, environment.getEnvironmentType(), rawKey);
     }
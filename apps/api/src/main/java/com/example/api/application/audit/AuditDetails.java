@@ -0,0 +1,57 @@
+package com.example.api.application.audit;
+
+import com.example.api.domain.user.Email;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * Builds {@code detail} values for audit events.
+ */
+@Component
+public class AuditDetails {
+
+    static final String UNKNOWN_EMAIL = "unknown_email";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // 64 bits is enough to tell attempted addresses apart
+    private static final int EMAIL_HASH_BYTES = 8;
+
+    private final SecretKeySpec emailHashKey;
+
+    public AuditDetails(@Value("${app.audit.email-hash-key}") String emailHashKey) {
+        if (emailHashKey == null || emailHashKey.isBlank()) {
+            throw new IllegalArgumentException("app.audit.email-hash-key must be set");
+        }
+        this.emailHashKey = new SecretKeySpec(emailHashKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Detail for a failed login whose email matches no account.
+     *
+     * <p>The address is not an identity the system knows, so it is not stored
+     * as the actor. A truncated HMAC-SHA256 of it under a server-side key is
+     * kept instead. Repeated attempts against the same address can still be
+     * correlated, but without the key a list of known addresses cannot be
+     * hashed and matched against the log.</p>
+     */
+    public String unknownEmail(Email email) {
+        return UNKNOWN_EMAIL + " email_hmac=" + hash(email.value());
+    }
+
+    private String hash(String value) {
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(emailHashKey);
+            final var hash = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, EMAIL_HASH_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.api.application.audit;
+
+import com.example.api.domain.audit.AuditEventCursor;
+import com.example.api.domain.audit.AuditEventId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes {@link AuditEventCursor} positions as opaque URL-safe tokens.
+ */
+final class AuditEventCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private AuditEventCursorCodec() {
+        // Utility class
+    }
+
+    static String encode(AuditEventCursor cursor) {
+        final var raw = cursor.occurredAt().toString() + SEPARATOR + cursor.id().value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static AuditEventCursor decode(String token) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final var separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new AuditEventCursor(
+                    Instant.parse(raw.substring(0, separatorIndex)),
+                    AuditEventId.of(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.api.application.audit;
+
+import java.util.List;
+
+/**
+ * Response DTO for one keyset page of audit events.
+ *
+ * <p>{@code nextCursor} is {@code null} when there are no further pages.</p>
+ */
+public record AuditEventPageResponse(
+        List<AuditEventResponse> items,
+        String nextCursor
+) {
+}
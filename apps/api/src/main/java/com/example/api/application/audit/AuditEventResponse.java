@@ -0,0 +1,34 @@
+package com.example.api.application.audit;
+
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventType;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a single audit event.
+ */
+public record AuditEventResponse(
+        String id,
+        AuditEventType type,
+        Instant occurredAt,
+        String actorId,
+        String organizationId,
+        String projectId,
+        String subjectId,
+        String detail
+) {
+
+    public static AuditEventResponse from(AuditEvent event) {
+        return new AuditEventResponse(
+                event.id().value(),
+                event.type(),
+                event.occurredAt(),
+                event.actorId(),
+                event.organizationId() != null ? event.organizationId().value() : null,
+                event.projectId() != null ? event.projectId().value() : null,
+                event.subjectId(),
+                event.detail()
+        );
+    }
+}
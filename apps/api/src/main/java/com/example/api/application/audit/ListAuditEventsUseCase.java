@@ -0,0 +1,75 @@
+package com.example.api.application.audit;
+
+import com.example.api.domain.audit.AuditEventCursor;
+import com.example.api.domain.audit.AuditEventFilter;
+import com.example.api.domain.audit.AuditEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Use case for querying the security audit log, newest events first.
+ * Supports filtering by organization, project and time range, alone or combined.
+ */
+@Component
+public class ListAuditEventsUseCase {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final AuditEventRepository auditEventRepository;
+
+    public ListAuditEventsUseCase(AuditEventRepository auditEventRepository) {
+        this.auditEventRepository = auditEventRepository;
+    }
+
+    /**
+     * Returns one keyset page of audit events.
+     *
+     * @param organizationId optional organization filter
+     * @param projectId      optional project filter
+     * @param from           optional inclusive lower bound on event time
+     * @param to             optional exclusive upper bound on event time
+     * @param cursor         opaque cursor from a previous page, or {@code null} for the first page
+     * @param limit          requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     */
+    @Transactional(readOnly = true)
+    public AuditEventPageResponse execute(String organizationId,
+                                          String projectId,
+                                          Instant from,
+                                          Instant to,
+                                          String cursor,
+                                          Integer limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        final var filter = AuditEventFilter.of(organizationId, projectId, from, to);
+        final var after = Optional.ofNullable(cursor)
+                .filter(value -> !value.isBlank())
+                .map(AuditEventCursorCodec::decode);
+        final var pageSize = pageSize(limit);
+
+        // Fetch one extra row to learn whether another page exists
+        final var events = auditEventRepository.findPage(filter, after, pageSize + 1);
+        final var hasMore = events.size() > pageSize;
+        final var page = hasMore ? events.subList(0, pageSize) : events;
+
+        final var nextCursor = hasMore
+                ? AuditEventCursorCodec.encode(AuditEventCursor.of(page.getLast()))
+                : null;
+
+        return new AuditEventPageResponse(
+                page.stream().map(AuditEventResponse::from).toList(),
+                nextCursor
+        );
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.api.application.auth;
 
+import com.example.api.application.audit.AuditDetails;
 import com.example.api.application.auth.dto.AuthResponse;
 import com.example.api.application.auth.dto.LoginRequest;
 import com.example.api.application.auth.dto.UserDto;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.user.Email;
 import com.example.api.domain.user.PasswordEncoder;
 import com.example.api.domain.user.UserRepository;
@@ -20,15 +24,21 @@ public class LoginUseCase {
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final AuthSessionService authSessionService;
+    private final AuditEventPublisher auditEventPublisher;
+    private final AuditDetails auditDetails;
 
     public LoginUseCase(UserRepository userRepository,
                         PasswordEncoder passwordEncoder,
                         TokenProvider tokenProvider,
-                        AuthSessionService authSessionService) {
+                        AuthSessionService authSessionService,
+                        AuditEventPublisher auditEventPublisher,
+                        AuditDetails auditDetails) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
         this.authSessionService = authSessionService;
+        this.auditEventPublisher = auditEventPublisher;
+        this.auditDetails = auditDetails;
     }
 
     /**
@@ -42,20 +52,32 @@ public class LoginUseCase {
     public AuthResponse execute(LoginRequest request) {
         final var email = new Email(request.email());
 
-        final var user = userRepository.findByEmail(email)
-                .orElseThrow(InvalidCredentialsException::new);
+        final var user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            recordFailure(null, auditDetails.unknownEmail(email));
+            throw new InvalidCredentialsException();
+        }
 
         if (!user.canLogin()) {
+            recordFailure(user.getId().value(), "banned");
             throw new UserBannedException();
         }
 
         if (!user.getPassword().matches(request.password(), passwordEncoder)) {
+            recordFailure(user.getId().value(), "invalid_password");
             throw new InvalidCredentialsException();
         }
 
         final var accessToken = tokenProvider.generateAccessToken(user);
         final var refreshToken = tokenProvider.generateRefreshToken(user);
         authSessionService.createSession(user);
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.USER_LOGIN_SUCCEEDED, user.getId().value(), null, null, null, null));
         return new AuthResponse(accessToken, refreshToken, UserDto.fromDomain(user));
     }
+
+    private void recordFailure(String actorId, String reason) {
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.USER_LOGIN_FAILED, actorId, null, null, null, reason));
+    }
 }
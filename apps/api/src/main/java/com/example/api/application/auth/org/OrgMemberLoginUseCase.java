@@ -1,7 +1,11 @@
 package com.example.api.application.auth.org;
 
+import com.example.api.application.audit.AuditDetails;
 import com.example.api.application.organization.dto.OrgAuthResponse;
 import com.example.api.application.organization.dto.OrganizationMemberResponse;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.organization.OrganizationMemberRepository;
 import com.example.api.domain.user.Email;
@@ -19,22 +23,33 @@ public class OrgMemberLoginUseCase {
     private final OrganizationMemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final OrgTokenProvider tokenProvider;
+    private final AuditEventPublisher auditEventPublisher;
+    private final AuditDetails auditDetails;
 
     public OrgMemberLoginUseCase(OrganizationMemberRepository memberRepository,
                                  PasswordEncoder passwordEncoder,
-                                 OrgTokenProvider tokenProvider) {
+                                 OrgTokenProvider tokenProvider,
+                                 AuditEventPublisher auditEventPublisher,
+                                 AuditDetails auditDetails) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.auditEventPublisher = auditEventPublisher;
+        this.auditDetails = auditDetails;
     }
 
     @Transactional
     public OrgAuthResponse execute(String organizationId, String email, String password) {
-        final var member = memberRepository
-                .findByEmailAndOrganizationId(new Email(email), OrganizationId.of(organizationId))
-                .orElseThrow(InvalidCredentialsException::new);
+        final var orgId = OrganizationId.of(organizationId);
+        final var memberEmail = new Email(email);
+        final var member = memberRepository.findByEmailAndOrganizationId(memberEmail, orgId).orElse(null);
+        if (member == null) {
+            recordFailure(null, orgId, auditDetails.unknownEmail(memberEmail));
+            throw new InvalidCredentialsException();
+        }
 
         if (!member.getPassword().matches(password, passwordEncoder)) {
+            recordFailure(member.getId().value(), orgId, "invalid_password");
             throw new InvalidCredentialsException();
         }
 
@@ -43,6 +58,13 @@ public class OrgMemberLoginUseCase {
 
         final var accessToken = tokenProvider.generateAccessToken(member);
         final var refreshToken = tokenProvider.generateRefreshToken(member);
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.ORG_MEMBER_LOGIN_SUCCEEDED, member.getId().value(), orgId, null, null, null));
         return new OrgAuthResponse(accessToken, refreshToken, OrganizationMemberResponse.from(member));
     }
+
+    private void recordFailure(String actorId, OrganizationId organizationId, String reason) {
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.ORG_MEMBER_LOGIN_FAILED, actorId, organizationId, null, null, reason));
+    }
 }
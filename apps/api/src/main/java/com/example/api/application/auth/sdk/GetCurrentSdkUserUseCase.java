@@ -7,8 +7,10 @@ import com.example.api.domain.user.UserId;
 import com.example.api.domain.user.UserRepository;
 import com.example.api.domain.user.exception.UserNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Use case for retrieving the current SDK end user scoped to project and environment.
@@ -37,6 +39,8 @@ public class GetCurrentSdkUserUseCase {
      * @return user DTO
      * @throws UserNotFoundException if user not found in this project/environment scope
      */
+    // Transactional so the body bypasses the lookup cache and is never older than the ETag
+    @Transactional(readOnly = true)
     public UserDto execute(String userId, ProjectId projectId, EnvironmentId environmentId) {
         Objects.requireNonNull(userId, "User ID required");
         Objects.requireNonNull(projectId, "Project ID required");
@@ -48,4 +52,14 @@ public class GetCurrentSdkUserUseCase {
 
         return UserDto.fromDomain(user);
     }
+
+    /**
+     * Returns the user's current version token for conditional requests, with the
+     * same project/environment scoping as {@link #execute}.
+     *
+     * @return version token, empty if the user is not in this scope or is unversioned
+     */
+    public Optional<String> findVersion(String userId, ProjectId projectId, EnvironmentId environmentId) {
+        return userRepository.findVersionByIdAndProjectId(UserId.of(userId), projectId, environmentId);
+    }
 }
@@ -1,18 +1,28 @@
 package com.example.api.application.auth.sdk;
 
+import com.example.api.application.audit.AuditDetails;
 import com.example.api.application.auth.TokenProvider;
 import com.example.api.application.auth.dto.UserDto;
 import com.example.api.application.auth.sdk.dto.SdkAuthResponse;
 import com.example.api.application.auth.sdk.dto.SdkLoginRequest;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.environment.EnvironmentId;
 import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.quota.ProjectQuotas;
+import com.example.api.domain.quota.exception.QuotaExceededException;
 import com.example.api.domain.user.Email;
 import com.example.api.domain.user.PasswordEncoder;
 import com.example.api.domain.user.UserRepository;
 import com.example.api.domain.user.exception.InvalidCredentialsException;
 import com.example.api.domain.user.exception.UserBannedException;
+import com.example.api.domain.webhook.WebhookEvent;
+import com.example.api.domain.webhook.WebhookEventPublisher;
+import com.example.api.domain.webhook.WebhookEventType;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -24,13 +34,25 @@ public class LoginEndUserUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
+    private final AuditEventPublisher auditEventPublisher;
+    private final WebhookEventPublisher webhookEventPublisher;
+    private final ProjectQuotas projectQuotas;
+    private final AuditDetails auditDetails;
 
     public LoginEndUserUseCase(UserRepository userRepository,
                                PasswordEncoder passwordEncoder,
-                               TokenProvider tokenProvider) {
+                               TokenProvider tokenProvider,
+                               AuditEventPublisher auditEventPublisher,
+                               WebhookEventPublisher webhookEventPublisher,
+                               ProjectQuotas projectQuotas,
+                               AuditDetails auditDetails) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.auditEventPublisher = auditEventPublisher;
+        this.webhookEventPublisher = webhookEventPublisher;
+        this.projectQuotas = projectQuotas;
+        this.auditDetails = auditDetails;
     }
 
     /**
@@ -41,26 +63,48 @@ public class LoginEndUserUseCase {
      * @param environmentId the environment context from API key
      * @return authentication response with SDK JWT
      * @throws InvalidCredentialsException if credentials are invalid or user not found
+     * @throws QuotaExceededException if the user would exceed the project's monthly active user limit
      */
     public SdkAuthResponse execute(SdkLoginRequest request, ProjectId projectId, EnvironmentId environmentId) {
         Objects.requireNonNull(projectId, "Project ID required");
         Objects.requireNonNull(environmentId, "Environment ID required");
 
         final var email = new Email(request.email());
-        final var user = userRepository.findByEmailAndProjectId(email, projectId, environmentId)
-                .orElseThrow(InvalidCredentialsException::new);
+        final var user = userRepository.findByEmailAndProjectId(email, projectId, environmentId).orElse(null);
+        if (user == null) {
+            recordFailure(null, projectId, auditDetails.unknownEmail(email));
+            throw new InvalidCredentialsException();
+        }
 
         if (!user.canLogin()) {
+            recordFailure(user.getId().value(), projectId, "banned");
             throw new UserBannedException();
         }
 
         if (!user.getPassword().matches(request.password(), passwordEncoder)) {
+            recordFailure(user.getId().value(), projectId, "invalid_password");
             throw new InvalidCredentialsException();
         }
 
+        try {
+            projectQuotas.recordActiveUser(projectId, user.getId());
+        } catch (QuotaExceededException e) {
+            recordFailure(user.getId().value(), projectId, "quota_exceeded");
+            throw e;
+        }
+
         final var accessToken = tokenProvider.generateAccessToken(user);
         final var refreshToken = tokenProvider.generateRefreshToken(user);
 
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.END_USER_LOGIN_SUCCEEDED, user.getId().value(), null, projectId, null, null));
+        webhookEventPublisher.publish(WebhookEvent.of(
+                WebhookEventType.END_USER_LOGGED_IN, projectId, environmentId, user.getId().value(), Map.of()));
         return new SdkAuthResponse(accessToken, refreshToken, UserDto.fromDomain(user));
     }
+
+    private void recordFailure(String actorId, ProjectId projectId, String reason) {
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.END_USER_LOGIN_FAILED, actorId, null, projectId, null, reason));
+    }
 }
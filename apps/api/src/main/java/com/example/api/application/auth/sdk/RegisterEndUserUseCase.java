@@ -6,15 +6,23 @@ import com.example.api.application.auth.sdk.dto.SdkAuthResponse;
 import com.example.api.application.auth.sdk.dto.SdkRegisterRequest;
 import com.example.api.domain.environment.EnvironmentId;
 import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.quota.ProjectQuotas;
+import com.example.api.domain.quota.exception.QuotaExceededException;
 import com.example.api.domain.user.Email;
 import com.example.api.domain.user.Password;
 import com.example.api.domain.user.PasswordEncoder;
 import com.example.api.domain.user.User;
 import com.example.api.domain.user.UserRepository;
 import com.example.api.domain.user.exception.EmailAlreadyExistsException;
+import com.example.api.domain.webhook.WebhookEvent;
+import com.example.api.domain.webhook.WebhookEventPublisher;
+import com.example.api.domain.webhook.WebhookEventType;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -26,13 +34,19 @@ public class RegisterEndUserUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
+    private final WebhookEventPublisher webhookEventPublisher;
+    private final ProjectQuotas projectQuotas;
 
     public RegisterEndUserUseCase(UserRepository userRepository,
                                   PasswordEncoder passwordEncoder,
-                                  TokenProvider tokenProvider) {
+                                  TokenProvider tokenProvider,
+                                  WebhookEventPublisher webhookEventPublisher,
+                                  ProjectQuotas projectQuotas) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.webhookEventPublisher = webhookEventPublisher;
+        this.projectQuotas = projectQuotas;
     }
 
     /**
@@ -43,6 +57,7 @@ public class RegisterEndUserUseCase {
      * @param environmentId the environment context from API key
      * @return authentication response with SDK JWT
      * @throws EmailAlreadyExistsException if email already exists in this project/environment
+     * @throws QuotaExceededException if the project has reached its end user or monthly active user limit
      */
     @Transactional
     public SdkAuthResponse execute(SdkRegisterRequest request, ProjectId projectId, EnvironmentId environmentId) {
@@ -56,6 +71,8 @@ public class RegisterEndUserUseCase {
             throw new EmailAlreadyExistsException(request.email());
         }
 
+        projectQuotas.checkEndUserCapacity(projectId);
+
         final var user = User.registerEndUser(
                 email,
                 Password.create(request.password(), passwordEncoder),
@@ -65,10 +82,32 @@ public class RegisterEndUserUseCase {
         );
 
         userRepository.save(user);
+        // Counted only once the row exists, so a rolled-back registration never uses up quota
+        afterCommit(() -> projectQuotas.recordEndUserRegistered(projectId, user.getId()));
+        webhookEventPublisher.publish(WebhookEvent.of(
+                WebhookEventType.END_USER_REGISTERED,
+                projectId,
+                environmentId,
+                user.getId().value(),
+                Map.of("email", user.getEmail().value(), "name", user.getName())
+        ));
 
         final var accessToken = tokenProvider.generateAccessToken(user);
         final var refreshToken = tokenProvider.generateRefreshToken(user);
 
         return new SdkAuthResponse(accessToken, refreshToken, UserDto.fromDomain(user));
     }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
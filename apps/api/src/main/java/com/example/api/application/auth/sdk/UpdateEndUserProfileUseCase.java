@@ -8,8 +8,13 @@ import com.example.api.domain.user.UserId;
 import com.example.api.domain.user.UserRepository;
 import com.example.api.domain.user.exception.EmailAlreadyExistsException;
 import com.example.api.domain.user.exception.UserNotFoundException;
+import com.example.api.domain.webhook.WebhookEvent;
+import com.example.api.domain.webhook.WebhookEventPublisher;
+import com.example.api.domain.webhook.WebhookEventType;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -22,9 +27,12 @@ import java.util.Objects;
 public class UpdateEndUserProfileUseCase {
 
     private final UserRepository userRepository;
+    private final WebhookEventPublisher webhookEventPublisher;
 
-    public UpdateEndUserProfileUseCase(UserRepository userRepository) {
+    public UpdateEndUserProfileUseCase(UserRepository userRepository,
+                                       WebhookEventPublisher webhookEventPublisher) {
         this.userRepository = userRepository;
+        this.webhookEventPublisher = webhookEventPublisher;
     }
 
     /**
@@ -39,6 +47,7 @@ public class UpdateEndUserProfileUseCase {
      * @throws UserNotFoundException if user not found in this project/environment scope
      * @throws EmailAlreadyExistsException if email is already used by another user in this scope
      */
+    @Transactional
     public UserDto execute(String userId, ProjectId projectId, EnvironmentId environmentId,
                            String email, String name) {
         Objects.requireNonNull(userId, "User ID required");
@@ -66,6 +75,13 @@ public class UpdateEndUserProfileUseCase {
         user.changeEmail(newEmail);
         user.changeName(name);
         userRepository.save(user);
+        webhookEventPublisher.publish(WebhookEvent.of(
+                WebhookEventType.END_USER_PROFILE_UPDATED,
+                projectId,
+                environmentId,
+                user.getId().value(),
+                Map.of("email", user.getEmail().value(), "name", user.getName())
+        ));
 
         return UserDto.fromDomain(user);
     }
@@ -0,0 +1,62 @@
+package com.example.api.application.maintenance;
+
+import com.example.api.domain.audit.AuditEventRepository;
+import com.example.api.domain.organization.OrganizationInvitationRepository;
+import com.example.api.domain.session.SessionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Use case for purging expired sessions, invitations and audit events in bounded batches.
+ *
+ * <p>Each call deletes at most one batch in its own transaction, keeping the
+ * SQLite write lock short so request traffic can interleave between batches.</p>
+ */
+@Component
+public class PurgeExpiredDataUseCase {
+
+    private final SessionRepository sessionRepository;
+    private final OrganizationInvitationRepository invitationRepository;
+    private final AuditEventRepository auditEventRepository;
+
+    public PurgeExpiredDataUseCase(SessionRepository sessionRepository,
+                                   OrganizationInvitationRepository invitationRepository,
+                                   AuditEventRepository auditEventRepository) {
+        this.sessionRepository = sessionRepository;
+        this.invitationRepository = invitationRepository;
+        this.auditEventRepository = auditEventRepository;
+    }
+
+    /**
+     * Deletes one batch of sessions that expired or were revoked before the cutoff.
+     *
+     * @return number of sessions deleted
+     */
+    @Transactional
+    public int purgeSessionBatch(Instant cutoff, int batchSize) {
+        return sessionRepository.deleteExpired(cutoff, batchSize);
+    }
+
+    /**
+     * Deletes one batch of invitations that expired before the cutoff.
+     *
+     * @return number of invitations deleted
+     */
+    @Transactional
+    public int purgeInvitationBatch(LocalDateTime cutoff, int batchSize) {
+        return invitationRepository.deleteExpired(cutoff, batchSize);
+    }
+
+    /**
+     * Deletes one batch of audit events that occurred before the cutoff.
+     *
+     * @return number of audit events deleted
+     */
+    @Transactional
+    public int purgeAuditEventBatch(Instant cutoff, int batchSize) {
+        return auditEventRepository.deleteOlderThan(cutoff, batchSize);
+    }
+}
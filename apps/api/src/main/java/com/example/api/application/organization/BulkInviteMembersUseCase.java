@@ -0,0 +1,181 @@
+package com.example.api.application.organization;
+
+import com.example.api.application.organization.dto.BulkInvitationResponse;
+import com.example.api.application.organization.dto.BulkInvitationRowResult;
+import com.example.api.application.organization.dto.BulkInvitationStatus;
+import com.example.api.application.organization.dto.BulkInviteMembersRequest;
+import com.example.api.application.organization.dto.InvitationResponse;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.organization.OrganizationInvitation;
+import com.example.api.domain.organization.OrganizationInvitationRepository;
+import com.example.api.domain.organization.OrganizationMemberId;
+import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.domain.organization.OrganizationMemberRole;
+import com.example.api.domain.organization.OrganizationMemberRoleAccess;
+import com.example.api.domain.organization.OrganizationRepository;
+import com.example.api.domain.organization.exception.OrganizationMemberNotFoundException;
+import com.example.api.domain.organization.exception.OrganizationNotFoundException;
+import com.example.api.domain.user.Email;
+import com.example.api.domain.user.exception.InvalidEmailException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Use case for inviting a list of organization members in one request.
+ *
+ * <p>Rows are validated and de-duplicated in memory, existing members are
+ * found with one set-based query, and the remaining invitations are inserted
+ * in chunks of {@code chunk-size}, each in its own transaction. A failed chunk
+ * marks only its own rows as failed. Every submitted row gets a result.</p>
+ */
+@Component
+public class BulkInviteMembersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkInviteMembersUseCase.class);
+
+    private final OrganizationRepository organizationRepository;
+    private final OrganizationMemberRepository memberRepository;
+    private final OrganizationInvitationRepository invitationRepository;
+    private final int invitationExpiryHours;
+    private final int maxRows;
+    private final int chunkSize;
+
+    public BulkInviteMembersUseCase(OrganizationRepository organizationRepository,
+                                    OrganizationMemberRepository memberRepository,
+                                    OrganizationInvitationRepository invitationRepository,
+                                    @Value("${app.org.invitation-expiry-hours:72}") int invitationExpiryHours,
+                                    @Value("${app.org.bulk-invite.max-rows:5000}") int maxRows,
+                                    @Value("${app.org.bulk-invite.chunk-size:500}") int chunkSize) {
+        this.organizationRepository = organizationRepository;
+        this.memberRepository = memberRepository;
+        this.invitationRepository = invitationRepository;
+        this.invitationExpiryHours = invitationExpiryHours;
+        this.maxRows = maxRows;
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkInvitationResponse execute(BulkInviteMembersRequest request) {
+        final var invitees = request.invitees();
+        if (invitees.isEmpty()) {
+            throw new IllegalArgumentException("At least one invitation is required");
+        }
+        if (invitees.size() > maxRows) {
+            throw new IllegalArgumentException("At most " + maxRows + " invitations per request");
+        }
+
+        final var organizationId = OrganizationId.of(request.organizationId());
+        final var actor = memberRepository.findById(OrganizationMemberId.of(request.invitedByMemberId()))
+                .orElseThrow(() -> new OrganizationMemberNotFoundException(request.invitedByMemberId()));
+        OrganizationMemberRoleAccess.requireOwnerOrAdmin(actor);
+        if (!actor.getOrganizationId().equals(organizationId)) {
+            throw new OrganizationMemberNotFoundException(request.invitedByMemberId());
+        }
+        organizationRepository.findById(organizationId)
+                .orElseThrow(() -> new OrganizationNotFoundException(organizationId.value()));
+
+        final var results = new BulkInvitationRowResult[invitees.size()];
+        final var candidates = new ArrayList<Candidate>();
+        final var seen = new HashSet<Email>();
+        for (var i = 0; i < invitees.size(); i++) {
+            final var invitee = invitees.get(i);
+            final var row = i + 1;
+            final var email = parseEmail(invitee.email());
+            if (email == null) {
+                results[i] = result(row, invitee.email(), BulkInvitationStatus.INVALID, "Invalid email");
+                continue;
+            }
+            final var role = parseRole(invitee.role());
+            if (role == null) {
+                results[i] = result(row, email.value(), BulkInvitationStatus.INVALID, "Unknown role: " + invitee.role());
+                continue;
+            }
+            if (!seen.add(email)) {
+                results[i] = result(row, email.value(), BulkInvitationStatus.DUPLICATE, null);
+                continue;
+            }
+            candidates.add(new Candidate(i, email, role));
+        }
+
+        final var existing = memberRepository.findExistingEmails(
+                organizationId, candidates.stream().map(Candidate::email).toList());
+        final var toInvite = new ArrayList<Candidate>();
+        for (final var candidate : candidates) {
+            if (existing.contains(candidate.email())) {
+                results[candidate.index()] = result(
+                        candidate.index() + 1, candidate.email().value(), BulkInvitationStatus.ALREADY_MEMBER, null);
+            } else {
+                toInvite.add(candidate);
+            }
+        }
+
+        final var tokens = MemberTokenGenerator.generate(toInvite.size());
+        final var expiresAt = LocalDateTime.now().plusHours(invitationExpiryHours);
+        for (var from = 0; from < toInvite.size(); from += chunkSize) {
+            final var chunk = toInvite.subList(from, Math.min(from + chunkSize, toInvite.size()));
+            final var invitations = new ArrayList<OrganizationInvitation>(chunk.size());
+            for (var i = 0; i < chunk.size(); i++) {
+                final var candidate = chunk.get(i);
+                invitations.add(OrganizationInvitation.create(
+                        organizationId, candidate.email(), candidate.role(), actor.getId(), expiresAt,
+                        tokens.get(from + i)));
+            }
+            try {
+                invitationRepository.appendAll(invitations);
+            } catch (RuntimeException e) {
+                log.warn("Bulk invitation chunk of {} rows failed for organization {}",
+                        chunk.size(), organizationId.value(), e);
+                for (final var candidate : chunk) {
+                    results[candidate.index()] = result(candidate.index() + 1, candidate.email().value(),
+                            BulkInvitationStatus.FAILED, "Invitation could not be saved");
+                }
+                continue;
+            }
+            for (var i = 0; i < chunk.size(); i++) {
+                final var candidate = chunk.get(i);
+                results[candidate.index()] = new BulkInvitationRowResult(candidate.index() + 1,
+                        candidate.email().value(), BulkInvitationStatus.INVITED, null,
+                        InvitationResponse.from(invitations.get(i)));
+            }
+        }
+
+        return BulkInvitationResponse.from(Arrays.asList(results));
+    }
+
+    private static Email parseEmail(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new Email(value);
+        } catch (InvalidEmailException e) {
+            return null;
+        }
+    }
+
+    private static OrganizationMemberRole parseRole(String value) {
+        if (value == null || value.isBlank()) {
+            return OrganizationMemberRole.MEMBER;
+        }
+        try {
+            return OrganizationMemberRole.valueOf(value.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static BulkInvitationRowResult result(int row, String email, BulkInvitationStatus status, String error) {
+        return new BulkInvitationRowResult(row, email, status, error, null);
+    }
+
+    private record Candidate(int index, Email email, OrganizationMemberRole role) {
+    }
+}
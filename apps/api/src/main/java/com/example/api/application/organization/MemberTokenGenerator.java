@@ -1,5 +1,9 @@
 package com.example.api.application.organization;
 
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -7,6 +11,9 @@ import java.util.UUID;
  */
 final class MemberTokenGenerator {
 
+    private static final int TOKEN_BYTES = 16;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private MemberTokenGenerator() {
         // Utility class
     }
@@ -14,4 +21,19 @@ final class MemberTokenGenerator {
     static String generate() {
         return UUID.randomUUID().toString().replace("-", "");
     }
+
+    /**
+     * Generates {@code count} tokens of the same length as {@link #generate()},
+     * drawing the random bytes for all of them in one call.
+     */
+    static List<String> generate(int count) {
+        final var bytes = new byte[count * TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        final var hex = HexFormat.of();
+        final var tokens = new ArrayList<String>(count);
+        for (var i = 0; i < count; i++) {
+            tokens.add(hex.formatHex(bytes, i * TOKEN_BYTES, (i + 1) * TOKEN_BYTES));
+        }
+        return tokens;
+    }
 }
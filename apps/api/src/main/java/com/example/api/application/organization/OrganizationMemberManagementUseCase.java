@@ -5,6 +5,9 @@ import com.example.api.application.organization.dto.InvitationResponse;
 import com.example.api.application.organization.dto.InviteMemberRequest;
 import com.example.api.application.organization.dto.OrganizationMemberResponse;
 import com.example.api.application.organization.dto.UpdateMemberRoleRequest;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.organization.OrganizationInvitation;
 import com.example.api.domain.organization.OrganizationInvitationRepository;
@@ -39,17 +42,20 @@ public class OrganizationMemberManagementUseCase {
     private final OrganizationMemberRepository memberRepository;
     private final OrganizationInvitationRepository invitationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuditEventPublisher auditEventPublisher;
     private final int invitationExpiryHours;
 
     public OrganizationMemberManagementUseCase(OrganizationRepository organizationRepository,
                                                OrganizationMemberRepository memberRepository,
                                                OrganizationInvitationRepository invitationRepository,
                                                PasswordEncoder passwordEncoder,
+                                               AuditEventPublisher auditEventPublisher,
                                                @Value("${app.org.invitation-expiry-hours:72}") int invitationExpiryHours) {
         this.organizationRepository = organizationRepository;
         this.memberRepository = memberRepository;
         this.invitationRepository = invitationRepository;
         this.passwordEncoder = passwordEncoder;
+        this.auditEventPublisher = auditEventPublisher;
         this.invitationExpiryHours = invitationExpiryHours;
     }
 
@@ -138,6 +144,14 @@ public class OrganizationMemberManagementUseCase {
 
         target.changeRole(request.role());
         memberRepository.save(target);
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.ORG_MEMBER_ROLE_CHANGED,
+                actor.getId().value(),
+                target.getOrganizationId(),
+                null,
+                target.getId().value(),
+                currentRole + " -> " + request.role()
+        ));
         return OrganizationMemberResponse.from(target);
     }
 
@@ -163,6 +177,14 @@ public class OrganizationMemberManagementUseCase {
         }
 
         memberRepository.delete(target.getId());
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.ORG_MEMBER_REMOVED,
+                actor.getId().value(),
+                target.getOrganizationId(),
+                null,
+                target.getId().value(),
+                "role=" + target.getRole()
+        ));
     }
 
     private OrganizationMember loadMember(OrganizationMemberId memberId) {
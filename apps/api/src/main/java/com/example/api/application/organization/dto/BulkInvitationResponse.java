@@ -0,0 +1,30 @@
+package com.example.api.application.organization.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO summarizing a bulk invitation, with one result per submitted row.
+ */
+public record BulkInvitationResponse(
+        int invited,
+        int alreadyMembers,
+        int duplicates,
+        int invalid,
+        int failed,
+        List<BulkInvitationRowResult> rows
+) {
+    public static BulkInvitationResponse from(List<BulkInvitationRowResult> rows) {
+        return new BulkInvitationResponse(
+                count(rows, BulkInvitationStatus.INVITED),
+                count(rows, BulkInvitationStatus.ALREADY_MEMBER),
+                count(rows, BulkInvitationStatus.DUPLICATE),
+                count(rows, BulkInvitationStatus.INVALID),
+                count(rows, BulkInvitationStatus.FAILED),
+                rows
+        );
+    }
+
+    private static int count(List<BulkInvitationRowResult> rows, BulkInvitationStatus status) {
+        return (int) rows.stream().filter(row -> row.status() == status).count();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.api.application.organization.dto;
+
+/**
+ * Result for one row of a bulk invitation; {@code row} is 1-based in request order.
+ * {@code invitation} is set only for invited rows and {@code error} only for
+ * invalid or failed ones.
+ */
+public record BulkInvitationRowResult(
+        int row,
+        String email,
+        BulkInvitationStatus status,
+        String error,
+        InvitationResponse invitation
+) {
+}
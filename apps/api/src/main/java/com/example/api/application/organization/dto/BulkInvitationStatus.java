@@ -0,0 +1,12 @@
+package com.example.api.application.organization.dto;
+
+/**
+ * Outcome of one row of a bulk invitation.
+ */
+public enum BulkInvitationStatus {
+    INVITED,
+    ALREADY_MEMBER,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
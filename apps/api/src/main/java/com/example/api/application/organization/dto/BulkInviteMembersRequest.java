@@ -0,0 +1,19 @@
+package com.example.api.application.organization.dto;
+
+import java.util.List;
+
+/**
+ * Application request for inviting many organization members at once.
+ */
+public record BulkInviteMembersRequest(
+        String organizationId,
+        String invitedByMemberId,
+        List<Invitee> invitees
+) {
+
+    /**
+     * One requested invitation, validated per row. A missing role means MEMBER.
+     */
+    public record Invitee(String email, String role) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.api.application.platformadmin;
+
+import com.example.api.domain.user.UserCursor;
+import com.example.api.domain.user.UserId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes {@link UserCursor} positions as opaque URL-safe tokens.
+ */
+final class EndUserCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private EndUserCursorCodec() {
+        // Utility class
+    }
+
+    static String encode(UserCursor cursor) {
+        final var raw = cursor.createdAt().toString() + SEPARATOR + cursor.id().value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserCursor decode(String token) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final var separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new UserCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UserId.of(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
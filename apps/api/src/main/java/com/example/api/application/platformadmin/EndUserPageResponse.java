@@ -0,0 +1,14 @@
+package com.example.api.application.platformadmin;
+
+import java.util.List;
+
+/**
+ * Response DTO for one keyset page of end users.
+ *
+ * <p>{@code nextCursor} is {@code null} when there are no further pages.</p>
+ */
+public record EndUserPageResponse(
+        List<EndUserSummaryResponse> items,
+        String nextCursor
+) {
+}
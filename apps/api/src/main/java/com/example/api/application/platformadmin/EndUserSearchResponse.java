@@ -0,0 +1,14 @@
+package com.example.api.application.platformadmin;
+
+import java.util.List;
+
+/**
+ * Response DTO for ranked end-user email search results.
+ */
+public record EndUserSearchResponse(
+        List<EndUserSummaryResponse> items,
+        int page,
+        int size,
+        boolean hasMore
+) {
+}
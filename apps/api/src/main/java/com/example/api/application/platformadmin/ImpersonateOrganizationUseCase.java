@@ -1,6 +1,9 @@
 package com.example.api.application.platformadmin;
 
 import com.example.api.application.platformadmin.dto.ImpersonationResponse;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.organization.OrganizationMember;
 import com.example.api.domain.organization.OrganizationMemberRepository;
@@ -10,8 +13,6 @@ import com.example.api.domain.organization.OrganizationStatus;
 import com.example.api.domain.organization.exception.OrganizationNotFoundException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,19 +31,21 @@ import java.util.List;
 @Component
 public class ImpersonateOrganizationUseCase {
 
-    private static final Logger logger = LoggerFactory.getLogger(ImpersonateOrganizationUseCase.class);
     private static final long IMPERSONATION_TOKEN_EXPIRATION_MS = 15 * 60 * 1000; // 15 minutes
 
     private final OrganizationRepository organizationRepository;
     private final OrganizationMemberRepository organizationMemberRepository;
+    private final AuditEventPublisher auditEventPublisher;
     private final String jwtSecret;
 
     public ImpersonateOrganizationUseCase(
             OrganizationRepository organizationRepository,
             OrganizationMemberRepository organizationMemberRepository,
+            AuditEventPublisher auditEventPublisher,
             @Value("${jwt.secret}") String jwtSecret) {
         this.organizationRepository = organizationRepository;
         this.organizationMemberRepository = organizationMemberRepository;
+        this.auditEventPublisher = auditEventPublisher;
         this.jwtSecret = jwtSecret;
     }
 
@@ -77,11 +80,14 @@ public class ImpersonateOrganizationUseCase {
                 now
         );
 
-        // Log impersonation for audit
-        logger.info("Organization impersonation: admin={} impersonating org={} (member={})",
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.ORGANIZATION_IMPERSONATED,
                 impersonatedByAdminId,
-                organizationId,
-                memberToImpersonate.getId().value());
+                orgId,
+                null,
+                memberToImpersonate.getId().value(),
+                null
+        ));
 
         return ImpersonationResponse.from(
                 accessToken,
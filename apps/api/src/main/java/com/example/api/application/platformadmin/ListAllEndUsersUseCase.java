@@ -1,44 +1,77 @@
 package com.example.api.application.platformadmin;
 
-import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.user.UserCursor;
+import com.example.api.domain.user.UserFilter;
 import com.example.api.domain.user.UserRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Use case for listing all end users across all projects.
  * Platform admins can view all end users across all tenants for support purposes.
- * Supports filtering by email search and project ID.
+ * Supports filtering by email search and project ID, alone or combined.
  */
 @Component
 public class ListAllEndUsersUseCase {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
     private final UserRepository userRepository;
 
     public ListAllEndUsersUseCase(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
 
+    /**
+     * Returns one keyset page of end users ordered by creation time.
+     *
+     * @param emailSearch optional partial email match
+     * @param projectId   optional project filter
+     * @param cursor      opaque cursor from a previous page, or {@code null} for the first page
+     * @param limit       requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     */
     @Transactional(readOnly = true)
-    public List<EndUserSummaryResponse> execute(String emailSearch, String projectId) {
-        final var users = findUsers(emailSearch, projectId);
+    public EndUserPageResponse execute(String emailSearch, String projectId, String cursor, Integer limit) {
+        final var filter = UserFilter.of(emailSearch, projectId);
+        final var after = Optional.ofNullable(cursor)
+                .filter(value -> !value.isBlank())
+                .map(EndUserCursorCodec::decode);
+        final var pageSize = pageSize(limit);
+
+        // Fetch one extra row to learn whether another page exists
+        final var users = userRepository.findPage(filter, after, pageSize + 1);
+        final var hasMore = users.size() > pageSize;
+        final var page = hasMore ? users.subList(0, pageSize) : users;
+
+        final var nextCursor = hasMore
+                ? EndUserCursorCodec.encode(UserCursor.of(page.getLast()))
+                : null;
 
-        return users.stream()
-                .map(EndUserSummaryResponse::from)
-                .toList();
+        return new EndUserPageResponse(
+                page.stream().map(EndUserSummaryResponse::from).toList(),
+                nextCursor
+        );
     }
 
-    private List<com.example.api.domain.user.User> findUsers(String emailSearch, String projectId) {
-        if (emailSearch != null && !emailSearch.isBlank()) {
-            return userRepository.findByEmailContainingIgnoreCase(emailSearch);
+    /**
+     * Streams every matching end user to the consumer as rows are read,
+     * without materializing the result set.
+     */
+    @Transactional(readOnly = true)
+    public void stream(String emailSearch, String projectId, Consumer<EndUserSummaryResponse> consumer) {
+        try (final var users = userRepository.streamAll(UserFilter.of(emailSearch, projectId))) {
+            users.map(EndUserSummaryResponse::from).forEach(consumer);
         }
+    }
 
-        if (projectId != null && !projectId.isBlank()) {
-            return userRepository.findByProjectId(ProjectId.of(projectId));
+    private static int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
         }
-
-        return userRepository.findAll();
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 }
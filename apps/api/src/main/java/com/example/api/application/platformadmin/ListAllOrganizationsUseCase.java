@@ -1,6 +1,6 @@
 package com.example.api.application.platformadmin;
 
-import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.organization.Organization;
 import com.example.api.domain.organization.OrganizationMemberRepository;
 import com.example.api.domain.organization.OrganizationRepository;
 import org.springframework.stereotype.Component;
@@ -24,17 +24,24 @@ public class ListAllOrganizationsUseCase {
         this.organizationMemberRepository = organizationMemberRepository;
     }
 
+    /**
+     * Returns every organization with its member count.
+     *
+     * <p>Member counts are resolved with one grouped query, so the number of
+     * queries stays constant regardless of how many organizations exist.</p>
+     */
     @Transactional(readOnly = true)
     public List<OrganizationSummaryResponse> execute() {
         final var organizations = organizationRepository.findAll();
+        final var memberCounts = organizationMemberRepository.countByOrganizationIds(
+                organizations.stream().map(Organization::getId).toList()
+        );
 
         return organizations.stream()
-                .map(org -> {
-                    final var memberCount = organizationMemberRepository
-                            .findByOrganizationId(org.getId())
-                            .size();
-                    return OrganizationSummaryResponse.from(org, memberCount);
-                })
+                .map(org -> OrganizationSummaryResponse.from(
+                        org,
+                        memberCounts.getOrDefault(org.getId(), 0L)
+                ))
                 .toList();
     }
 }
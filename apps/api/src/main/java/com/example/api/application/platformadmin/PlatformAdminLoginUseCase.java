@@ -1,7 +1,11 @@
 package com.example.api.application.platformadmin;
 
+import com.example.api.application.audit.AuditDetails;
 import com.example.api.application.platformadmin.dto.PlatformAdminAuthResponse;
 import com.example.api.application.platformadmin.dto.PlatformAdminResponse;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.platformadmin.PlatformAdminRepository;
 import com.example.api.domain.platformadmin.PlatformAdminStatus;
 import com.example.api.domain.user.Email;
@@ -19,26 +23,37 @@ public class PlatformAdminLoginUseCase {
     private final PlatformAdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
     private final PlatformAdminTokenProvider tokenProvider;
+    private final AuditEventPublisher auditEventPublisher;
+    private final AuditDetails auditDetails;
 
     public PlatformAdminLoginUseCase(PlatformAdminRepository adminRepository,
                                      PasswordEncoder passwordEncoder,
-                                     PlatformAdminTokenProvider tokenProvider) {
+                                     PlatformAdminTokenProvider tokenProvider,
+                                     AuditEventPublisher auditEventPublisher,
+                                     AuditDetails auditDetails) {
         this.adminRepository = adminRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.auditEventPublisher = auditEventPublisher;
+        this.auditDetails = auditDetails;
     }
 
     @Transactional
     public PlatformAdminAuthResponse execute(String email, String password) {
-        final var admin = adminRepository
-                .findByEmail(new Email(email))
-                .orElseThrow(InvalidCredentialsException::new);
+        final var adminEmail = new Email(email);
+        final var admin = adminRepository.findByEmail(adminEmail).orElse(null);
+        if (admin == null) {
+            recordFailure(null, auditDetails.unknownEmail(adminEmail));
+            throw new InvalidCredentialsException();
+        }
 
         if (!admin.isActive()) {
+            recordFailure(admin.getId().value(), "inactive");
             throw new InvalidCredentialsException();
         }
 
         if (!admin.getPassword().matches(password, passwordEncoder)) {
+            recordFailure(admin.getId().value(), "invalid_password");
             throw new InvalidCredentialsException();
         }
 
@@ -48,10 +63,17 @@ public class PlatformAdminLoginUseCase {
         final var accessToken = tokenProvider.generateAccessToken(admin);
         final var refreshToken = tokenProvider.generateRefreshToken(admin);
 
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.PLATFORM_ADMIN_LOGIN_SUCCEEDED, admin.getId().value(), null, null, null, null));
         return new PlatformAdminAuthResponse(
                 accessToken,
                 refreshToken,
                 PlatformAdminResponse.from(admin)
         );
     }
+
+    private void recordFailure(String actorId, String reason) {
+        auditEventPublisher.publish(AuditEvent.create(
+                AuditEventType.PLATFORM_ADMIN_LOGIN_FAILED, actorId, null, null, null, reason));
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.api.application.platformadmin;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.user.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Use case for platform admin support lookups by email.
+ * Matches email substrings through the email search index and returns
+ * ranked, paginated results, optionally scoped to a project.
+ */
+@Component
+public class SearchEndUsersUseCase {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+
+    public SearchEndUsersUseCase(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public EndUserSearchResponse execute(String query, String projectId, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query required");
+        }
+        final var pageNumber = page == null || page < 0 ? 0 : page;
+        final var pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        final var projectFilter = Optional.ofNullable(projectId)
+                .filter(value -> !value.isBlank())
+                .map(ProjectId::of);
+
+        // Fetch one extra row to learn whether another page exists
+        final var users = userRepository.searchByEmail(
+                query, projectFilter, pageNumber * pageSize, pageSize + 1);
+        final var hasMore = users.size() > pageSize;
+        final var items = (hasMore ? users.subList(0, pageSize) : users).stream()
+                .map(EndUserSummaryResponse::from)
+                .toList();
+
+        return new EndUserSearchResponse(items, pageNumber, pageSize, hasMore);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.api.application.project;
+
+import com.example.api.application.project.dto.ProjectUserExportRow;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.organization.OrganizationMemberId;
+import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.domain.organization.OrganizationMemberRoleAccess;
+import com.example.api.domain.organization.exception.OrganizationMemberNotFoundException;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.project.exception.ProjectNotFoundException;
+import com.example.api.domain.user.UserFilter;
+import com.example.api.domain.user.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting every end user of a project.
+ *
+ * <p>Rows are read through a forward-only cursor and handed to the consumer one
+ * at a time, so memory use does not depend on the size of the project.</p>
+ */
+@Component
+public class ExportProjectUsersUseCase {
+
+    private final OrganizationMemberRepository memberRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+
+    public ExportProjectUsersUseCase(OrganizationMemberRepository memberRepository,
+                                     ProjectRepository projectRepository,
+                                     UserRepository userRepository) {
+        this.memberRepository = memberRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Verifies that the actor is an owner or admin of the organization and that
+     * the project belongs to it. Call before any export output is written so
+     * failures can still be reported with an error status.
+     *
+     * @return the validated project ID to pass to {@link #export}
+     */
+    @Transactional(readOnly = true)
+    public ProjectId authorize(String organizationId, String actorMemberId, String projectId) {
+        final var actor = memberRepository.findById(OrganizationMemberId.of(actorMemberId))
+                .orElseThrow(() -> new OrganizationMemberNotFoundException(actorMemberId));
+        if (!actor.getOrganizationId().equals(OrganizationId.of(organizationId))) {
+            throw new OrganizationMemberNotFoundException(actorMemberId);
+        }
+        OrganizationMemberRoleAccess.requireOwnerOrAdmin(actor);
+
+        final var project = projectRepository.findById(ProjectId.of(projectId))
+                .filter(p -> p.getOrganizationId().equals(actor.getOrganizationId()))
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+        return project.getId();
+    }
+
+    /**
+     * Streams every user of the project to the consumer in creation order.
+     */
+    @Transactional(readOnly = true)
+    public void export(ProjectId projectId, Consumer<ProjectUserExportRow> consumer) {
+        final var filter = new UserFilter(Optional.empty(), Optional.of(projectId));
+        try (final var users = userRepository.streamAll(filter)) {
+            users.map(ProjectUserExportRow::from).forEach(consumer);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.example.api.domain.project.ProjectRepository;
 import com.example.api.domain.project.exception.ProjectNotFoundException;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * Use case for getting a single project with environments.
  */
@@ -30,4 +32,12 @@ public class GetProjectUseCase {
 
         return ProjectResponse.from(project, environments);
     }
+
+    /**
+     * Returns the project's current version token for conditional requests.
+     * Environments are fixed at project creation, so the project row alone decides it.
+     */
+    public Optional<String> findVersion(ProjectId projectId) {
+        return projectRepository.findVersion(projectId);
+    }
 }
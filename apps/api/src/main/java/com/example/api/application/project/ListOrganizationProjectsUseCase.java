@@ -1,6 +1,7 @@
 package com.example.api.application.project;
 
 import com.example.api.application.project.dto.ProjectResponse;
+import com.example.api.domain.environment.Environment;
 import com.example.api.domain.environment.EnvironmentRepository;
 import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.project.Project;
@@ -8,6 +9,8 @@ import com.example.api.domain.project.ProjectRepository;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Use case for listing projects in an organization.
@@ -24,14 +27,31 @@ public class ListOrganizationProjectsUseCase {
         this.environmentRepository = environmentRepository;
     }
 
+    /**
+     * Lists the organization's projects with their environments.
+     *
+     * <p>Environments for all projects are fetched in one batch query and
+     * grouped in memory rather than queried per project.</p>
+     */
     public List<ProjectResponse> execute(OrganizationId organizationId) {
         final var projects = projectRepository.listByOrganizationId(organizationId);
+        final var environmentsByProject = environmentRepository
+                .listByProjectIds(projects.stream().map(Project::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(Environment::getProjectId));
 
         return projects.stream()
-                .map(project -> {
-                    final var environments = environmentRepository.listByProjectId(project.getId());
-                    return ProjectResponse.from(project, environments);
-                })
+                .map(project -> ProjectResponse.from(
+                        project,
+                        environmentsByProject.getOrDefault(project.getId(), List.of())
+                ))
                 .toList();
     }
+
+    /**
+     * Returns a version token for the organization's project list, for conditional requests.
+     */
+    public Optional<String> findVersion(OrganizationId organizationId) {
+        return projectRepository.findListVersionByOrganizationId(organizationId);
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.api.application.project.dto;
+
+import com.example.api.domain.user.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * One exported end user of a project.
+ */
+public record ProjectUserExportRow(
+    String id,
+    String email,
+    String name,
+    boolean banned,
+    String environmentId,
+    LocalDateTime createdAt
+) {
+
+    public static ProjectUserExportRow from(User user) {
+        return new ProjectUserExportRow(
+            user.getId().value(),
+            user.getEmail().value(),
+            user.getName(),
+            user.isBanned(),
+            user.getEnvironmentId().map(environmentId -> environmentId.value()).orElse(null),
+            user.getCreatedAt()
+        );
+    }
+}
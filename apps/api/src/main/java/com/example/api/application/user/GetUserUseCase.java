@@ -5,6 +5,9 @@ import com.example.api.domain.user.UserId;
 import com.example.api.domain.user.UserRepository;
 import com.example.api.domain.user.exception.UserNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * Use case for retrieving the current authenticated user.
@@ -25,10 +28,22 @@ public class GetUserUseCase {
      * @return user DTO
      * @throws UserNotFoundException if no user exists with the given ID
      */
+    // Transactional so the body bypasses the lookup cache and is never older than the ETag
+    @Transactional(readOnly = true)
     public UserDto execute(String userId) {
         final var user = userRepository.findById(UserId.of(userId))
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         return UserDto.fromDomain(user);
     }
+
+    /**
+     * Returns the user's current version token for conditional requests.
+     *
+     * @param userId the user's ID
+     * @return version token, empty if the user is unknown or unversioned
+     */
+    public Optional<String> findVersion(String userId) {
+        return userRepository.findVersion(UserId.of(userId));
+    }
 }
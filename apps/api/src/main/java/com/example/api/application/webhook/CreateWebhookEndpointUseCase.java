@@ -0,0 +1,59 @@
+package com.example.api.application.webhook;
+
+import com.example.api.application.webhook.dto.CreateWebhookEndpointRequest;
+import com.example.api.application.webhook.dto.CreatedWebhookEndpointResponse;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.project.exception.ProjectNotFoundException;
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import com.example.api.domain.webhook.WebhookEventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+
+/**
+ * Use case for registering a webhook endpoint on a project.
+ */
+@Component
+public class CreateWebhookEndpointUseCase {
+
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final ProjectRepository projectRepository;
+    private final boolean allowInsecureHttp;
+
+    public CreateWebhookEndpointUseCase(WebhookEndpointRepository webhookEndpointRepository,
+                                        ProjectRepository projectRepository,
+                                        @Value("${app.webhooks.allow-insecure-http:false}") boolean allowInsecureHttp) {
+        this.webhookEndpointRepository = webhookEndpointRepository;
+        this.projectRepository = projectRepository;
+        this.allowInsecureHttp = allowInsecureHttp;
+    }
+
+    /**
+     * Registers the endpoint and returns it with its signing secret.
+     *
+     * @throws ProjectNotFoundException if the project does not belong to the organization
+     * @throws IllegalArgumentException if the URL or an event type is invalid
+     */
+    @Transactional
+    public CreatedWebhookEndpointResponse execute(OrganizationId organizationId,
+                                                  ProjectId projectId,
+                                                  CreateWebhookEndpointRequest request) {
+        projectRepository.findById(projectId)
+            .filter(project -> project.getOrganizationId().equals(organizationId))
+            .orElseThrow(() -> new ProjectNotFoundException(projectId.value()));
+
+        final var eventTypes = request.eventTypes().stream()
+            .map(WebhookEventType::fromWireName)
+            .collect(Collectors.toSet());
+
+        final var endpoint = WebhookEndpoint.create(projectId, request.url(), eventTypes, allowInsecureHttp);
+        webhookEndpointRepository.save(endpoint);
+
+        return CreatedWebhookEndpointResponse.from(endpoint);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.api.application.webhook;
+
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.project.exception.ProjectNotFoundException;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import com.example.api.domain.webhook.exception.WebhookEndpointNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for removing a webhook endpoint and discarding its undelivered events.
+ */
+@Component
+public class DeleteWebhookEndpointUseCase {
+
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final ProjectRepository projectRepository;
+
+    public DeleteWebhookEndpointUseCase(WebhookEndpointRepository webhookEndpointRepository,
+                                        ProjectRepository projectRepository) {
+        this.webhookEndpointRepository = webhookEndpointRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * @throws ProjectNotFoundException if the project does not belong to the organization
+     * @throws WebhookEndpointNotFoundException if the endpoint does not belong to the project
+     */
+    @Transactional
+    public void execute(OrganizationId organizationId, ProjectId projectId, String endpointId) {
+        projectRepository.findById(projectId)
+            .filter(project -> project.getOrganizationId().equals(organizationId))
+            .orElseThrow(() -> new ProjectNotFoundException(projectId.value()));
+
+        final var endpoint = webhookEndpointRepository.findById(WebhookEndpointId.of(endpointId))
+            .filter(found -> found.getProjectId().equals(projectId))
+            .orElseThrow(() -> new WebhookEndpointNotFoundException(endpointId));
+
+        webhookEndpointRepository.delete(endpoint.getId());
+    }
+}
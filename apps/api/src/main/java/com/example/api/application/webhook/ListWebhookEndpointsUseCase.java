@@ -0,0 +1,40 @@
+package com.example.api.application.webhook;
+
+import com.example.api.application.webhook.dto.WebhookEndpointResponse;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.project.exception.ProjectNotFoundException;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Use case for listing the webhook endpoints of a project.
+ */
+@Component
+public class ListWebhookEndpointsUseCase {
+
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final ProjectRepository projectRepository;
+
+    public ListWebhookEndpointsUseCase(WebhookEndpointRepository webhookEndpointRepository,
+                                       ProjectRepository projectRepository) {
+        this.webhookEndpointRepository = webhookEndpointRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * @throws ProjectNotFoundException if the project does not belong to the organization
+     */
+    public List<WebhookEndpointResponse> execute(OrganizationId organizationId, ProjectId projectId) {
+        projectRepository.findById(projectId)
+            .filter(project -> project.getOrganizationId().equals(organizationId))
+            .orElseThrow(() -> new ProjectNotFoundException(projectId.value()));
+
+        return webhookEndpointRepository.listByProjectId(projectId).stream()
+            .map(WebhookEndpointResponse::from)
+            .toList();
+    }
+}
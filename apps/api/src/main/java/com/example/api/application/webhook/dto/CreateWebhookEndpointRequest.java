@@ -0,0 +1,19 @@
+package com.example.api.application.webhook.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for registering a webhook endpoint.
+ */
+public record CreateWebhookEndpointRequest(
+    @NotBlank(message = "URL is required")
+    @Size(max = 2048, message = "URL must be at most 2048 characters")
+    String url,
+
+    @NotEmpty(message = "At least one event type is required")
+    List<String> eventTypes
+) {}
@@ -0,0 +1,27 @@
+package com.example.api.application.webhook.dto;
+
+import com.example.api.domain.webhook.WebhookEndpoint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for a new webhook endpoint (includes signing secret - shown only once).
+ */
+public record CreatedWebhookEndpointResponse(
+    String id,
+    String url,
+    List<String> eventTypes,
+    String secret,
+    LocalDateTime createdAt
+) {
+    public static CreatedWebhookEndpointResponse from(WebhookEndpoint endpoint) {
+        return new CreatedWebhookEndpointResponse(
+            endpoint.getId().value(),
+            endpoint.getUrl(),
+            WebhookEndpointResponse.eventTypeNames(endpoint),
+            endpoint.getSecret(),
+            endpoint.getCreatedAt()
+        );
+    }
+}
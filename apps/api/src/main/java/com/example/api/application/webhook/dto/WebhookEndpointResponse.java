@@ -0,0 +1,33 @@
+package com.example.api.application.webhook.dto;
+
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for webhook endpoint metadata (redacted - no signing secret).
+ */
+public record WebhookEndpointResponse(
+    String id,
+    String url,
+    List<String> eventTypes,
+    LocalDateTime createdAt
+) {
+    public static WebhookEndpointResponse from(WebhookEndpoint endpoint) {
+        return new WebhookEndpointResponse(
+            endpoint.getId().value(),
+            endpoint.getUrl(),
+            eventTypeNames(endpoint),
+            endpoint.getCreatedAt()
+        );
+    }
+
+    static List<String> eventTypeNames(WebhookEndpoint endpoint) {
+        return endpoint.getEventTypes().stream()
+            .sorted()
+            .map(WebhookEventType::wireName)
+            .toList();
+    }
+}
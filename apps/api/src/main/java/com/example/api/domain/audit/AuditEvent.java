@@ -0,0 +1,54 @@
+package com.example.api.domain.audit;
+
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Immutable record of a security-relevant action.
+ *
+ * <p>{@code actorId} is whoever performed the action (or attempted it, for failed
+ * logins), {@code subjectId} what it was performed on. Actor, organization,
+ * project, subject and detail are optional; a failed login with an email that
+ * matches no account has no actor.</p>
+ */
+public record AuditEvent(
+        AuditEventId id,
+        AuditEventType type,
+        Instant occurredAt,
+        String actorId,
+        OrganizationId organizationId,
+        ProjectId projectId,
+        String subjectId,
+        String detail
+) {
+
+    public AuditEvent {
+        Objects.requireNonNull(id, "Audit event ID required");
+        Objects.requireNonNull(type, "Audit event type required");
+        Objects.requireNonNull(occurredAt, "Audit event timestamp required");
+    }
+
+    /**
+     * Creates an event occurring now.
+     */
+    public static AuditEvent create(AuditEventType type,
+                                    String actorId,
+                                    OrganizationId organizationId,
+                                    ProjectId projectId,
+                                    String subjectId,
+                                    String detail) {
+        return new AuditEvent(
+                AuditEventId.generate(),
+                type,
+                Instant.now(),
+                actorId,
+                organizationId,
+                projectId,
+                subjectId,
+                detail
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.api.domain.audit;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Keyset position in the (occurredAt, id) ordering of audit events, newest first.
+ */
+public record AuditEventCursor(Instant occurredAt, AuditEventId id) {
+
+    public AuditEventCursor {
+        Objects.requireNonNull(occurredAt, "Cursor timestamp required");
+        Objects.requireNonNull(id, "Cursor audit event ID required");
+    }
+
+    /**
+     * Creates a cursor positioned at the given event.
+     */
+    public static AuditEventCursor of(AuditEvent event) {
+        return new AuditEventCursor(event.occurredAt(), event.id());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.api.domain.audit;
+
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Filter criteria for audit event queries.
+ *
+ * <p>All criteria are optional and combine with AND semantics. The time range
+ * includes {@code from} and excludes {@code to}.</p>
+ */
+public record AuditEventFilter(
+        Optional<OrganizationId> organizationId,
+        Optional<ProjectId> projectId,
+        Optional<Instant> from,
+        Optional<Instant> to
+) {
+
+    public AuditEventFilter {
+        Objects.requireNonNull(organizationId, "Organization filter must not be null");
+        Objects.requireNonNull(projectId, "Project filter must not be null");
+        Objects.requireNonNull(from, "From filter must not be null");
+        Objects.requireNonNull(to, "To filter must not be null");
+    }
+
+    /**
+     * Builds a filter from raw request values, treating blank values as absent.
+     */
+    public static AuditEventFilter of(String organizationId, String projectId, Instant from, Instant to) {
+        return new AuditEventFilter(
+                Optional.ofNullable(organizationId).filter(value -> !value.isBlank()).map(OrganizationId::of),
+                Optional.ofNullable(projectId).filter(value -> !value.isBlank()).map(ProjectId::of),
+                Optional.ofNullable(from),
+                Optional.ofNullable(to)
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.api.domain.audit;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a unique audit event identifier.
+ */
+public record AuditEventId(String value) {
+
+    public AuditEventId {
+        Objects.requireNonNull(value, "Audit event ID must not be null");
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("Audit event ID must not be blank");
+        }
+    }
+
+    /**
+     * Generates a new random audit event ID.
+     */
+    public static AuditEventId generate() {
+        return new AuditEventId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Creates an AuditEventId from an existing value.
+     */
+    public static AuditEventId of(String value) {
+        return new AuditEventId(value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.api.domain.audit;
+
+/**
+ * Port for recording audit events.
+ *
+ * <p>Implementations must not block the caller on storage; events may be
+ * persisted after the call returns.</p>
+ */
+public interface AuditEventPublisher {
+
+    void publish(AuditEvent event);
+}
@@ -0,0 +1,29 @@
+package com.example.api.domain.audit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Append-only store for audit events. Events are never updated; they are only
+ * deleted once they fall out of the retention period.
+ */
+public interface AuditEventRepository {
+
+    /**
+     * Appends a batch of events in a single transaction.
+     */
+    void appendAll(List<AuditEvent> events);
+
+    /**
+     * Finds one keyset page of matching events, newest first.
+     */
+    List<AuditEvent> findPage(AuditEventFilter filter, Optional<AuditEventCursor> after, int limit);
+
+    /**
+     * Deletes up to {@code limit} events that occurred before the cutoff, oldest first.
+     *
+     * @return number of events deleted
+     */
+    int deleteOlderThan(Instant cutoff, int limit);
+}
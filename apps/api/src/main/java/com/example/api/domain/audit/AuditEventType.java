@@ -0,0 +1,19 @@
+package com.example.api.domain.audit;
+
+/**
+ * Security-relevant actions recorded in the audit log.
+ */
+public enum AuditEventType {
+    USER_LOGIN_SUCCEEDED,
+    USER_LOGIN_FAILED,
+    END_USER_LOGIN_SUCCEEDED,
+    END_USER_LOGIN_FAILED,
+    ORG_MEMBER_LOGIN_SUCCEEDED,
+    ORG_MEMBER_LOGIN_FAILED,
+    PLATFORM_ADMIN_LOGIN_SUCCEEDED,
+    PLATFORM_ADMIN_LOGIN_FAILED,
+    API_KEY_ROTATED,
+    ORG_MEMBER_ROLE_CHANGED,
+    ORG_MEMBER_REMOVED,
+    ORGANIZATION_IMPERSONATED
+}
@@ -2,6 +2,7 @@ package com.example.api.domain.environment;
 
 import com.example.api.domain.project.ProjectId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,11 @@ public interface EnvironmentRepository {
 
     List<Environment> listByProjectId(ProjectId projectId);
 
+    /**
+     * Lists environments for all given projects in a single query.
+     */
+    List<Environment> listByProjectIds(Collection<ProjectId> projectIds);
+
     Optional<Environment> findByProjectIdAndType(ProjectId projectId, EnvironmentType environmentType);
 
     Environment save(Environment environment);
@@ -1,6 +1,7 @@
 package com.example.api.domain.organization;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,7 +13,17 @@ public interface OrganizationInvitationRepository {
 
     OrganizationInvitation save(OrganizationInvitation invitation);
 
+    /**
+     * Inserts new invitations in one transaction.
+     */
+    void appendAll(List<OrganizationInvitation> invitations);
+
     void deleteById(OrganizationInvitationId id);
 
-    void deleteExpired(LocalDateTime now);
+    /**
+     * Deletes up to {@code limit} invitations that expired before the cutoff.
+     *
+     * @return number of invitations deleted
+     */
+    int deleteExpired(LocalDateTime cutoff, int limit);
 }
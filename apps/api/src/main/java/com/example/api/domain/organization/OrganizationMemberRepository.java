@@ -2,8 +2,11 @@ package com.example.api.domain.organization;
 
 import com.example.api.domain.user.Email;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository port for organization member persistence.
@@ -14,10 +17,21 @@ public interface OrganizationMemberRepository {
 
     Optional<OrganizationMember> findByEmailAndOrganizationId(Email email, OrganizationId organizationId);
 
+    /**
+     * Returns which of the given emails already belong to members of the organization.
+     */
+    Set<Email> findExistingEmails(OrganizationId organizationId, Collection<Email> emails);
+
     long countByOrganizationIdAndRole(OrganizationId organizationId, OrganizationMemberRole role);
 
     List<OrganizationMember> findByOrganizationId(OrganizationId organizationId);
 
+    /**
+     * Counts members for each of the given organizations in a single grouped query.
+     * Organizations without members are absent from the returned map.
+     */
+    Map<OrganizationId, Long> countByOrganizationIds(Collection<OrganizationId> organizationIds);
+
     OrganizationMember save(OrganizationMember member);
 
     void delete(OrganizationMemberId id);
@@ -16,5 +16,17 @@ public interface ProjectRepository {
 
     List<Project> listByOrganizationId(OrganizationId organizationId);
 
+    /**
+     * Returns an opaque token that changes whenever the project is written.
+     * Empty if the project does not exist or has no version yet.
+     */
+    Optional<String> findVersion(ProjectId id);
+
+    /**
+     * Returns an opaque token that changes whenever a project in the organization
+     * is created or written. Empty if any of them has no version yet.
+     */
+    Optional<String> findListVersionByOrganizationId(OrganizationId organizationId);
+
     Project save(Project project);
 }
@@ -0,0 +1,21 @@
+package com.example.api.domain.quota;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.user.UserId;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * First sign-in of an end user in a project during a calendar month (UTC).
+ */
+public record MonthlyActiveUser(ProjectId projectId, YearMonth month, UserId userId, Instant firstSeenAt) {
+
+    public MonthlyActiveUser {
+        Objects.requireNonNull(projectId, "Project ID required");
+        Objects.requireNonNull(month, "Month required");
+        Objects.requireNonNull(userId, "User ID required");
+        Objects.requireNonNull(firstSeenAt, "First seen timestamp required");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.api.domain.quota;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.user.UserId;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository port for monthly active user snapshots.
+ */
+public interface MonthlyActiveUserRepository {
+
+    Set<UserId> findUserIds(ProjectId projectId, YearMonth month);
+
+    /**
+     * Inserts the entries, skipping any that are already stored.
+     */
+    void appendAll(List<MonthlyActiveUser> entries);
+
+    /**
+     * Deletes entries for months before {@code month}.
+     *
+     * @return the number of rows deleted
+     */
+    int deleteBefore(YearMonth month);
+}
@@ -0,0 +1,39 @@
+package com.example.api.domain.quota;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.quota.exception.QuotaExceededException;
+import com.example.api.domain.user.UserId;
+
+/**
+ * Port for checking and recording per-project usage against plan quotas.
+ *
+ * <p>Implementations answer from memory; callers on the SDK path must not
+ * expect a database read per call.</p>
+ */
+public interface ProjectQuotas {
+
+    /**
+     * Counts one SDK request against the per-minute rate.
+     *
+     * @return false if the project has used up this minute's requests
+     */
+    boolean tryAcquireSdkRequest(ProjectId projectId);
+
+    /**
+     * @throws QuotaExceededException if the project already has its maximum number of end users
+     */
+    void checkEndUserCapacity(ProjectId projectId);
+
+    /**
+     * Records a newly registered end user, who also counts as active this month.
+     */
+    void recordEndUserRegistered(ProjectId projectId, UserId userId);
+
+    /**
+     * Records an end user sign-in for the monthly active user count.
+     *
+     * @throws QuotaExceededException if the user is not yet active this month and the
+     *                                project has reached its monthly active user limit
+     */
+    void recordActiveUser(ProjectId projectId, UserId userId);
+}
@@ -0,0 +1,25 @@
+package com.example.api.domain.quota;
+
+/**
+ * Plan limits applied to each project. Zero or a negative value means unlimited.
+ */
+public record QuotaLimits(long maxEndUsers, long maxMonthlyActiveUsers, long sdkRequestsPerMinute) {
+
+    public static final QuotaLimits UNLIMITED = new QuotaLimits(0, 0, 0);
+
+    public long limitFor(QuotaType type) {
+        return switch (type) {
+            case END_USERS -> maxEndUsers;
+            case MONTHLY_ACTIVE_USERS -> maxMonthlyActiveUsers;
+            case SDK_REQUESTS_PER_MINUTE -> sdkRequestsPerMinute;
+        };
+    }
+
+    /**
+     * Whether usage at {@code current} leaves room for one more unit of {@code type}.
+     */
+    public boolean allowsAnother(QuotaType type, long current) {
+        final var limit = limitFor(type);
+        return limit <= 0 || current < limit;
+    }
+}
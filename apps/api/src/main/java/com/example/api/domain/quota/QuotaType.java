@@ -0,0 +1,10 @@
+package com.example.api.domain.quota;
+
+/**
+ * Per-project usage dimensions limited by the organization's plan.
+ */
+public enum QuotaType {
+    END_USERS,
+    MONTHLY_ACTIVE_USERS,
+    SDK_REQUESTS_PER_MINUTE
+}
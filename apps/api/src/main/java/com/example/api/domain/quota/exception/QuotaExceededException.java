@@ -0,0 +1,34 @@
+package com.example.api.domain.quota.exception;
+
+import com.example.api.domain.quota.QuotaType;
+
+/**
+ * Exception thrown when a project has used up one of its plan quotas.
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    private final QuotaType quotaType;
+    private final long limit;
+
+    public QuotaExceededException(QuotaType quotaType, long limit) {
+        super(message(quotaType, limit), null, false, false);
+        this.quotaType = quotaType;
+        this.limit = limit;
+    }
+
+    public QuotaType getQuotaType() {
+        return quotaType;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    private static String message(QuotaType quotaType, long limit) {
+        return switch (quotaType) {
+            case END_USERS -> "Project quota exceeded: plan allows " + limit + " end users";
+            case MONTHLY_ACTIVE_USERS -> "Project quota exceeded: plan allows " + limit + " monthly active users";
+            case SDK_REQUESTS_PER_MINUTE -> "Project quota exceeded: plan allows " + limit + " SDK requests per minute";
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.example.api.domain.session;
 
 import com.example.api.domain.user.UserId;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +18,12 @@ public interface SessionRepository {
     Session save(Session session);
 
     void delete(SessionId id);
+
+    /**
+     * Deletes up to {@code limit} sessions that expired, or were created and revoked,
+     * before the cutoff.
+     *
+     * @return number of sessions deleted
+     */
+    int deleteExpired(Instant cutoff, int limit);
 }
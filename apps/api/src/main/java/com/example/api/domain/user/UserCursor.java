@@ -0,0 +1,25 @@
+package com.example.api.domain.user;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Keyset position in the (createdAt, id) ordering of users.
+ *
+ * <p>Pages continue strictly after this position, so results stay stable
+ * while rows are inserted concurrently.</p>
+ */
+public record UserCursor(LocalDateTime createdAt, UserId id) {
+
+    public UserCursor {
+        Objects.requireNonNull(createdAt, "Cursor timestamp required");
+        Objects.requireNonNull(id, "Cursor user ID required");
+    }
+
+    /**
+     * Creates a cursor positioned at the given user.
+     */
+    public static UserCursor of(User user) {
+        return new UserCursor(user.getCreatedAt(), user.getId());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.api.domain.user;
+
+import com.example.api.domain.project.ProjectId;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Filter criteria for cross-tenant user listings.
+ *
+ * <p>Both criteria are optional and combine with AND semantics.</p>
+ */
+public record UserFilter(Optional<String> emailContains, Optional<ProjectId> projectId) {
+
+    public UserFilter {
+        Objects.requireNonNull(emailContains, "Email filter must not be null");
+        Objects.requireNonNull(projectId, "Project filter must not be null");
+        emailContains = emailContains.map(value -> value.strip().toLowerCase());
+    }
+
+    /**
+     * Builds a filter from raw request values, treating blank values as absent.
+     */
+    public static UserFilter of(String emailContains, String projectId) {
+        return new UserFilter(
+                Optional.ofNullable(emailContains).filter(value -> !value.isBlank()),
+                Optional.ofNullable(projectId).filter(value -> !value.isBlank()).map(ProjectId::of)
+        );
+    }
+
+    public static UserFilter none() {
+        return new UserFilter(Optional.empty(), Optional.empty());
+    }
+}
@@ -3,8 +3,11 @@ package com.example.api.domain.user;
 import com.example.api.domain.environment.EnvironmentId;
 import com.example.api.domain.project.ProjectId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository port for User aggregate persistence.
@@ -27,24 +30,46 @@ public interface UserRepository {
      */
     Optional<User> findByIdAndProjectId(UserId id, ProjectId projectId, EnvironmentId environmentId);
 
+    /**
+     * Returns an opaque token that changes whenever the user is written, without
+     * loading the user. Empty if the user does not exist or has no version yet.
+     */
+    Optional<String> findVersion(UserId id);
+
+    /**
+     * Same as {@link #findVersion(UserId)}, scoped to a specific project and environment.
+     */
+    Optional<String> findVersionByIdAndProjectId(UserId id, ProjectId projectId, EnvironmentId environmentId);
+
     boolean existsByEmail(Email email);
 
+    /**
+     * Counts end users per project across all environments. Projects without
+     * users are absent from the result.
+     */
+    Map<ProjectId, Long> countByProjectIds(Collection<ProjectId> projectIds);
+
     User save(User user);
 
     void delete(UserId id);
 
     /**
-     * Finds all users across all projects (for platform admin access).
+     * Finds one page of users matching the filter, ordered by (createdAt, id)
+     * and starting strictly after the given cursor (for platform admin listing).
      */
-    List<User> findAll();
+    List<User> findPage(UserFilter filter, Optional<UserCursor> after, int limit);
 
     /**
-     * Finds users by email partial match (for platform admin search).
+     * Streams all users matching the filter in (createdAt, id) order (for platform admin export).
+     *
+     * <p>The stream holds an open database cursor; it must be consumed and closed
+     * inside a transaction.</p>
      */
-    List<User> findByEmailContainingIgnoreCase(String email);
+    Stream<User> streamAll(UserFilter filter);
 
     /**
-     * Finds users by project ID (for platform admin filtering).
+     * Searches users by email substring using the email search index, ranked with
+     * exact and prefix matches first (for platform admin support lookups).
      */
-    List<User> findByProjectId(ProjectId projectId);
+    List<User> searchByEmail(String term, Optional<ProjectId> projectId, int offset, int limit);
 }
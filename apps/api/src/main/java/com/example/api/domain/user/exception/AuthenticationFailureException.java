@@ -0,0 +1,16 @@
+package com.example.api.domain.user.exception;
+
+/**
+ * Base for expected authentication failures: bad credentials, bad tokens, missing keys.
+ *
+ * <p>These are thrown for every rejected login, at attacker-controlled rates during
+ * credential stuffing, and their type and message say all there is to say. Stack trace
+ * capture and suppression tracking are disabled so throwing one costs little more than
+ * the allocation.</p>
+ */
+public abstract class AuthenticationFailureException extends RuntimeException {
+
+    protected AuthenticationFailureException(String message) {
+        super(message, null, false, false);
+    }
+}
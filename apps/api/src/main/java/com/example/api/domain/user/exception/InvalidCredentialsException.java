@@ -3,7 +3,7 @@ package com.example.api.domain.user.exception;
 /**
  * Thrown when login credentials are invalid.
  */
-public class InvalidCredentialsException extends RuntimeException {
+public class InvalidCredentialsException extends AuthenticationFailureException {
 
     public InvalidCredentialsException() {
         super("Invalid email or password");
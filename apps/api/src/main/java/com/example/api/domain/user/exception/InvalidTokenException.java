@@ -3,7 +3,7 @@ package com.example.api.domain.user.exception;
 /**
  * Thrown when a token is invalid or expired.
  */
-public class InvalidTokenException extends RuntimeException {
+public class InvalidTokenException extends AuthenticationFailureException {
 
     public InvalidTokenException() {
         super("Invalid or expired token");
@@ -3,7 +3,7 @@ package com.example.api.domain.user.exception;
 /**
  * Thrown when a banned user attempts to login.
  */
-public class UserBannedException extends RuntimeException {
+public class UserBannedException extends AuthenticationFailureException {
 
     public UserBannedException() {
         super("User account is banned");
@@ -0,0 +1,127 @@
+package com.example.api.domain.webhook;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Outbox row holding one event for one endpoint until it is delivered or gives up.
+ */
+public class WebhookDelivery {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final WebhookDeliveryId id;
+    private final WebhookEndpointId endpointId;
+    private final String eventId;
+    private final WebhookEventType eventType;
+    private final String payload;
+    private WebhookDeliveryStatus status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+    private final Instant createdAt;
+
+    public WebhookDelivery(WebhookDeliveryId id,
+                           WebhookEndpointId endpointId,
+                           String eventId,
+                           WebhookEventType eventType,
+                           String payload,
+                           WebhookDeliveryStatus status,
+                           int attempts,
+                           Instant nextAttemptAt,
+                           String lastError,
+                           Instant createdAt) {
+        this.id = Objects.requireNonNull(id, "Webhook delivery ID required");
+        this.endpointId = Objects.requireNonNull(endpointId, "Webhook endpoint ID required");
+        this.eventId = Objects.requireNonNull(eventId, "Event ID required");
+        this.eventType = Objects.requireNonNull(eventType, "Event type required");
+        this.payload = Objects.requireNonNull(payload, "Payload required");
+        this.status = Objects.requireNonNull(status, "Status required");
+        this.attempts = attempts;
+        this.nextAttemptAt = Objects.requireNonNull(nextAttemptAt, "Next attempt timestamp required");
+        this.lastError = lastError;
+        this.createdAt = Objects.requireNonNull(createdAt, "Created timestamp required");
+    }
+
+    /**
+     * Creates a delivery that is due immediately.
+     *
+     * @param payload the event serialized as a JSON object
+     */
+    public static WebhookDelivery create(WebhookEndpointId endpointId, WebhookEvent event, String payload) {
+        final var now = Instant.now();
+        return new WebhookDelivery(
+                WebhookDeliveryId.generate(),
+                endpointId,
+                event.id(),
+                event.type(),
+                payload,
+                WebhookDeliveryStatus.PENDING,
+                0,
+                now,
+                null,
+                now
+        );
+    }
+
+    /**
+     * Records a failed attempt, scheduling a retry after {@code backoff} or giving up
+     * once {@code maxAttempts} have been made.
+     */
+    public void recordFailure(String error, Instant now, Duration backoff, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (attempts >= maxAttempts) {
+            this.status = WebhookDeliveryStatus.FAILED;
+        } else {
+            this.nextAttemptAt = now.plus(backoff);
+        }
+    }
+
+    public boolean isFailed() {
+        return status == WebhookDeliveryStatus.FAILED;
+    }
+
+    public WebhookDeliveryId getId() {
+        return id;
+    }
+
+    public WebhookEndpointId getEndpointId() {
+        return endpointId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public WebhookEventType getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public WebhookDeliveryStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
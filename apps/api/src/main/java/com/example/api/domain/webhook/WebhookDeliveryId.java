@@ -0,0 +1,25 @@
+package com.example.api.domain.webhook;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a unique webhook delivery identifier.
+ */
+public record WebhookDeliveryId(String value) {
+
+    public WebhookDeliveryId {
+        Objects.requireNonNull(value, "Webhook delivery ID must not be null");
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("Webhook delivery ID must not be blank");
+        }
+    }
+
+    public static WebhookDeliveryId generate() {
+        return new WebhookDeliveryId(UUID.randomUUID().toString());
+    }
+
+    public static WebhookDeliveryId of(String value) {
+        return new WebhookDeliveryId(value);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.api.domain.webhook;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository port for the webhook delivery outbox.
+ */
+public interface WebhookDeliveryRepository {
+
+    /**
+     * Inserts new deliveries, joining the caller's transaction when there is one.
+     */
+    void appendAll(List<WebhookDelivery> deliveries);
+
+    /**
+     * Returns pending deliveries whose next attempt is due, oldest first, taking at
+     * most {@code perEndpointLimit} of them from any one endpoint and none from
+     * {@code excludedEndpoints}, so a backlog on one endpoint cannot fill the page.
+     */
+    List<WebhookDelivery> findDue(Instant now,
+                                  int perEndpointLimit,
+                                  Collection<WebhookEndpointId> excludedEndpoints,
+                                  int limit);
+
+    /**
+     * Leases deliveries to {@code owner} until {@code leaseUntil} and returns the
+     * ids it got. Deliveries that are no longer pending, or that another owner
+     * holds an unexpired lease on, are left out. Only the returned deliveries may
+     * be sent, so instances polling the same outbox never send a row twice at
+     * once. Leased rows are not returned by {@link #findDue} until the lease
+     * expires; saving a delivery releases it.
+     */
+    Set<WebhookDeliveryId> claim(Collection<WebhookDeliveryId> ids, String owner, Instant now, Instant leaseUntil);
+
+    WebhookDelivery save(WebhookDelivery delivery);
+
+    void deleteAll(Collection<WebhookDeliveryId> ids);
+}
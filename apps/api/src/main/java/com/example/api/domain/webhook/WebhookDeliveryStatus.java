@@ -0,0 +1,9 @@
+package com.example.api.domain.webhook;
+
+/**
+ * Outbox state of a webhook delivery. Delivered rows are deleted rather than kept.
+ */
+public enum WebhookDeliveryStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,120 @@
+package com.example.api.domain.webhook;
+
+import com.example.api.domain.project.ProjectId;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Domain entity representing a customer backend URL that receives a project's end-user events.
+ */
+public class WebhookEndpoint {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final WebhookEndpointId id;
+    private final ProjectId projectId;
+    private final String url;
+    private final String secret;
+    private final Set<WebhookEventType> eventTypes;
+    private final LocalDateTime createdAt;
+
+    public WebhookEndpoint(WebhookEndpointId id,
+                           ProjectId projectId,
+                           String url,
+                           String secret,
+                           Set<WebhookEventType> eventTypes,
+                           LocalDateTime createdAt) {
+        this.id = Objects.requireNonNull(id, "Webhook endpoint ID required");
+        this.projectId = Objects.requireNonNull(projectId, "Project ID required");
+        this.url = Objects.requireNonNull(url, "URL required");
+        this.secret = Objects.requireNonNull(secret, "Signing secret required");
+        Objects.requireNonNull(eventTypes, "Event types required");
+        if (eventTypes.isEmpty()) {
+            throw new IllegalArgumentException("Webhook endpoint must subscribe to at least one event type");
+        }
+        this.eventTypes = Set.copyOf(eventTypes);
+        this.createdAt = Objects.requireNonNull(createdAt, "Created timestamp required");
+    }
+
+    /**
+     * Creates an endpoint with a freshly generated signing secret.
+     *
+     * <p>Only the URL's syntax is checked here. Whether its host may be contacted
+     * depends on what it resolves to when a delivery is sent, which the dispatcher checks.</p>
+     *
+     * @param allowInsecureHttp whether plain http URLs are accepted (local development only)
+     * @throws IllegalArgumentException if the URL is not an absolute http(s) URL
+     */
+    public static WebhookEndpoint create(ProjectId projectId,
+                                         String url,
+                                         Set<WebhookEventType> eventTypes,
+                                         boolean allowInsecureHttp) {
+        validateUrl(url, allowInsecureHttp);
+        return new WebhookEndpoint(
+                WebhookEndpointId.generate(),
+                projectId,
+                url,
+                generateSecret(),
+                EnumSet.copyOf(eventTypes),
+                LocalDateTime.now()
+        );
+    }
+
+    public boolean subscribesTo(WebhookEventType type) {
+        return eventTypes.contains(type);
+    }
+
+    private static void validateUrl(String url, boolean allowInsecureHttp) {
+        final URI uri;
+        try {
+            uri = new URI(Objects.requireNonNull(url, "URL required"));
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid webhook URL: " + url);
+        }
+        final var scheme = uri.getScheme();
+        final var secure = "https".equalsIgnoreCase(scheme);
+        final var insecure = "http".equalsIgnoreCase(scheme);
+        if (uri.getHost() == null || !(secure || (insecure && allowInsecureHttp))) {
+            throw new IllegalArgumentException(allowInsecureHttp
+                    ? "Webhook URL must be an absolute http or https URL"
+                    : "Webhook URL must be an absolute https URL");
+        }
+    }
+
+    private static String generateSecret() {
+        final var randomBytes = new byte[32];
+        RANDOM.nextBytes(randomBytes);
+        return "whsec_" + Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+    }
+
+    public WebhookEndpointId getId() {
+        return id;
+    }
+
+    public ProjectId getProjectId() {
+        return projectId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public Set<WebhookEventType> getEventTypes() {
+        return eventTypes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
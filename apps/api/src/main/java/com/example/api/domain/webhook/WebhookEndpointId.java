@@ -0,0 +1,25 @@
+package com.example.api.domain.webhook;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a unique webhook endpoint identifier.
+ */
+public record WebhookEndpointId(String value) {
+
+    public WebhookEndpointId {
+        Objects.requireNonNull(value, "Webhook endpoint ID must not be null");
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("Webhook endpoint ID must not be blank");
+        }
+    }
+
+    public static WebhookEndpointId generate() {
+        return new WebhookEndpointId(UUID.randomUUID().toString());
+    }
+
+    public static WebhookEndpointId of(String value) {
+        return new WebhookEndpointId(value);
+    }
+}
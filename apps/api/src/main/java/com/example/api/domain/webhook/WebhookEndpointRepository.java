@@ -0,0 +1,23 @@
+package com.example.api.domain.webhook;
+
+import com.example.api.domain.project.ProjectId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository port for webhook endpoint persistence.
+ */
+public interface WebhookEndpointRepository {
+
+    Optional<WebhookEndpoint> findById(WebhookEndpointId id);
+
+    List<WebhookEndpoint> listByProjectId(ProjectId projectId);
+
+    WebhookEndpoint save(WebhookEndpoint endpoint);
+
+    /**
+     * Deletes the endpoint together with its undelivered events.
+     */
+    void delete(WebhookEndpointId id);
+}
@@ -0,0 +1,45 @@
+package com.example.api.domain.webhook;
+
+import com.example.api.domain.environment.EnvironmentId;
+import com.example.api.domain.project.ProjectId;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An end-user event raised by a use case, to be delivered to every subscribed
+ * endpoint of the project.
+ *
+ * <p>The id is stable across retries so receivers can deduplicate; delivery is at-least-once.</p>
+ */
+public record WebhookEvent(
+        String id,
+        WebhookEventType type,
+        ProjectId projectId,
+        EnvironmentId environmentId,
+        String userId,
+        Map<String, String> data,
+        Instant occurredAt
+) {
+
+    public WebhookEvent {
+        Objects.requireNonNull(id, "Event ID required");
+        Objects.requireNonNull(type, "Event type required");
+        Objects.requireNonNull(projectId, "Project ID required");
+        Objects.requireNonNull(environmentId, "Environment ID required");
+        Objects.requireNonNull(userId, "User ID required");
+        data = data == null ? Map.of() : Map.copyOf(data);
+        Objects.requireNonNull(occurredAt, "Occurred timestamp required");
+    }
+
+    public static WebhookEvent of(WebhookEventType type,
+                                  ProjectId projectId,
+                                  EnvironmentId environmentId,
+                                  String userId,
+                                  Map<String, String> data) {
+        return new WebhookEvent(
+                UUID.randomUUID().toString(), type, projectId, environmentId, userId, data, Instant.now());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.api.domain.webhook;
+
+/**
+ * Port for raising webhook events from use cases.
+ *
+ * <p>Implementations must record the event in the caller's transaction, so an
+ * event is delivered if and only if the change that raised it commits.</p>
+ */
+public interface WebhookEventPublisher {
+
+    void publish(WebhookEvent event);
+}
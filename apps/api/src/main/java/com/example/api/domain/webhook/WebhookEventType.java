@@ -0,0 +1,32 @@
+package com.example.api.domain.webhook;
+
+import java.util.Arrays;
+
+/**
+ * End-user lifecycle events that can be delivered to a project's webhook endpoints.
+ */
+public enum WebhookEventType {
+    END_USER_REGISTERED("end_user.registered"),
+    END_USER_LOGGED_IN("end_user.logged_in"),
+    END_USER_PROFILE_UPDATED("end_user.profile_updated");
+
+    private final String wireName;
+
+    WebhookEventType(String wireName) {
+        this.wireName = wireName;
+    }
+
+    /**
+     * Name used in webhook payloads and endpoint subscriptions.
+     */
+    public String wireName() {
+        return wireName;
+    }
+
+    public static WebhookEventType fromWireName(String wireName) {
+        return Arrays.stream(values())
+                .filter(type -> type.wireName.equals(wireName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown webhook event type: " + wireName));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.api.domain.webhook.exception;
+
+/**
+ * Exception thrown when a webhook endpoint is not found in the requested project.
+ */
+public class WebhookEndpointNotFoundException extends RuntimeException {
+
+    public WebhookEndpointNotFoundException(String endpointId) {
+        super("Webhook endpoint not found: " + endpointId);
+    }
+}
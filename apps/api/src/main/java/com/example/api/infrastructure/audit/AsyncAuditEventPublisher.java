@@ -0,0 +1,102 @@
+package com.example.api.infrastructure.audit;
+
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes audit events through a lock-free ring buffer drained by a background writer.
+ *
+ * <p>{@link #publish} never blocks: when the buffer is full the event is dropped
+ * and counted. {@link #flush()} appends buffered events in batches, one
+ * transaction per batch, and runs again on shutdown.</p>
+ */
+@Component
+public class AsyncAuditEventPublisher implements AuditEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncAuditEventPublisher.class);
+
+    private final AuditEventRepository repository;
+    private final MpscRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final AtomicBoolean dropReported = new AtomicBoolean();
+
+    // The ring buffer allows a single consumer; scheduled and shutdown flushes can overlap
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    public AsyncAuditEventPublisher(AuditEventRepository repository,
+                                    AuditProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.written = Counter.builder("audit.events.written").register(meterRegistry);
+        this.dropped = Counter.builder("audit.events.dropped")
+                .description("Audit events discarded because the buffer was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("audit.events.failed")
+                .description("Audit events lost to write failures")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, MpscRingBuffer::size).register(meterRegistry);
+    }
+
+    @Override
+    public void publish(AuditEvent event) {
+        if (buffer.offer(event)) {
+            return;
+        }
+        dropped.increment();
+        if (dropReported.compareAndSet(false, true)) {
+            log.warn("Audit buffer full ({} events); dropping events until the writer catches up", buffer.capacity());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval:PT1S}")
+    public void flush() {
+        drainLock.lock();
+        try {
+            final var batch = new ArrayList<AuditEvent>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+            dropReported.set(false);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingCount() {
+        return buffer.size();
+    }
+
+    private void write(ArrayList<AuditEvent> batch) {
+        try {
+            repository.appendAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} audit events", batch.size(), e);
+        }
+    }
+}
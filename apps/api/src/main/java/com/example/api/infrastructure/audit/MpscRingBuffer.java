@@ -0,0 +1,76 @@
+package com.example.api.infrastructure.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ *
+ * <p>Producers claim a sequence with a CAS on the tail and then publish the
+ * element into its slot; {@link #offer} fails instead of waiting when the
+ * buffer is full. The consumer treats an empty slot as "not yet published"
+ * and stops there, so elements are always drained in claim order.</p>
+ */
+public class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds an element, or returns {@code false} if the buffer is full.
+     */
+    public boolean offer(E element) {
+        while (true) {
+            final var sequence = tail.get();
+            if (sequence - head >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) (sequence & mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published elements into {@code target}. Single consumer only.
+     *
+     * @return the number of elements drained
+     */
+    public int drainTo(List<? super E> target, int max) {
+        var sequence = head;
+        var drained = 0;
+        while (drained < max) {
+            final var index = (int) (sequence & mask);
+            final var element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            sequence++;
+            drained++;
+        }
+        head = sequence;
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
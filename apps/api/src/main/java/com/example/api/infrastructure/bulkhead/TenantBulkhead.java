@@ -0,0 +1,91 @@
+package com.example.api.infrastructure.bulkhead;
+
+import com.example.api.domain.project.ProjectId;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request and connection permits for one project.
+ *
+ * <p>Both semaphores are fair, so a project's own waiters are served in arrival
+ * order and a burst cannot starve earlier requests of the same project.</p>
+ */
+final class TenantBulkhead {
+
+    private final ProjectId projectId;
+    private final int weight;
+    private final int requestCapacity;
+    private final int connectionCapacity;
+    private final Semaphore requests;
+    private final Semaphore connections;
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder rejectedConnections = new LongAdder();
+
+    TenantBulkhead(ProjectId projectId, int weight, int requestCapacity, int connectionCapacity) {
+        this.projectId = projectId;
+        this.weight = weight;
+        this.requestCapacity = requestCapacity;
+        this.connectionCapacity = connectionCapacity;
+        this.requests = new Semaphore(requestCapacity, true);
+        this.connections = new Semaphore(connectionCapacity, true);
+    }
+
+    boolean tryAcquireRequest(Duration wait) throws InterruptedException {
+        if (requests.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejectedRequests.increment();
+        return false;
+    }
+
+    void releaseRequest() {
+        requests.release();
+    }
+
+    boolean tryAcquireConnection(Duration wait) throws InterruptedException {
+        if (connections.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejectedConnections.increment();
+        return false;
+    }
+
+    void releaseConnection() {
+        connections.release();
+    }
+
+    ProjectId projectId() {
+        return projectId;
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    int requestCapacity() {
+        return requestCapacity;
+    }
+
+    int connectionCapacity() {
+        return connectionCapacity;
+    }
+
+    int requestsInFlight() {
+        return requestCapacity - requests.availablePermits();
+    }
+
+    int connectionsInUse() {
+        return connectionCapacity - connections.availablePermits();
+    }
+
+    long rejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    long rejectedConnections() {
+        return rejectedConnections.sum();
+    }
+}
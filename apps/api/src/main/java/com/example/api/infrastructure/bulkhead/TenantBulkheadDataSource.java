@@ -0,0 +1,78 @@
+package com.example.api.infrastructure.bulkhead;
+
+import com.example.api.infrastructure.jdbc.DelegatingConnection;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Charges each connection opened on a request thread to that request's project bulkhead.
+ *
+ * <p>The permit is taken before the pool is asked for a connection and returned
+ * when the connection is closed, so a project at its cap waits here instead of
+ * in the pool queue that every other project shares.</p>
+ */
+public class TenantBulkheadDataSource extends DelegatingDataSource {
+
+    private final Supplier<TenantBulkheads> bulkheads;
+
+    public TenantBulkheadDataSource(DataSource targetDataSource, Supplier<TenantBulkheads> bulkheads) {
+        super(targetDataSource);
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final var permit = bulkheads.get().acquireConnection();
+        try {
+            return wrap(super.getConnection(), permit);
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        final var permit = bulkheads.get().acquireConnection();
+        try {
+            return wrap(super.getConnection(username, password), permit);
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    private static Connection wrap(Connection connection, TenantBulkheads.ConnectionPermit permit) {
+        if (permit == TenantBulkheads.ConnectionPermit.NONE) {
+            return connection;
+        }
+        return new PermitConnection(connection, permit);
+    }
+
+    /**
+     * Returns the permit when the connection is closed; every other call goes
+     * straight to the pooled connection.
+     */
+    private static final class PermitConnection extends DelegatingConnection {
+
+        private final TenantBulkheads.ConnectionPermit permit;
+
+        private PermitConnection(Connection target, TenantBulkheads.ConnectionPermit permit) {
+            super(target);
+            this.permit = permit;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                super.close();
+            } finally {
+                permit.release();
+            }
+        }
+    }
+}
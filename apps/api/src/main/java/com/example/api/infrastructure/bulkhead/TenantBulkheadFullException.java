@@ -0,0 +1,22 @@
+package com.example.api.infrastructure.bulkhead;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown when a project already holds all the database connections its bulkhead allows.
+ *
+ * <p>Raised from {@code getConnection()}, so it reaches the web layer wrapped in
+ * Spring and Hibernate exceptions. Like the pool's own timeout it is transient.</p>
+ */
+public class TenantBulkheadFullException extends SQLTransientConnectionException {
+
+    public TenantBulkheadFullException() {
+        super("Project is using all of its database connections, retry later");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // Expected under load, so skip the stack walk
+        return this;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.api.infrastructure.bulkhead;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link TenantBulkheadDataSource}.
+ *
+ * <p>The bulkheads depend on the project repository, which needs the data source,
+ * so they are resolved on first use.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.tenant-bulkheads", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TenantBulkheadPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<TenantBulkheads> bulkheads;
+
+    public TenantBulkheadPostProcessor(ObjectProvider<TenantBulkheads> bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TenantBulkheadDataSource)) {
+            return new TenantBulkheadDataSource(dataSource, SingletonSupplier.of(bulkheads::getObject));
+        }
+        return bean;
+    }
+}
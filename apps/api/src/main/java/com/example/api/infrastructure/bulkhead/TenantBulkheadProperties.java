@@ -0,0 +1,95 @@
+package com.example.api.infrastructure.bulkhead;
+
+import com.example.api.domain.subscription.SubscriptionPlan;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the per-project request and connection bulkheads.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tenant-bulkheads")
+public class TenantBulkheadProperties {
+
+    private boolean enabled = true;
+    private int requestsPerWeight = 10;
+    private int connectionsPerWeight = 1;
+    private int maxConnections = 3;
+    private Duration maxRequestWait = Duration.ofMillis(50);
+    private Duration maxConnectionWait = Duration.ofSeconds(1);
+    private Map<SubscriptionPlan, Integer> weights = new EnumMap<>(Map.of(
+            SubscriptionPlan.BASIC, 1,
+            SubscriptionPlan.PRO, 3));
+
+    public int weightFor(SubscriptionPlan plan) {
+        return Math.max(1, weights.getOrDefault(plan, 1));
+    }
+
+    public int requestCapacity(int weight) {
+        return Math.max(1, requestsPerWeight * weight);
+    }
+
+    public int connectionCapacity(int weight) {
+        return Math.max(1, Math.min(maxConnections, connectionsPerWeight * weight));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRequestsPerWeight() {
+        return requestsPerWeight;
+    }
+
+    public void setRequestsPerWeight(int requestsPerWeight) {
+        this.requestsPerWeight = requestsPerWeight;
+    }
+
+    public int getConnectionsPerWeight() {
+        return connectionsPerWeight;
+    }
+
+    public void setConnectionsPerWeight(int connectionsPerWeight) {
+        this.connectionsPerWeight = connectionsPerWeight;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Duration getMaxRequestWait() {
+        return maxRequestWait;
+    }
+
+    public void setMaxRequestWait(Duration maxRequestWait) {
+        this.maxRequestWait = maxRequestWait;
+    }
+
+    public Duration getMaxConnectionWait() {
+        return maxConnectionWait;
+    }
+
+    public void setMaxConnectionWait(Duration maxConnectionWait) {
+        this.maxConnectionWait = maxConnectionWait;
+    }
+
+    public Map<SubscriptionPlan, Integer> getWeights() {
+        return weights;
+    }
+
+    public void setWeights(Map<SubscriptionPlan, Integer> weights) {
+        this.weights = weights;
+    }
+}
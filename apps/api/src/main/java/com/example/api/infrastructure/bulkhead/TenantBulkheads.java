@@ -0,0 +1,273 @@
+package com.example.api.infrastructure.bulkhead;
+
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.infrastructure.metrics.BoundedTagValues;
+import com.example.api.infrastructure.quota.QuotaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-project bulkheads for SDK traffic.
+ *
+ * <p>{@link #tryEnter} takes one of the project's request permits and binds the
+ * project to the calling thread until {@link #exit}. While bound, the first JDBC
+ * connection the thread opens also takes one of the project's connection permits;
+ * nested connections on the same thread reuse it. Capacity scales with the weight
+ * of the organization's plan, and connections are capped below the pool size so
+ * one project can never hold the whole pool.</p>
+ *
+ * <p>Waits are bounded and short: a project at its cap gets a 503 rather than a
+ * queue, while other projects keep their own permits.</p>
+ */
+@Component
+public class TenantBulkheads {
+
+    private final TenantBulkheadProperties properties;
+    private final ProjectRepository projectRepository;
+    private final QuotaProperties quotaProperties;
+    private final MeterRegistry registry;
+    private final BoundedTagValues projects;
+    private final Timer requestWait;
+    private final Timer connectionWait;
+    private final ConcurrentHashMap<ProjectId, TenantBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final ThreadLocal<Binding> current = new ThreadLocal<>();
+
+    // The repository needs the data source these bulkheads guard, so it is resolved on first use
+    public TenantBulkheads(TenantBulkheadProperties properties,
+                           @Lazy ProjectRepository projectRepository,
+                           QuotaProperties quotaProperties,
+                           MeterRegistry registry,
+                           @Value("${app.metrics.max-tenant-tag-values:200}") int maxTenantTagValues) {
+        this.properties = properties;
+        this.projectRepository = projectRepository;
+        this.quotaProperties = quotaProperties;
+        this.registry = registry;
+        this.projects = new BoundedTagValues(maxTenantTagValues);
+        this.requestWait = waitTimer("requests");
+        this.connectionWait = waitTimer("connections");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Takes a request permit for the project and binds it to the current thread.
+     *
+     * @return false when the project stayed at its cap for {@code max-request-wait}
+     */
+    public boolean tryEnter(ProjectId projectId) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        final var bulkhead = bulkheadFor(projectId);
+        final var start = System.nanoTime();
+        final boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquireRequest(properties.getMaxRequestWait());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            requestWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejected(projectId, "requests");
+            return false;
+        }
+        current.set(new Binding(bulkhead));
+        return true;
+    }
+
+    /**
+     * Releases the permit taken by {@link #tryEnter} and unbinds the project.
+     */
+    public void exit() {
+        final var binding = current.get();
+        if (binding == null) {
+            return;
+        }
+        current.remove();
+        synchronized (binding) {
+            // A connection left open past the request must not keep its permit
+            if (binding.connections > 0) {
+                binding.connections = 0;
+                binding.bulkhead.releaseConnection();
+            }
+            binding.closed = true;
+        }
+        binding.bulkhead.releaseRequest();
+    }
+
+    /**
+     * Takes a connection permit for the project bound to the current thread, if any.
+     *
+     * @throws TenantBulkheadFullException when the project stayed at its cap for {@code max-connection-wait}
+     */
+    ConnectionPermit acquireConnection() throws SQLException {
+        final var binding = current.get();
+        if (binding == null) {
+            return ConnectionPermit.NONE;
+        }
+        synchronized (binding) {
+            if (binding.connections > 0) {
+                binding.connections++;
+                return new ConnectionPermit(binding);
+            }
+        }
+        final var start = System.nanoTime();
+        try {
+            if (!binding.bulkhead.tryAcquireConnection(properties.getMaxConnectionWait())) {
+                rejected(binding.bulkhead.projectId(), "connections");
+                throw new TenantBulkheadFullException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        } finally {
+            connectionWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        synchronized (binding) {
+            binding.connections++;
+        }
+        return new ConnectionPermit(binding);
+    }
+
+    public List<Snapshot> snapshot() {
+        return bulkheads.values().stream()
+                .map(bulkhead -> new Snapshot(
+                        bulkhead.projectId().value(),
+                        bulkhead.weight(),
+                        bulkhead.requestCapacity(),
+                        bulkhead.requestsInFlight(),
+                        bulkhead.rejectedRequests(),
+                        bulkhead.connectionCapacity(),
+                        bulkhead.connectionsInUse(),
+                        bulkhead.rejectedConnections()))
+                .sorted(Comparator.comparingInt(Snapshot::requestsInFlight).reversed())
+                .toList();
+    }
+
+    private TenantBulkhead bulkheadFor(ProjectId projectId) {
+        final var existing = bulkheads.get(projectId);
+        if (existing != null) {
+            return existing;
+        }
+        // Resolved outside the map so a slow project lookup does not block other projects
+        final var plan = projectRepository.findById(projectId)
+                .map(Project::getOrganizationId)
+                .map(organizationId -> quotaProperties.planFor(organizationId.value()))
+                .orElse(quotaProperties.getDefaultPlan());
+        final var weight = properties.weightFor(plan);
+        final var created = new TenantBulkhead(
+                projectId, weight, properties.requestCapacity(weight), properties.connectionCapacity(weight));
+        final var raced = bulkheads.putIfAbsent(projectId, created);
+        if (raced != null) {
+            return raced;
+        }
+        registerGauges(created);
+        return created;
+    }
+
+    private void registerGauges(TenantBulkhead bulkhead) {
+        final var project = projects.of(bulkhead.projectId().value());
+        if (BoundedTagValues.OVERFLOW.equals(project)) {
+            // Gauges cannot be summed, so projects past the tag cap are only in the snapshot
+            return;
+        }
+        Gauge.builder("tenant.bulkhead.saturation", bulkhead,
+                        b -> (double) b.requestsInFlight() / b.requestCapacity())
+                .description("Share of a project's request permits in use")
+                .tag("project", project)
+                .tag("resource", "requests")
+                .register(registry);
+        Gauge.builder("tenant.bulkhead.saturation", bulkhead,
+                        b -> (double) b.connectionsInUse() / b.connectionCapacity())
+                .description("Share of a project's database connection permits in use")
+                .tag("project", project)
+                .tag("resource", "connections")
+                .register(registry);
+    }
+
+    private void rejected(ProjectId projectId, String resource) {
+        registry.counter("tenant.bulkhead.rejections",
+                "project", projects.of(projectId.value()),
+                "resource", resource
+        ).increment();
+    }
+
+    private Timer waitTimer(String resource) {
+        return Timer.builder("tenant.bulkhead.wait")
+                .description("Time spent waiting for a project bulkhead permit")
+                .tag("resource", resource)
+                .register(registry);
+    }
+
+    /**
+     * The project bound to a thread and how many connections that thread has open.
+     */
+    private static final class Binding {
+
+        private final TenantBulkhead bulkhead;
+        private int connections;
+        private boolean closed;
+
+        private Binding(TenantBulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+    }
+
+    /**
+     * Returned for each opened connection; releasing the last one frees the project's permit.
+     */
+    static final class ConnectionPermit {
+
+        static final ConnectionPermit NONE = new ConnectionPermit(null);
+
+        private final Binding binding;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ConnectionPermit(Binding binding) {
+            this.binding = binding;
+        }
+
+        void release() {
+            if (binding == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (binding) {
+                // Already released by exit() when the request finished first
+                if (binding.closed || binding.connections == 0) {
+                    return;
+                }
+                if (--binding.connections == 0) {
+                    binding.bulkhead.releaseConnection();
+                }
+            }
+        }
+    }
+
+    public record Snapshot(String projectId,
+                           int weight,
+                           int requestCapacity,
+                           int requestsInFlight,
+                           long rejectedRequests,
+                           int connectionCapacity,
+                           int connectionsInUse,
+                           long rejectedConnections) {
+    }
+}
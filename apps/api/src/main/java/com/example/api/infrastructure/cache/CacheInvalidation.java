@@ -0,0 +1,37 @@
+package com.example.api.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * One invalidation as sent between instances: entity {@code id} in cache
+ * {@code region} changed on node {@code nodeId} at {@code sentAtMillis}.
+ *
+ * <p>Encoded as tab-separated UTF-8 text with a leading format version, which
+ * keeps packets small and readable in a capture.</p>
+ */
+record CacheInvalidation(String nodeId, long sentAtMillis, String region, String id) {
+
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '\t';
+
+    byte[] encode() {
+        return (VERSION + SEPARATOR + nodeId + SEPARATOR + sentAtMillis + SEPARATOR + region + SEPARATOR + id)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the decoded message, or empty if the packet is not a well-formed invalidation.
+     */
+    static Optional<CacheInvalidation> decode(byte[] data, int length) {
+        final var parts = new String(data, 0, length, StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new CacheInvalidation(parts[1], Long.parseLong(parts[2]), parts[3], parts[4]));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.api.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts entity changes to the other API instances so they can drop their
+ * cached copies.
+ *
+ * <p>Each invalidation is one UDP datagram sent to every configured peer. There
+ * are no acknowledgements or retries: a lost datagram leaves the peer serving
+ * the old value until its cache entry expires, so the lookup cache TTL is the
+ * upper bound on staleness and the bus only makes the common case fast. With
+ * the bus disabled, {@link #publish} is a no-op and nothing is bound.</p>
+ *
+ * <p>A forged invalidation only costs a cache miss, but an open port would let
+ * anyone turn every lookup into a database query. Datagrams are therefore
+ * accepted only from the address and port of a configured peer, and only with
+ * a valid HMAC-SHA256 under the shared {@code secret}.</p>
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final int MAX_PACKET_SIZE = 512;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private final List<InetSocketAddress> peers;
+    private final Set<InetSocketAddress> trustedSources;
+    private final SecretKeySpec key;
+    private final DatagramSocket socket;
+    private final MeterRegistry registry;
+    private final Counter sent;
+    private final Counter received;
+    private final Counter failed;
+    private final Counter ignored;
+    private final Counter rejected;
+
+    public CacheInvalidationBus(LookupCacheProperties properties, MeterRegistry registry) throws SocketException {
+        final var bus = properties.getBus();
+        this.registry = registry;
+        this.peers = bus.getPeers().stream().map(CacheInvalidationBus::parsePeer).toList();
+        this.trustedSources = Set.copyOf(peers);
+        this.sent = messages("sent");
+        this.received = messages("received");
+        this.failed = messages("failed");
+        this.ignored = messages("ignored");
+        this.rejected = messages("rejected");
+        if (!bus.isEnabled()) {
+            this.socket = null;
+            this.key = null;
+            return;
+        }
+        if (bus.getSecret() == null || bus.getSecret().isBlank()) {
+            throw new IllegalArgumentException("app.lookup-cache.bus.secret must be set when the bus is enabled");
+        }
+        this.key = new SecretKeySpec(bus.getSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.socket = new DatagramSocket(new InetSocketAddress(bus.getBindAddress(), bus.getPort()));
+        Thread.ofVirtual().name("cache-invalidation-bus").start(this::receive);
+        log.info("Cache invalidation bus listening on {} with {} peers", socket.getLocalSocketAddress(), peers.size());
+    }
+
+    /**
+     * Registers a callback invoked with the entity id of every invalidation
+     * another instance publishes for {@code region}.
+     */
+    public void subscribe(String region, Consumer<String> listener) {
+        listeners.computeIfAbsent(region, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Tells every peer that entity {@code id} in {@code region} changed. Local
+     * listeners are not called; the publisher evicts its own copy.
+     */
+    public void publish(String region, String id) {
+        if (socket == null || peers.isEmpty()) {
+            return;
+        }
+        final var data = sign(new CacheInvalidation(nodeId, System.currentTimeMillis(), region, id).encode());
+        for (final var peer : peers) {
+            try {
+                socket.send(new DatagramPacket(data, data.length, peer));
+                sent.increment();
+            } catch (IOException e) {
+                failed.increment();
+                log.debug("Failed to send cache invalidation to {}", peer, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (socket != null) {
+            // Unblocks the receive loop
+            socket.close();
+        }
+    }
+
+    int localPort() {
+        return socket == null ? -1 : socket.getLocalPort();
+    }
+
+    private void receive() {
+        final var buffer = new byte[MAX_PACKET_SIZE];
+        final var packet = new DatagramPacket(buffer, buffer.length);
+        while (!socket.isClosed()) {
+            try {
+                packet.setLength(buffer.length);
+                socket.receive(packet);
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Cache invalidation bus receive failed", e);
+                }
+                continue;
+            }
+            if (!trustedSources.contains((InetSocketAddress) packet.getSocketAddress())
+                    || !verify(packet.getData(), packet.getLength())) {
+                rejected.increment();
+                continue;
+            }
+            final var message = CacheInvalidation.decode(packet.getData(), packet.getLength() - MAC_LENGTH)
+                    .orElse(null);
+            // Unknown regions are dropped before they can become metric tags
+            final var regionListeners = message == null ? null : listeners.get(message.region());
+            if (regionListeners == null) {
+                ignored.increment();
+                continue;
+            }
+            if (message.nodeId().equals(nodeId)) {
+                // Own datagram, when a peer list is shared by every instance
+                continue;
+            }
+            received.increment();
+            // Same-host clocks in tests; across hosts this includes clock skew
+            lag(message.region()).record(
+                    Math.max(0, System.currentTimeMillis() - message.sentAtMillis()), TimeUnit.MILLISECONDS);
+            for (final var listener : regionListeners) {
+                try {
+                    listener.accept(message.id());
+                } catch (RuntimeException e) {
+                    log.warn("Cache invalidation listener for {} failed", message.region(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the HMAC of {@code payload} to it.
+     */
+    private byte[] sign(byte[] payload) {
+        final var signed = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+        System.arraycopy(mac(payload, payload.length), 0, signed, payload.length, MAC_LENGTH);
+        return signed;
+    }
+
+    private boolean verify(byte[] data, int length) {
+        if (length <= MAC_LENGTH) {
+            return false;
+        }
+        final var payloadLength = length - MAC_LENGTH;
+        return MessageDigest.isEqual(mac(data, payloadLength), Arrays.copyOfRange(data, payloadLength, length));
+    }
+
+    private byte[] mac(byte[] data, int length) {
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(data, 0, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+
+    private Timer lag(String region) {
+        return Timer.builder("cache.invalidation.lag")
+                .description("Time from publishing an invalidation to receiving it on a peer")
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private Counter messages(String outcome) {
+        return Counter.builder("cache.invalidation.messages")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static InetSocketAddress parsePeer(String peer) {
+        final var separator = peer.lastIndexOf(':');
+        if (separator <= 0 || separator == peer.length() - 1) {
+            throw new IllegalArgumentException("Cache invalidation peer must be host:port, got " + peer);
+        }
+        return new InetSocketAddress(peer.substring(0, separator), Integer.parseInt(peer.substring(separator + 1)));
+    }
+}
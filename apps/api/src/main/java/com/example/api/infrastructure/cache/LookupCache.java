@@ -0,0 +1,159 @@
+package com.example.api.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per-instance cache for one kind of hot lookup, kept in step with other
+ * instances through the {@link CacheInvalidationBus}.
+ *
+ * <p>Values are stored as private copies and copied again on the way out, so
+ * callers may mutate what they get. Only hits are cached. Lookups inside a
+ * transaction always go to the loader: use cases that need a current read
+ * (updates, and bodies paired with a version token) run transactionally, while
+ * the per-request lookups in the security filters run outside one.</p>
+ *
+ * <p>Invalidations are by entity id. When entries are keyed by something else
+ * (an API key hash), {@code idOf} maps a value back to its id and an id-to-key
+ * index turns the eviction into per-key invalidations. A load that overlaps any
+ * eviction in the region is returned but not cached, because the index cannot
+ * cover a key whose id is not known until the load finishes; that is only done
+ * for rarely changing entities.</p>
+ */
+public final class LookupCache<V> {
+
+    private final String region;
+    private final Cache<String, V> cache;
+    private final UnaryOperator<V> copy;
+    private final Function<V, String> idOf;
+    private final CacheInvalidationBus bus;
+    // Each key maps to the value it was indexed for, so removing an older entry keeps a newer one indexed
+    private final Map<String, Map<String, V>> keysById = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param idOf maps a cached value to its entity id, or null when entries are keyed by id
+     */
+    public LookupCache(String region,
+                       LookupCacheProperties properties,
+                       UnaryOperator<V> copy,
+                       Function<V, String> idOf,
+                       CacheInvalidationBus bus,
+                       MeterRegistry registry) {
+        this.region = region;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .evictionListener((String key, V value, RemovalCause cause) -> unindex(key, value))
+                .build();
+        this.copy = copy;
+        this.idOf = idOf;
+        this.bus = bus;
+        CaffeineCacheMetrics.monitor(registry, cache, region);
+        bus.subscribe(region, this::evict);
+    }
+
+    /**
+     * Returns the cached value for {@code key}, loading and caching it on a miss.
+     */
+    public Optional<V> get(String key, Function<String, Optional<V>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(key);
+        }
+        if (idOf == null) {
+            // Loading inside the cache means an eviction of this key racing the load waits for it and then removes it
+            final var cached = cache.get(key, missing -> loader.apply(missing).map(copy).orElse(null));
+            return Optional.ofNullable(cached).map(copy);
+        }
+        final var loaded = new AtomicReference<V>();
+        final var cached = cache.get(key, missing -> {
+            final var evictionsBefore = evictions.get();
+            final var value = loader.apply(missing).map(copy).orElse(null);
+            if (value == null) {
+                return null;
+            }
+            index(missing, value);
+            if (evictions.get() != evictionsBefore) {
+                // An eviction may have missed this key because it was not indexed yet
+                unindex(missing, value);
+                loaded.set(value);
+                return null;
+            }
+            return value;
+        });
+        return Optional.ofNullable(cached != null ? cached : loaded.get()).map(copy);
+    }
+
+    /**
+     * Drops entity {@code id} here now and again after the surrounding
+     * transaction commits, then tells the other instances to drop it too.
+     */
+    public void invalidate(String id) {
+        evict(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bus.publish(region, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // A read between the first eviction and the commit may have cached the old row
+                evict(id);
+                bus.publish(region, id);
+            }
+        });
+    }
+
+    long size() {
+        return cache.estimatedSize();
+    }
+
+    private void evict(String id) {
+        if (idOf == null) {
+            cache.invalidate(id);
+            return;
+        }
+        // Counted before the index is read: a load that indexed its key after this point sees the new count
+        evictions.incrementAndGet();
+        final var keys = keysById.remove(id);
+        if (keys != null) {
+            // Per-key invalidation waits for a load of that key that is still running
+            cache.invalidateAll(keys.keySet());
+        }
+    }
+
+    private void index(String key, V value) {
+        keysById.compute(idOf.apply(value), (id, keys) -> {
+            final var indexed = keys != null ? keys : new HashMap<String, V>();
+            indexed.put(key, value);
+            return indexed;
+        });
+    }
+
+    private void unindex(String key, V value) {
+        if (idOf == null || value == null) {
+            return;
+        }
+        keysById.computeIfPresent(idOf.apply(value), (id, keys) -> {
+            if (keys.get(key) == value) {
+                keys.remove(key);
+            }
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.api.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the per-instance lookup caches and the
+ * invalidation bus that keeps them consistent across instances.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.lookup-cache")
+public class LookupCacheProperties {
+
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofMinutes(1);
+    private long maximumSize = 10_000;
+    private Bus bus = new Bus();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Bus getBus() {
+        return bus;
+    }
+
+    public void setBus(Bus bus) {
+        this.bus = bus;
+    }
+
+    /**
+     * UDP transport settings. Every instance lists the others as {@code host:port} peers
+     * and shares the same {@code secret}. Only datagrams sent from a peer's address and
+     * port are accepted.
+     */
+    public static class Bus {
+
+        private boolean enabled = false;
+        // Loopback unless an instance-to-instance interface is configured
+        private String bindAddress = "127.0.0.1";
+        private int port = 7400;
+        private List<String> peers = new ArrayList<>();
+        private String secret = "";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getBindAddress() {
+            return bindAddress;
+        }
+
+        public void setBindAddress(String bindAddress) {
+            this.bindAddress = bindAddress;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public List<String> getPeers() {
+            return peers;
+        }
+
+        public void setPeers(List<String> peers) {
+            this.peers = peers;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+}
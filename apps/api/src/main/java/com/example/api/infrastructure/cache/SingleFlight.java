@@ -0,0 +1,90 @@
+package com.example.api.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent identical lookups into one.
+ *
+ * <p>The first caller for a key runs the loader; callers arriving while it is
+ * in flight wait for it and receive the same result, or the same exception.
+ * Nothing is kept once the load finishes, so this removes bursts of duplicate
+ * queries without caching anything. The caller that ran the loader gets its
+ * result as is; callers that joined get {@code copy} of it, so a mutable value
+ * is never shared and the uncontended path pays for no copy.</p>
+ *
+ * <p>Behind a {@link LookupCache} this still pays off for keys that do not
+ * exist: Caffeine makes concurrent misses wait for one load, but when that load
+ * finds nothing, each waiting caller runs the loader again in turn.</p>
+ *
+ * <p>Calls made inside a transaction always run their own loader: they may need
+ * to see their own uncommitted writes, which another caller's query cannot.</p>
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copy;
+    private final Counter coalesced;
+
+    /**
+     * Creates a single-flight for immutable values, which joiners share with the leader.
+     */
+    public SingleFlight(String lookup, MeterRegistry registry) {
+        this(lookup, UnaryOperator.identity(), registry);
+    }
+
+    public SingleFlight(String lookup, UnaryOperator<V> copy, MeterRegistry registry) {
+        this.copy = copy;
+        this.coalesced = Counter.builder("repository.lookups.coalesced")
+                .description("Lookups answered by joining an identical query already in flight")
+                .tag("lookup", lookup)
+                .register(registry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        final var flight = new CompletableFuture<V>();
+        final var existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return copy.apply(await(existing));
+        }
+        try {
+            final var value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.api.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the authentication hot paths.
+ *
+ * <p>Meters with fixed tags are registered up front so recording is a field
+ * access. Project and environment tags are capped by {@link BoundedTagValues}.</p>
+ */
+@Component
+public class AuthMetrics {
+
+    public enum ApiKeyOutcome { HIT, MISS, REVOKED, MISSING, ERROR }
+
+    public enum TokenType { USER, ORG, PLATFORM }
+
+    private final MeterRegistry registry;
+    private final Map<ApiKeyOutcome, Timer> apiKeyResolutions = new EnumMap<>(ApiKeyOutcome.class);
+    private final Map<TokenType, Timer> validTokens = new EnumMap<>(TokenType.class);
+    private final Map<TokenType, Timer> invalidTokens = new EnumMap<>(TokenType.class);
+    private final BoundedTagValues projects;
+    private final BoundedTagValues environments;
+
+    public AuthMetrics(MeterRegistry registry,
+                       @Value("${app.metrics.max-tenant-tag-values:200}") int maxTenantTagValues) {
+        this.registry = registry;
+        this.projects = new BoundedTagValues(maxTenantTagValues);
+        this.environments = new BoundedTagValues(maxTenantTagValues * 2);
+        for (final var outcome : ApiKeyOutcome.values()) {
+            apiKeyResolutions.put(outcome, Timer.builder("auth.api_key.resolution")
+                    .description("API key lookups by outcome")
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+        for (final var type : TokenType.values()) {
+            validTokens.put(type, jwtTimer(type, "valid"));
+            invalidTokens.put(type, jwtTimer(type, "invalid"));
+        }
+    }
+
+    public void recordApiKeyResolution(ApiKeyOutcome outcome, long durationNanos) {
+        apiKeyResolutions.get(outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordJwtVerification(TokenType type, boolean valid, long durationNanos) {
+        (valid ? validTokens : invalidTokens).get(type).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts an SDK login or registration attempt. {@code failure} is null on
+     * success; otherwise its exception type becomes the outcome tag.
+     */
+    public void recordSdkAuthOutcome(String flow, String projectId, String environmentId, Throwable failure) {
+        registry.counter("auth.sdk.outcomes",
+                "flow", flow,
+                "outcome", failure == null ? "success" : outcomeOf(failure),
+                "project", projects.of(projectId),
+                "environment", environments.of(environmentId)
+        ).increment();
+    }
+
+    private Timer jwtTimer(TokenType type, String outcome) {
+        return Timer.builder("auth.jwt.verification")
+                .description("JWT signature and claim verification by token type")
+                .tag("type", tagValue(type))
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    static String outcomeOf(Throwable failure) {
+        final var name = failure.getClass().getSimpleName().replaceFirst("Exception$", "");
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
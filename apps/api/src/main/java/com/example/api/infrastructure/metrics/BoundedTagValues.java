@@ -0,0 +1,41 @@
+package com.example.api.infrastructure.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caps the number of distinct values a metric tag can take.
+ *
+ * <p>The first {@code maxValues} distinct values are passed through; anything
+ * after that is reported as {@value #OVERFLOW}, so per-tenant tags cannot grow
+ * the number of time series without bound.</p>
+ */
+public class BoundedTagValues {
+
+    public static final String OVERFLOW = "other";
+
+    private final int maxValues;
+    private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+
+    public BoundedTagValues(int maxValues) {
+        if (maxValues < 0) {
+            throw new IllegalArgumentException("Maximum tag values must not be negative");
+        }
+        this.maxValues = maxValues;
+    }
+
+    public String of(String value) {
+        if (value == null) {
+            return "none";
+        }
+        if (admitted.contains(value)) {
+            return value;
+        }
+        // Racing admissions may overshoot by a few values, which is acceptable
+        if (admitted.size() < maxValues) {
+            admitted.add(value);
+            return value;
+        }
+        return OVERFLOW;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.api.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call through a domain repository port.
+ *
+ * <p>Any bean implementing a {@code com.example.api.domain..*Repository} interface
+ * is advised, and calls to the port's methods are recorded as
+ * {@code repository.calls} tagged with the port, method, adapter and outcome.
+ * All of these tags have a fixed set of values.</p>
+ */
+@Component
+public class RepositoryMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final String DOMAIN_PACKAGE = "com.example.api.domain.";
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new RepositoryPortPointcut(), new TimingInterceptor(meterRegistry));
+        // Adapters are also injected by class (e.g. into CachingSessionRepository)
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    static Optional<Class<?>> portFor(Class<?> targetClass) {
+        for (final var candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (candidate.getName().startsWith(DOMAIN_PACKAGE) && candidate.getSimpleName().endsWith("Repository")) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class RepositoryPortPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return portFor(targetClass)
+                    .map(port -> ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes()))
+                    .orElse(false);
+        }
+    }
+
+    private static final class TimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+        private TimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            final var start = System.nanoTime();
+            var success = false;
+            try {
+                final var result = invocation.proceed();
+                success = true;
+                return result;
+            } finally {
+                final var targetClass = AopUtils.getTargetClass(invocation.getThis());
+                timers.computeIfAbsent(new TimerKey(targetClass, invocation.getMethod(), success), this::register)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private Timer register(TimerKey key) {
+            return Timer.builder("repository.calls")
+                    .description("Latency of domain repository port methods")
+                    .tag("repository", portFor(key.targetClass()).map(Class::getSimpleName).orElse("unknown"))
+                    .tag("method", key.method().getName())
+                    .tag("adapter", ClassUtils.getUserClass(key.targetClass()).getSimpleName())
+                    .tag("outcome", key.success() ? "success" : "error")
+                    .register(meterRegistry.getObject());
+        }
+    }
+
+    private record TimerKey(Class<?> targetClass, Method method, boolean success) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventId;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+
+/**
+ * Maps between the domain {@link AuditEvent} and the JPA {@link AuditEventJpaEntity}.
+ */
+final class AuditEventDomainMapper {
+
+    private AuditEventDomainMapper() {
+        // Utility class
+    }
+
+    static AuditEvent toDomain(AuditEventJpaEntity entity) {
+        return new AuditEvent(
+                AuditEventId.of(entity.getId()),
+                entity.getType(),
+                entity.getOccurredAt(),
+                entity.getActorId(),
+                entity.getOrganizationId() != null ? OrganizationId.of(entity.getOrganizationId()) : null,
+                entity.getProjectId() != null ? ProjectId.of(entity.getProjectId()) : null,
+                entity.getSubjectId(),
+                entity.getDetail()
+        );
+    }
+
+    static AuditEventJpaEntity toEntity(AuditEvent event) {
+        return new AuditEventJpaEntity(
+                event.id().value(),
+                event.type(),
+                event.occurredAt(),
+                event.actorId(),
+                event.organizationId() != null ? event.organizationId().value() : null,
+                event.projectId() != null ? event.projectId().value() : null,
+                event.subjectId(),
+                event.detail()
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.audit.AuditEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * JPA entity mapping for the append-only audit_events table.
+ */
+@Entity
+@Immutable
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_events_occurred_at", columnList = "occurred_at, id"),
+        @Index(name = "idx_audit_events_organization", columnList = "organization_id, occurred_at"),
+        @Index(name = "idx_audit_events_project", columnList = "project_id, occurred_at")
+})
+public class AuditEventJpaEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private AuditEventType type;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "actor_id")
+    private String actorId;
+
+    @Column(name = "organization_id", length = 36)
+    private String organizationId;
+
+    @Column(name = "project_id", length = 36)
+    private String projectId;
+
+    @Column(name = "subject_id")
+    private String subjectId;
+
+    @Column(length = 500)
+    private String detail;
+
+    protected AuditEventJpaEntity() {
+        // JPA requires no-arg constructor
+    }
+
+    public AuditEventJpaEntity(String id,
+                               AuditEventType type,
+                               Instant occurredAt,
+                               String actorId,
+                               String organizationId,
+                               String projectId,
+                               String subjectId,
+                               String detail) {
+        this.id = id;
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.actorId = actorId;
+        this.organizationId = organizationId;
+        this.projectId = projectId;
+        this.subjectId = subjectId;
+        this.detail = detail;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public AuditEventType getType() {
+        return type;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getActorId() {
+        return actorId;
+    }
+
+    public String getOrganizationId() {
+        return organizationId;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public String getSubjectId() {
+        return subjectId;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+}
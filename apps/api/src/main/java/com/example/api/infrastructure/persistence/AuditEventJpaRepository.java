@@ -0,0 +1,65 @@
+package com.example.api.infrastructure.persistence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link AuditEventJpaEntity}.
+ */
+public interface AuditEventJpaRepository extends JpaRepository<AuditEventJpaEntity, String> {
+
+    /**
+     * Finds the first page of events matching the optional filters, newest first.
+     */
+    @Query("""
+            select e from AuditEventJpaEntity e
+            where (:organizationId is null or e.organizationId = :organizationId)
+              and (:projectId is null or e.projectId = :projectId)
+              and (:fromTime is null or e.occurredAt >= :fromTime)
+              and (:toTime is null or e.occurredAt < :toTime)
+            order by e.occurredAt desc, e.id desc
+            """)
+    List<AuditEventJpaEntity> findFirstPage(@Param("organizationId") String organizationId,
+                                            @Param("projectId") String projectId,
+                                            @Param("fromTime") Instant from,
+                                            @Param("toTime") Instant to,
+                                            Limit limit);
+
+    /**
+     * Finds the page of events preceding the (occurredAt, id) keyset position.
+     */
+    @Query("""
+            select e from AuditEventJpaEntity e
+            where (:organizationId is null or e.organizationId = :organizationId)
+              and (:projectId is null or e.projectId = :projectId)
+              and (:fromTime is null or e.occurredAt >= :fromTime)
+              and (:toTime is null or e.occurredAt < :toTime)
+              and (e.occurredAt < :occurredAt or (e.occurredAt = :occurredAt and e.id < :id))
+            order by e.occurredAt desc, e.id desc
+            """)
+    List<AuditEventJpaEntity> findPageBefore(@Param("organizationId") String organizationId,
+                                             @Param("projectId") String projectId,
+                                             @Param("fromTime") Instant from,
+                                             @Param("toTime") Instant to,
+                                             @Param("occurredAt") Instant occurredAt,
+                                             @Param("id") String id,
+                                             Limit limit);
+
+    @Query("""
+            select e.id from AuditEventJpaEntity e
+            where e.occurredAt < :cutoff
+            order by e.occurredAt, e.id
+            """)
+    List<String> findIdsOccurredBefore(@Param("cutoff") Instant cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from AuditEventJpaEntity e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+}
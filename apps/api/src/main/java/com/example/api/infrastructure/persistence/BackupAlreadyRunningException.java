@@ -0,0 +1,11 @@
+package com.example.api.infrastructure.persistence;
+
+/**
+ * Thrown when a backup is requested while another one is still copying the database.
+ */
+public class BackupAlreadyRunningException extends RuntimeException {
+
+    public BackupAlreadyRunningException() {
+        super("A database backup is already running, retry later");
+    }
+}
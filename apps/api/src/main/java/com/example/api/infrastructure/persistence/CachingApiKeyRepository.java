@@ -0,0 +1,70 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.apikey.ApiKey;
+import com.example.api.domain.apikey.ApiKeyId;
+import com.example.api.domain.apikey.ApiKeyRepository;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.infrastructure.cache.CacheInvalidationBus;
+import com.example.api.infrastructure.cache.LookupCache;
+import com.example.api.infrastructure.cache.LookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caches API key resolution by key hash in front of {@link JpaApiKeyRepositoryAdapter}.
+ *
+ * <p>Every SDK request resolves its key, so this is the hottest lookup in the
+ * API. Unknown hashes are not cached, which means a new key is visible at once;
+ * revokes are broadcast to other instances by key id.</p>
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "app.lookup-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingApiKeyRepository implements ApiKeyRepository {
+
+    static final String REGION = "api-keys";
+
+    private final JpaApiKeyRepositoryAdapter delegate;
+    private final LookupCache<ApiKey> byKeyHash;
+
+    public CachingApiKeyRepository(JpaApiKeyRepositoryAdapter delegate,
+                                   LookupCacheProperties properties,
+                                   CacheInvalidationBus bus,
+                                   MeterRegistry registry) {
+        this.delegate = delegate;
+        this.byKeyHash = new LookupCache<>(REGION, properties, CachingApiKeyRepository::copy,
+                apiKey -> apiKey.getId().value(), bus, registry);
+    }
+
+    @Override
+    public Optional<ApiKey> findByKeyHash(String keyHash) {
+        return byKeyHash.get(keyHash, delegate::findByKeyHash);
+    }
+
+    @Override
+    public List<ApiKey> listByProjectId(ProjectId projectId) {
+        return delegate.listByProjectId(projectId);
+    }
+
+    @Override
+    public ApiKey save(ApiKey apiKey) {
+        delegate.save(apiKey);
+        byKeyHash.invalidate(apiKey.getId().value());
+        return apiKey;
+    }
+
+    @Override
+    public void revoke(ApiKeyId id) {
+        delegate.revoke(id);
+        byKeyHash.invalidate(id.value());
+    }
+
+    private static ApiKey copy(ApiKey apiKey) {
+        return ApiKeyDomainMapper.toDomain(ApiKeyDomainMapper.toEntity(apiKey));
+    }
+}
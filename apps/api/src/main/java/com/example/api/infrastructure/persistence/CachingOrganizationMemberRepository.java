@@ -0,0 +1,95 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.organization.OrganizationMember;
+import com.example.api.domain.organization.OrganizationMemberId;
+import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.domain.organization.OrganizationMemberRole;
+import com.example.api.domain.user.Email;
+import com.example.api.infrastructure.cache.CacheInvalidationBus;
+import com.example.api.infrastructure.cache.LookupCache;
+import com.example.api.infrastructure.cache.LookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Caches organization members by id in front of {@link JpaOrganizationMemberRepositoryAdapter}.
+ *
+ * <p>The org JWT filter loads the member on every dashboard request to read
+ * its current role. Role changes and removals are broadcast to other
+ * instances, so a demoted member loses access everywhere at once.</p>
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "app.lookup-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingOrganizationMemberRepository implements OrganizationMemberRepository {
+
+    static final String REGION = "organization-members";
+
+    private final JpaOrganizationMemberRepositoryAdapter delegate;
+    private final LookupCache<OrganizationMember> byId;
+
+    public CachingOrganizationMemberRepository(JpaOrganizationMemberRepositoryAdapter delegate,
+                                               LookupCacheProperties properties,
+                                               CacheInvalidationBus bus,
+                                               MeterRegistry registry) {
+        this.delegate = delegate;
+        this.byId = new LookupCache<>(REGION, properties, CachingOrganizationMemberRepository::copy,
+                null, bus, registry);
+    }
+
+    @Override
+    public Optional<OrganizationMember> findById(OrganizationMemberId id) {
+        return byId.get(id.value(), key -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<OrganizationMember> findByEmailAndOrganizationId(Email email, OrganizationId organizationId) {
+        return delegate.findByEmailAndOrganizationId(email, organizationId);
+    }
+
+    @Override
+    public Set<Email> findExistingEmails(OrganizationId organizationId, Collection<Email> emails) {
+        return delegate.findExistingEmails(organizationId, emails);
+    }
+
+    @Override
+    public long countByOrganizationIdAndRole(OrganizationId organizationId, OrganizationMemberRole role) {
+        return delegate.countByOrganizationIdAndRole(organizationId, role);
+    }
+
+    @Override
+    public List<OrganizationMember> findByOrganizationId(OrganizationId organizationId) {
+        return delegate.findByOrganizationId(organizationId);
+    }
+
+    @Override
+    public Map<OrganizationId, Long> countByOrganizationIds(Collection<OrganizationId> organizationIds) {
+        return delegate.countByOrganizationIds(organizationIds);
+    }
+
+    @Override
+    public OrganizationMember save(OrganizationMember member) {
+        final var saved = delegate.save(member);
+        byId.invalidate(member.getId().value());
+        return saved;
+    }
+
+    @Override
+    public void delete(OrganizationMemberId id) {
+        delegate.delete(id);
+        byId.invalidate(id.value());
+    }
+
+    private static OrganizationMember copy(OrganizationMember member) {
+        return OrganizationMemberDomainMapper.toDomain(OrganizationMemberDomainMapper.toEntity(member));
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.session.Session;
+import com.example.api.domain.session.SessionId;
+import com.example.api.domain.session.SessionRepository;
+import com.example.api.domain.user.UserId;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hot session store in front of {@link JpaSessionRepositoryAdapter}.
+ *
+ * <p>Active sessions are indexed in memory by session id and by user id; a user's
+ * sessions are loaded from the database once and then served from memory. Creates
+ * and revokes are written through synchronously. Expiry-only changes are coalesced
+ * per session and flushed by {@link #flush()}, so a burst of refreshes costs one
+ * write. Revocation is final: a save of a non-revoked copy read before the revoke
+ * is dropped. The index is local to this instance.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "app.sessions.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingSessionRepository implements SessionRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingSessionRepository.class);
+
+    private final JpaSessionRepositoryAdapter delegate;
+    private final Clock clock;
+
+    private final ConcurrentMap<SessionId, Session> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UserId, Set<SessionId>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Set<UserId> loadedUsers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<SessionId, Session> pendingExtensions = new ConcurrentHashMap<>();
+
+    // Serialises database writes to existing sessions. Together with save() never
+    // replacing a revoked entry, a flushed extension cannot overwrite a revoke.
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Autowired
+    public CachingSessionRepository(JpaSessionRepositoryAdapter delegate) {
+        this(delegate, Clock.systemUTC());
+    }
+
+    CachingSessionRepository(JpaSessionRepositoryAdapter delegate, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<Session> findById(SessionId id) {
+        final var cached = sessions.get(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        final var loaded = delegate.findById(id);
+        loaded.ifPresent(session -> indexIfAbsent(copy(session)));
+        return loaded;
+    }
+
+    @Override
+    public List<Session> findActiveSessionsByUserId(UserId userId) {
+        if (!loadedUsers.contains(userId)) {
+            delegate.findActiveSessionsByUserId(userId)
+                    .forEach(session -> indexIfAbsent(copy(session)));
+            loadedUsers.add(userId);
+        }
+        final var now = clock.instant();
+        return sessionsByUser.getOrDefault(userId, Set.of()).stream()
+                .map(sessions::get)
+                .filter(session -> session != null && session.isActive(now))
+                .map(CachingSessionRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public Session save(Session session) {
+        final var id = session.getId();
+        final var snapshot = copy(session);
+        final var kind = new SaveKind[1];
+        final var current = sessions.compute(id, (key, cached) -> {
+            if (cached == null) {
+                kind[0] = SaveKind.UNCACHED;
+                return null;
+            }
+            if (cached.isRevoked() && !snapshot.isRevoked()) {
+                // A copy read before the revoke; the revoke wins
+                kind[0] = SaveKind.STALE;
+                return cached;
+            }
+            kind[0] = cached.isRevoked() != snapshot.isRevoked() ? SaveKind.STATE_CHANGE : SaveKind.EXTENSION;
+            return snapshot;
+        });
+
+        switch (kind[0]) {
+            case UNCACHED -> {
+                // New (or evicted) session: persist first, publish once the row is committed
+                delegate.save(session);
+                afterCommit(() -> index(snapshot));
+            }
+            case STALE -> {
+                return copy(current);
+            }
+            case STATE_CHANGE -> {
+                indexUser(snapshot);
+                writeLock.lock();
+                try {
+                    pendingExtensions.remove(id);
+                    delegate.save(session);
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+            case EXTENSION -> {
+                indexUser(snapshot);
+                // A revoke may have landed since the compute above; it removes any pending entry
+                // after marking the session, so checking here leaves no stale extension behind
+                pendingExtensions.compute(id, (key, pending) -> isRevoked(id) ? pending : snapshot);
+            }
+        }
+        return session;
+    }
+
+    @Override
+    public void delete(SessionId id) {
+        writeLock.lock();
+        try {
+            pendingExtensions.remove(id);
+            evict(id);
+            delegate.delete(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteExpired(Instant cutoff, int limit) {
+        // Persist pending extensions first so the purge sees current expiry times
+        flush();
+        final var deleted = delegate.deleteExpired(cutoff, limit);
+        evictInactive();
+        return deleted;
+    }
+
+    /**
+     * Writes coalesced expiry extensions to the database and drops inactive
+     * sessions from memory. Failed writes are re-queued unless superseded.
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.cache.flush-interval:PT5S}")
+    public void flush() {
+        for (final var id : List.copyOf(pendingExtensions.keySet())) {
+            writeLock.lock();
+            try {
+                final var pending = pendingExtensions.remove(id);
+                if (pending == null) {
+                    continue;
+                }
+                final var current = sessions.get(id);
+                if (current != null && current.isRevoked()) {
+                    continue;
+                }
+                try {
+                    delegate.save(pending);
+                } catch (RuntimeException e) {
+                    pendingExtensions.putIfAbsent(id, pending);
+                    log.warn("Failed to flush session {} expiry; will retry", id.value(), e);
+                    return;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        evictInactive();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        if (!pendingExtensions.isEmpty()) {
+            log.warn("{} session expiry extensions were not persisted on shutdown", pendingExtensions.size());
+        }
+    }
+
+    int pendingExtensionCount() {
+        return pendingExtensions.size();
+    }
+
+    int cachedSessionCount() {
+        return sessions.size();
+    }
+
+    private void index(Session session) {
+        sessions.merge(session.getId(), session,
+                (cached, updated) -> cached.isRevoked() && !updated.isRevoked() ? cached : updated);
+        indexUser(session);
+    }
+
+    private void indexUser(Session session) {
+        sessionsByUser.computeIfAbsent(session.getUserId(), ignored -> ConcurrentHashMap.newKeySet())
+                .add(session.getId());
+    }
+
+    private boolean isRevoked(SessionId id) {
+        final var cached = sessions.get(id);
+        return cached != null && cached.isRevoked();
+    }
+
+    private void indexIfAbsent(Session session) {
+        // The in-memory copy may carry an unflushed extension, so it wins over the database
+        sessions.putIfAbsent(session.getId(), session);
+        indexUser(session);
+    }
+
+    private void evict(SessionId id) {
+        final var removed = sessions.remove(id);
+        if (removed == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(removed.getUserId(), (userId, ids) -> {
+            ids.remove(id);
+            return ids;
+        });
+    }
+
+    private void evictInactive() {
+        final var now = clock.instant();
+        sessions.values().stream()
+                .filter(session -> !session.isActive(now) && !pendingExtensions.containsKey(session.getId()))
+                .map(Session::getId)
+                .toList()
+                .forEach(this::evict);
+        // Users without active sessions are reloaded on next access instead of pinned in memory
+        sessionsByUser.entrySet().removeIf(entry -> {
+            if (!entry.getValue().isEmpty()) {
+                return false;
+            }
+            loadedUsers.remove(entry.getKey());
+            return true;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private enum SaveKind {
+        UNCACHED,
+        STALE,
+        STATE_CHANGE,
+        EXTENSION
+    }
+
+    private static Session copy(Session session) {
+        return new Session(
+                session.getId(),
+                session.getUserId(),
+                session.getCreatedAt(),
+                session.getExpiresAt(),
+                session.isRevoked()
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.environment.EnvironmentId;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.user.Email;
+import com.example.api.domain.user.User;
+import com.example.api.domain.user.UserCursor;
+import com.example.api.domain.user.UserFilter;
+import com.example.api.domain.user.UserId;
+import com.example.api.domain.user.UserRepository;
+import com.example.api.infrastructure.cache.CacheInvalidationBus;
+import com.example.api.infrastructure.cache.LookupCache;
+import com.example.api.infrastructure.cache.LookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Caches users by id in front of {@link JpaUserRepositoryAdapter}.
+ *
+ * <p>Serves the per-request user loads of the JWT filter and the SDK
+ * {@code /me} endpoints. Scoped lookups are answered from the same entry after
+ * checking its project and environment. Bans, profile changes and deletes are
+ * broadcast to other instances. Lookups by email are not cached, since a login
+ * must always see the current password hash.</p>
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "app.lookup-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingUserRepository implements UserRepository {
+
+    static final String REGION = "users";
+
+    private final JpaUserRepositoryAdapter delegate;
+    private final LookupCache<User> byId;
+
+    public CachingUserRepository(JpaUserRepositoryAdapter delegate,
+                                 LookupCacheProperties properties,
+                                 CacheInvalidationBus bus,
+                                 MeterRegistry registry) {
+        this.delegate = delegate;
+        this.byId = new LookupCache<>(REGION, properties, CachingUserRepository::copy, null, bus, registry);
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        return byId.get(id.value(), key -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findByEmailAndProjectId(Email email, ProjectId projectId, EnvironmentId environmentId) {
+        return delegate.findByEmailAndProjectId(email, projectId, environmentId);
+    }
+
+    @Override
+    public Optional<User> findByIdAndProjectId(UserId id, ProjectId projectId, EnvironmentId environmentId) {
+        return findById(id)
+                .filter(user -> user.getProjectId().filter(projectId::equals).isPresent())
+                .filter(user -> user.getEnvironmentId().filter(environmentId::equals).isPresent());
+    }
+
+    @Override
+    public Optional<String> findVersion(UserId id) {
+        return delegate.findVersion(id);
+    }
+
+    @Override
+    public Optional<String> findVersionByIdAndProjectId(UserId id, ProjectId projectId, EnvironmentId environmentId) {
+        return delegate.findVersionByIdAndProjectId(id, projectId, environmentId);
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Map<ProjectId, Long> countByProjectIds(Collection<ProjectId> projectIds) {
+        return delegate.countByProjectIds(projectIds);
+    }
+
+    @Override
+    public User save(User user) {
+        final var saved = delegate.save(user);
+        byId.invalidate(user.getId().value());
+        return saved;
+    }
+
+    @Override
+    public void delete(UserId id) {
+        delegate.delete(id);
+        byId.invalidate(id.value());
+    }
+
+    @Override
+    public List<User> findPage(UserFilter filter, Optional<UserCursor> after, int limit) {
+        return delegate.findPage(filter, after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAll(UserFilter filter) {
+        return delegate.streamAll(filter);
+    }
+
+    @Override
+    public List<User> searchByEmail(String term, Optional<ProjectId> projectId, int offset, int limit) {
+        return delegate.searchByEmail(term, projectId, offset, limit);
+    }
+
+    private static User copy(User user) {
+        return UserDomainMapper.toDomain(UserDomainMapper.toEntity(user));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.api.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for online SQLite backups.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.backup")
+public class DatabaseBackupProperties {
+
+    private boolean enabled = false;
+    private Path directory = Path.of("./data/backups");
+    private int retention = 7;
+    private int pagesPerStep = 256;
+    private Duration stepPause = Duration.ofMillis(20);
+    private int maxPausedRestarts = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public int getRetention() {
+        return retention;
+    }
+
+    public void setRetention(int retention) {
+        this.retention = retention;
+    }
+
+    public int getPagesPerStep() {
+        return pagesPerStep;
+    }
+
+    public void setPagesPerStep(int pagesPerStep) {
+        this.pagesPerStep = pagesPerStep;
+    }
+
+    public Duration getStepPause() {
+        return stepPause;
+    }
+
+    public void setStepPause(Duration stepPause) {
+        this.stepPause = stepPause;
+    }
+
+    public int getMaxPausedRestarts() {
+        return maxPausedRestarts;
+    }
+
+    public void setMaxPausedRestarts(int maxPausedRestarts) {
+        this.maxPausedRestarts = maxPausedRestarts;
+    }
+}
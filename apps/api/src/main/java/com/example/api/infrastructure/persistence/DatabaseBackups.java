@@ -0,0 +1,338 @@
+package com.example.api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.core.DB;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Online backups of the SQLite database while the API keeps serving.
+ *
+ * <p>Snapshots use SQLite's online backup API on a dedicated connection, copying
+ * {@code pagesPerStep} pages per step. Each step holds only a shared lock on the
+ * live database, and a {@code stepPause} between steps lets writers commit. A
+ * commit from another connection makes SQLite restart the copy; after
+ * {@code maxPausedRestarts} restarts the pauses are dropped so the copy can
+ * finish between writes. If writers still keep it busy, the backup is retried as
+ * a single step that holds the read lock for the whole copy. The copy is checked with
+ * {@code PRAGMA quick_check} and gzip-compressed into the backup directory,
+ * keeping the newest {@code retention} files, or streamed to an admin.</p>
+ */
+@Component
+public class DatabaseBackups {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBackups.class);
+
+    private static final String FILE_PREFIX = "app-";
+    private static final String FILE_SUFFIX = ".db.gz";
+    private static final String STAGING_PREFIX = "snapshot-";
+    private static final String STAGING_SUFFIX = ".db";
+    private static final String PARTIAL_SUFFIX = ".partial";
+    // Staging files older than this were left behind by a crash or an abandoned download
+    private static final Duration STALE_STAGING_AGE = Duration.ofHours(6);
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // How long the backup waits for a writer holding the database lock: 1000 x 10ms
+    private static final int BUSY_RETRY_MILLIS = 10;
+    private static final int BUSY_RETRIES = 1000;
+    private static final int SQLITE_OK = 0;
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+    private static final int SQLITE_DONE = 101;
+
+    private final String url;
+    private final DatabaseBackupProperties properties;
+    private final Clock clock;
+    private final ReentrantLock running = new ReentrantLock();
+    private final MeterRegistry registry;
+    private final Timer steps;
+    private final Counter restarts;
+
+    @Autowired
+    public DatabaseBackups(@Value("${spring.datasource.url}") String url,
+                           DatabaseBackupProperties properties,
+                           MeterRegistry registry) {
+        this(url, properties, registry, Clock.systemUTC());
+    }
+
+    DatabaseBackups(String url, DatabaseBackupProperties properties, MeterRegistry registry, Clock clock) {
+        this.url = url;
+        this.properties = properties;
+        this.clock = clock;
+        this.registry = registry;
+        this.steps = Timer.builder("sqlite.backup.step")
+                .description("Time from one backup step to the next, an upper bound on how long each step held the read lock")
+                .register(registry);
+        this.restarts = Counter.builder("sqlite.backup.restarts")
+                .description("Backups restarted because the database changed mid-copy")
+                .register(registry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.backup.initial-delay:PT5M}",
+            fixedDelayString = "${app.backup.interval:PT24H}"
+    )
+    public void scheduledBackup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            final var report = backupToDirectory();
+            log.info("Backed up {} pages to {} ({} bytes) in {} ms with {} restarts, longest step {} ms",
+                    report.pages(), report.file(), report.bytes(), report.elapsed().toMillis(),
+                    report.restarts(), report.longestStep().toMillis());
+        } catch (IOException | SQLException | RuntimeException e) {
+            log.warn("Scheduled database backup failed", e);
+        }
+    }
+
+    /**
+     * Writes a compressed snapshot into the backup directory, then deletes the
+     * oldest backups beyond {@code retention}.
+     */
+    public BackupReport backupToDirectory() throws IOException, SQLException {
+        final var directory = Files.createDirectories(properties.getDirectory());
+        final var target = directory.resolve(FILE_PREFIX + FILE_TIMESTAMP.format(clock.instant()) + FILE_SUFFIX);
+        final var partial = directory.resolve(target.getFileName() + PARTIAL_SUFFIX);
+        final var copy = Files.createTempFile(directory, STAGING_PREFIX, STAGING_SUFFIX);
+        try {
+            final var report = snapshot(copy);
+            try (final var output = Files.newOutputStream(partial)) {
+                compress(copy, output);
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            prune(directory);
+            return new BackupReport(target, Files.size(target), report.pages(), report.steps(), report.restarts(),
+                    report.singleStep(), report.elapsed(), report.longestStep());
+        } finally {
+            Files.deleteIfExists(copy);
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    /**
+     * Takes a snapshot and writes it gzip-compressed to {@code output}. The
+     * uncompressed copy is staged in the backup directory and deleted afterwards.
+     */
+    public BackupReport streamCompressed(OutputStream output) throws IOException, SQLException {
+        try (final var staged = stageSnapshot()) {
+            staged.writeCompressed(output);
+            return staged.report();
+        }
+    }
+
+    /**
+     * Takes a snapshot into the backup directory without compressing it, so a
+     * caller can reject the request before it starts writing a response. The
+     * copy is deleted when the returned snapshot is closed; copies that are never
+     * closed are removed once they are {@link #STALE_STAGING_AGE} old.
+     */
+    public StagedSnapshot stageSnapshot() throws IOException, SQLException {
+        final var directory = Files.createDirectories(properties.getDirectory());
+        deleteStaleStagingFiles(directory);
+        final var copy = Files.createTempFile(directory, STAGING_PREFIX, STAGING_SUFFIX);
+        try {
+            return new StagedSnapshot(copy, snapshot(copy));
+        } catch (IOException | SQLException | RuntimeException e) {
+            Files.deleteIfExists(copy);
+            throw e;
+        }
+    }
+
+    /**
+     * Copies the live database to {@code target} a few pages at a time and checks the copy.
+     * Snapshots run one at a time; a request that arrives during one fails instead of queueing.
+     *
+     * @throws BackupAlreadyRunningException if another snapshot is in progress
+     */
+    public BackupReport snapshot(Path target) throws IOException, SQLException {
+        if (!running.tryLock()) {
+            throw new BackupAlreadyRunningException();
+        }
+        final var sample = Timer.start(registry);
+        var outcome = "failed";
+        try {
+            final var observer = new StepObserver();
+            final var started = System.nanoTime();
+            var singleStep = false;
+            try (final var connection = DriverManager.getConnection(url)) {
+                final var database = connection.unwrap(SQLiteConnection.class).getDatabase();
+                final var destination = target.toAbsolutePath().toString();
+                var rc = database.backup("main", destination, observer,
+                        BUSY_RETRY_MILLIS, BUSY_RETRIES, properties.getPagesPerStep());
+                if (rc == SQLITE_BUSY || rc == SQLITE_LOCKED) {
+                    // Writers never left a long enough gap; copy everything under one read lock
+                    log.warn("Incremental backup gave up after {} restarts, retrying in a single step",
+                            observer.restarts);
+                    singleStep = true;
+                    rc = database.backup("main", destination, observer, BUSY_RETRY_MILLIS, BUSY_RETRIES, -1);
+                }
+                if (rc != SQLITE_OK && rc != SQLITE_DONE) {
+                    throw new SQLException("SQLite backup failed with result code " + rc);
+                }
+            }
+            final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+            quickCheck(target);
+            outcome = singleStep ? "single_step" : "success";
+            return new BackupReport(target, Files.size(target), observer.pageCount, observer.steps,
+                    observer.restarts, singleStep, elapsed, Duration.ofNanos(observer.longestStepNanos));
+        } finally {
+            sample.stop(Timer.builder("sqlite.backup")
+                    .description("Online database backups, including the integrity check")
+                    .tag("outcome", outcome)
+                    .register(registry));
+            running.unlock();
+        }
+    }
+
+    private static void quickCheck(Path copy) throws SQLException {
+        try (final var connection = DriverManager.getConnection("jdbc:sqlite:" + copy.toAbsolutePath());
+             final var statement = connection.createStatement();
+             final var result = statement.executeQuery("PRAGMA quick_check")) {
+            final var verdict = result.next() ? result.getString(1) : null;
+            if (!"ok".equals(verdict)) {
+                throw new SQLException("Backup copy failed its integrity check: " + verdict);
+            }
+        }
+    }
+
+    private static void compress(Path copy, OutputStream output) throws IOException {
+        final var gzip = new GZIPOutputStream(output, BUFFER_SIZE);
+        Files.copy(copy, gzip);
+        gzip.finish();
+        gzip.flush();
+    }
+
+    private void prune(Path directory) throws IOException {
+        final var backups = listBackups(directory);
+        for (final var old : backups.subList(Math.min(properties.getRetention(), backups.size()), backups.size())) {
+            Files.deleteIfExists(old);
+        }
+        deleteStaleStagingFiles(directory);
+    }
+
+    /**
+     * Deletes uncompressed copies and half-written backups that nothing has touched
+     * for {@link #STALE_STAGING_AGE}. Younger ones may still belong to a running
+     * backup or download.
+     */
+    void deleteStaleStagingFiles(Path directory) throws IOException {
+        final var cutoff = clock.instant().minus(STALE_STAGING_AGE);
+        try (final var files = Files.list(directory)) {
+            for (final var file : (Iterable<Path>) files::iterator) {
+                final var name = file.getFileName().toString();
+                final var staging = name.startsWith(STAGING_PREFIX) && name.endsWith(STAGING_SUFFIX)
+                        || name.endsWith(PARTIAL_SUFFIX);
+                if (staging && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    log.info("Deleting stale backup staging file {}", file.getFileName());
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the completed backups in {@code directory}, newest first.
+     */
+    static List<Path> listBackups(Path directory) throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        final var name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        }
+    }
+
+    /**
+     * Called by the native copy loop after every completed step.
+     */
+    private final class StepObserver implements DB.ProgressObserver {
+
+        private long stepStarted = System.nanoTime();
+        private int lastRemaining = -1;
+        private int pageCount;
+        private int steps;
+        private int restarts;
+        private long longestStepNanos;
+
+        @Override
+        public void progress(int remaining, int pageCount) {
+            final var step = System.nanoTime() - stepStarted;
+            DatabaseBackups.this.steps.record(step, TimeUnit.NANOSECONDS);
+            longestStepNanos = Math.max(longestStepNanos, step);
+            this.steps++;
+            this.pageCount = pageCount;
+            if (lastRemaining >= 0 && remaining > lastRemaining) {
+                restarts++;
+                DatabaseBackups.this.restarts.increment();
+            }
+            lastRemaining = remaining;
+            if (remaining > 0 && restarts <= properties.getMaxPausedRestarts()) {
+                pause();
+            }
+            stepStarted = System.nanoTime();
+        }
+
+        private void pause() {
+            try {
+                Thread.sleep(properties.getStepPause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public record BackupReport(Path file,
+                               long bytes,
+                               int pages,
+                               int steps,
+                               int restarts,
+                               boolean singleStep,
+                               Duration elapsed,
+                               Duration longestStep) {
+    }
+
+    /**
+     * An uncompressed snapshot waiting to be written out. Closing it more than once is harmless.
+     */
+    public record StagedSnapshot(Path copy, BackupReport report) implements Closeable {
+
+        public void writeCompressed(OutputStream output) throws IOException {
+            compress(copy, output);
+        }
+
+        @Override
+        public void close() throws IOException {
+            Files.deleteIfExists(copy);
+        }
+    }
+}
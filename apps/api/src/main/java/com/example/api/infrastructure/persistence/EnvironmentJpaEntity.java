@@ -1,6 +1,7 @@
 package com.example.api.infrastructure.persistence;
 
 import com.example.api.domain.environment.EnvironmentType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,6 +9,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -15,6 +18,8 @@ import java.time.LocalDateTime;
  * JPA entity mapping for project_environments table.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "environments")
 @Table(name = "project_environments", uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "environment_type"}))
 public class EnvironmentJpaEntity {
 
@@ -1,8 +1,12 @@
 package com.example.api.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +16,12 @@ import java.util.Optional;
 @Repository
 public interface EnvironmentJpaRepository extends JpaRepository<EnvironmentJpaEntity, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<EnvironmentJpaEntity> findByProjectId(String projectId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<EnvironmentJpaEntity> findByProjectIdIn(Collection<String> projectIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<EnvironmentJpaEntity> findByProjectIdAndEnvironmentType(String projectId, String environmentType);
 }
@@ -0,0 +1,185 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.application.maintenance.PurgeExpiredDataUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteErrorCode;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Background job that purges expired sessions and invitations, drops audit
+ * events past their retention period and reclaims free pages from the SQLite file.
+ *
+ * <p>Rows are deleted in bounded batches with a short pause between them so
+ * no single transaction holds the database write lock for long. Every
+ * {@code vacuumEveryRuns} runs, an incremental vacuum returns up to
+ * {@code vacuumPages} free pages to the filesystem. That needs a database in
+ * incremental auto-vacuum mode; converting one is a one-time offline step
+ * ({@link IncrementalVacuumCliCommand}), so other databases are left as they are.</p>
+ */
+@Component
+public class ExpiredDataSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredDataSweeper.class);
+
+    private final PurgeExpiredDataUseCase purgeExpiredDataUseCase;
+    private final JdbcTemplate jdbcTemplate;
+    private final SweeperProperties properties;
+    private final Clock clock;
+
+    private final AtomicLong sessionsPurged = new AtomicLong();
+    private final AtomicLong invitationsPurged = new AtomicLong();
+    private final AtomicLong auditEventsPurged = new AtomicLong();
+    private long runs;
+    private boolean vacuumSkipLogged;
+
+    @Autowired
+    public ExpiredDataSweeper(PurgeExpiredDataUseCase purgeExpiredDataUseCase,
+                              JdbcTemplate jdbcTemplate,
+                              SweeperProperties properties) {
+        this(purgeExpiredDataUseCase, jdbcTemplate, properties, Clock.systemUTC());
+    }
+
+    ExpiredDataSweeper(PurgeExpiredDataUseCase purgeExpiredDataUseCase,
+                       JdbcTemplate jdbcTemplate,
+                       SweeperProperties properties,
+                       Clock clock) {
+        this.purgeExpiredDataUseCase = purgeExpiredDataUseCase;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.sweeper.initial-delay:PT1M}",
+            fixedDelayString = "${app.sweeper.interval:PT10M}"
+    )
+    public void scheduledSweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.warn("Expired data sweep failed", e);
+        }
+    }
+
+    /**
+     * Runs one sweep and returns the number of rows purged per table.
+     */
+    public synchronized SweepReport sweep() {
+        final var started = clock.instant();
+        final var sessionCutoff = started.minus(properties.getSessionRetention());
+        final var invitationCutoff = LocalDateTime.ofInstant(
+                started.minus(properties.getInvitationRetention()), ZoneId.systemDefault());
+        final var auditEventCutoff = started.minus(properties.getAuditEventRetention());
+
+        final var sessions = purgeInBatches(() ->
+                purgeExpiredDataUseCase.purgeSessionBatch(sessionCutoff, properties.getBatchSize()));
+        final var invitations = purgeInBatches(() ->
+                purgeExpiredDataUseCase.purgeInvitationBatch(invitationCutoff, properties.getBatchSize()));
+        final var auditEvents = purgeInBatches(() ->
+                purgeExpiredDataUseCase.purgeAuditEventBatch(auditEventCutoff, properties.getBatchSize()));
+
+        sessionsPurged.addAndGet(sessions);
+        invitationsPurged.addAndGet(invitations);
+        auditEventsPurged.addAndGet(auditEvents);
+        runs++;
+
+        final var vacuumed = properties.getVacuumEveryRuns() > 0 && runs % properties.getVacuumEveryRuns() == 0
+                && incrementalVacuum();
+
+        final var report = new SweepReport(sessions, invitations, auditEvents, vacuumed,
+                Duration.between(started, clock.instant()));
+        if (sessions > 0 || invitations > 0 || auditEvents > 0) {
+            log.info("Purged {} sessions, {} invitations and {} audit events in {} ms",
+                    sessions, invitations, auditEvents, report.elapsed().toMillis());
+        }
+        return report;
+    }
+
+    public long getSessionsPurged() {
+        return sessionsPurged.get();
+    }
+
+    public long getInvitationsPurged() {
+        return invitationsPurged.get();
+    }
+
+    public long getAuditEventsPurged() {
+        return auditEventsPurged.get();
+    }
+
+    private long purgeInBatches(IntSupplier batch) {
+        long total = 0;
+        for (var i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            final var deleted = batch.getAsInt();
+            total += deleted;
+            if (deleted < properties.getBatchSize()) {
+                break;
+            }
+            pauseBetweenBatches();
+        }
+        return total;
+    }
+
+    private void pauseBetweenBatches() {
+        final var pause = properties.getBatchPause();
+        if (pause.isZero() || pause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean incrementalVacuum() {
+        final var mode = jdbcTemplate.queryForObject("pragma auto_vacuum", Integer.class);
+        if (mode == null || mode != IncrementalVacuumCliCommand.AUTO_VACUUM_INCREMENTAL) {
+            if (!vacuumSkipLogged) {
+                vacuumSkipLogged = true;
+                log.warn("Skipping incremental vacuum: auto_vacuum is not INCREMENTAL (mode {}). "
+                        + "Run the enable-incremental-vacuum command once with the API stopped.", mode);
+            }
+            return false;
+        }
+        final var sql = "pragma incremental_vacuum(" + properties.getVacuumPages() + ")";
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            // The pragma frees one page per step, but a JDBC execute steps it only once and it
+            // returns no columns to read; sqlite3_exec steps it to the end
+            final var rc = connection.unwrap(SQLiteConnection.class).getDatabase()._exec(sql);
+            if (rc != SQLiteErrorCode.SQLITE_OK.code) {
+                throw new SQLException("Incremental vacuum failed with result code " + rc);
+            }
+            return null;
+        });
+        return true;
+    }
+
+    /**
+     * Outcome of a single sweep.
+     */
+    public record SweepReport(long sessionsPurged,
+                              long invitationsPurged,
+                              long auditEventsPurged,
+                              boolean vacuumed,
+                              Duration elapsed) {
+    }
+}
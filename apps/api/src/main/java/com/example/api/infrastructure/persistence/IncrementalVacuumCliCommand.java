@@ -0,0 +1,67 @@
+package com.example.api.infrastructure.persistence;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * CLI command that switches the SQLite file to incremental auto-vacuum.
+ * This is a one-time maintenance step: the switch only takes effect after a
+ * full VACUUM, which rewrites the whole file and blocks every writer while it
+ * runs, so it should be run with the API stopped.
+ *
+ * Usage: ./gradlew bootRun --args="enable-incremental-vacuum"
+ */
+@Component
+public class IncrementalVacuumCliCommand implements CommandLineRunner {
+
+    static final int AUTO_VACUUM_INCREMENTAL = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IncrementalVacuumCliCommand(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (args.length == 0 || !"enable-incremental-vacuum".equals(args[0])) {
+            return; // Not our command
+        }
+
+        if (args.length != 1) {
+            System.err.println("Usage: enable-incremental-vacuum");
+            System.exit(1);
+            return;
+        }
+
+        if (enableIncrementalAutoVacuum()) {
+            System.out.println("Converted the database to incremental auto-vacuum.");
+        } else {
+            System.out.println("The database already uses incremental auto-vacuum.");
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Converts the database unless it already uses incremental auto-vacuum.
+     *
+     * @return true when the file was rewritten
+     */
+    boolean enableIncrementalAutoVacuum() {
+        // The new mode is pending on the connection that set it, so VACUUM must run on that same connection
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (final var statement = connection.createStatement()) {
+                try (final var mode = statement.executeQuery("pragma auto_vacuum")) {
+                    if (mode.next() && mode.getInt(1) == AUTO_VACUUM_INCREMENTAL) {
+                        return false;
+                    }
+                }
+                statement.execute("pragma auto_vacuum = incremental");
+                statement.execute("vacuum");
+                return true;
+            }
+        }));
+    }
+}
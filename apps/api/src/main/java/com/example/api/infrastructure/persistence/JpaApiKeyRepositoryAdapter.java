@@ -4,6 +4,8 @@ import com.example.api.domain.apikey.ApiKey;
 import com.example.api.domain.apikey.ApiKeyId;
 import com.example.api.domain.apikey.ApiKeyRepository;
 import com.example.api.domain.project.ProjectId;
+import com.example.api.infrastructure.cache.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -17,15 +19,19 @@ import java.util.Optional;
 public class JpaApiKeyRepositoryAdapter implements ApiKeyRepository {
 
     private final ApiKeyJpaRepository jpaRepository;
+    private final SingleFlight<String, Optional<ApiKey>> byKeyHash;
 
-    public JpaApiKeyRepositoryAdapter(ApiKeyJpaRepository jpaRepository) {
+    public JpaApiKeyRepositoryAdapter(ApiKeyJpaRepository jpaRepository, MeterRegistry registry) {
         this.jpaRepository = jpaRepository;
+        this.byKeyHash = new SingleFlight<>(
+                "api-key-by-hash", found -> found.map(JpaApiKeyRepositoryAdapter::copy), registry);
     }
 
     @Override
     public Optional<ApiKey> findByKeyHash(String keyHash) {
-        return jpaRepository.findByKeyHash(keyHash)
-                .map(ApiKeyDomainMapper::toDomain);
+        // Every SDK request looks up its key, so a burst from one client shares a single query
+        return byKeyHash.execute(keyHash, () -> jpaRepository.findByKeyHash(keyHash)
+                .map(ApiKeyDomainMapper::toDomain));
     }
 
     @Override
@@ -50,4 +56,8 @@ public class JpaApiKeyRepositoryAdapter implements ApiKeyRepository {
             jpaRepository.save(entity);
         });
     }
+
+    private static ApiKey copy(ApiKey apiKey) {
+        return ApiKeyDomainMapper.toDomain(ApiKeyDomainMapper.toEntity(apiKey));
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventCursor;
+import com.example.api.domain.audit.AuditEventFilter;
+import com.example.api.domain.audit.AuditEventRepository;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA adapter implementing the domain {@link AuditEventRepository} port.
+ */
+@Repository
+public class JpaAuditEventRepositoryAdapter implements AuditEventRepository {
+
+    private final AuditEventJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public JpaAuditEventRepositoryAdapter(AuditEventJpaRepository jpaRepository, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public void appendAll(List<AuditEvent> events) {
+        // persist rather than saveAll: ids are assigned, so saveAll would select each row first
+        for (final var event : events) {
+            entityManager.persist(AuditEventDomainMapper.toEntity(event));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public List<AuditEvent> findPage(AuditEventFilter filter, Optional<AuditEventCursor> after, int limit) {
+        final var organizationId = filter.organizationId().map(OrganizationId::value).orElse(null);
+        final var projectId = filter.projectId().map(ProjectId::value).orElse(null);
+        final var from = filter.from().orElse(null);
+        final var to = filter.to().orElse(null);
+
+        final var entities = after
+                .map(cursor -> jpaRepository.findPageBefore(
+                        organizationId,
+                        projectId,
+                        from,
+                        to,
+                        cursor.occurredAt(),
+                        cursor.id().value(),
+                        Limit.of(limit)))
+                .orElseGet(() -> jpaRepository.findFirstPage(organizationId, projectId, from, to, Limit.of(limit)));
+
+        return entities.stream()
+                .map(AuditEventDomainMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int deleteOlderThan(Instant cutoff, int limit) {
+        final var ids = jpaRepository.findIdsOccurredBefore(cutoff, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteAllByIdIn(ids);
+    }
+}
@@ -7,6 +7,7 @@ import com.example.api.domain.environment.EnvironmentType;
 import com.example.api.domain.project.ProjectId;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,20 @@ public class JpaEnvironmentRepositoryAdapter implements EnvironmentRepository {
                 .toList();
     }
 
+    @Override
+    public List<Environment> listByProjectIds(Collection<ProjectId> projectIds) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        final var ids = projectIds.stream()
+                .map(ProjectId::value)
+                .toList();
+        return jpaRepository.findByProjectIdIn(ids)
+                .stream()
+                .map(EnvironmentDomainMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Environment> findByProjectIdAndType(ProjectId projectId, EnvironmentType environmentType) {
         return jpaRepository.findByProjectIdAndEnvironmentType(projectId.value(), environmentType.name())
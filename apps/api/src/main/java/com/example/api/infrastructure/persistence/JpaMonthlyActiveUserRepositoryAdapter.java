@@ -0,0 +1,76 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.quota.MonthlyActiveUser;
+import com.example.api.domain.quota.MonthlyActiveUserRepository;
+import com.example.api.domain.user.UserId;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JPA adapter implementing the domain {@link MonthlyActiveUserRepository} port.
+ */
+@Repository
+public class JpaMonthlyActiveUserRepositoryAdapter implements MonthlyActiveUserRepository {
+
+    private final MonthlyActiveUserJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public JpaMonthlyActiveUserRepositoryAdapter(MonthlyActiveUserJpaRepository jpaRepository,
+                                                 EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Set<UserId> findUserIds(ProjectId projectId, YearMonth month) {
+        return jpaRepository.findUserIds(projectId.value(), month.toString()).stream()
+                .map(UserId::of)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Override
+    @Transactional
+    public void appendAll(List<MonthlyActiveUser> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        final var byId = new LinkedHashMap<String, MonthlyActiveUser>();
+        for (final var entry : entries) {
+            byId.putIfAbsent(rowId(entry), entry);
+        }
+        jpaRepository.findExistingIds(byId.keySet()).forEach(byId::remove);
+
+        // persist rather than saveAll: ids are assigned, so saveAll would select each row first
+        byId.forEach((id, entry) -> entityManager.persist(new MonthlyActiveUserJpaEntity(
+                id,
+                entry.projectId().value(),
+                entry.month().toString(),
+                entry.userId().value(),
+                entry.firstSeenAt()
+        )));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional
+    public int deleteBefore(YearMonth month) {
+        return jpaRepository.deleteByMonthBefore(month.toString());
+    }
+
+    private static String rowId(MonthlyActiveUser entry) {
+        final var key = entry.projectId().value() + "|" + entry.month() + "|" + entry.userId().value();
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
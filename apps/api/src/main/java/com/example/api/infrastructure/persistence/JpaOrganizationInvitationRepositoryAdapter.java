@@ -3,9 +3,14 @@ package com.example.api.infrastructure.persistence;
 import com.example.api.domain.organization.OrganizationInvitation;
 import com.example.api.domain.organization.OrganizationInvitationId;
 import com.example.api.domain.organization.OrganizationInvitationRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,10 +19,15 @@ import java.util.Optional;
 @Repository
 public class JpaOrganizationInvitationRepositoryAdapter implements OrganizationInvitationRepository {
 
+    private static final int JDBC_BATCH_SIZE = 100;
+
     private final OrganizationInvitationJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public JpaOrganizationInvitationRepositoryAdapter(OrganizationInvitationJpaRepository jpaRepository) {
+    public JpaOrganizationInvitationRepositoryAdapter(OrganizationInvitationJpaRepository jpaRepository,
+                                                      EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -33,13 +43,36 @@ public class JpaOrganizationInvitationRepositoryAdapter implements OrganizationI
         return invitation;
     }
 
+    @Override
+    @Transactional
+    public void appendAll(List<OrganizationInvitation> invitations) {
+        // Batched on this session only, so the rows go out as a few JDBC batches
+        final var session = entityManager.unwrap(Session.class);
+        final var previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+        try {
+            // persist rather than saveAll: ids are assigned, so saveAll would select each row first
+            for (final var invitation : invitations) {
+                entityManager.persist(OrganizationInvitationDomainMapper.toEntity(invitation));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
     @Override
     public void deleteById(OrganizationInvitationId id) {
         jpaRepository.deleteById(id.value());
     }
 
     @Override
-    public void deleteExpired(LocalDateTime now) {
-        jpaRepository.deleteByExpiresAtBefore(now);
+    public int deleteExpired(LocalDateTime cutoff, int limit) {
+        final var ids = jpaRepository.findExpiredIds(cutoff, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteAllByIdIn(ids);
     }
 }
@@ -6,10 +6,17 @@ import com.example.api.domain.organization.OrganizationMemberId;
 import com.example.api.domain.organization.OrganizationMemberRepository;
 import com.example.api.domain.organization.OrganizationMemberRole;
 import com.example.api.domain.user.Email;
+import com.example.api.infrastructure.cache.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * JPA adapter implementing the domain {@link OrganizationMemberRepository} port.
@@ -17,16 +24,23 @@ import java.util.Optional;
 @Repository
 public class JpaOrganizationMemberRepositoryAdapter implements OrganizationMemberRepository {
 
+    // Stays well under SQLite's bound parameter limit
+    private static final int EMAIL_QUERY_CHUNK_SIZE = 500;
+
     private final OrganizationMemberJpaRepository jpaRepository;
+    private final SingleFlight<String, Optional<OrganizationMember>> byId;
 
-    public JpaOrganizationMemberRepositoryAdapter(OrganizationMemberJpaRepository jpaRepository) {
+    public JpaOrganizationMemberRepositoryAdapter(OrganizationMemberJpaRepository jpaRepository,
+                                                  MeterRegistry registry) {
         this.jpaRepository = jpaRepository;
+        this.byId = new SingleFlight<>(
+                "organization-member-by-id", found -> found.map(JpaOrganizationMemberRepositoryAdapter::copy), registry);
     }
 
     @Override
     public Optional<OrganizationMember> findById(OrganizationMemberId id) {
-        return jpaRepository.findById(id.value())
-                .map(OrganizationMemberDomainMapper::toDomain);
+        return byId.execute(id.value(), () -> jpaRepository.findById(id.value())
+                .map(OrganizationMemberDomainMapper::toDomain));
     }
 
     @Override
@@ -35,6 +49,18 @@ public class JpaOrganizationMemberRepositoryAdapter implements OrganizationMembe
                 .map(OrganizationMemberDomainMapper::toDomain);
     }
 
+    @Override
+    public Set<Email> findExistingEmails(OrganizationId organizationId, Collection<Email> emails) {
+        final var values = emails.stream().map(Email::value).distinct().toList();
+        final var existing = new HashSet<Email>();
+        for (var from = 0; from < values.size(); from += EMAIL_QUERY_CHUNK_SIZE) {
+            final var chunk = values.subList(from, Math.min(from + EMAIL_QUERY_CHUNK_SIZE, values.size()));
+            jpaRepository.findEmailsByOrganizationIdAndEmailIn(organizationId.value(), chunk)
+                    .forEach(email -> existing.add(new Email(email)));
+        }
+        return existing;
+    }
+
     @Override
     public long countByOrganizationIdAndRole(OrganizationId organizationId, OrganizationMemberRole role) {
         return jpaRepository.countByOrganizationIdAndRole(organizationId.value(), role);
@@ -47,6 +73,21 @@ public class JpaOrganizationMemberRepositoryAdapter implements OrganizationMembe
                 .toList();
     }
 
+    @Override
+    public Map<OrganizationId, Long> countByOrganizationIds(Collection<OrganizationId> organizationIds) {
+        if (organizationIds.isEmpty()) {
+            return Map.of();
+        }
+        final var ids = organizationIds.stream()
+                .map(OrganizationId::value)
+                .toList();
+        return jpaRepository.countGroupedByOrganizationId(ids).stream()
+                .collect(Collectors.toMap(
+                        row -> OrganizationId.of(row.getOrganizationId()),
+                        OrganizationMemberJpaRepository.MemberCount::getMemberCount
+                ));
+    }
+
     @Override
     public OrganizationMember save(OrganizationMember member) {
         final var entity = OrganizationMemberDomainMapper.toEntity(member);
@@ -58,4 +99,8 @@ public class JpaOrganizationMemberRepositoryAdapter implements OrganizationMembe
     public void delete(OrganizationMemberId id) {
         jpaRepository.deleteById(id.value());
     }
+
+    private static OrganizationMember copy(OrganizationMember member) {
+        return OrganizationMemberDomainMapper.toDomain(OrganizationMemberDomainMapper.toEntity(member));
+    }
 }
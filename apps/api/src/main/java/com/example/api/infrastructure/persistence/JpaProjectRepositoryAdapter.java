@@ -41,6 +41,29 @@ public class JpaProjectRepositoryAdapter implements ProjectRepository {
                 .toList();
     }
 
+    @Override
+    public Optional<String> findVersion(ProjectId id) {
+        // Served from the second-level cache once the project has been read
+        return jpaRepository.findById(id.value())
+                .map(ProjectJpaEntity::getRowVersion)
+                .map(RowVersions::token);
+    }
+
+    @Override
+    public Optional<String> findListVersionByOrganizationId(OrganizationId organizationId) {
+        // Same cached query as listByOrganizationId, so this costs no SQL after the first read
+        final var entities = jpaRepository.findByOrganizationId(organizationId.value());
+        var latest = 0L;
+        for (final var entity : entities) {
+            if (entity.getRowVersion() == null) {
+                return Optional.empty();
+            }
+            latest = Math.max(latest, entity.getRowVersion());
+        }
+        // Stamps only grow, so an update raises the maximum and an insert raises both
+        return Optional.of(entities.size() + "-" + RowVersions.token(latest));
+    }
+
     @Override
     public Project save(Project project) {
         final var entity = ProjectDomainMapper.toEntity(project);
@@ -4,6 +4,7 @@ import com.example.api.domain.session.Session;
 import com.example.api.domain.session.SessionId;
 import com.example.api.domain.session.SessionRepository;
 import com.example.api.domain.user.UserId;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -47,4 +48,13 @@ public class JpaSessionRepositoryAdapter implements SessionRepository {
     public void delete(SessionId id) {
         jpaRepository.deleteById(id.value());
     }
+
+    @Override
+    public int deleteExpired(Instant cutoff, int limit) {
+        final var ids = jpaRepository.findPurgeableIds(cutoff, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteAllByIdIn(ids);
+    }
 }
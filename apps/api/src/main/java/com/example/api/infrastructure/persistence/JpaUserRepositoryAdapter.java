@@ -4,12 +4,24 @@ import com.example.api.domain.environment.EnvironmentId;
 import com.example.api.domain.project.ProjectId;
 import com.example.api.domain.user.Email;
 import com.example.api.domain.user.User;
+import com.example.api.domain.user.UserCursor;
+import com.example.api.domain.user.UserFilter;
 import com.example.api.domain.user.UserId;
 import com.example.api.domain.user.UserRepository;
+import com.example.api.infrastructure.cache.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JPA adapter implementing the domain {@link UserRepository} port.
@@ -18,15 +30,24 @@ import java.util.Optional;
 public class JpaUserRepositoryAdapter implements UserRepository {
 
     private final UserJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final UserEmailSearchIndex emailSearchIndex;
+    private final SingleFlight<String, Optional<User>> byId;
 
-    public JpaUserRepositoryAdapter(UserJpaRepository jpaRepository) {
+    public JpaUserRepositoryAdapter(UserJpaRepository jpaRepository,
+                                    EntityManager entityManager,
+                                    UserEmailSearchIndex emailSearchIndex,
+                                    MeterRegistry registry) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.emailSearchIndex = emailSearchIndex;
+        this.byId = new SingleFlight<>("user-by-id", found -> found.map(JpaUserRepositoryAdapter::copy), registry);
     }
 
     @Override
     public Optional<User> findById(UserId id) {
-        return jpaRepository.findById(id.value())
-                .map(UserDomainMapper::toDomain);
+        return byId.execute(id.value(), () -> jpaRepository.findById(id.value())
+                .map(UserDomainMapper::toDomain));
     }
 
     @Override
@@ -49,11 +70,39 @@ public class JpaUserRepositoryAdapter implements UserRepository {
                 .map(UserDomainMapper::toDomain);
     }
 
+    @Override
+    public Optional<String> findVersion(UserId id) {
+        return jpaRepository.findRowVersionById(id.value())
+                .map(RowVersions::token);
+    }
+
+    @Override
+    public Optional<String> findVersionByIdAndProjectId(UserId id, ProjectId projectId, EnvironmentId environmentId) {
+        return jpaRepository.findRowVersionByIdAndProjectIdAndEnvironmentId(
+                        id.value(), projectId.value(), environmentId.value())
+                .map(RowVersions::token);
+    }
+
     @Override
     public boolean existsByEmail(Email email) {
         return jpaRepository.existsByEmail(email.value());
     }
 
+    @Override
+    public Map<ProjectId, Long> countByProjectIds(Collection<ProjectId> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        final var ids = projectIds.stream()
+                .map(ProjectId::value)
+                .toList();
+        return jpaRepository.countGroupedByProjectId(ids).stream()
+                .collect(Collectors.toMap(
+                        row -> ProjectId.of(row.getProjectId()),
+                        UserJpaRepository.UserCount::getUserCount
+                ));
+    }
+
     @Override
     public User save(User user) {
         final var entity = UserDomainMapper.toEntity(user);
@@ -67,26 +116,67 @@ public class JpaUserRepositoryAdapter implements UserRepository {
     }
 
     @Override
-    public List<User> findAll() {
-        return jpaRepository.findAll()
-                .stream()
+    public List<User> findPage(UserFilter filter, Optional<UserCursor> after, int limit) {
+        final var emailPattern = emailPattern(filter);
+        final var projectId = filter.projectId().map(ProjectId::value).orElse(null);
+
+        final var entities = after
+                .map(cursor -> jpaRepository.findPageAfter(
+                        emailPattern,
+                        projectId,
+                        cursor.createdAt(),
+                        cursor.id().value(),
+                        Limit.of(limit)))
+                .orElseGet(() -> jpaRepository.findFirstPage(emailPattern, projectId, Limit.of(limit)));
+
+        return entities.stream()
                 .map(UserDomainMapper::toDomain)
                 .toList();
     }
 
     @Override
-    public List<User> findByEmailContainingIgnoreCase(String email) {
-        return jpaRepository.findByEmailContainingIgnoreCase(email)
-                .stream()
-                .map(UserDomainMapper::toDomain)
-                .toList();
+    public Stream<User> streamAll(UserFilter filter) {
+        final var projectId = filter.projectId().map(ProjectId::value).orElse(null);
+        return jpaRepository.streamByFilter(emailPattern(filter), projectId)
+                .map(entity -> {
+                    // Detach so the persistence context does not grow with the result set
+                    entityManager.detach(entity);
+                    return UserDomainMapper.toDomain(entity);
+                });
     }
 
     @Override
-    public List<User> findByProjectId(ProjectId projectId) {
-        return jpaRepository.findByProjectId(projectId.value())
-                .stream()
+    public List<User> searchByEmail(String term, Optional<ProjectId> projectId, int offset, int limit) {
+        final var ids = emailSearchIndex.search(
+                term.strip().toLowerCase(),
+                projectId.map(ProjectId::value).orElse(null),
+                offset,
+                limit
+        );
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Load matches in one query, then restore the index's ranking order
+        final Map<String, UserJpaEntity> entitiesById = jpaRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(UserJpaEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
                 .map(UserDomainMapper::toDomain)
                 .toList();
     }
+
+    private static User copy(User user) {
+        return UserDomainMapper.toDomain(UserDomainMapper.toEntity(user));
+    }
+
+    private static String emailPattern(UserFilter filter) {
+        return filter.emailContains()
+                .map(value -> "%" + value
+                        .replace("\\", "\\\\")
+                        .replace("%", "\\%")
+                        .replace("_", "\\_") + "%")
+                .orElse(null);
+    }
 }
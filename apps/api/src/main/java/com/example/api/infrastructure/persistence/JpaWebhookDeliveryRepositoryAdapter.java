@@ -0,0 +1,90 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.webhook.WebhookDelivery;
+import com.example.api.domain.webhook.WebhookDeliveryId;
+import com.example.api.domain.webhook.WebhookDeliveryRepository;
+import com.example.api.domain.webhook.WebhookDeliveryStatus;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JPA adapter implementing the domain {@link WebhookDeliveryRepository} port.
+ */
+@Repository
+public class JpaWebhookDeliveryRepositoryAdapter implements WebhookDeliveryRepository {
+
+    private final WebhookDeliveryJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public JpaWebhookDeliveryRepositoryAdapter(WebhookDeliveryJpaRepository jpaRepository,
+                                               EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public void appendAll(List<WebhookDelivery> deliveries) {
+        // persist rather than saveAll: ids are assigned, so saveAll would select each row first
+        for (final var delivery : deliveries) {
+            entityManager.persist(WebhookDeliveryDomainMapper.toEntity(delivery));
+        }
+    }
+
+    @Override
+    public List<WebhookDelivery> findDue(Instant now,
+                                         int perEndpointLimit,
+                                         Collection<WebhookEndpointId> excludedEndpoints,
+                                         int limit) {
+        // "not in ()" is not valid JPQL, so an empty exclusion becomes an id no endpoint has
+        final var excludedEndpointIds = excludedEndpoints.isEmpty()
+                ? List.of("")
+                : excludedEndpoints.stream().map(WebhookEndpointId::value).toList();
+        return jpaRepository.findDue(
+                        WebhookDeliveryStatus.PENDING, now, perEndpointLimit, excludedEndpointIds, Limit.of(limit))
+                .stream()
+                .map(WebhookDeliveryDomainMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Set<WebhookDeliveryId> claim(Collection<WebhookDeliveryId> ids, String owner, Instant now, Instant leaseUntil) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        final var rawIds = ids.stream().map(WebhookDeliveryId::value).toList();
+        // SQLite runs one writer at a time, so no other claim can interleave between these two statements
+        if (jpaRepository.lease(rawIds, WebhookDeliveryStatus.PENDING, owner, now, leaseUntil) == 0) {
+            return Set.of();
+        }
+        return jpaRepository.findLeased(rawIds, owner, leaseUntil).stream()
+                .map(WebhookDeliveryId::of)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public WebhookDelivery save(WebhookDelivery delivery) {
+        // The mapped entity has no lease, so saving an attempt's outcome also releases the row
+        jpaRepository.save(WebhookDeliveryDomainMapper.toEntity(delivery));
+        return delivery;
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Collection<WebhookDeliveryId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteAllByIdIn(ids.stream().map(WebhookDeliveryId::value).toList());
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA adapter implementing the domain {@link WebhookEndpointRepository} port.
+ */
+@Repository
+public class JpaWebhookEndpointRepositoryAdapter implements WebhookEndpointRepository {
+
+    private final WebhookEndpointJpaRepository jpaRepository;
+    private final WebhookDeliveryJpaRepository deliveryJpaRepository;
+
+    public JpaWebhookEndpointRepositoryAdapter(WebhookEndpointJpaRepository jpaRepository,
+                                               WebhookDeliveryJpaRepository deliveryJpaRepository) {
+        this.jpaRepository = jpaRepository;
+        this.deliveryJpaRepository = deliveryJpaRepository;
+    }
+
+    @Override
+    public Optional<WebhookEndpoint> findById(WebhookEndpointId id) {
+        return jpaRepository.findById(id.value())
+                .map(WebhookEndpointDomainMapper::toDomain);
+    }
+
+    @Override
+    public List<WebhookEndpoint> listByProjectId(ProjectId projectId) {
+        return jpaRepository.findByProjectId(projectId.value())
+                .stream()
+                .map(WebhookEndpointDomainMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public WebhookEndpoint save(WebhookEndpoint endpoint) {
+        final var entity = WebhookEndpointDomainMapper.toEntity(endpoint);
+        jpaRepository.save(entity);
+        return endpoint;
+    }
+
+    @Override
+    @Transactional
+    public void delete(WebhookEndpointId id) {
+        deliveryJpaRepository.deleteAllByEndpointId(id.value());
+        jpaRepository.deleteById(id.value());
+    }
+}
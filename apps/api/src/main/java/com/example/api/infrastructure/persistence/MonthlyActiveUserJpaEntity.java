@@ -0,0 +1,77 @@
+package com.example.api.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * JPA entity mapping for the project_monthly_active_users table.
+ *
+ * <p>The id is derived from (project, month, user) so a row can only be written once.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "project_monthly_active_users", indexes =
+        @Index(name = "idx_project_mau_project_month", columnList = "project_id, month"))
+public class MonthlyActiveUserJpaEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "project_id", nullable = false, length = 36)
+    private String projectId;
+
+    /**
+     * Calendar month as {@code yyyy-MM}, so string order is chronological.
+     */
+    @Column(nullable = false, length = 7)
+    private String month;
+
+    @Column(name = "user_id", nullable = false, length = 36)
+    private String userId;
+
+    @Column(name = "first_seen_at", nullable = false)
+    private Instant firstSeenAt;
+
+    protected MonthlyActiveUserJpaEntity() {
+        // JPA requires no-arg constructor
+    }
+
+    public MonthlyActiveUserJpaEntity(String id,
+                                      String projectId,
+                                      String month,
+                                      String userId,
+                                      Instant firstSeenAt) {
+        this.id = id;
+        this.projectId = projectId;
+        this.month = month;
+        this.userId = userId;
+        this.firstSeenAt = firstSeenAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public String getMonth() {
+        return month;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Instant getFirstSeenAt() {
+        return firstSeenAt;
+    }
+}
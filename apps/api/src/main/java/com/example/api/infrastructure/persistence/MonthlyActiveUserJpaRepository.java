@@ -0,0 +1,28 @@
+package com.example.api.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link MonthlyActiveUserJpaEntity}.
+ */
+public interface MonthlyActiveUserJpaRepository extends JpaRepository<MonthlyActiveUserJpaEntity, String> {
+
+    @Query("""
+            select m.userId from MonthlyActiveUserJpaEntity m
+            where m.projectId = :projectId and m.month = :month
+            """)
+    List<String> findUserIds(@Param("projectId") String projectId, @Param("month") String month);
+
+    @Query("select m.id from MonthlyActiveUserJpaEntity m where m.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from MonthlyActiveUserJpaEntity m where m.month < :month")
+    int deleteByMonthBefore(@Param("month") String month);
+}
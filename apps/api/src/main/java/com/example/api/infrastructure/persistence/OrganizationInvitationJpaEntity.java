@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "organization_invitations",
-        uniqueConstraints = @UniqueConstraint(columnNames = "token"))
+        uniqueConstraints = @UniqueConstraint(columnNames = "token"),
+        indexes = @Index(name = "idx_organization_invitations_expires_at", columnList = "expires_at"))
 public class OrganizationInvitationJpaEntity {
 
     @Id
@@ -1,8 +1,14 @@
 package com.example.api.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,5 +19,10 @@ public interface OrganizationInvitationJpaRepository
 
     Optional<OrganizationInvitationJpaEntity> findByToken(String token);
 
-    long deleteByExpiresAtBefore(LocalDateTime now);
+    @Query("select i.id from OrganizationInvitationJpaEntity i where i.expiresAt < :cutoff")
+    List<String> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from OrganizationInvitationJpaEntity i where i.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
 }
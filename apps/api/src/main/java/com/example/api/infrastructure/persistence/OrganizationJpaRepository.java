@@ -1,6 +1,9 @@
 package com.example.api.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -9,5 +12,6 @@ import java.util.Optional;
  */
 public interface OrganizationJpaRepository extends JpaRepository<OrganizationJpaEntity, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<OrganizationJpaEntity> findBySlug(String slug);
 }
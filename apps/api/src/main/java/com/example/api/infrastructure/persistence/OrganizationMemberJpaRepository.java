@@ -2,7 +2,10 @@ package com.example.api.infrastructure.persistence;
 
 import com.example.api.domain.organization.OrganizationMemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,29 @@ public interface OrganizationMemberJpaRepository extends JpaRepository<Organizat
     long countByOrganizationIdAndRole(String organizationId, OrganizationMemberRole role);
 
     List<OrganizationMemberJpaEntity> findAllByOrganizationId(String organizationId);
+
+    @Query("""
+            select m.email from OrganizationMemberJpaEntity m
+            where m.organizationId = :organizationId and m.email in :emails
+            """)
+    List<String> findEmailsByOrganizationIdAndEmailIn(@Param("organizationId") String organizationId,
+                                                      @Param("emails") Collection<String> emails);
+
+    @Query("""
+            select m.organizationId as organizationId, count(m) as memberCount
+            from OrganizationMemberJpaEntity m
+            where m.organizationId in :organizationIds
+            group by m.organizationId
+            """)
+    List<MemberCount> countGroupedByOrganizationId(@Param("organizationIds") Collection<String> organizationIds);
+
+    /**
+     * Projection for grouped member counts.
+     */
+    interface MemberCount {
+
+        String getOrganizationId();
+
+        Long getMemberCount();
+    }
 }
@@ -1,13 +1,18 @@
 package com.example.api.infrastructure.persistence;
 
 import com.example.api.domain.project.ProjectStatus;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -15,6 +20,8 @@ import java.time.LocalDateTime;
  * JPA entity mapping for projects table.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Table(name = "projects", uniqueConstraints = @UniqueConstraint(columnNames = {"organization_id", "slug"}))
 public class ProjectJpaEntity {
 
@@ -44,6 +51,10 @@ public class ProjectJpaEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Changes on every insert and update; see RowVersions
+    @Column(name = "row_version")
+    private Long rowVersion;
+
     protected ProjectJpaEntity() {
         // JPA requires no-arg constructor
     }
@@ -129,4 +140,14 @@ public class ProjectJpaEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    @PrePersist
+    @PreUpdate
+    void stampRowVersion() {
+        this.rowVersion = RowVersions.next();
+    }
+
+    public Long getRowVersion() {
+        return rowVersion;
+    }
 }
@@ -1,6 +1,9 @@
 package com.example.api.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,7 +15,9 @@ import java.util.Optional;
 @Repository
 public interface ProjectJpaRepository extends JpaRepository<ProjectJpaEntity, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ProjectJpaEntity> findBySlugAndOrganizationId(String slug, String organizationId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ProjectJpaEntity> findByOrganizationId(String organizationId);
 }
@@ -0,0 +1,70 @@
+package com.example.api.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read-only view of Hibernate second-level and query cache statistics.
+ */
+@Component
+public class SecondLevelCacheStatistics {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Snapshot snapshot() {
+        final var regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> {
+                    final var region = statistics.getCacheRegionStatistics(name);
+                    if (region == null) {
+                        return null;
+                    }
+                    return new Region(
+                            name,
+                            region.getHitCount(),
+                            region.getMissCount(),
+                            region.getPutCount(),
+                            region.getElementCountInMemory()
+                    );
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        return new Snapshot(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getPrepareStatementCount(),
+                regions
+        );
+    }
+
+    /**
+     * Cache counters since startup. Element counts are -1 when the provider
+     * does not report them.
+     */
+    public record Snapshot(
+            boolean enabled,
+            long secondLevelHits,
+            long secondLevelMisses,
+            long queryHits,
+            long queryMisses,
+            long statementsPrepared,
+            List<Region> regions
+    ) {
+    }
+
+    public record Region(String name, long hits, long misses, long puts, long elementsInMemory) {
+    }
+}
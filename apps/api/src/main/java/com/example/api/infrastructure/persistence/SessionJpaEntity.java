@@ -3,6 +3,7 @@ package com.example.api.infrastructure.persistence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import java.time.Instant;
@@ -11,7 +12,10 @@ import java.time.Instant;
  * JPA entity mapping for the sessions table.
  */
 @Entity
-@Table(name = "sessions")
+@Table(name = "sessions", indexes = {
+        @Index(name = "idx_sessions_user_id", columnList = "user_id"),
+        @Index(name = "idx_sessions_expires_at", columnList = "expires_at")
+})
 public class SessionJpaEntity {
 
     @Id
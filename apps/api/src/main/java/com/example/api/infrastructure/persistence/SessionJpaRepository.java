@@ -1,10 +1,13 @@
 package com.example.api.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,4 +23,15 @@ public interface SessionJpaRepository extends JpaRepository<SessionJpaEntity, St
             """)
     List<SessionJpaEntity> findActiveSessionsByUserId(@Param("userId") String userId,
                                                       @Param("now") Instant now);
+
+    @Query("""
+            select s.id from SessionJpaEntity s
+            where s.expiresAt < :cutoff
+               or (s.revoked = true and s.createdAt < :cutoff)
+            """)
+    List<String> findPurgeableIds(@Param("cutoff") Instant cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from SessionJpaEntity s where s.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
 }
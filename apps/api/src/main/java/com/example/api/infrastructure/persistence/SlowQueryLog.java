@@ -0,0 +1,190 @@
+package com.example.api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Times every JDBC statement and keeps the most recent slow ones in a ring buffer.
+ *
+ * <p>Statements under the threshold cost one timer update. Only slow statements
+ * pay for SQL normalisation and the stack walk that finds the calling
+ * repository method.</p>
+ */
+@Component
+public class SlowQueryLog {
+
+    private static final String APP_PACKAGE = "com.example.api.";
+    private static final String PERSISTENCE_PACKAGE = "com.example.api.infrastructure.persistence.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowQuery> entries;
+    private final AtomicLong written = new AtomicLong();
+    private final Map<StatementType, Timer> statementTimers;
+    private final Map<StatementType, Timer> failedStatementTimers;
+    private final Map<String, Counter> slowCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failedSlowCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public SlowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    SlowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        if (properties.getCapacity() < 1) {
+            throw new IllegalArgumentException("Slow query capacity must be positive");
+        }
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.entries = new AtomicReferenceArray<>(properties.getCapacity());
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.statementTimers = statementTimers(OUTCOME_SUCCESS);
+        this.failedStatementTimers = statementTimers(OUTCOME_ERROR);
+    }
+
+    /**
+     * Records a finished statement, including one that threw. Row count is -1 when
+     * the driver did not report one.
+     */
+    public void record(StatementType type, String sql, int bindCount, long rows, long elapsedNanos, boolean failed) {
+        (failed ? failedStatementTimers : statementTimers).get(type).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        final var caller = callerOf();
+        if (failed) {
+            failedSlowCounters.computeIfAbsent(caller, key -> slowCounter(key, OUTCOME_ERROR)).increment();
+        } else {
+            slowCounters.computeIfAbsent(caller, key -> slowCounter(key, OUTCOME_SUCCESS)).increment();
+        }
+        final var entry = new SlowQuery(
+                clock.instant(),
+                type,
+                SqlNormalizer.normalize(sql),
+                bindCount,
+                rows,
+                caller,
+                elapsedNanos / 1_000_000.0,
+                failed
+        );
+        final var slot = written.getAndIncrement() % entries.length();
+        entries.set((int) slot, entry);
+    }
+
+    /**
+     * Returns the captured slow statements, most recent first.
+     */
+    public List<SlowQuery> recent() {
+        final var end = written.get();
+        final var start = Math.max(0, end - entries.length());
+        final var result = new ArrayList<SlowQuery>((int) (end - start));
+        for (var i = end - 1; i >= start; i--) {
+            final var entry = entries.get((int) (i % entries.length()));
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    public long getSlowQueryCount() {
+        return written.get();
+    }
+
+    public long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    private Map<StatementType, Timer> statementTimers(String outcome) {
+        final var timers = new EnumMap<StatementType, Timer>(StatementType.class);
+        for (final var type : StatementType.values()) {
+            timers.put(type, Timer.builder("db.statements")
+                    .description("Execution time of JDBC statements, including result set iteration")
+                    .tag("type", type.name().toLowerCase())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        return timers;
+    }
+
+    private Counter slowCounter(String caller, String outcome) {
+        return Counter.builder("db.statements.slow")
+                .description("Statements slower than app.slow-queries.threshold")
+                .tag("caller", caller)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Finds the innermost persistence adapter frame, falling back to any application frame.
+     */
+    static String callerOf() {
+        return STACK_WALKER.walk(frames -> {
+            StackWalker.StackFrame fallback = null;
+            for (final var frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                final var className = frame.getClassName();
+                if (!className.startsWith(APP_PACKAGE) || className.contains("$$") || isTimingFrame(className)) {
+                    continue;
+                }
+                if (className.startsWith(PERSISTENCE_PACKAGE)) {
+                    return describe(frame);
+                }
+                if (fallback == null) {
+                    fallback = frame;
+                }
+            }
+            return fallback != null ? describe(fallback) : "unknown";
+        });
+    }
+
+    private static boolean isTimingFrame(String className) {
+        return isClassOrNested(className, SlowQueryLog.class)
+                || isClassOrNested(className, StatementTimingDataSource.class);
+    }
+
+    private static boolean isClassOrNested(String className, Class<?> type) {
+        return className.equals(type.getName()) || className.startsWith(type.getName() + "$");
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        final var className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+
+    public enum StatementType {
+        QUERY,
+        UPDATE,
+        BATCH
+    }
+
+    /**
+     * A statement that exceeded the threshold. {@code failed} is set when the driver threw.
+     */
+    public record SlowQuery(Instant at,
+                            StatementType type,
+                            String sql,
+                            int bindCount,
+                            long rows,
+                            String caller,
+                            double millis,
+                            boolean failed) {
+    }
+}
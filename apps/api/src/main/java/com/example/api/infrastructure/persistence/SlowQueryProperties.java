@@ -0,0 +1,42 @@
+package com.example.api.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for JDBC statement timing and slow-query capture.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.slow-queries")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+    private Duration threshold = Duration.ofMillis(50);
+    private int capacity = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,781 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.infrastructure.jdbc.DelegatingConnection;
+import com.example.api.infrastructure.jdbc.DelegatingPreparedStatement;
+import com.example.api.infrastructure.jdbc.DelegatingResultSet;
+import com.example.api.infrastructure.jdbc.DelegatingStatement;
+import com.example.api.infrastructure.persistence.SlowQueryLog.StatementType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Wraps connections so every statement execution is reported to {@link SlowQueryLog}.
+ *
+ * <p>Query time covers the execute call plus every {@code ResultSet.next()}, since
+ * sqlite-jdbc steps the statement lazily while rows are read. A query is reported
+ * when its result set is exhausted or closed, whichever comes first. Calls that
+ * throw, such as a write that gave up on {@code SQLITE_BUSY}, are reported as
+ * failed with the time they took.</p>
+ *
+ * <p>The wrappers are plain delegating classes. They override statement creation,
+ * the execute calls, parameter binding, {@code next} and {@code close}; column
+ * reads and every other call go straight to the driver. {@code prepareCall} is
+ * not wrapped because sqlite-jdbc has no stored procedures.</p>
+ */
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+    private final Supplier<SlowQueryLog> slowQueryLog;
+
+    public StatementTimingDataSource(DataSource targetDataSource, Supplier<SlowQueryLog> slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return new TimingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return new TimingConnection(super.getConnection(username, password));
+    }
+
+    private void report(StatementType type, String sql, int bindCount, long rows, long elapsedNanos, boolean failed) {
+        slowQueryLog.get().record(type, sql, bindCount, rows, elapsedNanos, failed);
+    }
+
+    private final class TimingConnection extends DelegatingConnection {
+
+        private TimingConnection(Connection target) {
+            super(target);
+        }
+
+        @Override
+        public Statement createStatement() throws SQLException {
+            return new TimingStatement(super.createStatement());
+        }
+
+        @Override
+        public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+            return new TimingStatement(super.createStatement(resultSetType, resultSetConcurrency));
+        }
+
+        @Override
+        public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+                throws SQLException {
+            return new TimingStatement(super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            return new TimingPreparedStatement(super.prepareStatement(sql), sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+                throws SQLException {
+            return new TimingPreparedStatement(super.prepareStatement(sql, resultSetType, resultSetConcurrency), sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+                                                  int resultSetHoldability) throws SQLException {
+            return new TimingPreparedStatement(
+                    super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+            return new TimingPreparedStatement(super.prepareStatement(sql, autoGeneratedKeys), sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+            return new TimingPreparedStatement(super.prepareStatement(sql, columnIndexes), sql);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+            return new TimingPreparedStatement(super.prepareStatement(sql, columnNames), sql);
+        }
+    }
+
+    /**
+     * What a statement is executing and the query whose rows are still being read.
+     * Confined to the thread using the statement.
+     */
+    private final class Executions {
+
+        private String sql;
+        private int bindCount;
+        private int batchSize;
+        private Execution pending;
+
+        private Executions(String sql) {
+            this.sql = sql;
+        }
+
+        private void start(String statementSql) {
+            completePending();
+            if (statementSql != null) {
+                sql = statementSql;
+            }
+        }
+
+        private ResultSet query(String statementSql, SqlCall<ResultSet> call) throws SQLException {
+            start(statementSql);
+            final var startNanos = System.nanoTime();
+            var failed = true;
+            try {
+                final var resultSet = call.call();
+                failed = false;
+                pending = new Execution(sql, bindCount, System.nanoTime() - startNanos);
+                return wrap(resultSet);
+            } finally {
+                if (failed) {
+                    report(StatementType.QUERY, sql, bindCount, -1, System.nanoTime() - startNanos, true);
+                }
+            }
+        }
+
+        private boolean execute(String statementSql, SqlCall<Boolean> call) throws SQLException {
+            start(statementSql);
+            final var startNanos = System.nanoTime();
+            var hasResultSet = false;
+            var failed = true;
+            try {
+                hasResultSet = call.call();
+                failed = false;
+                return hasResultSet;
+            } finally {
+                final var elapsed = System.nanoTime() - startNanos;
+                if (hasResultSet) {
+                    pending = new Execution(sql, bindCount, elapsed);
+                } else {
+                    report(StatementType.UPDATE, sql, bindCount, -1, elapsed, failed);
+                }
+            }
+        }
+
+        private <T extends Number> T update(String statementSql, SqlCall<T> call) throws SQLException {
+            start(statementSql);
+            final var startNanos = System.nanoTime();
+            T rows = null;
+            try {
+                rows = call.call();
+                return rows;
+            } finally {
+                report(StatementType.UPDATE, sql, bindCount, rows != null ? rows.longValue() : -1,
+                        System.nanoTime() - startNanos, rows == null);
+            }
+        }
+
+        private <T> T batch(SqlCall<T> call, ToLongFunction<T> sum) throws SQLException {
+            start(null);
+            final var startNanos = System.nanoTime();
+            T counts = null;
+            try {
+                counts = call.call();
+                return counts;
+            } finally {
+                final var rows = counts != null ? sum.applyAsLong(counts) : 0;
+                report(StatementType.BATCH, sql, bindCount, rows > 0 ? rows : batchSize,
+                        System.nanoTime() - startNanos, counts == null);
+                batchSize = 0;
+            }
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            if (resultSet == null || pending == null) {
+                return resultSet;
+            }
+            return new TimingResultSet(resultSet, pending);
+        }
+
+        private void completePending() {
+            if (pending != null) {
+                pending.complete(false);
+                pending = null;
+            }
+        }
+    }
+
+    private final class TimingStatement extends DelegatingStatement {
+
+        private final Executions executions = new Executions(null);
+
+        private TimingStatement(Statement target) {
+            super(target);
+        }
+
+        @Override
+        public ResultSet executeQuery(String sql) throws SQLException {
+            return executions.query(sql, () -> super.executeQuery(sql));
+        }
+
+        @Override
+        public boolean execute(String sql) throws SQLException {
+            return executions.execute(sql, () -> super.execute(sql));
+        }
+
+        @Override
+        public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+            return executions.execute(sql, () -> super.execute(sql, autoGeneratedKeys));
+        }
+
+        @Override
+        public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+            return executions.execute(sql, () -> super.execute(sql, columnIndexes));
+        }
+
+        @Override
+        public boolean execute(String sql, String[] columnNames) throws SQLException {
+            return executions.execute(sql, () -> super.execute(sql, columnNames));
+        }
+
+        @Override
+        public int executeUpdate(String sql) throws SQLException {
+            return executions.update(sql, () -> super.executeUpdate(sql));
+        }
+
+        @Override
+        public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+            return executions.update(sql, () -> super.executeUpdate(sql, autoGeneratedKeys));
+        }
+
+        @Override
+        public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+            return executions.update(sql, () -> super.executeUpdate(sql, columnIndexes));
+        }
+
+        @Override
+        public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+            return executions.update(sql, () -> super.executeUpdate(sql, columnNames));
+        }
+
+        @Override
+        public long executeLargeUpdate(String sql) throws SQLException {
+            return executions.update(sql, () -> super.executeLargeUpdate(sql));
+        }
+
+        @Override
+        public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+            return executions.update(sql, () -> super.executeLargeUpdate(sql, autoGeneratedKeys));
+        }
+
+        @Override
+        public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+            return executions.update(sql, () -> super.executeLargeUpdate(sql, columnIndexes));
+        }
+
+        @Override
+        public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+            return executions.update(sql, () -> super.executeLargeUpdate(sql, columnNames));
+        }
+
+        @Override
+        public void addBatch(String sql) throws SQLException {
+            super.addBatch(sql);
+            executions.sql = sql;
+            executions.batchSize++;
+        }
+
+        @Override
+        public int[] executeBatch() throws SQLException {
+            return executions.batch(() -> super.executeBatch(), StatementTimingDataSource::sum);
+        }
+
+        @Override
+        public long[] executeLargeBatch() throws SQLException {
+            return executions.batch(() -> super.executeLargeBatch(), StatementTimingDataSource::sum);
+        }
+
+        @Override
+        public ResultSet getResultSet() throws SQLException {
+            return executions.wrap(super.getResultSet());
+        }
+
+        @Override
+        public void close() throws SQLException {
+            executions.completePending();
+            super.close();
+        }
+    }
+
+    private final class TimingPreparedStatement extends DelegatingPreparedStatement {
+
+        private final Executions executions;
+
+        private TimingPreparedStatement(PreparedStatement target, String sql) {
+            super(target);
+            this.executions = new Executions(sql);
+        }
+
+        @Override
+        public ResultSet executeQuery() throws SQLException {
+            return executions.query(null, () -> super.executeQuery());
+        }
+
+        @Override
+        public boolean execute() throws SQLException {
+            return executions.execute(null, () -> super.execute());
+        }
+
+        @Override
+        public int executeUpdate() throws SQLException {
+            return executions.update(null, () -> super.executeUpdate());
+        }
+
+        @Override
+        public long executeLargeUpdate() throws SQLException {
+            return executions.update(null, () -> super.executeLargeUpdate());
+        }
+
+        @Override
+        public void addBatch() throws SQLException {
+            super.addBatch();
+            executions.batchSize++;
+        }
+
+        @Override
+        public int[] executeBatch() throws SQLException {
+            return executions.batch(() -> super.executeBatch(), StatementTimingDataSource::sum);
+        }
+
+        @Override
+        public long[] executeLargeBatch() throws SQLException {
+            return executions.batch(() -> super.executeLargeBatch(), StatementTimingDataSource::sum);
+        }
+
+        @Override
+        public ResultSet getResultSet() throws SQLException {
+            return executions.wrap(super.getResultSet());
+        }
+
+        @Override
+        public void close() throws SQLException {
+            executions.completePending();
+            super.close();
+        }
+
+        @Override
+        public void clearParameters() throws SQLException {
+            super.clearParameters();
+            executions.bindCount = 0;
+        }
+
+        private void bound(int parameterIndex) {
+            executions.bindCount = Math.max(executions.bindCount, parameterIndex);
+        }
+
+        @Override
+        public void setNull(int parameterIndex, int sqlType) throws SQLException {
+            bound(parameterIndex);
+            super.setNull(parameterIndex, sqlType);
+        }
+
+        @Override
+        public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+            bound(parameterIndex);
+            super.setBoolean(parameterIndex, x);
+        }
+
+        @Override
+        public void setByte(int parameterIndex, byte x) throws SQLException {
+            bound(parameterIndex);
+            super.setByte(parameterIndex, x);
+        }
+
+        @Override
+        public void setShort(int parameterIndex, short x) throws SQLException {
+            bound(parameterIndex);
+            super.setShort(parameterIndex, x);
+        }
+
+        @Override
+        public void setInt(int parameterIndex, int x) throws SQLException {
+            bound(parameterIndex);
+            super.setInt(parameterIndex, x);
+        }
+
+        @Override
+        public void setLong(int parameterIndex, long x) throws SQLException {
+            bound(parameterIndex);
+            super.setLong(parameterIndex, x);
+        }
+
+        @Override
+        public void setFloat(int parameterIndex, float x) throws SQLException {
+            bound(parameterIndex);
+            super.setFloat(parameterIndex, x);
+        }
+
+        @Override
+        public void setDouble(int parameterIndex, double x) throws SQLException {
+            bound(parameterIndex);
+            super.setDouble(parameterIndex, x);
+        }
+
+        @Override
+        public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+            bound(parameterIndex);
+            super.setBigDecimal(parameterIndex, x);
+        }
+
+        @Override
+        public void setString(int parameterIndex, String x) throws SQLException {
+            bound(parameterIndex);
+            super.setString(parameterIndex, x);
+        }
+
+        @Override
+        public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+            bound(parameterIndex);
+            super.setBytes(parameterIndex, x);
+        }
+
+        @Override
+        public void setDate(int parameterIndex, Date x) throws SQLException {
+            bound(parameterIndex);
+            super.setDate(parameterIndex, x);
+        }
+
+        @Override
+        public void setTime(int parameterIndex, Time x) throws SQLException {
+            bound(parameterIndex);
+            super.setTime(parameterIndex, x);
+        }
+
+        @Override
+        public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+            bound(parameterIndex);
+            super.setTimestamp(parameterIndex, x);
+        }
+
+        @Override
+        public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+            bound(parameterIndex);
+            super.setAsciiStream(parameterIndex, x, length);
+        }
+
+        @Deprecated
+        @Override
+        public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+            bound(parameterIndex);
+            super.setUnicodeStream(parameterIndex, x, length);
+        }
+
+        @Override
+        public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+            bound(parameterIndex);
+            super.setBinaryStream(parameterIndex, x, length);
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+            bound(parameterIndex);
+            super.setObject(parameterIndex, x, targetSqlType);
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x) throws SQLException {
+            bound(parameterIndex);
+            super.setObject(parameterIndex, x);
+        }
+
+        @Override
+        public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+            bound(parameterIndex);
+            super.setCharacterStream(parameterIndex, reader, length);
+        }
+
+        @Override
+        public void setRef(int parameterIndex, Ref x) throws SQLException {
+            bound(parameterIndex);
+            super.setRef(parameterIndex, x);
+        }
+
+        @Override
+        public void setBlob(int parameterIndex, Blob x) throws SQLException {
+            bound(parameterIndex);
+            super.setBlob(parameterIndex, x);
+        }
+
+        @Override
+        public void setClob(int parameterIndex, Clob x) throws SQLException {
+            bound(parameterIndex);
+            super.setClob(parameterIndex, x);
+        }
+
+        @Override
+        public void setArray(int parameterIndex, Array x) throws SQLException {
+            bound(parameterIndex);
+            super.setArray(parameterIndex, x);
+        }
+
+        @Override
+        public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+            bound(parameterIndex);
+            super.setDate(parameterIndex, x, cal);
+        }
+
+        @Override
+        public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+            bound(parameterIndex);
+            super.setTime(parameterIndex, x, cal);
+        }
+
+        @Override
+        public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+            bound(parameterIndex);
+            super.setTimestamp(parameterIndex, x, cal);
+        }
+
+        @Override
+        public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+            bound(parameterIndex);
+            super.setNull(parameterIndex, sqlType, typeName);
+        }
+
+        @Override
+        public void setURL(int parameterIndex, URL x) throws SQLException {
+            bound(parameterIndex);
+            super.setURL(parameterIndex, x);
+        }
+
+        @Override
+        public void setRowId(int parameterIndex, RowId x) throws SQLException {
+            bound(parameterIndex);
+            super.setRowId(parameterIndex, x);
+        }
+
+        @Override
+        public void setNString(int parameterIndex, String value) throws SQLException {
+            bound(parameterIndex);
+            super.setNString(parameterIndex, value);
+        }
+
+        @Override
+        public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+            bound(parameterIndex);
+            super.setNCharacterStream(parameterIndex, value, length);
+        }
+
+        @Override
+        public void setNClob(int parameterIndex, NClob value) throws SQLException {
+            bound(parameterIndex);
+            super.setNClob(parameterIndex, value);
+        }
+
+        @Override
+        public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+            bound(parameterIndex);
+            super.setClob(parameterIndex, reader, length);
+        }
+
+        @Override
+        public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+            bound(parameterIndex);
+            super.setBlob(parameterIndex, inputStream, length);
+        }
+
+        @Override
+        public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+            bound(parameterIndex);
+            super.setNClob(parameterIndex, reader, length);
+        }
+
+        @Override
+        public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+            bound(parameterIndex);
+            super.setSQLXML(parameterIndex, xmlObject);
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+            bound(parameterIndex);
+            super.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        }
+
+        @Override
+        public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+            bound(parameterIndex);
+            super.setAsciiStream(parameterIndex, x, length);
+        }
+
+        @Override
+        public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+            bound(parameterIndex);
+            super.setBinaryStream(parameterIndex, x, length);
+        }
+
+        @Override
+        public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+            bound(parameterIndex);
+            super.setCharacterStream(parameterIndex, reader, length);
+        }
+
+        @Override
+        public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+            bound(parameterIndex);
+            super.setAsciiStream(parameterIndex, x);
+        }
+
+        @Override
+        public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+            bound(parameterIndex);
+            super.setBinaryStream(parameterIndex, x);
+        }
+
+        @Override
+        public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+            bound(parameterIndex);
+            super.setCharacterStream(parameterIndex, reader);
+        }
+
+        @Override
+        public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+            bound(parameterIndex);
+            super.setNCharacterStream(parameterIndex, value);
+        }
+
+        @Override
+        public void setClob(int parameterIndex, Reader reader) throws SQLException {
+            bound(parameterIndex);
+            super.setClob(parameterIndex, reader);
+        }
+
+        @Override
+        public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+            bound(parameterIndex);
+            super.setBlob(parameterIndex, inputStream);
+        }
+
+        @Override
+        public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+            bound(parameterIndex);
+            super.setNClob(parameterIndex, reader);
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+            bound(parameterIndex);
+            super.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        }
+
+        @Override
+        public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
+            bound(parameterIndex);
+            super.setObject(parameterIndex, x, targetSqlType);
+        }
+    }
+
+    private static final class TimingResultSet extends DelegatingResultSet {
+
+        private final Execution execution;
+
+        private TimingResultSet(ResultSet target, Execution execution) {
+            super(target);
+            this.execution = execution;
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            final var start = System.nanoTime();
+            var hasRow = false;
+            var failed = true;
+            try {
+                hasRow = super.next();
+                failed = false;
+                return hasRow;
+            } finally {
+                execution.elapsedNanos += System.nanoTime() - start;
+                if (hasRow) {
+                    execution.rows++;
+                } else {
+                    execution.complete(failed);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            execution.complete(false);
+            super.close();
+        }
+    }
+
+    /**
+     * A query whose rows are still being read. Confined to the thread using the statement.
+     */
+    private final class Execution {
+
+        private final String sql;
+        private final int bindCount;
+        private long elapsedNanos;
+        private long rows;
+        private boolean completed;
+
+        private Execution(String sql, int bindCount, long elapsedNanos) {
+            this.sql = sql;
+            this.bindCount = bindCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private void complete(boolean failed) {
+            if (!completed) {
+                completed = true;
+                report(StatementType.QUERY, sql, bindCount, rows, elapsedNanos, failed);
+            }
+        }
+    }
+
+    /**
+     * A driver call that may throw.
+     */
+    @FunctionalInterface
+    private interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    private static long sum(int[] counts) {
+        var rows = 0L;
+        for (final var count : counts) {
+            rows += Math.max(0, count);
+        }
+        return rows;
+    }
+
+    private static long sum(long[] counts) {
+        var rows = 0L;
+        for (final var count : counts) {
+            rows += Math.max(0, count);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.api.infrastructure.persistence;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link StatementTimingDataSource}.
+ *
+ * <p>The slow-query log is resolved on first use so that post-processing the
+ * data source does not pull the meter registry into early initialisation.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.slow-queries", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StatementTimingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public StatementTimingPostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof StatementTimingDataSource)) {
+            return new StatementTimingDataSource(dataSource, SingletonSupplier.of(slowQueryLog::getObject));
+        }
+        return bean;
+    }
+}
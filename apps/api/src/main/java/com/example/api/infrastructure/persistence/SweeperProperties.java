@@ -0,0 +1,97 @@
+package com.example.api.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration properties for the expired data sweeper.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.sweeper")
+public class SweeperProperties {
+
+    private boolean enabled = true;
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 200;
+    private Duration batchPause = Duration.ofMillis(50);
+    private Duration sessionRetention = Duration.ofDays(7);
+    private Duration invitationRetention = Duration.ofDays(1);
+    private Duration auditEventRetention = Duration.ofDays(365);
+    private int vacuumEveryRuns = 6;
+    private int vacuumPages = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getBatchPause() {
+        return batchPause;
+    }
+
+    public void setBatchPause(Duration batchPause) {
+        this.batchPause = Objects.requireNonNullElse(batchPause, Duration.ZERO);
+    }
+
+    public Duration getSessionRetention() {
+        return sessionRetention;
+    }
+
+    public void setSessionRetention(Duration sessionRetention) {
+        this.sessionRetention = Objects.requireNonNullElse(sessionRetention, Duration.ZERO);
+    }
+
+    public Duration getInvitationRetention() {
+        return invitationRetention;
+    }
+
+    public void setInvitationRetention(Duration invitationRetention) {
+        this.invitationRetention = Objects.requireNonNullElse(invitationRetention, Duration.ZERO);
+    }
+
+    public Duration getAuditEventRetention() {
+        return auditEventRetention;
+    }
+
+    public void setAuditEventRetention(Duration auditEventRetention) {
+        this.auditEventRetention = Objects.requireNonNullElse(auditEventRetention, Duration.ofDays(365));
+    }
+
+    public int getVacuumEveryRuns() {
+        return vacuumEveryRuns;
+    }
+
+    public void setVacuumEveryRuns(int vacuumEveryRuns) {
+        this.vacuumEveryRuns = vacuumEveryRuns;
+    }
+
+    public int getVacuumPages() {
+        return vacuumPages;
+    }
+
+    public void setVacuumPages(int vacuumPages) {
+        this.vacuumPages = vacuumPages;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.api.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * SQLite FTS5 trigram index over user emails for substring and prefix search.
+ *
+ * <p>The index lives next to the {@code users} table and is kept in sync by
+ * triggers, so every insert, email change and delete is reflected without
+ * application code. FTS rows are keyed through a map table with an explicit
+ * INTEGER PRIMARY KEY because the implicit rowid of {@code users} is not
+ * stable across VACUUM.</p>
+ *
+ * <p>Terms shorter than a trigram cannot use the FTS index and fall back to a
+ * prefix range scan on the unique email index.</p>
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class UserEmailSearchIndex implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEmailSearchIndex.class);
+
+    static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private static final String FTS_TABLE = "users_email_fts";
+
+    private static final List<String> SCHEMA = List.of(
+            """
+            create table if not exists users_email_search_map (
+                rowid integer primary key,
+                user_id varchar(36) not null unique
+            )
+            """,
+            """
+            create virtual table if not exists users_email_fts using fts5(email, tokenize = 'trigram')
+            """,
+            """
+            create trigger if not exists users_email_fts_ai after insert on users begin
+                insert into users_email_search_map(user_id) values (new.id);
+                insert into users_email_fts(rowid, email) values (last_insert_rowid(), new.email);
+            end
+            """,
+            """
+            create trigger if not exists users_email_fts_au after update of email on users begin
+                update users_email_fts set email = new.email
+                where rowid = (select rowid from users_email_search_map where user_id = old.id);
+            end
+            """,
+            """
+            create trigger if not exists users_email_fts_ad after delete on users begin
+                delete from users_email_fts
+                where rowid = (select rowid from users_email_search_map where user_id = old.id);
+                delete from users_email_search_map where user_id = old.id;
+            end
+            """
+    );
+
+    private static final String BACKFILL_MAP = """
+            insert into users_email_search_map(user_id)
+            select u.id from users u
+            where not exists (select 1 from users_email_search_map m where m.user_id = u.id)
+            """;
+
+    private static final String BACKFILL_FTS = """
+            insert into users_email_fts(rowid, email)
+            select m.rowid, u.email
+            from users_email_search_map m
+            join users u on u.id = m.user_id
+            """;
+
+    // Exact match first, then prefix matches, then FTS relevance
+    private static final String SEARCH_TRIGRAM = """
+            select m.user_id
+            from users_email_fts f
+            join users_email_search_map m on m.rowid = f.rowid
+            join users u on u.id = m.user_id
+            where users_email_fts match ?
+              and (? is null or u.project_id = ?)
+            order by (u.email = ?) desc,
+                     (substr(u.email, 1, length(?)) = ?) desc,
+                     f.rank,
+                     u.email
+            limit ? offset ?
+            """;
+
+    private static final String SEARCH_PREFIX = """
+            select u.id
+            from users u
+            where u.email >= ? and u.email < ?
+              and (? is null or u.project_id = ?)
+            order by u.email
+            limit ? offset ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserEmailSearchIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate.executeWithoutResult(status -> {
+            final var created = !tableExists(FTS_TABLE);
+            SCHEMA.forEach(jdbcTemplate::execute);
+            if (created) {
+                jdbcTemplate.update(BACKFILL_MAP);
+                final var indexed = jdbcTemplate.update(BACKFILL_FTS);
+                log.info("Built email search index for {} users", indexed);
+            }
+        });
+    }
+
+    /**
+     * Returns IDs of users whose email contains the term, ranked with exact and
+     * prefix matches first.
+     *
+     * @param term      lower-cased search term
+     * @param projectId optional project filter, or {@code null}
+     */
+    public List<String> search(String term, String projectId, int offset, int limit) {
+        if (term.length() < MIN_TRIGRAM_LENGTH) {
+            return jdbcTemplate.queryForList(SEARCH_PREFIX, String.class,
+                    term, prefixUpperBound(term), projectId, projectId, limit, offset);
+        }
+        return jdbcTemplate.queryForList(SEARCH_TRIGRAM, String.class,
+                phrase(term), projectId, projectId, term, term, term, limit, offset);
+    }
+
+    private boolean tableExists(String name) {
+        final var count = jdbcTemplate.queryForObject(
+                "select count(*) from sqlite_master where name = ?", Integer.class, name);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Quotes the term as an FTS5 phrase so punctuation such as '@' and '.' is matched literally.
+     */
+    private static String phrase(String term) {
+        return '"' + term.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Smallest string greater than every string starting with the prefix.
+     */
+    private static String prefixUpperBound(String prefix) {
+        final var last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+}
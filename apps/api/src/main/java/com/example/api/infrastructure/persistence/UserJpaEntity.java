@@ -6,6 +6,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
@@ -16,7 +19,10 @@ import java.time.LocalDateTime;
  * <p>This is an infrastructure concern, separate from the domain {@code User} aggregate.</p>
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_users_project_created_at_id", columnList = "project_id, created_at, id")
+})
 public class UserJpaEntity {
 
     @Id
@@ -51,6 +57,10 @@ public class UserJpaEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Changes on every insert and update; see RowVersions
+    @Column(name = "row_version")
+    private Long rowVersion;
+
     protected UserJpaEntity() {
         // JPA requires no-arg constructor
     }
@@ -149,4 +159,14 @@ public class UserJpaEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    @PrePersist
+    @PreUpdate
+    void stampRowVersion() {
+        this.rowVersion = RowVersions.next();
+    }
+
+    public Long getRowVersion() {
+        return rowVersion;
+    }
 }
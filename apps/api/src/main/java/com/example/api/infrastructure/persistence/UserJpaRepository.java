@@ -1,9 +1,18 @@
 package com.example.api.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for {@link UserJpaEntity}.
@@ -21,12 +30,82 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String>
             String id, String projectId, String environmentId);
 
     /**
-     * Finds users by email partial match (case-insensitive).
+     * Finds the first page of users matching the optional filters, in keyset order.
      */
-    List<UserJpaEntity> findByEmailContainingIgnoreCase(String email);
+    @Query("""
+            select u from UserJpaEntity u
+            where (:emailPattern is null or u.email like :emailPattern escape '\\')
+              and (:projectId is null or u.projectId = :projectId)
+            order by u.createdAt asc, u.id asc
+            """)
+    List<UserJpaEntity> findFirstPage(@Param("emailPattern") String emailPattern,
+                                      @Param("projectId") String projectId,
+                                      Limit limit);
 
     /**
-     * Finds users by project ID.
+     * Finds the page of users following the (createdAt, id) keyset position.
      */
-    List<UserJpaEntity> findByProjectId(String projectId);
+    @Query("""
+            select u from UserJpaEntity u
+            where (:emailPattern is null or u.email like :emailPattern escape '\\')
+              and (:projectId is null or u.projectId = :projectId)
+              and (u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id))
+            order by u.createdAt asc, u.id asc
+            """)
+    List<UserJpaEntity> findPageAfter(@Param("emailPattern") String emailPattern,
+                                      @Param("projectId") String projectId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") String id,
+                                      Limit limit);
+
+    /**
+     * Streams users matching the optional filters through a forward-only cursor.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select u from UserJpaEntity u
+            where (:emailPattern is null or u.email like :emailPattern escape '\\')
+              and (:projectId is null or u.projectId = :projectId)
+            order by u.createdAt asc, u.id asc
+            """)
+    Stream<UserJpaEntity> streamByFilter(@Param("emailPattern") String emailPattern,
+                                         @Param("projectId") String projectId);
+
+    /**
+     * Reads only the row version, for conditional GETs.
+     */
+    @Query("select u.rowVersion from UserJpaEntity u where u.id = :id")
+    Optional<Long> findRowVersionById(@Param("id") String id);
+
+    /**
+     * Reads only the row version of a user in the given project scope, for conditional GETs.
+     */
+    @Query("""
+            select u.rowVersion from UserJpaEntity u
+            where u.id = :id and u.projectId = :projectId and u.environmentId = :environmentId
+            """)
+    Optional<Long> findRowVersionByIdAndProjectIdAndEnvironmentId(@Param("id") String id,
+                                                                  @Param("projectId") String projectId,
+                                                                  @Param("environmentId") String environmentId);
+
+    @Query("""
+            select u.projectId as projectId, count(u) as userCount
+            from UserJpaEntity u
+            where u.projectId in :projectIds
+            group by u.projectId
+            """)
+    List<UserCount> countGroupedByProjectId(@Param("projectIds") Collection<String> projectIds);
+
+    /**
+     * Projection for grouped end user counts.
+     */
+    interface UserCount {
+
+        String getProjectId();
+
+        Long getUserCount();
+    }
 }
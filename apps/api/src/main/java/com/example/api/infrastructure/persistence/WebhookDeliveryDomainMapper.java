@@ -0,0 +1,45 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.webhook.WebhookDelivery;
+import com.example.api.domain.webhook.WebhookDeliveryId;
+import com.example.api.domain.webhook.WebhookEndpointId;
+
+/**
+ * Maps between domain {@link WebhookDelivery} and JPA {@link WebhookDeliveryJpaEntity}.
+ */
+final class WebhookDeliveryDomainMapper {
+
+    private WebhookDeliveryDomainMapper() {
+        // Utility class
+    }
+
+    static WebhookDelivery toDomain(WebhookDeliveryJpaEntity entity) {
+        return new WebhookDelivery(
+                WebhookDeliveryId.of(entity.getId()),
+                WebhookEndpointId.of(entity.getEndpointId()),
+                entity.getEventId(),
+                entity.getEventType(),
+                entity.getPayload(),
+                entity.getStatus(),
+                entity.getAttempts(),
+                entity.getNextAttemptAt(),
+                entity.getLastError(),
+                entity.getCreatedAt()
+        );
+    }
+
+    static WebhookDeliveryJpaEntity toEntity(WebhookDelivery delivery) {
+        return new WebhookDeliveryJpaEntity(
+                delivery.getId().value(),
+                delivery.getEndpointId().value(),
+                delivery.getEventId(),
+                delivery.getEventType(),
+                delivery.getPayload(),
+                delivery.getStatus(),
+                delivery.getAttempts(),
+                delivery.getNextAttemptAt(),
+                delivery.getLastError(),
+                delivery.getCreatedAt()
+        );
+    }
+}
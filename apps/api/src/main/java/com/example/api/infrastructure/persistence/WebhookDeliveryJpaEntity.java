@@ -0,0 +1,138 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.webhook.WebhookDeliveryStatus;
+import com.example.api.domain.webhook.WebhookEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * JPA entity mapping for the webhook_deliveries outbox table.
+ */
+@Entity
+@Table(name = "webhook_deliveries", indexes = {
+        @Index(name = "idx_webhook_deliveries_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_webhook_deliveries_endpoint", columnList = "endpoint_id")
+})
+public class WebhookDeliveryJpaEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "endpoint_id", nullable = false, length = 36)
+    private String endpointId;
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private WebhookEventType eventType;
+
+    @Column(nullable = false, length = 10000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookDeliveryStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // Set while a dispatcher is sending the row; written only by the claim query
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    protected WebhookDeliveryJpaEntity() {
+        // JPA requires no-arg constructor
+    }
+
+    public WebhookDeliveryJpaEntity(String id,
+                                    String endpointId,
+                                    String eventId,
+                                    WebhookEventType eventType,
+                                    String payload,
+                                    WebhookDeliveryStatus status,
+                                    int attempts,
+                                    Instant nextAttemptAt,
+                                    String lastError,
+                                    Instant createdAt) {
+        this.id = id;
+        this.endpointId = endpointId;
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEndpointId() {
+        return endpointId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public WebhookEventType getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public WebhookDeliveryStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public Instant getLeaseUntil() {
+        return leaseUntil;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.webhook.WebhookDeliveryStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link WebhookDeliveryJpaEntity}.
+ */
+public interface WebhookDeliveryJpaRepository extends JpaRepository<WebhookDeliveryJpaEntity, String> {
+
+    /**
+     * Finds due deliveries that no dispatcher holds a lease on, oldest first,
+     * ranking each endpoint's rows separately and keeping only the first
+     * {@code perEndpointLimit} of each.
+     */
+    @Query("""
+            select d from WebhookDeliveryJpaEntity d
+            where d.id in (
+                select ranked.id from (
+                    select e.id as id,
+                           row_number() over (partition by e.endpointId order by e.nextAttemptAt, e.id) as endpointRank
+                    from WebhookDeliveryJpaEntity e
+                    where e.status = :status
+                      and e.nextAttemptAt <= :now
+                      and (e.leaseUntil is null or e.leaseUntil <= :now)
+                      and e.endpointId not in :excludedEndpointIds
+                ) ranked
+                where ranked.endpointRank <= :perEndpointLimit
+            )
+            order by d.nextAttemptAt asc, d.id asc
+            """)
+    List<WebhookDeliveryJpaEntity> findDue(@Param("status") WebhookDeliveryStatus status,
+                                           @Param("now") Instant now,
+                                           @Param("perEndpointLimit") long perEndpointLimit,
+                                           @Param("excludedEndpointIds") Collection<String> excludedEndpointIds,
+                                           Limit limit);
+
+    /**
+     * Leases the given rows to {@code owner}, skipping rows that are no longer
+     * pending or whose lease another dispatcher still holds.
+     */
+    @Modifying
+    @Query("""
+            update WebhookDeliveryJpaEntity d
+            set d.leaseOwner = :owner, d.leaseUntil = :leaseUntil
+            where d.id in :ids
+              and d.status = :status
+              and (d.leaseUntil is null or d.leaseUntil <= :now)
+            """)
+    int lease(@Param("ids") Collection<String> ids,
+              @Param("status") WebhookDeliveryStatus status,
+              @Param("owner") String owner,
+              @Param("now") Instant now,
+              @Param("leaseUntil") Instant leaseUntil);
+
+    @Query("""
+            select d.id from WebhookDeliveryJpaEntity d
+            where d.id in :ids and d.leaseOwner = :owner and d.leaseUntil = :leaseUntil
+            """)
+    List<String> findLeased(@Param("ids") Collection<String> ids,
+                            @Param("owner") String owner,
+                            @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("delete from WebhookDeliveryJpaEntity d where d.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from WebhookDeliveryJpaEntity d where d.endpointId = :endpointId")
+    int deleteAllByEndpointId(@Param("endpointId") String endpointId);
+}
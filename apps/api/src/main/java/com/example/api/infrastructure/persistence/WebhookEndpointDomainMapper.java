@@ -0,0 +1,49 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import com.example.api.domain.webhook.WebhookEventType;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+/**
+ * Maps between domain {@link WebhookEndpoint} and JPA {@link WebhookEndpointJpaEntity}.
+ */
+final class WebhookEndpointDomainMapper {
+
+    private WebhookEndpointDomainMapper() {
+        // Utility class
+    }
+
+    static WebhookEndpoint toDomain(WebhookEndpointJpaEntity entity) {
+        final var eventTypes = Arrays.stream(entity.getEventTypes().split(","))
+                .map(WebhookEventType::valueOf)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(WebhookEventType.class)));
+        return new WebhookEndpoint(
+                WebhookEndpointId.of(entity.getId()),
+                ProjectId.of(entity.getProjectId()),
+                entity.getUrl(),
+                entity.getSecret(),
+                eventTypes,
+                entity.getCreatedAt()
+        );
+    }
+
+    static WebhookEndpointJpaEntity toEntity(WebhookEndpoint endpoint) {
+        final var eventTypes = endpoint.getEventTypes().stream()
+                .sorted()
+                .map(WebhookEventType::name)
+                .collect(Collectors.joining(","));
+        return new WebhookEndpointJpaEntity(
+                endpoint.getId().value(),
+                endpoint.getProjectId().value(),
+                endpoint.getUrl(),
+                endpoint.getSecret(),
+                eventTypes,
+                endpoint.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.api.infrastructure.persistence;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity mapping for webhook_endpoints table.
+ *
+ * <p>Cached because every end-user event looks up its project's endpoints.</p>
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "webhook-endpoints")
+@Table(name = "webhook_endpoints", indexes = @Index(name = "idx_webhook_endpoints_project", columnList = "project_id"))
+public class WebhookEndpointJpaEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "project_id", nullable = false, length = 36)
+    private String projectId;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    @Column(nullable = false, length = 100)
+    private String secret;
+
+    /**
+     * Comma-separated {@link com.example.api.domain.webhook.WebhookEventType} names.
+     */
+    @Column(name = "event_types", nullable = false, length = 500)
+    private String eventTypes;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected WebhookEndpointJpaEntity() {
+        // JPA requires no-arg constructor
+    }
+
+    public WebhookEndpointJpaEntity(String id,
+                                    String projectId,
+                                    String url,
+                                    String secret,
+                                    String eventTypes,
+                                    LocalDateTime createdAt) {
+        this.id = id;
+        this.projectId = projectId;
+        this.url = url;
+        this.secret = secret;
+        this.eventTypes = eventTypes;
+        this.createdAt = createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public String getEventTypes() {
+        return eventTypes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
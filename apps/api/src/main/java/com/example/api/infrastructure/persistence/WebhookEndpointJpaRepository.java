@@ -0,0 +1,19 @@
+package com.example.api.infrastructure.persistence;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA repository for WebhookEndpoint entities.
+ */
+@Repository
+public interface WebhookEndpointJpaRepository extends JpaRepository<WebhookEndpointJpaEntity, String> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<WebhookEndpointJpaEntity> findByProjectId(String projectId);
+}
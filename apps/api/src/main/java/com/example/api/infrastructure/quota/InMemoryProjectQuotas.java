@@ -0,0 +1,313 @@
+package com.example.api.infrastructure.quota;
+
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.quota.MonthlyActiveUser;
+import com.example.api.domain.quota.MonthlyActiveUserRepository;
+import com.example.api.domain.quota.ProjectQuotas;
+import com.example.api.domain.quota.QuotaLimits;
+import com.example.api.domain.quota.QuotaType;
+import com.example.api.domain.quota.exception.QuotaExceededException;
+import com.example.api.domain.user.UserId;
+import com.example.api.domain.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Enforces plan quotas from per-project counters held in memory.
+ *
+ * <p>A project's counters are loaded from SQLite the first time it is seen;
+ * after that every check is answered from memory. Newly active users are queued
+ * and written to {@code project_monthly_active_users} by {@link #snapshot()}, so
+ * the monthly count survives restarts. {@link #reconcile()} periodically resets
+ * end user counts from the users table and re-resolves plan limits, which
+ * corrects drift from rolled-back registrations or deleted users.</p>
+ *
+ * <p>The SDK request limit is exact within each minute. For end users and
+ * monthly active users, checks and increments are not atomic together, so a
+ * burst of concurrent registrations can overshoot a limit by a few units.</p>
+ */
+@Component
+public class InMemoryProjectQuotas implements ProjectQuotas {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryProjectQuotas.class);
+
+    private final QuotaProperties properties;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final MonthlyActiveUserRepository activeUserRepository;
+    private final Clock clock;
+    private final ConcurrentHashMap<ProjectId, ProjectUsage> usage = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<MonthlyActiveUser> pendingActiveUsers = new ConcurrentLinkedQueue<>();
+    private final Map<QuotaType, Counter> rejections = new EnumMap<>(QuotaType.class);
+
+    @Autowired
+    public InMemoryProjectQuotas(QuotaProperties properties,
+                                 ProjectRepository projectRepository,
+                                 UserRepository userRepository,
+                                 MonthlyActiveUserRepository activeUserRepository,
+                                 MeterRegistry meterRegistry) {
+        this(properties, projectRepository, userRepository, activeUserRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    InMemoryProjectQuotas(QuotaProperties properties,
+                          ProjectRepository projectRepository,
+                          UserRepository userRepository,
+                          MonthlyActiveUserRepository activeUserRepository,
+                          MeterRegistry meterRegistry,
+                          Clock clock) {
+        this.properties = properties;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.activeUserRepository = activeUserRepository;
+        this.clock = clock;
+        for (final var type : QuotaType.values()) {
+            rejections.put(type, Counter.builder("quota.rejections")
+                    .description("Requests rejected because a project quota was exhausted")
+                    .tag("quota", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("quota.tracked.projects", usage, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryAcquireSdkRequest(ProjectId projectId) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        final var project = usageFor(projectId);
+        final var minute = clock.millis() / 60_000;
+        if (project.requests.tryAcquire(minute, project.limits.sdkRequestsPerMinute())) {
+            return true;
+        }
+        rejections.get(QuotaType.SDK_REQUESTS_PER_MINUTE).increment();
+        return false;
+    }
+
+    @Override
+    public void checkEndUserCapacity(ProjectId projectId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final var project = usageFor(projectId);
+        final var limits = project.limits;
+        if (!limits.allowsAnother(QuotaType.END_USERS, project.endUsers.sum())) {
+            throw reject(QuotaType.END_USERS, limits);
+        }
+        // A new user is always a new monthly active user
+        if (!limits.allowsAnother(QuotaType.MONTHLY_ACTIVE_USERS, project.activeUsers(currentMonth()).size())) {
+            throw reject(QuotaType.MONTHLY_ACTIVE_USERS, limits);
+        }
+    }
+
+    @Override
+    public void recordEndUserRegistered(ProjectId projectId, UserId userId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final var project = usageFor(projectId);
+        project.endUsers.increment();
+        markActive(projectId, project, userId, currentMonth());
+    }
+
+    @Override
+    public void recordActiveUser(ProjectId projectId, UserId userId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final var project = usageFor(projectId);
+        final var month = currentMonth();
+        final var active = project.activeUsers(month);
+        if (active.contains(userId)) {
+            return;
+        }
+        if (!project.limits.allowsAnother(QuotaType.MONTHLY_ACTIVE_USERS, active.size())) {
+            throw reject(QuotaType.MONTHLY_ACTIVE_USERS, project.limits);
+        }
+        markActive(projectId, project, userId, month);
+    }
+
+    /**
+     * Writes monthly active users recorded since the last snapshot.
+     */
+    @Scheduled(fixedDelayString = "${app.quotas.snapshot-interval:PT30S}")
+    public void snapshot() {
+        final var batch = new ArrayList<MonthlyActiveUser>();
+        MonthlyActiveUser entry;
+        while ((entry = pendingActiveUsers.poll()) != null) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            activeUserRepository.appendAll(batch);
+        } catch (RuntimeException e) {
+            // Keep them for the next snapshot; appendAll skips rows that did get written
+            pendingActiveUsers.addAll(batch);
+            log.warn("Failed to snapshot {} monthly active users", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    /**
+     * Resets end user counts from the database, re-resolves plan limits and drops
+     * snapshots older than the retention window.
+     */
+    @Scheduled(
+            initialDelayString = "${app.quotas.reconcile-interval:PT5M}",
+            fixedDelayString = "${app.quotas.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        try {
+            final var projectIds = List.copyOf(usage.keySet());
+            final var counts = userRepository.countByProjectIds(projectIds);
+            for (final var projectId : projectIds) {
+                final var project = usage.get(projectId);
+                if (project == null) {
+                    continue;
+                }
+                project.limits = resolveLimits(projectId);
+                project.endUsers.reset();
+                project.endUsers.add(counts.getOrDefault(projectId, 0L));
+            }
+            activeUserRepository.deleteBefore(currentMonth().minusMonths(properties.getRetainedMonths() - 1L));
+        } catch (RuntimeException e) {
+            log.warn("Quota reconciliation failed", e);
+        }
+    }
+
+    private void markActive(ProjectId projectId, ProjectUsage project, UserId userId, YearMonth month) {
+        if (project.activeUsers(month).add(userId)) {
+            pendingActiveUsers.add(new MonthlyActiveUser(projectId, month, userId, clock.instant()));
+        }
+    }
+
+    private QuotaExceededException reject(QuotaType type, QuotaLimits limits) {
+        rejections.get(type).increment();
+        return new QuotaExceededException(type, limits.limitFor(type));
+    }
+
+    private ProjectUsage usageFor(ProjectId projectId) {
+        final var existing = usage.get(projectId);
+        if (existing != null) {
+            return existing;
+        }
+        // Loaded outside the map so a slow first read does not block other projects
+        final var month = currentMonth();
+        final var loaded = new ProjectUsage(
+                resolveLimits(projectId),
+                userRepository.countByProjectIds(List.of(projectId)).getOrDefault(projectId, 0L),
+                month,
+                activeUserRepository.findUserIds(projectId, month));
+        final var raced = usage.putIfAbsent(projectId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    private QuotaLimits resolveLimits(ProjectId projectId) {
+        final var plan = projectRepository.findById(projectId)
+                .map(Project::getOrganizationId)
+                .map(organizationId -> properties.planFor(organizationId.value()))
+                .orElse(properties.getDefaultPlan());
+        return properties.limitsFor(plan);
+    }
+
+    private YearMonth currentMonth() {
+        return YearMonth.now(clock.withZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * Counters for one project.
+     */
+    private static final class ProjectUsage {
+
+        private volatile QuotaLimits limits;
+        private final LongAdder endUsers = new LongAdder();
+        private final MinuteWindow requests = new MinuteWindow();
+        private volatile ActiveUsers activeUsers;
+
+        private ProjectUsage(QuotaLimits limits, long endUsers, YearMonth month, Set<UserId> activeUsers) {
+            this.limits = limits;
+            this.endUsers.add(endUsers);
+            final var users = ConcurrentHashMap.<UserId>newKeySet();
+            users.addAll(activeUsers);
+            this.activeUsers = new ActiveUsers(month, users);
+        }
+
+        /**
+         * Returns the active user set for the month, starting an empty one when the month turns.
+         */
+        private Set<UserId> activeUsers(YearMonth month) {
+            final var current = activeUsers;
+            if (current.month().equals(month)) {
+                return current.users();
+            }
+            synchronized (this) {
+                if (!activeUsers.month().equals(month)) {
+                    activeUsers = new ActiveUsers(month, ConcurrentHashMap.newKeySet());
+                }
+                return activeUsers.users();
+            }
+        }
+    }
+
+    private record ActiveUsers(YearMonth month, Set<UserId> users) {
+    }
+
+    /**
+     * Fixed one-minute request window. Each minute gets a fresh counter, and a request
+     * is admitted only if its own increment stays within the limit, so concurrent
+     * requests cannot overshoot it. Requests racing a window change may land in
+     * either window, which only matters at the boundary.
+     */
+    private static final class MinuteWindow {
+
+        private volatile Window window = new Window(0, new AtomicLong());
+
+        private boolean tryAcquire(long currentMinute, long limit) {
+            if (limit <= 0) {
+                return true;
+            }
+            var current = window;
+            if (current.minute() != currentMinute) {
+                current = roll(currentMinute);
+            }
+            return current.count().incrementAndGet() <= limit;
+        }
+
+        private synchronized Window roll(long currentMinute) {
+            if (currentMinute > window.minute()) {
+                window = new Window(currentMinute, new AtomicLong());
+            }
+            return window;
+        }
+    }
+
+    private record Window(long minute, AtomicLong count) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.api.infrastructure.quota;
+
+import com.example.api.domain.quota.QuotaLimits;
+import com.example.api.domain.subscription.SubscriptionPlan;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for plan-driven per-project quotas.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.quotas")
+public class QuotaProperties {
+
+    private boolean enabled = true;
+    private SubscriptionPlan defaultPlan = SubscriptionPlan.BASIC;
+    private Map<String, SubscriptionPlan> organizationPlans = new HashMap<>();
+    private Plan basic = new Plan(10_000, 5_000, 1_200);
+    private Plan pro = new Plan(1_000_000, 250_000, 12_000);
+    private Duration snapshotInterval = Duration.ofSeconds(30);
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+    private int retainedMonths = 3;
+
+    public QuotaLimits limitsFor(SubscriptionPlan plan) {
+        final var limits = switch (plan) {
+            case BASIC -> basic;
+            case PRO -> pro;
+        };
+        return new QuotaLimits(
+                limits.getMaxEndUsers(),
+                limits.getMaxMonthlyActiveUsers(),
+                limits.getSdkRequestsPerMinute());
+    }
+
+    public SubscriptionPlan planFor(String organizationId) {
+        return organizationPlans.getOrDefault(organizationId, defaultPlan);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public SubscriptionPlan getDefaultPlan() {
+        return defaultPlan;
+    }
+
+    public void setDefaultPlan(SubscriptionPlan defaultPlan) {
+        this.defaultPlan = defaultPlan;
+    }
+
+    public Map<String, SubscriptionPlan> getOrganizationPlans() {
+        return organizationPlans;
+    }
+
+    public void setOrganizationPlans(Map<String, SubscriptionPlan> organizationPlans) {
+        this.organizationPlans = organizationPlans;
+    }
+
+    public Plan getBasic() {
+        return basic;
+    }
+
+    public void setBasic(Plan basic) {
+        this.basic = basic;
+    }
+
+    public Plan getPro() {
+        return pro;
+    }
+
+    public void setPro(Plan pro) {
+        this.pro = pro;
+    }
+
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(Duration snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public Duration getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    public void setReconcileInterval(Duration reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    public int getRetainedMonths() {
+        return retainedMonths;
+    }
+
+    public void setRetainedMonths(int retainedMonths) {
+        this.retainedMonths = retainedMonths;
+    }
+
+    /**
+     * Limits for one subscription plan. Zero means unlimited.
+     */
+    public static class Plan {
+
+        private long maxEndUsers;
+        private long maxMonthlyActiveUsers;
+        private long sdkRequestsPerMinute;
+
+        public Plan() {
+        }
+
+        public Plan(long maxEndUsers, long maxMonthlyActiveUsers, long sdkRequestsPerMinute) {
+            this.maxEndUsers = maxEndUsers;
+            this.maxMonthlyActiveUsers = maxMonthlyActiveUsers;
+            this.sdkRequestsPerMinute = sdkRequestsPerMinute;
+        }
+
+        public long getMaxEndUsers() {
+            return maxEndUsers;
+        }
+
+        public void setMaxEndUsers(long maxEndUsers) {
+            this.maxEndUsers = maxEndUsers;
+        }
+
+        public long getMaxMonthlyActiveUsers() {
+            return maxMonthlyActiveUsers;
+        }
+
+        public void setMaxMonthlyActiveUsers(long maxMonthlyActiveUsers) {
+            this.maxMonthlyActiveUsers = maxMonthlyActiveUsers;
+        }
+
+        public long getSdkRequestsPerMinute() {
+            return sdkRequestsPerMinute;
+        }
+
+        public void setSdkRequestsPerMinute(long sdkRequestsPerMinute) {
+            this.sdkRequestsPerMinute = sdkRequestsPerMinute;
+        }
+    }
+}
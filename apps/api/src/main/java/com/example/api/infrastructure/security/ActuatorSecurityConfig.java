@@ -0,0 +1,44 @@
+package com.example.api.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * Security for actuator endpoints, kept apart from the user-facing auth flows.
+ *
+ * <p>Health is public; everything else (including the Prometheus scrape) requires
+ * the metrics scrape token. Actuator is served on the management port.</p>
+ */
+@Configuration
+public class ActuatorSecurityConfig {
+
+    private final String scrapeToken;
+
+    public ActuatorSecurityConfig(@Value("${app.metrics.scrape-token:}") String scrapeToken) {
+        this.scrapeToken = scrapeToken;
+    }
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().hasAuthority(MetricsScrapeAuthenticationFilter.SCRAPE_AUTHORITY)
+                )
+                .addFilterBefore(new MetricsScrapeAuthenticationFilter(scrapeToken),
+                        UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
@@ -2,10 +2,16 @@ package com.example.api.infrastructure.security;
 
 import com.example.api.domain.apikey.ApiKey;
 import com.example.api.domain.apikey.ApiKeyRepository;
+import com.example.api.domain.quota.ProjectQuotas;
+import com.example.api.infrastructure.bulkhead.TenantBulkheads;
+import com.example.api.infrastructure.metrics.AuthMetrics;
+import com.example.api.infrastructure.metrics.AuthMetrics.ApiKeyOutcome;
+import com.example.api.infrastructure.web.PreEncodedError;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,6 +25,8 @@ import java.util.Base64;
 /**
  * API key authentication filter for SDK endpoints.
  * Validates X-API-Key header and resolves project/environment context.
+ * Also charges each SDK request to the project's per-minute quota and holds
+ * one of the project's bulkhead permits while the request runs.
  * 
  * <p>This filter enforces that SDK routes (both auth and end-user endpoints)
  * require a valid, non-revoked API key. Revoked keys are rejected with 401.
@@ -30,23 +38,48 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
     private static final String API_KEY_HEADER = "X-API-Key";
     private static final String PROJECT_CONTEXT_ATTR = "projectContext";
 
+    private static final PreEncodedError MISSING_API_KEY =
+            PreEncodedError.errorField(HttpServletResponse.SC_UNAUTHORIZED, "X-API-Key header is required");
+    private static final PreEncodedError INVALID_API_KEY =
+            PreEncodedError.errorField(HttpServletResponse.SC_UNAUTHORIZED, "Invalid API key");
+    private static final PreEncodedError REVOKED_API_KEY =
+            PreEncodedError.errorField(HttpServletResponse.SC_UNAUTHORIZED, "API key has been revoked");
+    private static final PreEncodedError SDK_REQUEST_QUOTA_EXCEEDED =
+            PreEncodedError.errorField(HttpStatus.TOO_MANY_REQUESTS.value(), "Project quota exceeded: too many SDK requests this minute");
+    private static final PreEncodedError PROJECT_BUSY =
+            PreEncodedError.errorField(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many concurrent requests for this project, retry later");
+    private static final PreEncodedError API_KEY_ERROR =
+            PreEncodedError.errorField(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Error processing API key");
+
     private final ApiKeyRepository apiKeyRepository;
+    private final AuthMetrics authMetrics;
+    private final ProjectQuotas projectQuotas;
+    private final TenantBulkheads tenantBulkheads;
 
-    public ApiKeyAuthenticationFilter(ApiKeyRepository apiKeyRepository) {
+    public ApiKeyAuthenticationFilter(ApiKeyRepository apiKeyRepository,
+                                      AuthMetrics authMetrics,
+                                      ProjectQuotas projectQuotas,
+                                      TenantBulkheads tenantBulkheads) {
         this.apiKeyRepository = apiKeyRepository;
+        this.authMetrics = authMetrics;
+        this.projectQuotas = projectQuotas;
+        this.tenantBulkheads = tenantBulkheads;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        final var start = System.nanoTime();
+        var entered = false;
         try {
             final var apiKey = request.getHeader(API_KEY_HEADER);
             
             // SDK routes require API key
             if (isSdkRoute(request.getRequestURI())) {
                 if (apiKey == null || apiKey.isBlank()) {
-                    sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "X-API-Key header is required");
+                    authMetrics.recordApiKeyResolution(ApiKeyOutcome.MISSING, System.nanoTime() - start);
+                    sendError(response, MISSING_API_KEY);
                     return;
                 }
                 
@@ -54,29 +87,56 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
                 final var apiKeyOpt = apiKeyRepository.findByKeyHash(keyHash);
 
                 if (apiKeyOpt.isEmpty()) {
-                    sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid API key");
+                    authMetrics.recordApiKeyResolution(ApiKeyOutcome.MISS, System.nanoTime() - start);
+                    sendError(response, INVALID_API_KEY);
                     return;
                 }
                 
                 final var key = apiKeyOpt.get();
                 if (key.isRevoked()) {
-                    sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "API key has been revoked");
+                    authMetrics.recordApiKeyResolution(ApiKeyOutcome.REVOKED, System.nanoTime() - start);
+                    sendError(response, REVOKED_API_KEY);
                     return;
                 }
                 
                 // Valid key - set project context
                 final var context = new ProjectContext(key.getProjectId(), key.getEnvironmentId());
                 request.setAttribute(PROJECT_CONTEXT_ATTR, context);
+                authMetrics.recordApiKeyResolution(ApiKeyOutcome.HIT, System.nanoTime() - start);
+
+                // Enter the bulkhead first, so a request turned away as busy is not charged to the quota
+                if (!tenantBulkheads.tryEnter(key.getProjectId())) {
+                    response.setHeader("Retry-After", "1");
+                    sendError(response, PROJECT_BUSY);
+                    return;
+                }
+                entered = true;
+
+                if (!projectQuotas.tryAcquireSdkRequest(key.getProjectId())) {
+                    tenantBulkheads.exit();
+                    entered = false;
+                    // The request window resets at the start of the next minute
+                    response.setHeader("Retry-After", String.valueOf(60 - (System.currentTimeMillis() / 1000) % 60));
+                    sendError(response, SDK_REQUEST_QUOTA_EXCEEDED);
+                    return;
+                }
             }
         } catch (Exception e) {
+            if (entered) {
+                tenantBulkheads.exit();
+            }
+            authMetrics.recordApiKeyResolution(ApiKeyOutcome.ERROR, System.nanoTime() - start);
             logger.error("Error processing API key", e);
-            sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Error processing API key");
+            sendError(response, API_KEY_ERROR);
             return;
         }
         
         try {
             filterChain.doFilter(request, response);
         } finally {
+            if (entered) {
+                tenantBulkheads.exit();
+            }
             // Clear context after request processing
             request.removeAttribute(PROJECT_CONTEXT_ATTR);
         }
@@ -101,13 +161,11 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Sends an error response and logs the rejection.
      */
-    private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+    private void sendError(HttpServletResponse response, PreEncodedError error) throws IOException {
         if (logger.isDebugEnabled()) {
-            logger.debug("API Key validation failed: " + message);
+            logger.debug("API Key validation failed: " + error.getMessage());
         }
-        response.setStatus(status);
-        response.setContentType("application/json");
-        response.getWriter().write("{\"error\":\"" + message + "\"}");
+        error.writeTo(response);
     }
 
     private String hashApiKey(String apiKey) {
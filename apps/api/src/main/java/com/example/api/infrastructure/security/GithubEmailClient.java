@@ -1,18 +1,36 @@
 package com.example.api.infrastructure.security;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Fetches verified primary email for GitHub OAuth users.
+ *
+ * <p>The lookup runs on the OAuth callback request, so it is bounded: connect
+ * and read timeouts cap a single call, and a circuit breaker stops calling
+ * GitHub for a while after repeated failures so later logins fail fast instead
+ * of each waiting out the timeout. Resolved emails are cached per GitHub user
+ * id for a short time, which also lets returning users log in while the circuit
+ * is open. Any failure yields an empty result.</p>
  */
 @Component
 public class GithubEmailClient {
@@ -21,41 +39,135 @@ public class GithubEmailClient {
     private static final String EMAILS_PATH = "/user/emails";
 
     private final RestClient restClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache<String, String> emailsByUserId;
+    private final Timer requests;
+    private final Counter cached;
+    private final Counter found;
+    private final Counter notFound;
+    private final Counter failed;
+    private final Counter rejected;
 
-    public GithubEmailClient(RestClient.Builder builder) {
+    @Autowired
+    public GithubEmailClient(ObjectProvider<RestClient.Builder> builder,
+                             GithubEmailProperties properties,
+                             MeterRegistry registry) {
+        this(builder.getIfAvailable(RestClient::builder), properties, registry, Clock.systemUTC());
+    }
+
+    GithubEmailClient(RestClient.Builder builder, GithubEmailProperties properties, MeterRegistry registry, Clock clock) {
+        // The JDK client keeps connections to api.github.com alive between logins
+        final var httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        final var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
         this.restClient = builder
-                .baseUrl("https://api.github.com")
+                .baseUrl(properties.getBaseUrl())
+                .requestFactory(requestFactory)
                 .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github+json")
                 .defaultHeader(HttpHeaders.USER_AGENT, "openagents-cloud")
                 .build();
+        this.circuitBreaker = new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration(), clock);
+        this.emailsByUserId = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaximumSize())
+                .build();
+        this.requests = Timer.builder("github.email.requests")
+                .description("Calls to the GitHub emails API, including timeouts")
+                .register(registry);
+        this.cached = lookups(registry, "cached");
+        this.found = lookups(registry, "found");
+        this.notFound = lookups(registry, "not_found");
+        this.failed = lookups(registry, "failed");
+        this.rejected = lookups(registry, "rejected");
+        Gauge.builder("github.email.circuit.open", circuitBreaker,
+                        breaker -> breaker.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while GitHub email lookups are being short-circuited")
+                .register(registry);
     }
 
-    public Optional<String> fetchPrimaryEmail(String accessToken) {
+    /**
+     * Returns the verified primary email of GitHub user {@code githubUserId},
+     * using {@code accessToken} to ask GitHub when it is not cached.
+     */
+    public Optional<String> fetchPrimaryEmail(String githubUserId, String accessToken) {
         if (accessToken == null || accessToken.isBlank()) {
             return Optional.empty();
         }
+        final var cachedEmail = githubUserId == null ? null : emailsByUserId.getIfPresent(githubUserId);
+        if (cachedEmail != null) {
+            cached.increment();
+            return Optional.of(cachedEmail);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            rejected.increment();
+            log.debug("GitHub email lookup skipped while the circuit is open");
+            return Optional.empty();
+        }
 
+        // Reported in finally so an Error cannot leave the trial call holding the circuit half-open
+        var reachedGithub = false;
+        final Optional<String> email;
         try {
-            final var emails = restClient.get()
-                    .uri(EMAILS_PATH)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .body(EmailRecord[].class);
-
-            if (emails == null) {
-                return Optional.empty();
-            }
-
-            return List.of(emails).stream()
-                    .filter(EmailRecord::primary)
-                    .filter(EmailRecord::verified)
-                    .map(EmailRecord::email)
-                    .findFirst();
+            email = requests.record(() -> request(accessToken));
+            reachedGithub = true;
+        } catch (HttpClientErrorException ex) {
+            // GitHub answered; the token or scope was the problem unless it is rate limiting us
+            reachedGithub = !(ex instanceof HttpClientErrorException.TooManyRequests);
+            failed.increment();
+            log.warn("GitHub email lookup rejected with {}", ex.getStatusCode());
+            return Optional.empty();
         } catch (RuntimeException ex) {
+            failed.increment();
             log.warn("GitHub email lookup failed", ex);
             return Optional.empty();
+        } finally {
+            if (reachedGithub) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+
+        if (email.isEmpty()) {
+            notFound.increment();
+            return email;
+        }
+        found.increment();
+        if (githubUserId != null) {
+            emailsByUserId.put(githubUserId, email.get());
+        }
+        return email;
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private Optional<String> request(String accessToken) {
+        final var emails = restClient.get()
+                .uri(EMAILS_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .body(EmailRecord[].class);
+
+        if (emails == null) {
+            return Optional.empty();
         }
+
+        return List.of(emails).stream()
+                .filter(EmailRecord::primary)
+                .filter(EmailRecord::verified)
+                .map(EmailRecord::email)
+                .findFirst();
+    }
+
+    private static Counter lookups(MeterRegistry registry, String outcome) {
+        return Counter.builder("github.email.lookups")
+                .tag("outcome", outcome)
+                .register(registry);
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
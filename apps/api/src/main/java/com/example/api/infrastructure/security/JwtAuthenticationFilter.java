@@ -3,6 +3,7 @@ package com.example.api.infrastructure.security;
 import com.example.api.application.auth.TokenProvider;
 import com.example.api.domain.user.UserId;
 import com.example.api.domain.user.UserRepository;
+import com.example.api.infrastructure.metrics.AuthMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,13 +30,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
     private final UserRepository userRepository;
     private final AuthCookieService authCookieService;
+    private final AuthMetrics authMetrics;
 
     public JwtAuthenticationFilter(TokenProvider tokenProvider,
                                    UserRepository userRepository,
-                                   AuthCookieService authCookieService) {
+                                   AuthCookieService authCookieService,
+                                   AuthMetrics authMetrics) {
         this.tokenProvider = tokenProvider;
         this.userRepository = userRepository;
         this.authCookieService = authCookieService;
+        this.authMetrics = authMetrics;
     }
 
     @Override
@@ -44,7 +48,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         final var token = extractToken(request);
 
-        if (token != null && tokenProvider.validateAccessToken(token)) {
+        if (token != null && verify(token)) {
             final var userId = tokenProvider.getUserIdFromToken(token);
 
             userRepository.findById(UserId.of(userId)).ifPresent(user -> {
@@ -66,6 +70,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean verify(String token) {
+        final var start = System.nanoTime();
+        final var valid = tokenProvider.validateAccessToken(token);
+        authMetrics.recordJwtVerification(AuthMetrics.TokenType.USER, valid, System.nanoTime() - start);
+        return valid;
+    }
+
     private String extractToken(HttpServletRequest request) {
         final var header = request.getHeader(AUTHORIZATION_HEADER);
         if (header != null && header.startsWith(BEARER_PREFIX)) {
@@ -0,0 +1,52 @@
+package com.example.api.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authenticates metrics scrapers by a static bearer token.
+ *
+ * <p>Deliberately independent of the user, org and platform JWTs so scrape
+ * credentials can be rotated without touching user-facing auth. An empty token
+ * disables scraping.</p>
+ */
+public class MetricsScrapeAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String SCRAPE_AUTHORITY = "METRICS_SCRAPE";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] expectedToken;
+
+    public MetricsScrapeAuthenticationFilter(String scrapeToken) {
+        this.expectedToken = scrapeToken == null ? new byte[0] : scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        final var header = request.getHeader("Authorization");
+        if (expectedToken.length > 0 && header != null && header.startsWith(BEARER_PREFIX)) {
+            final var presented = header.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+            if (MessageDigest.isEqual(expectedToken, presented)) {
+                final var authentication = new UsernamePasswordAuthenticationToken(
+                        "metrics-scraper", null, List.of(new SimpleGrantedAuthority(SCRAPE_AUTHORITY))
+                );
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -76,7 +76,7 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
         final var client = authorizedClientService.loadAuthorizedClient(registrationId, oauthToken.getName());
         if (client != null && client.getAccessToken() != null) {
             final var token = client.getAccessToken().getTokenValue();
-            final var email = githubEmailClient.fetchPrimaryEmail(token).orElse(null);
+            final var email = githubEmailClient.fetchPrimaryEmail(oauthToken.getName(), token).orElse(null);
             if (email != null && !email.isBlank()) {
                 return email;
             }
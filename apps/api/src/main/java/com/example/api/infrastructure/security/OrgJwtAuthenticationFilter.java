@@ -2,6 +2,8 @@ package com.example.api.infrastructure.security;
 
 import com.example.api.domain.organization.OrganizationMemberId;
 import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.infrastructure.metrics.AuthMetrics;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -35,13 +37,16 @@ public class OrgJwtAuthenticationFilter extends OncePerRequestFilter {
     private final OrganizationMemberRepository memberRepository;
     private final String secret;
     private final String cookieName;
+    private final AuthMetrics authMetrics;
 
     public OrgJwtAuthenticationFilter(OrganizationMemberRepository memberRepository,
                                       @Value("${jwt.secret}") String secret,
-                                      @Value("${app.org.auth.cookie-name:org_access_token}") String cookieName) {
+                                      @Value("${app.org.auth.cookie-name:org_access_token}") String cookieName,
+                                      AuthMetrics authMetrics) {
         this.memberRepository = memberRepository;
         this.secret = secret;
         this.cookieName = cookieName;
+        this.authMetrics = authMetrics;
     }
 
     @Override
@@ -51,15 +56,9 @@ public class OrgJwtAuthenticationFilter extends OncePerRequestFilter {
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
             final var token = extractToken(request);
             if (token != null) {
-                try {
-                    final var claims = Jwts.parser()
-                            .verifyWith(secretKey())
-                            .build()
-                            .parseSignedClaims(token)
-                            .getPayload();
-                    if ("org".equals(claims.get("type"))
-                            && claims.getExpiration() != null
-                            && claims.getExpiration().after(new Date())) {
+                final var claims = verify(token);
+                if (claims != null) {
+                    try {
                         final var memberId = claims.getSubject();
                         memberRepository.findById(OrganizationMemberId.of(memberId)).ifPresent(member -> {
                             final var authority = new SimpleGrantedAuthority("ROLE_" + member.getRole().name());
@@ -69,9 +68,9 @@ public class OrgJwtAuthenticationFilter extends OncePerRequestFilter {
                             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                             SecurityContextHolder.getContext().setAuthentication(authentication);
                         });
+                    } catch (IllegalArgumentException ignored) {
+                        // Invalid subject, continue without authentication
                     }
-                } catch (JwtException | IllegalArgumentException ignored) {
-                    // Invalid token, continue without authentication
                 }
             }
         }
@@ -79,6 +78,26 @@ public class OrgJwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Claims verify(String token) {
+        final var start = System.nanoTime();
+        var valid = false;
+        try {
+            final var claims = Jwts.parser()
+                    .verifyWith(secretKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            valid = "org".equals(claims.get("type"))
+                    && claims.getExpiration() != null
+                    && claims.getExpiration().after(new Date());
+            return valid ? claims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        } finally {
+            authMetrics.recordJwtVerification(AuthMetrics.TokenType.ORG, valid, System.nanoTime() - start);
+        }
+    }
+
     private String extractToken(HttpServletRequest request) {
         final var header = request.getHeader(AUTHORIZATION_HEADER);
         if (header != null && header.startsWith(BEARER_PREFIX)) {
@@ -1,29 +1,77 @@
 package com.example.api.infrastructure.security;
 
 import com.example.api.domain.user.PasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * BCrypt adapter implementing the domain {@link PasswordEncoder} port.
+ *
+ * <p>BCrypt is CPU-bound, so the number of concurrent hashes is capped (by default
+ * at the number of available processors). With virtual threads there is no
+ * request pool to bound it, and unbounded hashing would starve the carriers.</p>
  */
 @Component
 public class PasswordEncoderAdapter implements PasswordEncoder {
 
     private final BCryptPasswordEncoder bcrypt;
+    private final Semaphore permits;
+    private final Timer permitWait;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
 
-    public PasswordEncoderAdapter(BCryptPasswordEncoder bcrypt) {
+    public PasswordEncoderAdapter(BCryptPasswordEncoder bcrypt,
+                                  @Value("${app.auth.hashing.max-concurrent:0}") int maxConcurrent,
+                                  MeterRegistry meterRegistry) {
         this.bcrypt = bcrypt;
+        this.permits = new Semaphore(
+                maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors(),
+                true
+        );
+        this.permitWait = Timer.builder("auth.password.permit.wait")
+                .description("Time spent waiting for a password hashing slot")
+                .register(meterRegistry);
+        this.encodeTimer = hashingTimer(meterRegistry, "encode");
+        this.matchesTimer = hashingTimer(meterRegistry, "matches");
     }
 
     @Override
     public String encode(String rawPassword) {
-        return bcrypt.encode(rawPassword);
+        return bounded(encodeTimer, () -> bcrypt.encode(rawPassword));
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return bcrypt.matches(rawPassword, encodedPassword);
+        return bounded(matchesTimer, () -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T bounded(Timer timer, Supplier<T> hashing) {
+        final var waitStart = System.nanoTime();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to hash password", e);
+        }
+        permitWait.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        try {
+            return timer.record(hashing);
+        } finally {
+            permits.release();
+        }
     }
 
+    private static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hashing")
+                .description("BCrypt hashing duration, excluding time waiting for a slot")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
 }
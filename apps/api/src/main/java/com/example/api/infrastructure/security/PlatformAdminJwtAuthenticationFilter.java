@@ -2,6 +2,8 @@ package com.example.api.infrastructure.security;
 
 import com.example.api.domain.platformadmin.PlatformAdminId;
 import com.example.api.domain.platformadmin.PlatformAdminRepository;
+import com.example.api.infrastructure.metrics.AuthMetrics;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -34,11 +36,14 @@ public class PlatformAdminJwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final PlatformAdminRepository platformAdminRepository;
     private final String secret;
+    private final AuthMetrics authMetrics;
 
     public PlatformAdminJwtAuthenticationFilter(PlatformAdminRepository platformAdminRepository,
-                                                 @Value("${jwt.secret}") String secret) {
+                                                 @Value("${jwt.secret}") String secret,
+                                                 AuthMetrics authMetrics) {
         this.platformAdminRepository = platformAdminRepository;
         this.secret = secret;
+        this.authMetrics = authMetrics;
     }
 
     @Override
@@ -48,15 +53,9 @@ public class PlatformAdminJwtAuthenticationFilter extends OncePerRequestFilter {
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
             final var token = extractToken(request);
             if (token != null) {
-                try {
-                    final var claims = Jwts.parser()
-                            .verifyWith(secretKey())
-                            .build()
-                            .parseSignedClaims(token)
-                            .getPayload();
-                    if ("platform".equals(claims.get("type"))
-                            && claims.getExpiration() != null
-                            && claims.getExpiration().after(new Date())) {
+                final var claims = verify(token);
+                if (claims != null) {
+                    try {
                         final var adminId = claims.getSubject();
                         platformAdminRepository.findById(PlatformAdminId.of(adminId)).ifPresent(admin -> {
                             // Only authenticate if admin is active
@@ -69,9 +68,9 @@ public class PlatformAdminJwtAuthenticationFilter extends OncePerRequestFilter {
                                 SecurityContextHolder.getContext().setAuthentication(authentication);
                             }
                         });
+                    } catch (IllegalArgumentException ignored) {
+                        // Invalid subject, continue without authentication
                     }
-                } catch (JwtException | IllegalArgumentException ignored) {
-                    // Invalid token, continue without authentication
                 }
             }
         }
@@ -79,6 +78,26 @@ public class PlatformAdminJwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Claims verify(String token) {
+        final var start = System.nanoTime();
+        var valid = false;
+        try {
+            final var claims = Jwts.parser()
+                    .verifyWith(secretKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            valid = "platform".equals(claims.get("type"))
+                    && claims.getExpiration() != null
+                    && claims.getExpiration().after(new Date());
+            return valid ? claims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        } finally {
+            authMetrics.recordJwtVerification(AuthMetrics.TokenType.PLATFORM, valid, System.nanoTime() - start);
+        }
+    }
+
     private String extractToken(HttpServletRequest request) {
         final var header = request.getHeader(AUTHORIZATION_HEADER);
         if (header != null && header.startsWith(BEARER_PREFIX)) {
@@ -85,7 +85,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
+    public static BCryptPasswordEncoder bCryptPasswordEncoder() {
         return new BCryptPasswordEncoder();
     }
 
@@ -106,7 +106,9 @@ public class SecurityConfig {
                 HttpMethod.DELETE.name(),
                 HttpMethod.OPTIONS.name()
         ));
-        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-API-Key"));
+        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-API-Key", "If-None-Match"));
+        // Lets the SPA read ETags for conditional polling of profile and project reads
+        config.setExposedHeaders(List.of("ETag"));
         config.setAllowCredentials(true);
 
         final var source = new UrlBasedCorsConfigurationSource();
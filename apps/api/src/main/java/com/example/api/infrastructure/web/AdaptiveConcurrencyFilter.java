@@ -0,0 +1,58 @@
+package com.example.api.infrastructure.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds load with an immediate 503 when a traffic class is at its concurrency limit.
+ *
+ * <p>Runs ahead of the security chain so rejected requests cost no API key or
+ * JWT validation. Latency is measured for the initial dispatch only; streamed
+ * responses release their slot when the handler returns.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final PreEncodedError OVERLOADED =
+            PreEncodedError.errorField(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is overloaded, retry later");
+
+    private final ConcurrencyLimiters limiters;
+
+    public AdaptiveConcurrencyFilter(ConcurrencyLimiters limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        final var trafficClass = TrafficClass.classify(request.getRequestURI());
+        if (!limiters.isEnabled() || trafficClass.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final var limit = limiters.get(trafficClass.get());
+        if (!limit.tryAcquire()) {
+            response.setHeader("Retry-After", "1");
+            OVERLOADED.writeTo(response);
+            return;
+        }
+
+        final var start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+}
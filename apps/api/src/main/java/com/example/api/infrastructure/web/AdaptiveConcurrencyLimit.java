@@ -0,0 +1,104 @@
+package com.example.api.infrastructure.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency-driven concurrency limit using a gradient algorithm.
+ *
+ * <p>Each completed request compares its latency with a long-term moving average.
+ * While latency stays within {@code tolerance} of that average, the limit grows
+ * by roughly the square root of itself. When latency rises, the limit shrinks in
+ * proportion, never by more than half per sample. Growth is skipped while less
+ * than half the limit is in use, so an idle service does not drift to the maximum.</p>
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final int LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min <= max");
+        }
+        if (tolerance < 1.0) {
+            throw new IllegalArgumentException("Latency tolerance must be at least 1.0");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Reserves a slot, or records a rejection when the limit is reached.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            final var current = inflight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot acquired by {@link #tryAcquire()} and feeds the request's
+     * latency into the limit.
+     */
+    public void release(long latencyNanos) {
+        final var inflightBefore = inflight.getAndDecrement();
+        onSample(Math.max(1, latencyNanos), inflightBefore);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        }
+        // Once a latency spike has passed, pull the baseline back down quickly
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        final var gradient = Math.clamp(tolerance * longRttNanos / rttNanos, 0.5, 1.0);
+        if (gradient >= 1.0 && inflightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        final var target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        final var smoothed = estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING;
+        estimatedLimit = Math.clamp(smoothed, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+}
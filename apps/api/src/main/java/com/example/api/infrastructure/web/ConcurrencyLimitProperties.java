@@ -0,0 +1,119 @@
+package com.example.api.infrastructure.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the adaptive per-class concurrency limits.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limits")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private double latencyTolerance = 2.0;
+    private Limit sdkAuth = new Limit(20, 4, 200);
+    private Limit sdkRead = new Limit(50, 10, 500);
+    private Limit orgDashboard = new Limit(40, 5, 400);
+    private Limit platformAdmin = new Limit(10, 2, 50);
+
+    public Limit forClass(TrafficClass trafficClass) {
+        return switch (trafficClass) {
+            case SDK_AUTH -> sdkAuth;
+            case SDK_READ -> sdkRead;
+            case ORG_DASHBOARD -> orgDashboard;
+            case PLATFORM_ADMIN -> platformAdmin;
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public Limit getSdkAuth() {
+        return sdkAuth;
+    }
+
+    public void setSdkAuth(Limit sdkAuth) {
+        this.sdkAuth = sdkAuth;
+    }
+
+    public Limit getSdkRead() {
+        return sdkRead;
+    }
+
+    public void setSdkRead(Limit sdkRead) {
+        this.sdkRead = sdkRead;
+    }
+
+    public Limit getOrgDashboard() {
+        return orgDashboard;
+    }
+
+    public void setOrgDashboard(Limit orgDashboard) {
+        this.orgDashboard = orgDashboard;
+    }
+
+    public Limit getPlatformAdmin() {
+        return platformAdmin;
+    }
+
+    public void setPlatformAdmin(Limit platformAdmin) {
+        this.platformAdmin = platformAdmin;
+    }
+
+    /**
+     * Initial, minimum and maximum concurrent requests for one traffic class.
+     */
+    public static class Limit {
+
+        private int initial;
+        private int min;
+        private int max;
+
+        public Limit() {
+        }
+
+        public Limit(int initial, int min, int max) {
+            this.initial = initial;
+            this.min = min;
+            this.max = max;
+        }
+
+        public int getInitial() {
+            return initial;
+        }
+
+        public void setInitial(int initial) {
+            this.initial = initial;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public void setMin(int min) {
+            this.min = min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public void setMax(int max) {
+            this.max = max;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.api.infrastructure.web;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds one {@link AdaptiveConcurrencyLimit} per {@link TrafficClass}.
+ */
+@Component
+public class ConcurrencyLimiters {
+
+    private final boolean enabled;
+    private final Map<TrafficClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(TrafficClass.class);
+
+    public ConcurrencyLimiters(ConcurrencyLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        for (final var trafficClass : TrafficClass.values()) {
+            final var limit = properties.forClass(trafficClass);
+            limits.put(trafficClass, new AdaptiveConcurrencyLimit(
+                    limit.getInitial(),
+                    limit.getMin(),
+                    limit.getMax(),
+                    properties.getLatencyTolerance()
+            ));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AdaptiveConcurrencyLimit get(TrafficClass trafficClass) {
+        return limits.get(trafficClass);
+    }
+
+    public List<Snapshot> snapshot() {
+        return Arrays.stream(TrafficClass.values())
+                .map(trafficClass -> {
+                    final var limit = limits.get(trafficClass);
+                    return new Snapshot(trafficClass, limit.getLimit(), limit.getInflight(), limit.getRejected());
+                })
+                .toList();
+    }
+
+    public record Snapshot(TrafficClass trafficClass, int limit, int inflight, long rejected) {
+    }
+}
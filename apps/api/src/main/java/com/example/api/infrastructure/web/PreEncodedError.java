@@ -0,0 +1,99 @@
+package com.example.api.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Error response whose JSON body is encoded to UTF-8 bytes once, up front.
+ *
+ * <p>Used for the responses an attacker can trigger at will (rejected logins, bad API
+ * keys, load shedding), which then skip message conversion and per-request string
+ * building. Two shapes are supported: {@link #apiError} matches the {@code ApiError}
+ * body from {@code GlobalExceptionHandler}, with only the timestamp filled in per
+ * response, and {@link #errorField} is the fixed {@code {"error": ...}} body the
+ * servlet filters send.</p>
+ */
+public final class PreEncodedError {
+
+    private static final byte[] TIMESTAMP_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final int status;
+    private final String message;
+    private final byte[] body;
+    private final boolean timestamped;
+
+    private PreEncodedError(int status, String message, String body, boolean timestamped) {
+        this.status = status;
+        this.message = message;
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+        this.timestamped = timestamped;
+    }
+
+    /**
+     * {@code {"status":..,"message":"..","timestamp":".."}}, as Jackson writes {@code ApiError}.
+     */
+    public static PreEncodedError apiError(int status, String message) {
+        return new PreEncodedError(status, message,
+                "{\"status\":" + status + ",\"message\":\"" + escape(message) + "\",\"timestamp\":\"", true);
+    }
+
+    /**
+     * {@code {"error":".."}}.
+     */
+    public static PreEncodedError errorField(int status, String message) {
+        return new PreEncodedError(status, message, "{\"error\":\"" + escape(message) + "\"}", false);
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets status and content headers and writes the body straight to the output stream.
+     */
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        final var output = response.getOutputStream();
+        if (timestamped) {
+            // Instant.toString() is ISO-8601 UTC, the same form Jackson writes
+            final var timestamp = Instant.now().toString().getBytes(StandardCharsets.US_ASCII);
+            response.setContentLength(body.length + timestamp.length + TIMESTAMP_SUFFIX.length);
+            output.write(body);
+            output.write(timestamp);
+            output.write(TIMESTAMP_SUFFIX);
+        } else {
+            response.setContentLength(body.length);
+            output.write(body);
+        }
+    }
+
+    private static String escape(String value) {
+        final var escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
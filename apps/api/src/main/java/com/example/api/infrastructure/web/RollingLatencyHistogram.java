@@ -0,0 +1,75 @@
+package com.example.api.infrastructure.web;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram over a sliding window of fixed-length slices.
+ *
+ * <p>Writers record into an HdrHistogram {@link Recorder}, which is wait-free.
+ * {@link #rotate()} moves everything recorded since the previous rotation into
+ * the oldest slice, so a snapshot covers the last {@code slices} rotations.
+ * Values are kept in microseconds with two significant digits.</p>
+ */
+public class RollingLatencyHistogram {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS, true);
+
+    // Guarded by this
+    private final Histogram[] slices;
+    private int next;
+    private int filled;
+
+    public RollingLatencyHistogram(int slices) {
+        if (slices < 1) {
+            throw new IllegalArgumentException("At least one slice required");
+        }
+        this.slices = new Histogram[slices];
+    }
+
+    public void record(long latencyNanos) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+    }
+
+    /**
+     * Closes the current slice, dropping the oldest one from the window.
+     *
+     * @return whether the window still holds any samples
+     */
+    public synchronized boolean rotate() {
+        final var recycled = slices[next];
+        slices[next] = recycled == null ? recorder.getIntervalHistogram() : recorder.getIntervalHistogram(recycled);
+        next = (next + 1) % slices.length;
+        filled = Math.min(filled + 1, slices.length);
+
+        for (final var slice : slices) {
+            if (slice != null && slice.getTotalCount() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merges the completed slices. Samples recorded since the last rotation are not included.
+     */
+    public synchronized Window snapshot() {
+        final var merged = new Histogram(SIGNIFICANT_DIGITS);
+        for (final var slice : slices) {
+            if (slice != null) {
+                merged.add(slice);
+            }
+        }
+        return new Window(merged, filled);
+    }
+
+    /**
+     * Merged histogram of the completed slices and how many slices it spans.
+     */
+    public record Window(Histogram histogram, int slices) {
+    }
+}
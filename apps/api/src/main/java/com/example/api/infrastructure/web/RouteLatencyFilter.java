@@ -0,0 +1,68 @@
+package com.example.api.infrastructure.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Records request latency, including authentication, into {@link RouteLatencyHistograms}.
+ *
+ * <p>The route template and project are only known once the request has been
+ * dispatched, so they are read back from request attributes after the chain
+ * returns. The project is set by {@link RouteLatencyProjectInterceptor}.
+ * Methods outside {@link HttpMethod#values()} are recorded as {@value #OTHER_METHOD}.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 110)
+public class RouteLatencyFilter extends OncePerRequestFilter {
+
+    static final String PROJECT_ATTRIBUTE = RouteLatencyFilter.class.getName() + ".project";
+    static final String UNMATCHED_ROUTE = "unmatched";
+    static final String OTHER_METHOD = "OTHER";
+
+    // The method is client input; anything non-standard would otherwise open a new series
+    private static final Set<String> KNOWN_METHODS = Arrays.stream(HttpMethod.values())
+            .map(HttpMethod::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final RouteLatencyHistograms histograms;
+
+    public RouteLatencyFilter(RouteLatencyHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        final var start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final var route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            histograms.record(
+                    KNOWN_METHODS.contains(request.getMethod()) ? request.getMethod() : OTHER_METHOD,
+                    route != null ? route.toString() : UNMATCHED_ROUTE,
+                    (String) request.getAttribute(PROJECT_ATTRIBUTE),
+                    System.nanoTime() - start
+            );
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !histograms.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+}
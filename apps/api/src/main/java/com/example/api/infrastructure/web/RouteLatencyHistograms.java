@@ -0,0 +1,161 @@
+package com.example.api.infrastructure.web;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolling latency histograms per route template, and per route and project.
+ *
+ * <p>Route-level series are bounded by the number of mapped routes. At most
+ * {@code app.route-latency.max-series} projects get their own series, however
+ * many routes each of them calls; once the cap is hit, new projects are folded
+ * into {@value #OTHER_PROJECTS}. Series with no samples left in the window are
+ * dropped on rotation, and a project stops counting against the cap once all
+ * of its series are gone.</p>
+ *
+ * <p>{@code app.route-latency.max-total-series} caps the number of series
+ * overall, as a backstop against keys built from client input. Samples for a
+ * new series are dropped while the cap is reached; concurrent first samples
+ * can overshoot it by at most one series per thread.</p>
+ */
+@Component
+public class RouteLatencyHistograms {
+
+    public static final String OTHER_PROJECTS = "other";
+
+    private final boolean enabled;
+    private final int slices;
+    private final long sliceMillis;
+    private final int maxSeries;
+    private final int maxTotalSeries;
+    private final Map<SeriesKey, RollingLatencyHistogram> series = new ConcurrentHashMap<>();
+    private final Set<String> projects = ConcurrentHashMap.newKeySet();
+
+    public RouteLatencyHistograms(RouteLatencyProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.slices = properties.getSlices();
+        this.sliceMillis = properties.getSlice().toMillis();
+        this.maxSeries = properties.getMaxSeries();
+        this.maxTotalSeries = properties.getMaxTotalSeries();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a request against its route and, when known, its project.
+     */
+    public void record(String method, String route, String projectId, long latencyNanos) {
+        recordInto(new SeriesKey(method, route, null), latencyNanos);
+        if (projectId != null) {
+            final var project = admit(projectId) ? projectId : OTHER_PROJECTS;
+            recordInto(new SeriesKey(method, route, project), latencyNanos);
+        }
+    }
+
+    private void recordInto(SeriesKey key, long latencyNanos) {
+        var histogram = series.get(key);
+        if (histogram == null) {
+            if (series.size() >= maxTotalSeries) {
+                return;
+            }
+            histogram = series.computeIfAbsent(key, ignored -> new RollingLatencyHistogram(slices));
+        }
+        histogram.record(latencyNanos);
+    }
+
+    private boolean admit(String projectId) {
+        if (projects.contains(projectId)) {
+            return true;
+        }
+        if (projects.size() >= maxSeries) {
+            return false;
+        }
+        projects.add(projectId);
+        return true;
+    }
+
+    @Scheduled(fixedRateString = "${app.route-latency.slice:PT10S}")
+    public void rotate() {
+        series.forEach((key, histogram) -> {
+            if (!histogram.rotate()) {
+                series.remove(key, histogram);
+            }
+        });
+        final var live = new HashSet<String>();
+        series.keySet().forEach(key -> live.add(key.projectId()));
+        projects.retainAll(live);
+    }
+
+    /**
+     * Returns route-level statistics, slowest p99 first.
+     */
+    public List<RouteStats> routes() {
+        return stats(null, false);
+    }
+
+    /**
+     * Returns per-project statistics, optionally for a single project, slowest p99 first.
+     */
+    public List<RouteStats> projects(String projectId) {
+        return stats(projectId, true);
+    }
+
+    private List<RouteStats> stats(String projectId, boolean perProject) {
+        return series.entrySet().stream()
+                .filter(entry -> perProject == (entry.getKey().projectId() != null))
+                .filter(entry -> projectId == null || projectId.equals(entry.getKey().projectId()))
+                .map(entry -> toStats(entry.getKey(), entry.getValue().snapshot()))
+                .filter(stats -> stats.count() > 0)
+                .sorted(Comparator.comparingDouble(RouteStats::p99Millis).reversed())
+                .toList();
+    }
+
+    private RouteStats toStats(SeriesKey key, RollingLatencyHistogram.Window window) {
+        final var histogram = window.histogram();
+        final var windowSeconds = window.slices() * sliceMillis / 1000.0;
+        final var count = histogram.getTotalCount();
+        return new RouteStats(
+                key.method(),
+                key.route(),
+                key.projectId(),
+                count,
+                windowSeconds > 0 ? count / windowSeconds : 0,
+                toMillis(histogram.getValueAtPercentile(50.0)),
+                toMillis(histogram.getValueAtPercentile(99.0)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue()),
+                windowSeconds
+        );
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private record SeriesKey(String method, String route, String projectId) {
+    }
+
+    /**
+     * Latency percentiles and throughput of one series over the rolling window.
+     */
+    public record RouteStats(String method,
+                             String route,
+                             String projectId,
+                             long count,
+                             double requestsPerSecond,
+                             double p50Millis,
+                             double p99Millis,
+                             double p999Millis,
+                             double maxMillis,
+                             double windowSeconds) {
+    }
+}
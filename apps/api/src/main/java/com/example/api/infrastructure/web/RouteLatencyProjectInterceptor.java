@@ -0,0 +1,47 @@
+package com.example.api.infrastructure.web;
+
+import com.example.api.infrastructure.security.ApiKeyAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Tags the request with its project for {@link RouteLatencyFilter}.
+ *
+ * <p>Only projects the caller has been authorized for are tagged, so a client
+ * cannot create series by sending made-up project ids. SDK requests take the
+ * project from the API key context, which exists only once the key has been
+ * validated and is cleared before the filter sees the response. Customer
+ * routes take it from the {@code projectId} path variable, but only once the
+ * handler has completed without an error: the use cases reject unknown projects
+ * and projects outside the caller's organization.</p>
+ */
+public class RouteLatencyProjectInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var context = ApiKeyAuthenticationFilter.getContext(request);
+        if (context != null) {
+            request.setAttribute(RouteLatencyFilter.PROJECT_ATTRIBUTE, context.projectId().value());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Object handler,
+                                Exception ex) {
+        if (ex != null || response.getStatus() >= 400
+                || request.getAttribute(RouteLatencyFilter.PROJECT_ATTRIBUTE) != null) {
+            return;
+        }
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get("projectId") instanceof String projectId) {
+            request.setAttribute(RouteLatencyFilter.PROJECT_ATTRIBUTE, projectId);
+        }
+    }
+}
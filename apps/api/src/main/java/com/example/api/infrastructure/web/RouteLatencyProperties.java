@@ -0,0 +1,60 @@
+package com.example.api.infrastructure.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for per-route latency histograms.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.route-latency")
+public class RouteLatencyProperties {
+
+    private boolean enabled = true;
+    private Duration slice = Duration.ofSeconds(10);
+    private int slices = 30;
+    private int maxSeries = 500;
+    private int maxTotalSeries = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlice() {
+        return slice;
+    }
+
+    public void setSlice(Duration slice) {
+        this.slice = slice;
+    }
+
+    public int getSlices() {
+        return slices;
+    }
+
+    public void setSlices(int slices) {
+        this.slices = slices;
+    }
+
+    public int getMaxSeries() {
+        return maxSeries;
+    }
+
+    public void setMaxSeries(int maxSeries) {
+        this.maxSeries = maxSeries;
+    }
+
+    public int getMaxTotalSeries() {
+        return maxTotalSeries;
+    }
+
+    public void setMaxTotalSeries(int maxTotalSeries) {
+        this.maxTotalSeries = maxTotalSeries;
+    }
+}
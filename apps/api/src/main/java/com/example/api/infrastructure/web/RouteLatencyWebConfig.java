@@ -0,0 +1,25 @@
+package com.example.api.infrastructure.web;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the interceptor that attributes route latency to projects.
+ */
+@Configuration
+public class RouteLatencyWebConfig implements WebMvcConfigurer {
+
+    private final RouteLatencyHistograms histograms;
+
+    public RouteLatencyWebConfig(RouteLatencyHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (histograms.isEnabled()) {
+            registry.addInterceptor(new RouteLatencyProjectInterceptor()).addPathPatterns("/api/**");
+        }
+    }
+}
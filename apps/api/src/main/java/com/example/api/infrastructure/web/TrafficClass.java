@@ -0,0 +1,33 @@
+package com.example.api.infrastructure.web;
+
+import java.util.Optional;
+
+/**
+ * Endpoint classes that get independent concurrency limits.
+ */
+public enum TrafficClass {
+    SDK_AUTH,
+    SDK_READ,
+    ORG_DASHBOARD,
+    PLATFORM_ADMIN;
+
+    /**
+     * Maps a request path to its traffic class; paths outside the limited
+     * APIs (health, OAuth callbacks, legacy routes) are not classified.
+     */
+    public static Optional<TrafficClass> classify(String path) {
+        if (path.startsWith("/api/v1/end-users/auth/")) {
+            return Optional.of(SDK_AUTH);
+        }
+        if (path.startsWith("/api/v1/end-users/")) {
+            return Optional.of(SDK_READ);
+        }
+        if (path.startsWith("/api/v1/customers/")) {
+            return Optional.of(ORG_DASHBOARD);
+        }
+        if (path.startsWith("/api/platform/")) {
+            return Optional.of(PLATFORM_ADMIN);
+        }
+        return Optional.empty();
+    }
+}
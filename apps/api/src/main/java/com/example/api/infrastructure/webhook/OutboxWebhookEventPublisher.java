@@ -0,0 +1,63 @@
+package com.example.api.infrastructure.webhook;
+
+import com.example.api.domain.webhook.WebhookDelivery;
+import com.example.api.domain.webhook.WebhookDeliveryRepository;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import com.example.api.domain.webhook.WebhookEvent;
+import com.example.api.domain.webhook.WebhookEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Publishes webhook events by writing one outbox row per subscribed endpoint.
+ *
+ * <p>Rows are inserted in the caller's transaction, so a rolled-back use case
+ * never produces a delivery. {@link WebhookDispatcher} sends them afterwards.</p>
+ */
+@Component
+public class OutboxWebhookEventPublisher implements WebhookEventPublisher {
+
+    private final WebhookEndpointRepository endpointRepository;
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final JsonMapper jsonMapper;
+
+    public OutboxWebhookEventPublisher(WebhookEndpointRepository endpointRepository,
+                                       WebhookDeliveryRepository deliveryRepository,
+                                       JsonMapper jsonMapper) {
+        this.endpointRepository = endpointRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    @Transactional
+    public void publish(WebhookEvent event) {
+        // Served from the query cache; most projects have no endpoints at all
+        final var endpoints = endpointRepository.listByProjectId(event.projectId()).stream()
+                .filter(endpoint -> endpoint.subscribesTo(event.type()))
+                .toList();
+        if (endpoints.isEmpty()) {
+            return;
+        }
+
+        final var payload = serialize(event);
+        deliveryRepository.appendAll(endpoints.stream()
+                .map(endpoint -> WebhookDelivery.create(endpoint.getId(), event, payload))
+                .toList());
+    }
+
+    private String serialize(WebhookEvent event) {
+        final var body = new LinkedHashMap<String, Object>();
+        body.put("id", event.id());
+        body.put("type", event.type().wireName());
+        body.put("occurredAt", event.occurredAt().toString());
+        body.put("projectId", event.projectId().value());
+        body.put("environmentId", event.environmentId().value());
+        body.put("userId", event.userId());
+        body.put("data", event.data());
+        return jsonMapper.writeValueAsString(body);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.api.infrastructure.webhook;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Thrown instead of a resolved address when a webhook host points to this
+ * machine or the internal network. Extends {@link UnknownHostException} because
+ * that is what the HTTP client expects name resolution to fail with.
+ */
+class WebhookAddressBlockedException extends UnknownHostException {
+
+    WebhookAddressBlockedException(String host, InetAddress address) {
+        super("Webhook host " + host + " resolves to internal address " + address.getHostAddress());
+    }
+}
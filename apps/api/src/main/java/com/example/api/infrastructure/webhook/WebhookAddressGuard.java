@@ -0,0 +1,101 @@
+package com.example.api.infrastructure.webhook;
+
+import org.apache.hc.client5.http.DnsResolver;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+
+/**
+ * Resolves webhook hosts for the HTTP client and refuses any host with an
+ * address on this machine or the internal network, so an endpoint cannot make
+ * the dispatcher POST to services that are not meant to be reachable from
+ * outside (cloud metadata, admin ports, other tenants' hosts).
+ *
+ * <p>The check runs on every new connection rather than when the endpoint is
+ * created, and the client connects only to the addresses checked here. A host
+ * whose DNS record is later pointed at an internal address is therefore caught
+ * on its next connection instead of being trusted from an earlier lookup.</p>
+ */
+final class WebhookAddressGuard implements DnsResolver {
+
+    private final DnsResolver delegate;
+    private final boolean allowInternal;
+
+    /**
+     * @param allowInternal whether internal addresses are accepted (local development only)
+     */
+    WebhookAddressGuard(DnsResolver delegate, boolean allowInternal) {
+        this.delegate = delegate;
+        this.allowInternal = allowInternal;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        final var addresses = delegate.resolve(host);
+        if (!allowInternal) {
+            for (final var address : addresses) {
+                if (isInternal(address)) {
+                    throw new WebhookAddressBlockedException(host, address);
+                }
+            }
+        }
+        return addresses;
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException {
+        return delegate.resolveCanonicalHostname(host);
+    }
+
+    static boolean isInternal(InetAddress address) {
+        if (address instanceof Inet6Address && isIpv4Mapped(address.getAddress())) {
+            return isInternal(toIpv4(address.getAddress()));
+        }
+        return address.isAnyLocalAddress()
+                || address.isLoopbackAddress()
+                || address.isSiteLocalAddress()
+                || address.isLinkLocalAddress()
+                || address.isMulticastAddress()
+                || isThisNetwork(address)
+                || isSharedAddressSpace(address)
+                || isUniqueLocal(address);
+    }
+
+    // 0.0.0.0/8, which some stacks route to this host
+    private static boolean isThisNetwork(InetAddress address) {
+        return address instanceof Inet4Address && address.getAddress()[0] == 0;
+    }
+
+    // 100.64.0.0/10, carrier-grade NAT and the internal range of several cloud networks
+    private static boolean isSharedAddressSpace(InetAddress address) {
+        final var bytes = address.getAddress();
+        return address instanceof Inet4Address && bytes[0] == 100 && (bytes[1] & 0xc0) == 0x40;
+    }
+
+    // fc00::/7, the IPv6 counterpart of the private IPv4 ranges, which isSiteLocalAddress does not cover
+    private static boolean isUniqueLocal(InetAddress address) {
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc;
+    }
+
+    // ::ffff:0:0/96, an IPv4 address carried in IPv6 form
+    private static boolean isIpv4Mapped(byte[] bytes) {
+        for (var i = 0; i < 10; i++) {
+            if (bytes[i] != 0) {
+                return false;
+            }
+        }
+        return bytes[10] == (byte) 0xff && bytes[11] == (byte) 0xff;
+    }
+
+    private static InetAddress toIpv4(byte[] bytes) {
+        try {
+            return InetAddress.getByAddress(Arrays.copyOfRange(bytes, 12, 16));
+        } catch (UnknownHostException e) {
+            // Only thrown for an address of the wrong length
+            throw new IllegalStateException(e);
+        }
+    }
+}
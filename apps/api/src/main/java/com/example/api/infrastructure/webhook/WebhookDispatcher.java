@@ -0,0 +1,327 @@
+package com.example.api.infrastructure.webhook;
+
+import com.example.api.domain.webhook.WebhookDelivery;
+import com.example.api.domain.webhook.WebhookDeliveryId;
+import com.example.api.domain.webhook.WebhookDeliveryRepository;
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox rows to webhook endpoints.
+ *
+ * <p>Each poll groups due deliveries by endpoint and sends them in batches as
+ * {@code {"events":[...]}}, one virtual thread per request. The poll itself never
+ * waits on the network: an endpoint already at its concurrency cap simply keeps
+ * its remaining deliveries for a later poll, so one slow customer cannot hold up
+ * the others. For the same reason each poll reads at most as many rows per
+ * endpoint as it could start, and none for endpoints with no free slot, so a
+ * stuck endpoint's backlog never fills the poll and hides other endpoints'
+ * rows. A 2xx response deletes the batch; anything else reschedules every
+ * delivery in it with exponential backoff and jitter until the attempt limit,
+ * after which the rows are kept as FAILED for inspection.</p>
+ *
+ * <p>Several instances may poll the same outbox. Before a batch is sent its rows
+ * are leased to this dispatcher for {@code lease}, and only the rows the lease
+ * was granted for are sent, so two instances never send a row at the same time.
+ * A lease that outlives a crashed instance simply expires and the rows become
+ * due again; delivery stays at-least-once.</p>
+ *
+ * <p>Hosts are resolved through {@link WebhookAddressGuard} on every new
+ * connection, so a host that now resolves to an internal address fails like any
+ * other unreachable endpoint.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.webhooks", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WebhookDispatcher {
+
+    static final String SIGNATURE_HEADER = "Webhook-Signature";
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatcher.class);
+    private static final String USER_AGENT = "Auctoritas-Webhooks/1.0";
+    private static final ContentType JSON = ContentType.create("application/json");
+    private static final byte[] BATCH_PREFIX = "{\"events\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BATCH_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookEndpointRepository endpointRepository;
+    private final WebhookProperties properties;
+    private final Clock clock;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CloseableHttpClient httpClient;
+    private final ConcurrentHashMap<WebhookEndpointId, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Set<WebhookDeliveryId> inFlight = ConcurrentHashMap.newKeySet();
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+
+    @Autowired
+    public WebhookDispatcher(WebhookDeliveryRepository deliveryRepository,
+                             WebhookEndpointRepository endpointRepository,
+                             WebhookProperties properties,
+                             MeterRegistry meterRegistry) {
+        this(deliveryRepository, endpointRepository, properties, meterRegistry, Clock.systemUTC(),
+                SystemDefaultDnsResolver.INSTANCE);
+    }
+
+    WebhookDispatcher(WebhookDeliveryRepository deliveryRepository,
+                      WebhookEndpointRepository endpointRepository,
+                      WebhookProperties properties,
+                      MeterRegistry meterRegistry,
+                      Clock clock) {
+        this(deliveryRepository, endpointRepository, properties, meterRegistry, clock,
+                SystemDefaultDnsResolver.INSTANCE);
+    }
+
+    WebhookDispatcher(WebhookDeliveryRepository deliveryRepository,
+                      WebhookEndpointRepository endpointRepository,
+                      WebhookProperties properties,
+                      MeterRegistry meterRegistry,
+                      Clock clock,
+                      DnsResolver dnsResolver) {
+        this.deliveryRepository = deliveryRepository;
+        this.endpointRepository = endpointRepository;
+        this.properties = properties;
+        this.clock = clock;
+        // Concurrency is capped per endpoint by the permits, so the pool itself never makes a send wait
+        final var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setDnsResolver(new WebhookAddressGuard(dnsResolver, properties.isAllowInsecureHttp()))
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getRequestTimeout()))
+                        .build())
+                .setMaxConnTotal(Integer.MAX_VALUE)
+                .setMaxConnPerRoute(Integer.MAX_VALUE)
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(properties.getRequestTimeout()))
+                        .build())
+                .setUserAgent(USER_AGENT)
+                .disableRedirectHandling()
+                .disableAutomaticRetries()
+                .build();
+        this.delivered = Counter.builder("webhooks.deliveries")
+                .tag("outcome", "delivered")
+                .register(meterRegistry);
+        this.retried = Counter.builder("webhooks.deliveries")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.failed = Counter.builder("webhooks.deliveries")
+                .description("Webhook deliveries that exhausted their attempts")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhooks.poll-interval:PT1S}")
+    public void scheduledDispatch() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.warn("Webhook dispatch poll failed", e);
+        }
+    }
+
+    /**
+     * Starts sending every due batch whose endpoint has a free slot.
+     *
+     * @return the number of batches started
+     */
+    int dispatch() {
+        final var saturated = permits.entrySet().stream()
+                .filter(entry -> entry.getValue().availablePermits() == 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        final var perEndpointLimit = properties.getBatchSize() * properties.getMaxConcurrencyPerEndpoint();
+        final var due = deliveryRepository.findDue(clock.instant(), perEndpointLimit, saturated, properties.getPollLimit())
+                .stream()
+                .filter(delivery -> !inFlight.contains(delivery.getId()))
+                .collect(Collectors.groupingBy(WebhookDelivery::getEndpointId, LinkedHashMap::new, Collectors.toList()));
+
+        var started = 0;
+        for (final var entry : due.entrySet()) {
+            final var endpoint = endpointRepository.findById(entry.getKey()).orElse(null);
+            if (endpoint == null) {
+                // Endpoint deleted after these rows were read
+                deliveryRepository.deleteAll(entry.getValue().stream().map(WebhookDelivery::getId).toList());
+                continue;
+            }
+            final var endpointPermits = permits.computeIfAbsent(
+                    endpoint.getId(), id -> new Semaphore(properties.getMaxConcurrencyPerEndpoint()));
+            for (final var candidates : partition(entry.getValue(), properties.getBatchSize())) {
+                if (!endpointPermits.tryAcquire()) {
+                    break;
+                }
+                final var batch = claim(candidates);
+                if (batch.isEmpty()) {
+                    // Another instance is sending these rows
+                    endpointPermits.release();
+                    continue;
+                }
+                batch.forEach(delivery -> inFlight.add(delivery.getId()));
+                executor.execute(() -> {
+                    try {
+                        deliver(endpoint, batch);
+                    } catch (RuntimeException e) {
+                        log.error("Failed to record webhook delivery outcome for endpoint {}", endpoint.getId().value(), e);
+                    } finally {
+                        batch.forEach(delivery -> inFlight.remove(delivery.getId()));
+                        endpointPermits.release();
+                    }
+                });
+                started++;
+            }
+        }
+        return started;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            // Interrupted sends stay PENDING and are retried after restart
+            executor.shutdownNow();
+        }
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    private List<WebhookDelivery> claim(List<WebhookDelivery> candidates) {
+        final var now = clock.instant();
+        final var claimed = deliveryRepository.claim(
+                candidates.stream().map(WebhookDelivery::getId).toList(), leaseOwner, now, now.plus(properties.getLease()));
+        return candidates.stream().filter(delivery -> claimed.contains(delivery.getId())).toList();
+    }
+
+    private void deliver(WebhookEndpoint endpoint, List<WebhookDelivery> batch) {
+        final var body = batchBody(batch);
+        final var timestamp = clock.instant().getEpochSecond();
+
+        String error;
+        try {
+            final var request = new HttpPost(URI.create(endpoint.getUrl()));
+            request.setHeader(SIGNATURE_HEADER, WebhookSigner.sign(endpoint.getSecret(), timestamp, body));
+            request.setEntity(new ByteArrayEntity(body, JSON));
+            final int status = httpClient.execute(request, response -> {
+                EntityUtils.consume(response.getEntity());
+                return response.getCode();
+            });
+            if (status >= 200 && status < 300) {
+                deliveryRepository.deleteAll(batch.stream().map(WebhookDelivery::getId).toList());
+                delivered.increment(batch.size());
+                return;
+            }
+            error = "HTTP " + status;
+        } catch (IOException | IllegalArgumentException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        recordFailure(endpoint, batch, error);
+    }
+
+    private void recordFailure(WebhookEndpoint endpoint, List<WebhookDelivery> batch, String error) {
+        final var now = clock.instant();
+        for (final var delivery : batch) {
+            delivery.recordFailure(error, now, backoff(delivery.getAttempts() + 1), properties.getMaxAttempts());
+            deliveryRepository.save(delivery);
+            if (delivery.isFailed()) {
+                failed.increment();
+                log.warn("Giving up on webhook event {} for endpoint {} after {} attempts: {}",
+                        delivery.getEventId(), endpoint.getId().value(), delivery.getAttempts(), error);
+            } else {
+                retried.increment();
+            }
+        }
+    }
+
+    /**
+     * Exponential backoff for the given attempt number with "equal jitter": the
+     * delay is uniformly distributed over the upper half of the capped interval,
+     * so retries from one outage do not arrive in lockstep.
+     */
+    Duration backoff(int attempt) {
+        final var initial = properties.getInitialBackoff().toMillis();
+        final var max = properties.getMaxBackoff().toMillis();
+        final var shift = Math.min(Math.max(attempt - 1, 0), 30);
+        final var capped = Math.min(max, initial << shift);
+        final var half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static byte[] batchBody(List<WebhookDelivery> batch) {
+        final var payloads = batch.stream()
+                .map(delivery -> delivery.getPayload().getBytes(StandardCharsets.UTF_8))
+                .toList();
+        var length = BATCH_PREFIX.length + BATCH_SUFFIX.length + payloads.size() - 1;
+        for (final var payload : payloads) {
+            length += payload.length;
+        }
+
+        final var body = new byte[length];
+        var position = 0;
+        System.arraycopy(BATCH_PREFIX, 0, body, position, BATCH_PREFIX.length);
+        position += BATCH_PREFIX.length;
+        for (var i = 0; i < payloads.size(); i++) {
+            if (i > 0) {
+                body[position++] = ',';
+            }
+            final var payload = payloads.get(i);
+            System.arraycopy(payload, 0, body, position, payload.length);
+            position += payload.length;
+        }
+        System.arraycopy(BATCH_SUFFIX, 0, body, position, BATCH_SUFFIX.length);
+        return body;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        final var batches = new ArrayList<List<T>>();
+        for (var from = 0; from < items.size(); from += size) {
+            batches.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return batches;
+    }
+}
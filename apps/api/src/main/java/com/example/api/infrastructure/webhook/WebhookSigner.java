@@ -0,0 +1,35 @@
+package com.example.api.infrastructure.webhook;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * Computes the {@code Webhook-Signature} header value.
+ *
+ * <p>The signature is an HMAC-SHA256 over {@code "<timestamp>.<body>"} keyed with the
+ * endpoint secret, sent as {@code t=<epoch seconds>,v1=<hex>}. Receivers recompute it
+ * and reject stale timestamps to prevent replays.</p>
+ */
+final class WebhookSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private WebhookSigner() {
+        // Utility class
+    }
+
+    static String sign(String secret, long timestamp, byte[] body) {
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            mac.update((timestamp + ".").getBytes(StandardCharsets.UTF_8));
+            final var digest = mac.doFinal(body);
+            return "t=" + timestamp + ",v1=" + HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
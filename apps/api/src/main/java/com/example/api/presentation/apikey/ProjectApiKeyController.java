@@ -5,10 +5,12 @@ import com.example.api.application.apikey.RotateProjectApiKeyUseCase;
 import com.example.api.application.apikey.dto.ApiKeyResponse;
 import com.example.api.application.apikey.dto.RotateApiKeyRequest;
 import com.example.api.application.apikey.dto.RotatedApiKeyResponse;
+import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.project.ProjectId;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -45,11 +47,14 @@ public class ProjectApiKeyController {
 
     @PostMapping
     public ResponseEntity<RotatedApiKeyResponse> rotateApiKey(
+            Authentication authentication,
             @PathVariable String orgId,
             @PathVariable String projectId,
             @Valid @RequestBody RotateApiKeyRequest request) {
         final var projectIdObj = ProjectId.of(projectId);
-        final var response = rotateProjectApiKeyUseCase.execute(projectIdObj, request);
+        final var actorId = (String) authentication.getPrincipal();
+        final var response = rotateProjectApiKeyUseCase.execute(
+                OrganizationId.of(orgId), projectIdObj, actorId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 }
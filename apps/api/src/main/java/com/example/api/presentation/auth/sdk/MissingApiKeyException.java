@@ -1,5 +1,6 @@
 package com.example.api.presentation.auth.sdk;
 
+import com.example.api.domain.user.exception.AuthenticationFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
@@ -7,7 +8,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * Exception thrown when API key is missing or invalid for SDK endpoints.
  */
 @ResponseStatus(HttpStatus.UNAUTHORIZED)
-public class MissingApiKeyException extends RuntimeException {
+public class MissingApiKeyException extends AuthenticationFailureException {
 
     public MissingApiKeyException() {
         super("Valid API key required");
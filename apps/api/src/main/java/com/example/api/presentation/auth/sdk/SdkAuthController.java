@@ -5,6 +5,7 @@ import com.example.api.application.auth.sdk.RegisterEndUserUseCase;
 import com.example.api.application.auth.sdk.dto.SdkAuthResponse;
 import com.example.api.application.auth.sdk.dto.SdkLoginRequest;
 import com.example.api.application.auth.sdk.dto.SdkRegisterRequest;
+import com.example.api.infrastructure.metrics.AuthMetrics;
 import com.example.api.infrastructure.security.ApiKeyAuthenticationFilter;
 import com.example.api.infrastructure.security.ProjectContext;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * REST controller for SDK authentication endpoints.
@@ -30,11 +32,14 @@ public class SdkAuthController {
 
     private final RegisterEndUserUseCase registerEndUserUseCase;
     private final LoginEndUserUseCase loginEndUserUseCase;
+    private final AuthMetrics authMetrics;
 
     public SdkAuthController(RegisterEndUserUseCase registerEndUserUseCase,
-                             LoginEndUserUseCase loginEndUserUseCase) {
+                             LoginEndUserUseCase loginEndUserUseCase,
+                             AuthMetrics authMetrics) {
         this.registerEndUserUseCase = registerEndUserUseCase;
         this.loginEndUserUseCase = loginEndUserUseCase;
+        this.authMetrics = authMetrics;
     }
 
     /**
@@ -49,11 +54,11 @@ public class SdkAuthController {
             @Valid @RequestBody SdkRegisterRequestDto dto,
             HttpServletRequest request) {
         final var context = getContextOrThrow(request);
-        final var response = registerEndUserUseCase.execute(
+        final var response = recordOutcome("register", context, () -> registerEndUserUseCase.execute(
                 dto.toRequest(),
                 context.projectId(),
                 context.environmentId()
-        );
+        ));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -69,14 +74,25 @@ public class SdkAuthController {
             @Valid @RequestBody SdkLoginRequestDto dto,
             HttpServletRequest request) {
         final var context = getContextOrThrow(request);
-        final var response = loginEndUserUseCase.execute(
+        final var response = recordOutcome("login", context, () -> loginEndUserUseCase.execute(
                 dto.toRequest(),
                 context.projectId(),
                 context.environmentId()
-        );
+        ));
         return ResponseEntity.ok(response);
     }
 
+    private SdkAuthResponse recordOutcome(String flow, ProjectContext context, Supplier<SdkAuthResponse> action) {
+        try {
+            final var response = action.get();
+            authMetrics.recordSdkAuthOutcome(flow, context.projectId().value(), context.environmentId().value(), null);
+            return response;
+        } catch (RuntimeException e) {
+            authMetrics.recordSdkAuthOutcome(flow, context.projectId().value(), context.environmentId().value(), e);
+            throw e;
+        }
+    }
+
     private ProjectContext getContextOrThrow(HttpServletRequest request) {
         final var context = ApiKeyAuthenticationFilter.getContext(request);
         if (context == null) {
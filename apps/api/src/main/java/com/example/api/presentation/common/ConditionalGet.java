@@ -0,0 +1,65 @@
+package com.example.api.presentation.common;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET handling for reads that have a cheap version token.
+ *
+ * <p>The version is looked up before the body is built. When it matches the request's
+ * {@code If-None-Match}, the response is a bodiless 304 and the full read never runs.
+ * A write landing between the two lookups only leaves the ETag older than the body,
+ * which costs the client one extra full response later, never a stale 304.</p>
+ */
+public final class ConditionalGet {
+
+    // Bodies are per caller; clients may keep them but must revalidate before each use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+        // Utility class
+    }
+
+    /**
+     * Answers 304 if {@code ifNoneMatch} matches the version, otherwise 200 with the
+     * body and an ETag. Without a version the body is returned with no ETag.
+     *
+     * @param ifNoneMatch the request's {@code If-None-Match} header, may be null
+     * @param version     current version token of the resource
+     * @param body        builds the full response body
+     */
+    public static <T> ResponseEntity<T> respond(String ifNoneMatch, Optional<String> version, Supplier<T> body) {
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+        // Weak: a version always renders the same data, not necessarily the same bytes across releases
+        final var etag = "W/\"" + version.get() + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        final var opaqueTag = withoutWeakPrefix(etag);
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.strip();
+            // If-None-Match uses weak comparison (RFC 9110 13.1.2)
+            if (tag.equals("*") || withoutWeakPrefix(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String withoutWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -5,15 +5,18 @@ import com.example.api.application.auth.sdk.GetCurrentSdkUserUseCase;
 import com.example.api.application.auth.sdk.UpdateEndUserProfileUseCase;
 import com.example.api.infrastructure.security.ApiKeyAuthenticationFilter;
 import com.example.api.infrastructure.security.ProjectContext;
+import com.example.api.presentation.common.ConditionalGet;
 import com.example.api.presentation.enduser.dto.UpdateEndUserProfileRequestDto;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -46,24 +49,33 @@ public class EndUserController {
      * only within the project and environment scope from the API key used during
      * authentication. Cross-project access attempts return 404 Not Found.</p>
      *
+     * <p>SDKs poll this endpoint; a matching {@code If-None-Match} gets a 304
+     * after a version-only lookup in the same scope.</p>
+     *
      * @param jwt the authenticated user's JWT
      * @param request the HTTP request containing project context
+     * @param ifNoneMatch ETags the client already holds
      * @return user profile
      */
     @GetMapping
     public ResponseEntity<UserDto> getCurrentUser(
             @AuthenticationPrincipal Jwt jwt,
-            HttpServletRequest request) {
+            HttpServletRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         final var userId = jwt.getSubject();
         final var context = getContextOrThrow(request);
 
-        final var user = getCurrentSdkUserUseCase.execute(
+        final var version = getCurrentSdkUserUseCase.findVersion(
                 userId,
                 context.projectId(),
                 context.environmentId()
         );
 
-        return ResponseEntity.ok(user);
+        return ConditionalGet.respond(ifNoneMatch, version, () -> getCurrentSdkUserUseCase.execute(
+                userId,
+                context.projectId(),
+                context.environmentId()
+        ));
     }
 
     /**
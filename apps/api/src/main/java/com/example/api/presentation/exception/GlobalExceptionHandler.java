@@ -16,15 +16,24 @@ import com.example.api.domain.organization.exception.OrganizationOwnerRequiredEx
 import com.example.api.domain.organization.exception.OrganizationSlugAlreadyExistsException;
 import com.example.api.domain.project.exception.ProjectNotFoundException;
 import com.example.api.domain.project.exception.ProjectSlugAlreadyExistsException;
+import com.example.api.domain.quota.exception.QuotaExceededException;
+import com.example.api.domain.webhook.exception.WebhookEndpointNotFoundException;
+import com.example.api.infrastructure.bulkhead.TenantBulkheadFullException;
+import com.example.api.infrastructure.persistence.BackupAlreadyRunningException;
+import com.example.api.infrastructure.web.PreEncodedError;
+import com.example.api.presentation.auth.sdk.MissingApiKeyException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.io.IOException;
 import java.util.stream.Collectors;
 
 /**
@@ -35,18 +44,30 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    // Authentication failures are the most frequent errors under attack, so their
+    // bodies are encoded once and written without going through message conversion
+    private static final PreEncodedError INVALID_CREDENTIALS =
+            PreEncodedError.apiError(401, new InvalidCredentialsException().getMessage());
+    private static final PreEncodedError INVALID_TOKEN =
+            PreEncodedError.apiError(401, new InvalidTokenException().getMessage());
+    private static final PreEncodedError MISSING_API_KEY =
+            PreEncodedError.apiError(401, new MissingApiKeyException().getMessage());
+    private static final PreEncodedError USER_BANNED =
+            PreEncodedError.apiError(403, new UserBannedException().getMessage());
+
     @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<ApiError> handleInvalidCredentials(InvalidCredentialsException ex) {
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(new ApiError(401, ex.getMessage()));
+    public void handleInvalidCredentials(HttpServletResponse response) throws IOException {
+        INVALID_CREDENTIALS.writeTo(response);
     }
 
     @ExceptionHandler(InvalidTokenException.class)
-    public ResponseEntity<ApiError> handleInvalidToken(InvalidTokenException ex) {
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(new ApiError(401, ex.getMessage()));
+    public void handleInvalidToken(HttpServletResponse response) throws IOException {
+        INVALID_TOKEN.writeTo(response);
+    }
+
+    @ExceptionHandler(MissingApiKeyException.class)
+    public void handleMissingApiKey(HttpServletResponse response) throws IOException {
+        MISSING_API_KEY.writeTo(response);
     }
 
     @ExceptionHandler(EmailAlreadyExistsException.class)
@@ -121,10 +142,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(UserBannedException.class)
-    public ResponseEntity<ApiError> handleUserBanned(UserBannedException ex) {
-        return ResponseEntity
-                .status(HttpStatus.FORBIDDEN)
-                .body(new ApiError(403, ex.getMessage()));
+    public void handleUserBanned(HttpServletResponse response) throws IOException {
+        USER_BANNED.writeTo(response);
     }
 
     @ExceptionHandler(UserNotFoundException.class)
@@ -166,6 +185,27 @@ public class GlobalExceptionHandler {
                 .body(new ApiError(404, ex.getMessage()));
     }
 
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<ApiError> handleQuotaExceeded(QuotaExceededException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ApiError(429, ex.getMessage()));
+    }
+
+    @ExceptionHandler(WebhookEndpointNotFoundException.class)
+    public ResponseEntity<ApiError> handleWebhookEndpointNotFound(WebhookEndpointNotFoundException ex) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ApiError(404, ex.getMessage()));
+    }
+
+    @ExceptionHandler(BackupAlreadyRunningException.class)
+    public ResponseEntity<ApiError> handleBackupAlreadyRunning(BackupAlreadyRunningException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ApiError(409, ex.getMessage()));
+    }
+
     @ExceptionHandler(ProjectSlugAlreadyExistsException.class)
     public ResponseEntity<ApiError> handleProjectSlugConflict(ProjectSlugAlreadyExistsException ex) {
         return ResponseEntity
@@ -189,6 +229,13 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGeneral(Exception ex) {
+        // Raised by the data source, so it arrives wrapped in transaction or JPA exceptions
+        if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof TenantBulkheadFullException bulkheadFull) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(new ApiError(503, bulkheadFull.getMessage()));
+        }
         log.error("Unhandled exception", ex);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
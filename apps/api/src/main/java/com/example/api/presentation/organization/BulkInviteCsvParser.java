@@ -0,0 +1,70 @@
+package com.example.api.presentation.organization;
+
+import com.example.api.application.organization.dto.BulkInviteMembersRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses a bulk invitation CSV with an {@code email} column and an optional
+ * {@code role} column, in any order, named by a header line.
+ *
+ * <p>Emails and roles never contain commas, so fields are split on commas and
+ * surrounding quotes are dropped; quoted commas are not supported. Blank lines
+ * are skipped.</p>
+ */
+final class BulkInviteCsvParser {
+
+    private BulkInviteCsvParser() {
+        // Utility class
+    }
+
+    static List<BulkInviteMembersRequest.Invitee> parse(String csv) {
+        final var lines = (csv == null ? "" : csv).lines()
+                .filter(line -> !line.isBlank())
+                .toList();
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("CSV must have a header line with an email column");
+        }
+
+        final var header = Arrays.stream(fields(stripBom(lines.getFirst())))
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .toList();
+        final var emailColumn = header.indexOf("email");
+        final var roleColumn = header.indexOf("role");
+        if (emailColumn < 0) {
+            throw new IllegalArgumentException("CSV header must include an email column");
+        }
+
+        final var invitees = new ArrayList<BulkInviteMembersRequest.Invitee>(lines.size() - 1);
+        for (final var line : lines.subList(1, lines.size())) {
+            final var fields = fields(line);
+            invitees.add(new BulkInviteMembersRequest.Invitee(
+                    field(fields, emailColumn),
+                    field(fields, roleColumn)));
+        }
+        return invitees;
+    }
+
+    private static String[] fields(String line) {
+        final var fields = line.split(",", -1);
+        for (var i = 0; i < fields.length; i++) {
+            var field = fields[i].strip();
+            if (field.length() >= 2 && field.startsWith("\"") && field.endsWith("\"")) {
+                field = field.substring(1, field.length() - 1).strip();
+            }
+            fields[i] = field;
+        }
+        return fields;
+    }
+
+    private static String field(String[] fields, int column) {
+        return column >= 0 && column < fields.length ? fields[column] : null;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+}
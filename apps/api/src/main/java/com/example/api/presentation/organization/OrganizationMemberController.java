@@ -1,13 +1,18 @@
 package com.example.api.presentation.organization;
 
+import com.example.api.application.organization.BulkInviteMembersUseCase;
 import com.example.api.application.organization.OrganizationMemberManagementUseCase;
+import com.example.api.application.organization.dto.BulkInvitationResponse;
+import com.example.api.application.organization.dto.BulkInviteMembersRequest;
 import com.example.api.application.organization.dto.InvitationResponse;
 import com.example.api.application.organization.dto.OrganizationMemberResponse;
 import com.example.api.presentation.organization.dto.AcceptInvitationRequestDto;
+import com.example.api.presentation.organization.dto.BulkInviteMembersRequestDto;
 import com.example.api.presentation.organization.dto.InviteMemberRequestDto;
 import com.example.api.presentation.organization.dto.UpdateMemberRoleRequestDto;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,10 +30,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/customers/orgs/{orgId}/members")
 public class OrganizationMemberController {
 
+    private static final String TEXT_CSV = "text/csv";
+
     private final OrganizationMemberManagementUseCase memberManagementUseCase;
+    private final BulkInviteMembersUseCase bulkInviteMembersUseCase;
 
-    public OrganizationMemberController(OrganizationMemberManagementUseCase memberManagementUseCase) {
+    public OrganizationMemberController(OrganizationMemberManagementUseCase memberManagementUseCase,
+                                        BulkInviteMembersUseCase bulkInviteMembersUseCase) {
         this.memberManagementUseCase = memberManagementUseCase;
+        this.bulkInviteMembersUseCase = bulkInviteMembersUseCase;
     }
 
     @PostMapping("/invite")
@@ -41,6 +51,25 @@ public class OrganizationMemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/invite/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkInvitationResponse> bulkInviteMembers(
+            Authentication authentication,
+            @PathVariable String orgId,
+            @Valid @RequestBody BulkInviteMembersRequestDto dto) {
+        final var memberId = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(bulkInviteMembersUseCase.execute(dto.toRequest(orgId, memberId)));
+    }
+
+    @PostMapping(value = "/invite/bulk", consumes = TEXT_CSV)
+    public ResponseEntity<BulkInvitationResponse> bulkInviteMembersFromCsv(
+            Authentication authentication,
+            @PathVariable String orgId,
+            @RequestBody String csv) {
+        final var memberId = (String) authentication.getPrincipal();
+        final var request = new BulkInviteMembersRequest(orgId, memberId, BulkInviteCsvParser.parse(csv));
+        return ResponseEntity.ok(bulkInviteMembersUseCase.execute(request));
+    }
+
     @PostMapping("/accept")
     public ResponseEntity<OrganizationMemberResponse> acceptInvitation(
             @PathVariable String orgId,
@@ -0,0 +1,30 @@
+package com.example.api.presentation.organization.dto;
+
+import com.example.api.application.organization.dto.BulkInviteMembersRequest;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * REST request DTO for inviting many organization members. Rows are validated
+ * individually and reported in the response rather than rejecting the request.
+ */
+public record BulkInviteMembersRequestDto(
+        @NotEmpty(message = "Invitations are required")
+        List<Invitee> invitations
+) {
+    public BulkInviteMembersRequest toRequest(String organizationId, String invitedByMemberId) {
+        final var invitees = invitations.stream()
+                .map(invitee -> invitee == null
+                        ? new BulkInviteMembersRequest.Invitee(null, null)
+                        : new BulkInviteMembersRequest.Invitee(invitee.email(), invitee.role()))
+                .toList();
+        return new BulkInviteMembersRequest(organizationId, invitedByMemberId, invitees);
+    }
+
+    /**
+     * One invitee; {@code role} defaults to MEMBER.
+     */
+    public record Invitee(String email, String role) {
+    }
+}
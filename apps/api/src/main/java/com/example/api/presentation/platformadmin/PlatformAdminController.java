@@ -1,8 +1,11 @@
 package com.example.api.presentation.platformadmin;
 
+import com.example.api.application.audit.AuditEventPageResponse;
+import com.example.api.application.audit.ListAuditEventsUseCase;
 import com.example.api.application.platformadmin.CreatePlatformAdminUseCase;
 import com.example.api.application.platformadmin.DeactivatePlatformAdminUseCase;
-import com.example.api.application.platformadmin.EndUserSummaryResponse;
+import com.example.api.application.platformadmin.EndUserPageResponse;
+import com.example.api.application.platformadmin.EndUserSearchResponse;
 import com.example.api.application.platformadmin.GetOrganizationDetailsUseCase;
 import com.example.api.application.platformadmin.GetPlatformAdminProfileUseCase;
 import com.example.api.application.platformadmin.ImpersonateOrganizationUseCase;
@@ -11,10 +14,13 @@ import com.example.api.application.platformadmin.ListAllOrganizationsUseCase;
 import com.example.api.application.platformadmin.OrganizationDetailsResponse;
 import com.example.api.application.platformadmin.OrganizationSummaryResponse;
 import com.example.api.application.platformadmin.PlatformAdminResponse;
+import com.example.api.application.platformadmin.SearchEndUsersUseCase;
 import com.example.api.application.platformadmin.UpdatePlatformAdminProfileUseCase;
 import com.example.api.application.platformadmin.dto.ImpersonationResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -27,7 +33,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -39,6 +50,8 @@ import java.util.List;
 @RequestMapping("/api/platform/admin")
 public class PlatformAdminController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CreatePlatformAdminUseCase createPlatformAdminUseCase;
     private final GetPlatformAdminProfileUseCase getPlatformAdminProfileUseCase;
     private final UpdatePlatformAdminProfileUseCase updatePlatformAdminProfileUseCase;
@@ -47,6 +60,9 @@ public class PlatformAdminController {
     private final GetOrganizationDetailsUseCase getOrganizationDetailsUseCase;
     private final ImpersonateOrganizationUseCase impersonateOrganizationUseCase;
     private final ListAllEndUsersUseCase listAllEndUsersUseCase;
+    private final SearchEndUsersUseCase searchEndUsersUseCase;
+    private final ListAuditEventsUseCase listAuditEventsUseCase;
+    private final JsonMapper jsonMapper;
 
     public PlatformAdminController(CreatePlatformAdminUseCase createPlatformAdminUseCase,
                                      GetPlatformAdminProfileUseCase getPlatformAdminProfileUseCase,
@@ -55,7 +71,10 @@ public class PlatformAdminController {
                                      ListAllOrganizationsUseCase listAllOrganizationsUseCase,
                                      GetOrganizationDetailsUseCase getOrganizationDetailsUseCase,
                                      ImpersonateOrganizationUseCase impersonateOrganizationUseCase,
-                                     ListAllEndUsersUseCase listAllEndUsersUseCase) {
+                                     ListAllEndUsersUseCase listAllEndUsersUseCase,
+                                     SearchEndUsersUseCase searchEndUsersUseCase,
+                                     ListAuditEventsUseCase listAuditEventsUseCase,
+                                     JsonMapper jsonMapper) {
         this.createPlatformAdminUseCase = createPlatformAdminUseCase;
         this.getPlatformAdminProfileUseCase = getPlatformAdminProfileUseCase;
         this.updatePlatformAdminProfileUseCase = updatePlatformAdminProfileUseCase;
@@ -64,6 +83,9 @@ public class PlatformAdminController {
         this.getOrganizationDetailsUseCase = getOrganizationDetailsUseCase;
         this.impersonateOrganizationUseCase = impersonateOrganizationUseCase;
         this.listAllEndUsersUseCase = listAllEndUsersUseCase;
+        this.searchEndUsersUseCase = searchEndUsersUseCase;
+        this.listAuditEventsUseCase = listAuditEventsUseCase;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping
@@ -131,11 +153,67 @@ public class PlatformAdminController {
 
     @GetMapping("/end-users")
     @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
-    public ResponseEntity<List<EndUserSummaryResponse>> listAllEndUsers(
+    public ResponseEntity<EndUserPageResponse> listAllEndUsers(
+            Authentication authentication,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        final var response = listAllEndUsersUseCase.execute(email, projectId, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/end-users/search")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<EndUserSearchResponse> searchEndUsers(
+            Authentication authentication,
+            @RequestParam String q,
+            @RequestParam(required = false) String projectId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        final var response = searchEndUsersUseCase.execute(q, projectId, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams all matching end users as newline-delimited JSON, one row per line,
+     * writing each row as it is read from the database.
+     */
+    @GetMapping("/end-users/stream")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllEndUsers(
             Authentication authentication,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String projectId) {
-        final var response = listAllEndUsersUseCase.execute(email, projectId);
+        final StreamingResponseBody body = outputStream ->
+                listAllEndUsersUseCase.stream(email, projectId, user -> {
+                    try {
+                        outputStream.write(jsonMapper.writeValueAsBytes(user));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Pages through the security audit log, newest first. {@code from} is
+     * inclusive and {@code to} exclusive; both are ISO-8601 instants.
+     */
+    @GetMapping("/audit-events")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<AuditEventPageResponse> listAuditEvents(
+            Authentication authentication,
+            @RequestParam(required = false) String organizationId,
+            @RequestParam(required = false) String projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        final var response = listAuditEventsUseCase.execute(organizationId, projectId, from, to, cursor, limit);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,78 @@
+package com.example.api.presentation.platformadmin;
+
+import com.example.api.infrastructure.persistence.DatabaseBackups;
+import com.example.api.presentation.platformadmin.dto.DatabaseBackupResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+
+/**
+ * REST controller for online database backups.
+ */
+@RestController
+@RequestMapping("/api/platform/admin/backups")
+public class PlatformBackupController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final DatabaseBackups databaseBackups;
+
+    public PlatformBackupController(DatabaseBackups databaseBackups) {
+        this.databaseBackups = databaseBackups;
+    }
+
+    /**
+     * Writes a backup into the configured backup directory and applies retention.
+     * Responds 409 while another backup is running.
+     */
+    @PostMapping
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<DatabaseBackupResponseDto> backup() throws IOException, SQLException {
+        return ResponseEntity.ok(DatabaseBackupResponseDto.from(databaseBackups.backupToDirectory()));
+    }
+
+    /**
+     * Streams a gzip-compressed snapshot of the database. The uncompressed copy is
+     * staged in the backup directory before the response starts, so a concurrent
+     * backup is still reported as 409, and is deleted once the request completes.
+     */
+    @GetMapping("/snapshot")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> snapshot(HttpServletRequest request) throws IOException, SQLException {
+        final var staged = databaseBackups.stageSnapshot();
+        // The body never runs if the client disconnects or the async request times out or fails
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(staged, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) throws IOException {
+                staged.close();
+            }
+        });
+        final StreamingResponseBody body = outputStream -> {
+            try (staged) {
+                staged.writeCompressed(outputStream);
+            }
+        };
+        final var filename = "app-" + Instant.now().getEpochSecond() + ".db.gz";
+        return ResponseEntity.ok()
+                .contentType(GZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.api.presentation.platformadmin;
+
+import com.example.api.infrastructure.bulkhead.TenantBulkheads;
+import com.example.api.infrastructure.persistence.SecondLevelCacheStatistics;
+import com.example.api.infrastructure.persistence.SlowQueryLog;
+import com.example.api.infrastructure.web.ConcurrencyLimiters;
+import com.example.api.infrastructure.web.RouteLatencyHistograms;
+import com.example.api.presentation.platformadmin.dto.SlowQueriesResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller exposing runtime diagnostics to platform admins.
+ */
+@RestController
+@RequestMapping("/api/platform/admin/diagnostics")
+public class PlatformDiagnosticsController {
+
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+    private final ConcurrencyLimiters concurrencyLimiters;
+    private final RouteLatencyHistograms routeLatencyHistograms;
+    private final SlowQueryLog slowQueryLog;
+    private final TenantBulkheads tenantBulkheads;
+
+    public PlatformDiagnosticsController(SecondLevelCacheStatistics secondLevelCacheStatistics,
+                                         ConcurrencyLimiters concurrencyLimiters,
+                                         RouteLatencyHistograms routeLatencyHistograms,
+                                         SlowQueryLog slowQueryLog,
+                                         TenantBulkheads tenantBulkheads) {
+        this.secondLevelCacheStatistics = secondLevelCacheStatistics;
+        this.concurrencyLimiters = concurrencyLimiters;
+        this.routeLatencyHistograms = routeLatencyHistograms;
+        this.slowQueryLog = slowQueryLog;
+        this.tenantBulkheads = tenantBulkheads;
+    }
+
+    @GetMapping("/cache")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<SecondLevelCacheStatistics.Snapshot> cacheStatistics() {
+        return ResponseEntity.ok(secondLevelCacheStatistics.snapshot());
+    }
+
+    @GetMapping("/concurrency")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<List<ConcurrencyLimiters.Snapshot>> concurrencyLimits() {
+        return ResponseEntity.ok(concurrencyLimiters.snapshot());
+    }
+
+    @GetMapping("/bulkheads")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<List<TenantBulkheads.Snapshot>> tenantBulkheads() {
+        return ResponseEntity.ok(tenantBulkheads.snapshot());
+    }
+
+    @GetMapping("/latency/routes")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<List<RouteLatencyHistograms.RouteStats>> routeLatency() {
+        return ResponseEntity.ok(routeLatencyHistograms.routes());
+    }
+
+    @GetMapping("/latency/projects")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<List<RouteLatencyHistograms.RouteStats>> projectLatency(
+            @RequestParam(required = false) String projectId) {
+        return ResponseEntity.ok(routeLatencyHistograms.projects(projectId));
+    }
+
+    @GetMapping("/slow-queries")
+    @PreAuthorize("hasAuthority('PLATFORM_ADMIN')")
+    public ResponseEntity<SlowQueriesResponseDto> slowQueries() {
+        return ResponseEntity.ok(new SlowQueriesResponseDto(
+                slowQueryLog.getThresholdMillis(),
+                slowQueryLog.getSlowQueryCount(),
+                slowQueryLog.recent()
+        ));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.api.presentation.platformadmin.dto;
+
+import com.example.api.infrastructure.persistence.DatabaseBackups;
+
+/**
+ * DTO describing a completed database backup. Only the file name is exposed,
+ * never its location on the server.
+ */
+public record DatabaseBackupResponseDto(
+        String fileName,
+        long bytes,
+        int pages,
+        int steps,
+        int restarts,
+        boolean singleStep,
+        long elapsedMillis,
+        long longestStepMillis
+) {
+    public static DatabaseBackupResponseDto from(DatabaseBackups.BackupReport report) {
+        return new DatabaseBackupResponseDto(
+                report.file().getFileName().toString(),
+                report.bytes(),
+                report.pages(),
+                report.steps(),
+                report.restarts(),
+                report.singleStep(),
+                report.elapsed().toMillis(),
+                report.longestStep().toMillis()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.api.presentation.platformadmin.dto;
+
+import com.example.api.infrastructure.persistence.SlowQueryLog;
+
+import java.util.List;
+
+/**
+ * DTO for the slow-query diagnostics response.
+ */
+public record SlowQueriesResponseDto(
+        long thresholdMillis,
+        long totalSlowQueries,
+        List<SlowQueryLog.SlowQuery> recent
+) {
+}
@@ -7,8 +7,10 @@ import com.example.api.application.project.ListOrganizationProjectsUseCase;
 import com.example.api.application.project.dto.ProjectResponse;
 import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.project.ProjectId;
+import com.example.api.presentation.common.ConditionalGet;
 import com.example.api.presentation.project.dto.CreateProjectRequestDto;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -53,18 +56,22 @@ public class ProjectController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> listProjects(@PathVariable String orgId) {
+    public ResponseEntity<List<ProjectResponse>> listProjects(
+            @PathVariable String orgId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         final var organizationId = OrganizationId.of(orgId);
-        final var projects = listOrganizationProjectsUseCase.execute(organizationId);
-        return ResponseEntity.ok(projects);
+        return ConditionalGet.respond(ifNoneMatch, listOrganizationProjectsUseCase.findVersion(organizationId),
+                () -> listOrganizationProjectsUseCase.execute(organizationId));
     }
 
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectResponse> getProject(
             @PathVariable String orgId,
-            @PathVariable String projectId) {
-        final var response = getProjectUseCase.execute(ProjectId.of(projectId));
-        return ResponseEntity.ok(response);
+            @PathVariable String projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final var id = ProjectId.of(projectId);
+        return ConditionalGet.respond(ifNoneMatch, getProjectUseCase.findVersion(id),
+                () -> getProjectUseCase.execute(id));
     }
 
     @DeleteMapping("/{projectId}")
@@ -0,0 +1,64 @@
+package com.example.api.presentation.project;
+
+import com.example.api.application.project.ExportProjectUsersUseCase;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * REST controller for exporting a project's end users.
+ */
+@RestController
+@RequestMapping("/api/v1/customers/orgs/{orgId}/projects/{projectId}/users")
+public class ProjectUserExportController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ExportProjectUsersUseCase exportProjectUsersUseCase;
+    private final JsonMapper jsonMapper;
+
+    public ProjectUserExportController(ExportProjectUsersUseCase exportProjectUsersUseCase,
+                                       JsonMapper jsonMapper) {
+        this.exportProjectUsersUseCase = exportProjectUsersUseCase;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Streams all users of the project as NDJSON (default) or CSV, optionally gzip-compressed.
+     * Requires an organization owner or admin.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            Authentication authentication,
+            @PathVariable String orgId,
+            @PathVariable String projectId,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        final var actorId = (String) authentication.getPrincipal();
+        final var exportFormat = UserExportFormat.parse(format);
+        final var validatedProjectId = exportProjectUsersUseCase.authorize(orgId, actorId, projectId);
+
+        final StreamingResponseBody body = outputStream -> {
+            try (final var writer = UserExportWriter.open(exportFormat, jsonMapper, outputStream, gzip)) {
+                exportProjectUsersUseCase.export(validatedProjectId, writer);
+            }
+        };
+
+        final var filename = "users-" + validatedProjectId.value() + "." + exportFormat.extension()
+                + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.api.presentation.project;
+
+import com.example.api.application.project.dto.ProjectUserExportRow;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes exported users row by row in NDJSON or CSV, optionally gzip-compressed.
+ *
+ * <p>Only a fixed-size output buffer is held; each row is written and released
+ * before the next is read.</p>
+ */
+final class UserExportWriter implements Consumer<ProjectUserExportRow>, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,email,name,banned,environment_id,created_at";
+
+    private final UserExportFormat format;
+    private final JsonMapper jsonMapper;
+    private final GZIPOutputStream gzip;
+    private final Writer writer;
+
+    private UserExportWriter(UserExportFormat format, JsonMapper jsonMapper, OutputStream output, boolean compress)
+            throws IOException {
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        this.gzip = compress ? new GZIPOutputStream(output, BUFFER_SIZE) : null;
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(compress ? gzip : output, StandardCharsets.UTF_8),
+                BUFFER_SIZE
+        );
+    }
+
+    static UserExportWriter open(UserExportFormat format, JsonMapper jsonMapper, OutputStream output, boolean compress)
+            throws IOException {
+        final var exportWriter = new UserExportWriter(format, jsonMapper, output, compress);
+        if (format == UserExportFormat.CSV) {
+            exportWriter.writer.write(CSV_HEADER);
+            exportWriter.writer.write('\n');
+        }
+        return exportWriter;
+    }
+
+    @Override
+    public void accept(ProjectUserExportRow row) {
+        try {
+            switch (format) {
+                case NDJSON -> writer.write(jsonMapper.writeValueAsString(row));
+                case CSV -> writeCsv(row);
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes buffered rows and writes the gzip trailer. The underlying stream
+     * is left open for the servlet container to close.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+
+    private void writeCsv(ProjectUserExportRow row) throws IOException {
+        writer.write(row.id());
+        writer.write(',');
+        writeCsvField(row.email());
+        writer.write(',');
+        writeCsvField(row.name());
+        writer.write(',');
+        writer.write(Boolean.toString(row.banned()));
+        writer.write(',');
+        if (row.environmentId() != null) {
+            writer.write(row.environmentId());
+        }
+        writer.write(',');
+        writer.write(row.createdAt().toString());
+    }
+
+    /**
+     * Writes a user-supplied field, quoted when needed. A leading {@code =},
+     * {@code +}, {@code -}, {@code @}, tab or carriage return is prefixed with
+     * {@code '} so spreadsheets open the value as text rather than a formula.
+     */
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        final var text = startsFormula(value) ? "'" + value : value;
+        final var needsQuoting = text.indexOf(',') >= 0
+                || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean startsFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> true;
+            default -> false;
+        };
+    }
+}
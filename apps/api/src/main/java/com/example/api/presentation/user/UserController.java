@@ -3,12 +3,15 @@ package com.example.api.presentation.user;
 import com.example.api.application.auth.dto.UserDto;
 import com.example.api.application.user.GetUserUseCase;
 import com.example.api.application.user.UpdateUserUseCase;
+import com.example.api.presentation.common.ConditionalGet;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import com.example.api.presentation.user.dto.UpdateUserRequestDto;
@@ -32,14 +35,20 @@ public class UserController {
     /**
      * Returns the currently authenticated user's profile.
      *
+     * <p>Answers 304 without loading the user when {@code If-None-Match} carries
+     * the current ETag.</p>
+     *
      * @param authentication the Spring Security authentication
+     * @param ifNoneMatch ETags the client already holds
      * @return user profile data
      */
     @GetMapping("/me")
-    public ResponseEntity<UserDto> getCurrentUser(Authentication authentication) {
+    public ResponseEntity<UserDto> getCurrentUser(
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         final var userId = (String) authentication.getPrincipal();
-        final var user = getUserUseCase.execute(userId);
-        return ResponseEntity.ok(user);
+        return ConditionalGet.respond(ifNoneMatch, getUserUseCase.findVersion(userId),
+                () -> getUserUseCase.execute(userId));
     }
 
     /**
@@ -0,0 +1,71 @@
+package com.example.api.presentation.webhook;
+
+import com.example.api.application.webhook.CreateWebhookEndpointUseCase;
+import com.example.api.application.webhook.DeleteWebhookEndpointUseCase;
+import com.example.api.application.webhook.ListWebhookEndpointsUseCase;
+import com.example.api.application.webhook.dto.CreateWebhookEndpointRequest;
+import com.example.api.application.webhook.dto.CreatedWebhookEndpointResponse;
+import com.example.api.application.webhook.dto.WebhookEndpointResponse;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.ProjectId;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for a project's webhook endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/customers/orgs/{orgId}/projects/{projectId}/webhooks")
+@PreAuthorize("hasAnyRole('OWNER', 'ADMIN')")
+public class WebhookEndpointController {
+
+    private final CreateWebhookEndpointUseCase createWebhookEndpointUseCase;
+    private final ListWebhookEndpointsUseCase listWebhookEndpointsUseCase;
+    private final DeleteWebhookEndpointUseCase deleteWebhookEndpointUseCase;
+
+    public WebhookEndpointController(CreateWebhookEndpointUseCase createWebhookEndpointUseCase,
+                                     ListWebhookEndpointsUseCase listWebhookEndpointsUseCase,
+                                     DeleteWebhookEndpointUseCase deleteWebhookEndpointUseCase) {
+        this.createWebhookEndpointUseCase = createWebhookEndpointUseCase;
+        this.listWebhookEndpointsUseCase = listWebhookEndpointsUseCase;
+        this.deleteWebhookEndpointUseCase = deleteWebhookEndpointUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WebhookEndpointResponse>> listWebhooks(
+            @PathVariable String orgId,
+            @PathVariable String projectId) {
+        final var endpoints = listWebhookEndpointsUseCase.execute(OrganizationId.of(orgId), ProjectId.of(projectId));
+        return ResponseEntity.ok(endpoints);
+    }
+
+    @PostMapping
+    public ResponseEntity<CreatedWebhookEndpointResponse> createWebhook(
+            @PathVariable String orgId,
+            @PathVariable String projectId,
+            @Valid @RequestBody CreateWebhookEndpointRequest request) {
+        final var response = createWebhookEndpointUseCase.execute(
+                OrganizationId.of(orgId), ProjectId.of(projectId), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{webhookId}")
+    public ResponseEntity<Void> deleteWebhook(
+            @PathVariable String orgId,
+            @PathVariable String projectId,
+            @PathVariable String webhookId) {
+        deleteWebhookEndpointUseCase.execute(OrganizationId.of(orgId), ProjectId.of(projectId), webhookId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.api.application.audit;
+
+import com.example.api.domain.user.Email;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuditDetailsTest {
+
+    private static final Email EMAIL = new Email("nobody@example.com");
+
+    @Test
+    void sameAddressAndKeyCorrelate() {
+        assertEquals(new AuditDetails("key-a").unknownEmail(EMAIL), new AuditDetails("key-a").unknownEmail(EMAIL));
+    }
+
+    @Test
+    void hashDependsOnTheServerKey() {
+        assertNotEquals(new AuditDetails("key-a").unknownEmail(EMAIL), new AuditDetails("key-b").unknownEmail(EMAIL));
+    }
+
+    @Test
+    void requiresAKey() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditDetails(" "));
+    }
+}
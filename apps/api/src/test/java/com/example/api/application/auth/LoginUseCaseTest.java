@@ -1,6 +1,10 @@
 package com.example.api.application.auth;
 
+import com.example.api.application.audit.AuditDetails;
 import com.example.api.application.auth.dto.LoginRequest;
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventPublisher;
+import com.example.api.domain.audit.AuditEventType;
 import com.example.api.domain.environment.EnvironmentId;
 import com.example.api.domain.project.ProjectId;
 import com.example.api.domain.user.Email;
@@ -14,15 +18,20 @@ import com.example.api.domain.user.exception.InvalidCredentialsException;
 import com.example.api.domain.user.exception.UserBannedException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,6 +51,12 @@ class LoginUseCaseTest {
     @Mock
     private AuthSessionService authSessionService;
 
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @Spy
+    private AuditDetails auditDetails = new AuditDetails("test-email-hash-key");
+
     @InjectMocks
     private LoginUseCase useCase;
 
@@ -57,6 +72,36 @@ class LoginUseCaseTest {
         verify(authSessionService, never()).createSession(user);
     }
 
+    @Test
+    void recordsFailedLoginInAuditLog() {
+        final var user = sampleUser();
+        when(userRepository.findByEmail(new Email("user@example.com"))).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("bad", user.getPassword().hashedValue())).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class, () ->
+                useCase.execute(new LoginRequest("user@example.com", "bad")));
+
+        final var captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditEventPublisher).publish(captor.capture());
+        assertEquals(AuditEventType.USER_LOGIN_FAILED, captor.getValue().type());
+        assertEquals("user-id", captor.getValue().actorId());
+        assertEquals("invalid_password", captor.getValue().detail());
+    }
+
+    @Test
+    void recordsUnknownEmailWithoutActorOrRawAddress() {
+        when(userRepository.findByEmail(new Email("nobody@example.com"))).thenReturn(Optional.empty());
+
+        assertThrows(InvalidCredentialsException.class, () ->
+                useCase.execute(new LoginRequest("nobody@example.com", "secret")));
+
+        final var captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditEventPublisher).publish(captor.capture());
+        assertNull(captor.getValue().actorId());
+        assertTrue(captor.getValue().detail().startsWith("unknown_email email_hmac="));
+        assertFalse(captor.getValue().detail().contains("nobody"));
+    }
+
     @Test
     void rejectsBannedUser() {
         final var user = new User(
@@ -1,5 +1,7 @@
 package com.example.api.application.auth.org;
 
+import com.example.api.application.audit.AuditDetails;
+import com.example.api.domain.audit.AuditEventPublisher;
 import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.organization.OrganizationMember;
 import com.example.api.domain.organization.OrganizationMemberId;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -38,6 +41,12 @@ class OrgMemberLoginUseCaseTest {
     @Mock
     private OrgTokenProvider tokenProvider;
 
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @Spy
+    private AuditDetails auditDetails = new AuditDetails("test-email-hash-key");
+
     @InjectMocks
     private OrgMemberLoginUseCase useCase;
 
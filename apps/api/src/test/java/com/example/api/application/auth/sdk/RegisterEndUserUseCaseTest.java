@@ -0,0 +1,77 @@
+package com.example.api.application.auth.sdk;
+
+import com.example.api.application.auth.TokenProvider;
+import com.example.api.application.auth.sdk.dto.SdkRegisterRequest;
+import com.example.api.domain.environment.EnvironmentId;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.quota.ProjectQuotas;
+import com.example.api.domain.user.PasswordEncoder;
+import com.example.api.domain.user.UserRepository;
+import com.example.api.domain.webhook.WebhookEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RegisterEndUserUseCaseTest {
+
+    private final ProjectId projectId = ProjectId.generate();
+    private final EnvironmentId environmentId = EnvironmentId.generate();
+
+    private UserRepository userRepository;
+    private ProjectQuotas projectQuotas;
+    private RegisterEndUserUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        projectQuotas = Mockito.mock(ProjectQuotas.class);
+        final var passwordEncoder = Mockito.mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenReturn("encoded");
+        when(userRepository.findByEmailAndProjectId(any(), any(), any())).thenReturn(Optional.empty());
+        useCase = new RegisterEndUserUseCase(
+                userRepository,
+                passwordEncoder,
+                Mockito.mock(TokenProvider.class),
+                Mockito.mock(WebhookEventPublisher.class),
+                projectQuotas);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void countsRegistrationOnlyAfterCommit() {
+        useCase.execute(new SdkRegisterRequest("new@example.com", "password123", "New"), projectId, environmentId);
+
+        verify(projectQuotas).checkEndUserCapacity(projectId);
+        verify(projectQuotas, never()).recordEndUserRegistered(any(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(projectQuotas).recordEndUserRegistered(eq(projectId), any());
+    }
+
+    @Test
+    void rolledBackRegistrationIsNotCounted() {
+        useCase.execute(new SdkRegisterRequest("new@example.com", "password123", "New"), projectId, environmentId);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(projectQuotas, never()).recordEndUserRegistered(any(), any());
+    }
+}
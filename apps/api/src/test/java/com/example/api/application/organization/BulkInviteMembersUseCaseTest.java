@@ -0,0 +1,210 @@
+package com.example.api.application.organization;
+
+import com.example.api.application.organization.dto.BulkInvitationStatus;
+import com.example.api.application.organization.dto.BulkInviteMembersRequest;
+import com.example.api.domain.organization.Organization;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.organization.OrganizationInvitation;
+import com.example.api.domain.organization.OrganizationInvitationRepository;
+import com.example.api.domain.organization.OrganizationMember;
+import com.example.api.domain.organization.OrganizationMemberId;
+import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.domain.organization.OrganizationMemberRole;
+import com.example.api.domain.organization.OrganizationRepository;
+import com.example.api.domain.organization.OrganizationStatus;
+import com.example.api.domain.user.Email;
+import com.example.api.domain.user.Password;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkInviteMembersUseCaseTest {
+
+    private static final OrganizationId ORGANIZATION_ID = OrganizationId.of("org-id");
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private OrganizationMemberRepository memberRepository;
+
+    @Mock
+    private OrganizationInvitationRepository invitationRepository;
+
+    private BulkInviteMembersUseCase useCase;
+    private OrganizationMember actor;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkInviteMembersUseCase(
+                organizationRepository, memberRepository, invitationRepository, 72, 100, 2);
+        actor = sampleMember(OrganizationMemberRole.ADMIN);
+    }
+
+    @Test
+    void reportsEveryRowAndInvitesOnlyNewDistinctValidEmails() {
+        stubActorAndOrganization();
+        when(memberRepository.findExistingEmails(eq(ORGANIZATION_ID), anyCollection()))
+                .thenReturn(Set.of(new Email("member@acme.com")));
+
+        final var response = useCase.execute(request(List.of(
+                new BulkInviteMembersRequest.Invitee("New@Acme.com", "admin"),
+                new BulkInviteMembersRequest.Invitee("member@acme.com", null),
+                new BulkInviteMembersRequest.Invitee("new@acme.com", "MEMBER"),
+                new BulkInviteMembersRequest.Invitee("not-an-email", "MEMBER"),
+                new BulkInviteMembersRequest.Invitee("other@acme.com", "SUPERUSER"),
+                new BulkInviteMembersRequest.Invitee("second@acme.com", null))));
+
+        final var statuses = response.rows().stream().map(row -> row.status()).toList();
+        assertEquals(List.of(
+                BulkInvitationStatus.INVITED,
+                BulkInvitationStatus.ALREADY_MEMBER,
+                BulkInvitationStatus.DUPLICATE,
+                BulkInvitationStatus.INVALID,
+                BulkInvitationStatus.INVALID,
+                BulkInvitationStatus.INVITED), statuses);
+        assertEquals(2, response.invited());
+        assertEquals(1, response.alreadyMembers());
+        assertEquals(1, response.duplicates());
+        assertEquals(2, response.invalid());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), response.rows().stream().map(row -> row.row()).toList());
+
+        final var first = response.rows().getFirst();
+        assertEquals("new@acme.com", first.email());
+        assertEquals("ADMIN", first.invitation().role());
+        assertEquals("MEMBER", response.rows().getLast().invitation().role());
+        assertNull(response.rows().get(1).invitation());
+    }
+
+    @Test
+    void checksExistingMembersWithOneQueryForAllCandidates() {
+        stubActorAndOrganization();
+        when(memberRepository.findExistingEmails(eq(ORGANIZATION_ID), anyCollection())).thenReturn(Set.of());
+
+        useCase.execute(request(invitees(5)));
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<Email>> emails = ArgumentCaptor.forClass(Collection.class);
+        verify(memberRepository, times(1)).findExistingEmails(eq(ORGANIZATION_ID), emails.capture());
+        assertEquals(5, emails.getValue().size());
+        verify(memberRepository, never()).findByEmailAndOrganizationId(any(), any());
+    }
+
+    @Test
+    void insertsInChunksWithDistinctTokens() {
+        stubActorAndOrganization();
+        when(memberRepository.findExistingEmails(eq(ORGANIZATION_ID), anyCollection())).thenReturn(Set.of());
+        final var chunks = new ArrayList<List<OrganizationInvitation>>();
+        doAnswer(invocation -> chunks.add(List.copyOf(invocation.<List<OrganizationInvitation>>getArgument(0))))
+                .when(invitationRepository).appendAll(anyList());
+
+        final var response = useCase.execute(request(invitees(5)));
+
+        assertEquals(List.of(2, 2, 1), chunks.stream().map(List::size).toList());
+        final var tokens = new HashSet<String>();
+        chunks.stream().flatMap(List::stream).forEach(invitation -> tokens.add(invitation.getToken()));
+        assertEquals(5, tokens.size());
+        assertEquals(5, response.invited());
+        response.rows().forEach(row -> assertNotNull(row.invitation().token()));
+    }
+
+    @Test
+    void failedChunkMarksOnlyItsOwnRowsAsFailed() {
+        stubActorAndOrganization();
+        when(memberRepository.findExistingEmails(eq(ORGANIZATION_ID), anyCollection())).thenReturn(Set.of());
+        doAnswer(invocation -> null)
+                .doThrow(new IllegalStateException("database is locked"))
+                .doAnswer(invocation -> null)
+                .when(invitationRepository).appendAll(anyList());
+
+        final var response = useCase.execute(request(invitees(5)));
+
+        assertEquals(List.of(
+                BulkInvitationStatus.INVITED,
+                BulkInvitationStatus.INVITED,
+                BulkInvitationStatus.FAILED,
+                BulkInvitationStatus.FAILED,
+                BulkInvitationStatus.INVITED), response.rows().stream().map(row -> row.status()).toList());
+        assertEquals(2, response.failed());
+        assertNotNull(response.rows().get(2).error());
+    }
+
+    @Test
+    void requiresOwnerOrAdmin() {
+        actor = sampleMember(OrganizationMemberRole.MEMBER);
+        when(memberRepository.findById(actor.getId())).thenReturn(Optional.of(actor));
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(request(invitees(1))));
+        verify(invitationRepository, never()).appendAll(anyList());
+    }
+
+    @Test
+    void rejectsRequestsOverTheRowLimit() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(request(invitees(101))));
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    void rejectsEmptyRequests() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(request(List.of())));
+    }
+
+    private void stubActorAndOrganization() {
+        when(memberRepository.findById(actor.getId())).thenReturn(Optional.of(actor));
+        when(organizationRepository.findById(ORGANIZATION_ID)).thenReturn(Optional.of(new Organization(
+                ORGANIZATION_ID, "Acme", "acme", OrganizationStatus.ACTIVE, LocalDateTime.now(), null)));
+    }
+
+    private BulkInviteMembersRequest request(List<BulkInviteMembersRequest.Invitee> invitees) {
+        return new BulkInviteMembersRequest(ORGANIZATION_ID.value(), actor.getId().value(), invitees);
+    }
+
+    private static List<BulkInviteMembersRequest.Invitee> invitees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new BulkInviteMembersRequest.Invitee("user" + i + "@acme.com", "MEMBER"))
+                .toList();
+    }
+
+    private static OrganizationMember sampleMember(OrganizationMemberRole role) {
+        return new OrganizationMember(
+                OrganizationMemberId.generate(),
+                ORGANIZATION_ID,
+                new Email("owner@acme.com"),
+                Password.fromHash("hashed"),
+                "Owner",
+                role,
+                false,
+                OrganizationStatus.ACTIVE,
+                null,
+                LocalDateTime.now(),
+                null
+        );
+    }
+}
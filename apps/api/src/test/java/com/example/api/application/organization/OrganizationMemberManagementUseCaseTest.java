@@ -3,6 +3,7 @@ package com.example.api.application.organization;
 import com.example.api.application.organization.dto.AcceptInvitationRequest;
 import com.example.api.application.organization.dto.InviteMemberRequest;
 import com.example.api.application.organization.dto.UpdateMemberRoleRequest;
+import com.example.api.domain.audit.AuditEventPublisher;
 import com.example.api.domain.organization.OrganizationId;
 import com.example.api.domain.organization.OrganizationInvitation;
 import com.example.api.domain.organization.OrganizationInvitationId;
@@ -53,6 +54,9 @@ class OrganizationMemberManagementUseCaseTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
     private OrganizationMemberManagementUseCase useCase;
 
     @BeforeEach
@@ -62,6 +66,7 @@ class OrganizationMemberManagementUseCaseTest {
                 memberRepository,
                 invitationRepository,
                 passwordEncoder,
+                auditEventPublisher,
                 72
         );
     }
@@ -0,0 +1,139 @@
+package com.example.api.application.platformadmin;
+
+import com.example.api.domain.environment.EnvironmentId;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.user.Email;
+import com.example.api.domain.user.Password;
+import com.example.api.domain.user.Role;
+import com.example.api.domain.user.User;
+import com.example.api.domain.user.UserCursor;
+import com.example.api.domain.user.UserFilter;
+import com.example.api.domain.user.UserId;
+import com.example.api.domain.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListAllEndUsersUseCaseTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ListAllEndUsersUseCase useCase;
+
+    @Test
+    void returnsNextCursorWhenMoreRowsExist() {
+        final var users = users(3);
+        when(userRepository.findPage(UserFilter.none(), Optional.empty(), 3))
+                .thenReturn(users);
+
+        final var response = useCase.execute(null, null, null, 2);
+
+        assertEquals(2, response.items().size());
+        assertNotNull(response.nextCursor());
+        assertEquals(UserCursor.of(users.get(1)), EndUserCursorCodec.decode(response.nextCursor()));
+    }
+
+    @Test
+    void omitsNextCursorOnLastPage() {
+        when(userRepository.findPage(any(), any(), anyInt())).thenReturn(users(2));
+
+        final var response = useCase.execute(null, null, null, 2);
+
+        assertEquals(2, response.items().size());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    void continuesAfterDecodedCursor() {
+        final var cursor = new UserCursor(BASE_TIME, UserId.of("user-1"));
+        when(userRepository.findPage(any(), eq(Optional.of(cursor)), anyInt())).thenReturn(List.of());
+
+        final var response = useCase.execute(null, null, EndUserCursorCodec.encode(cursor), 10);
+
+        assertEquals(0, response.items().size());
+        verify(userRepository).findPage(UserFilter.none(), Optional.of(cursor), 11);
+    }
+
+    @Test
+    void combinesEmailAndProjectFilters() {
+        final var projectId = ProjectId.generate();
+        when(userRepository.findPage(any(), any(), anyInt())).thenReturn(List.of());
+
+        useCase.execute(" Support@Example ", projectId.value(), null, null);
+
+        verify(userRepository).findPage(
+                new UserFilter(Optional.of("support@example"), Optional.of(projectId)),
+                Optional.empty(),
+                ListAllEndUsersUseCase.DEFAULT_PAGE_SIZE + 1
+        );
+    }
+
+    @Test
+    void clampsPageSizeToMaximum() {
+        when(userRepository.findPage(any(), any(), anyInt())).thenReturn(List.of());
+
+        useCase.execute(null, null, null, 100_000);
+
+        verify(userRepository).findPage(UserFilter.none(), Optional.empty(),
+                ListAllEndUsersUseCase.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () ->
+                useCase.execute(null, null, "not-a-cursor", 10));
+    }
+
+    @Test
+    void streamsEveryMatchingUserToConsumer() {
+        when(userRepository.streamAll(UserFilter.none())).thenReturn(users(5).stream());
+        final var received = new ArrayList<EndUserSummaryResponse>();
+
+        useCase.stream(null, null, received::add);
+
+        assertEquals(5, received.size());
+        assertEquals("user0@example.com", received.getFirst().email());
+    }
+
+    private static List<User> users(int count) {
+        final var projectId = ProjectId.generate();
+        final var environmentId = EnvironmentId.generate();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new User(
+                        UserId.generate(),
+                        new Email("user" + i + "@example.com"),
+                        Password.fromHash("hash"),
+                        "User " + i,
+                        Role.USER,
+                        false,
+                        null,
+                        projectId,
+                        environmentId,
+                        BASE_TIME.plusMinutes(i)
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.api.application.platformadmin;
+
+import com.example.api.domain.organization.Organization;
+import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.domain.organization.OrganizationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListAllOrganizationsUseCaseTest {
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private OrganizationMemberRepository organizationMemberRepository;
+
+    @InjectMocks
+    private ListAllOrganizationsUseCase useCase;
+
+    @Test
+    void resolvesMemberCountsWithSingleGroupedQuery() {
+        final var organizations = IntStream.range(0, 50)
+                .mapToObj(i -> Organization.create("Org " + i, "org-" + i))
+                .toList();
+        when(organizationRepository.findAll()).thenReturn(organizations);
+        when(organizationMemberRepository.countByOrganizationIds(anyCollection()))
+                .thenReturn(Map.of(
+                        organizations.get(0).getId(), 3L,
+                        organizations.get(1).getId(), 1L
+                ));
+
+        final var response = useCase.execute();
+
+        assertEquals(50, response.size());
+        assertEquals(3L, response.get(0).memberCount());
+        assertEquals(1L, response.get(1).memberCount());
+        assertEquals(0L, response.get(49).memberCount());
+
+        verify(organizationRepository, times(1)).findAll();
+        verify(organizationMemberRepository, times(1)).countByOrganizationIds(anyCollection());
+        verifyNoMoreInteractions(organizationRepository, organizationMemberRepository);
+    }
+
+    @Test
+    void returnsEmptyListWhenNoOrganizations() {
+        when(organizationRepository.findAll()).thenReturn(List.of());
+        when(organizationMemberRepository.countByOrganizationIds(List.of())).thenReturn(Map.of());
+
+        final var response = useCase.execute();
+
+        assertEquals(0, response.size());
+    }
+}
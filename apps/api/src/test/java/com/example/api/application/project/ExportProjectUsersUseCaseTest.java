@@ -0,0 +1,111 @@
+package com.example.api.application.project;
+
+import com.example.api.domain.environment.EnvironmentId;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.organization.OrganizationMember;
+import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.domain.organization.OrganizationMemberRole;
+import com.example.api.domain.organization.exception.OrganizationMemberNotFoundException;
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.project.exception.ProjectNotFoundException;
+import com.example.api.domain.user.Email;
+import com.example.api.domain.user.Password;
+import com.example.api.domain.user.User;
+import com.example.api.domain.user.UserFilter;
+import com.example.api.domain.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportProjectUsersUseCaseTest {
+
+    @Mock
+    private OrganizationMemberRepository memberRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ExportProjectUsersUseCase useCase;
+
+    @Test
+    void authorizesAdminForProjectInOwnOrganization() {
+        final var orgId = OrganizationId.generate();
+        final var actor = member(orgId, OrganizationMemberRole.ADMIN);
+        final var project = Project.create(orgId, "Project", "project", null);
+        when(memberRepository.findById(actor.getId())).thenReturn(Optional.of(actor));
+        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+
+        final var projectId = useCase.authorize(orgId.value(), actor.getId().value(), project.getId().value());
+
+        assertEquals(project.getId(), projectId);
+    }
+
+    @Test
+    void rejectsActorFromAnotherOrganization() {
+        final var actor = member(OrganizationId.generate(), OrganizationMemberRole.OWNER);
+        when(memberRepository.findById(actor.getId())).thenReturn(Optional.of(actor));
+
+        assertThrows(OrganizationMemberNotFoundException.class, () ->
+                useCase.authorize(OrganizationId.generate().value(), actor.getId().value(), "project-id"));
+    }
+
+    @Test
+    void rejectsPlainMembers() {
+        final var orgId = OrganizationId.generate();
+        final var actor = member(orgId, OrganizationMemberRole.MEMBER);
+        when(memberRepository.findById(actor.getId())).thenReturn(Optional.of(actor));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                useCase.authorize(orgId.value(), actor.getId().value(), "project-id"));
+    }
+
+    @Test
+    void hidesProjectsOfOtherOrganizations() {
+        final var orgId = OrganizationId.generate();
+        final var actor = member(orgId, OrganizationMemberRole.OWNER);
+        final var foreignProject = Project.create(OrganizationId.generate(), "Other", "other", null);
+        when(memberRepository.findById(actor.getId())).thenReturn(Optional.of(actor));
+        when(projectRepository.findById(foreignProject.getId())).thenReturn(Optional.of(foreignProject));
+
+        assertThrows(ProjectNotFoundException.class, () ->
+                useCase.authorize(orgId.value(), actor.getId().value(), foreignProject.getId().value()));
+    }
+
+    @Test
+    void exportsEveryProjectUserToConsumer() {
+        final var project = Project.create(OrganizationId.generate(), "Project", "project", null);
+        final var environmentId = EnvironmentId.generate();
+        final var users = Stream.of("a@example.com", "b@example.com")
+                .map(email -> User.registerEndUser(
+                        new Email(email), Password.fromHash("hash"), "User", project.getId(), environmentId));
+        when(userRepository.streamAll(new UserFilter(Optional.empty(), Optional.of(project.getId()))))
+                .thenReturn(users);
+        final var rows = new ArrayList<String>();
+
+        useCase.export(project.getId(), row -> rows.add(row.email()));
+
+        assertEquals(2, rows.size());
+        assertEquals("a@example.com", rows.getFirst());
+    }
+
+    private static OrganizationMember member(OrganizationId orgId, OrganizationMemberRole role) {
+        return OrganizationMember.createMember(
+                orgId, new Email("actor@acme.com"), Password.fromHash("hash"), "Actor", role);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.api.application.project;
+
+import com.example.api.domain.environment.Environment;
+import com.example.api.domain.environment.EnvironmentRepository;
+import com.example.api.domain.environment.EnvironmentType;
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListOrganizationProjectsUseCaseTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private EnvironmentRepository environmentRepository;
+
+    @InjectMocks
+    private ListOrganizationProjectsUseCase useCase;
+
+    @Test
+    void fetchesEnvironmentsForAllProjectsInSingleQuery() {
+        final var orgId = OrganizationId.generate();
+        final var projects = IntStream.range(0, 20)
+                .mapToObj(i -> Project.create(orgId, "Project " + i, "project-" + i, null))
+                .toList();
+        final var environments = projects.stream()
+                .limit(10)
+                .flatMap(p -> Stream.of(
+                        Environment.create(p.getId(), EnvironmentType.PROD),
+                        Environment.create(p.getId(), EnvironmentType.DEV)
+                ))
+                .toList();
+        when(projectRepository.listByOrganizationId(orgId)).thenReturn(projects);
+        when(environmentRepository.listByProjectIds(anyCollection())).thenReturn(environments);
+
+        final var response = useCase.execute(orgId);
+
+        assertEquals(20, response.size());
+        assertEquals(2, response.get(0).environments().size());
+        assertTrue(response.get(19).environments().isEmpty());
+
+        verify(projectRepository, times(1)).listByOrganizationId(orgId);
+        verify(environmentRepository, times(1)).listByProjectIds(anyCollection());
+        verifyNoMoreInteractions(projectRepository, environmentRepository);
+    }
+}
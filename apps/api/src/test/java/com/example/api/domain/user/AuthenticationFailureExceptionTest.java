@@ -0,0 +1,24 @@
+package com.example.api.domain.user;
+
+import com.example.api.domain.user.exception.InvalidCredentialsException;
+import com.example.api.domain.user.exception.InvalidTokenException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuthenticationFailureExceptionTest {
+
+    @Test
+    void expectedAuthFailuresCarryNoStackTrace() {
+        assertEquals(0, new InvalidCredentialsException().getStackTrace().length);
+        assertEquals(0, new InvalidTokenException().getStackTrace().length);
+    }
+
+    @Test
+    void suppressedExceptionsAreDiscarded() {
+        final var exception = new InvalidCredentialsException();
+        exception.addSuppressed(new IllegalStateException("cleanup failed"));
+
+        assertEquals(0, exception.getSuppressed().length);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.api.domain.webhook;
+
+import com.example.api.domain.project.ProjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebhookEndpointTest {
+
+    private static final Set<WebhookEventType> EVENTS = Set.of(WebhookEventType.END_USER_REGISTERED);
+
+    @Test
+    void acceptsHostnamesWithoutResolvingThem() {
+        // Whether the host may be contacted is decided when a delivery is sent
+        final var endpoint = WebhookEndpoint.create(ProjectId.generate(), "https://hooks.invalid/hook", EVENTS, false);
+
+        assertEquals("https://hooks.invalid/hook", endpoint.getUrl());
+    }
+
+    @Test
+    void rejectsRelativeUrls() {
+        assertThrows(IllegalArgumentException.class,
+                () -> WebhookEndpoint.create(ProjectId.generate(), "/hook", EVENTS, false));
+    }
+
+    @Test
+    void acceptsPublicAddress() {
+        final var endpoint = WebhookEndpoint.create(ProjectId.generate(), "https://93.184.216.34/hook", EVENTS, false);
+
+        assertEquals("https://93.184.216.34/hook", endpoint.getUrl());
+    }
+
+    @Test
+    void acceptsInternalHostsInLocalDevelopment() {
+        final var endpoint = WebhookEndpoint.create(ProjectId.generate(), "http://127.0.0.1:9000/hook", EVENTS, true);
+
+        assertEquals("http://127.0.0.1:9000/hook", endpoint.getUrl());
+    }
+
+    @Test
+    void rejectsPlainHttp() {
+        assertThrows(IllegalArgumentException.class,
+                () -> WebhookEndpoint.create(ProjectId.generate(), "http://93.184.216.34/hook", EVENTS, false));
+    }
+}
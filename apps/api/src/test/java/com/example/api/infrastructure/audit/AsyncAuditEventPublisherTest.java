@@ -0,0 +1,93 @@
+package com.example.api.infrastructure.audit;
+
+import com.example.api.domain.audit.AuditEvent;
+import com.example.api.domain.audit.AuditEventRepository;
+import com.example.api.domain.audit.AuditEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AsyncAuditEventPublisherTest {
+
+    private AuditEventRepository repository;
+    private SimpleMeterRegistry registry;
+    private AsyncAuditEventPublisher publisher;
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(AuditEventRepository.class);
+        registry = new SimpleMeterRegistry();
+        batchSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<List<AuditEvent>>getArgument(0).size());
+            return null;
+        }).when(repository).appendAll(anyList());
+
+        final var properties = new AuditProperties();
+        properties.setBufferCapacity(8);
+        properties.setBatchSize(3);
+        publisher = new AsyncAuditEventPublisher(repository, properties, registry);
+    }
+
+    @Test
+    void publishDoesNotTouchRepository() {
+        publisher.publish(event());
+
+        verify(repository, never()).appendAll(anyList());
+        assertEquals(1, publisher.pendingCount());
+    }
+
+    @Test
+    void flushWritesInBatches() {
+        for (var i = 0; i < 7; i++) {
+            publisher.publish(event());
+        }
+
+        publisher.flush();
+
+        assertEquals(List.of(3, 3, 1), batchSizes);
+        assertEquals(0, publisher.pendingCount());
+        assertEquals(7.0, registry.get("audit.events.written").counter().count());
+    }
+
+    @Test
+    void dropsEventsWhenBufferIsFull() {
+        for (var i = 0; i < 10; i++) {
+            publisher.publish(event());
+        }
+
+        publisher.flush();
+
+        assertEquals(8, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(2.0, registry.get("audit.events.dropped").counter().count());
+    }
+
+    @Test
+    void countsFailedBatchesAndKeepsDraining() {
+        doThrow(new IllegalStateException("disk full")).when(repository).appendAll(anyList());
+        for (var i = 0; i < 4; i++) {
+            publisher.publish(event());
+        }
+
+        publisher.flush();
+
+        assertEquals(4.0, registry.get("audit.events.failed").counter().count());
+        assertEquals(0, publisher.pendingCount());
+    }
+
+    private static AuditEvent event() {
+        return AuditEvent.create(AuditEventType.USER_LOGIN_SUCCEEDED, "user-id", null, null, null, null);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.api.infrastructure.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingBufferTest {
+
+    @Test
+    void rejectsWhenFullAndAcceptsAfterDrain() {
+        final var buffer = new MpscRingBuffer<Integer>(4);
+        for (var i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        final var drained = new ArrayList<Integer>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertTrue(buffer.offer(4));
+        buffer.drainTo(drained, 10);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void requiresPowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(6));
+    }
+
+    @Test
+    void concurrentProducersLoseNothing() throws Exception {
+        final var buffer = new MpscRingBuffer<Integer>(1 << 16);
+        final var producers = 8;
+        final var perProducer = 5_000;
+        final var start = new CountDownLatch(1);
+
+        try (final var executor = Executors.newFixedThreadPool(producers)) {
+            for (var p = 0; p < producers; p++) {
+                final var base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (var i = 0; i < perProducer; i++) {
+                        buffer.offer(base + i);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        final var drained = new ArrayList<Integer>();
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+        assertEquals(producers * perProducer, drained.size());
+        assertEquals(producers * perProducer, drained.stream().distinct().count());
+    }
+}
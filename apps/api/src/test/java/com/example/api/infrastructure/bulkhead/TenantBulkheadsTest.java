@@ -0,0 +1,164 @@
+package com.example.api.infrastructure.bulkhead;
+
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.subscription.SubscriptionPlan;
+import com.example.api.infrastructure.quota.QuotaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class TenantBulkheadsTest {
+
+    private final ProjectId basicProject = ProjectId.generate();
+    private final ProjectId proProject = ProjectId.generate();
+    private final OrganizationId proOrganization = OrganizationId.generate();
+
+    private TenantBulkheadProperties properties;
+    private SimpleMeterRegistry registry;
+    private TenantBulkheads bulkheads;
+
+    @BeforeEach
+    void setUp() {
+        final var projectRepository = Mockito.mock(ProjectRepository.class);
+        final var basic = Mockito.mock(Project.class);
+        when(basic.getOrganizationId()).thenReturn(OrganizationId.generate());
+        final var pro = Mockito.mock(Project.class);
+        when(pro.getOrganizationId()).thenReturn(proOrganization);
+        when(projectRepository.findById(basicProject)).thenReturn(Optional.of(basic));
+        when(projectRepository.findById(proProject)).thenReturn(Optional.of(pro));
+
+        final var quotaProperties = new QuotaProperties();
+        quotaProperties.setOrganizationPlans(Map.of(proOrganization.value(), SubscriptionPlan.PRO));
+
+        properties = new TenantBulkheadProperties();
+        properties.setRequestsPerWeight(2);
+        properties.setConnectionsPerWeight(1);
+        properties.setMaxConnections(2);
+        properties.setMaxRequestWait(Duration.ofMillis(10));
+        properties.setMaxConnectionWait(Duration.ofMillis(10));
+        registry = new SimpleMeterRegistry();
+        bulkheads = new TenantBulkheads(properties, projectRepository, quotaProperties, registry, 200);
+    }
+
+    @Test
+    void capsConcurrentRequestsPerProjectOnly() {
+        assertTrue(bulkheads.tryEnter(basicProject));
+        assertTrue(bulkheads.tryEnter(basicProject));
+        assertFalse(bulkheads.tryEnter(basicProject));
+
+        // Another project has its own permits
+        assertTrue(bulkheads.tryEnter(proProject));
+        bulkheads.exit();
+
+        assertEquals(1.0, registry.get("tenant.bulkhead.rejections")
+                .tag("project", basicProject.value())
+                .tag("resource", "requests")
+                .counter().count());
+        assertEquals(1.0, registry.get("tenant.bulkhead.saturation")
+                .tag("project", basicProject.value())
+                .tag("resource", "requests")
+                .gauge().value());
+    }
+
+    @Test
+    void capacityScalesWithPlanWeight() {
+        assertTrue(bulkheads.tryEnter(basicProject));
+        bulkheads.exit();
+        assertTrue(bulkheads.tryEnter(proProject));
+        bulkheads.exit();
+
+        final var snapshots = bulkheads.snapshot();
+        final var basic = snapshots.stream().filter(s -> s.projectId().equals(basicProject.value())).findFirst().orElseThrow();
+        final var pro = snapshots.stream().filter(s -> s.projectId().equals(proProject.value())).findFirst().orElseThrow();
+        assertEquals(2, basic.requestCapacity());
+        assertEquals(1, basic.connectionCapacity());
+        assertEquals(6, pro.requestCapacity());
+        // Capped by max-connections rather than 3 x 1
+        assertEquals(2, pro.connectionCapacity());
+    }
+
+    @Test
+    void exitReleasesTheRequestPermit() {
+        for (var i = 0; i < 5; i++) {
+            assertTrue(bulkheads.tryEnter(basicProject));
+            bulkheads.exit();
+        }
+        assertEquals(0, bulkheads.snapshot().getFirst().requestsInFlight());
+    }
+
+    @Test
+    void nestedConnectionsShareOnePermitUntilTheLastCloses() throws Exception {
+        assertTrue(bulkheads.tryEnter(basicProject));
+        final var outer = bulkheads.acquireConnection();
+        final var inner = bulkheads.acquireConnection();
+        assertEquals(1, bulkheads.snapshot().getFirst().connectionsInUse());
+
+        outer.release();
+        outer.release();
+        assertEquals(1, bulkheads.snapshot().getFirst().connectionsInUse());
+        inner.release();
+        assertEquals(0, bulkheads.snapshot().getFirst().connectionsInUse());
+        bulkheads.exit();
+    }
+
+    @Test
+    void connectionIsRejectedWhileAnotherRequestOfTheProjectHoldsTheCap() throws Exception {
+        final var holding = new CountDownLatch(1);
+        final var done = new CountDownLatch(1);
+        final var holder = Thread.ofVirtual().start(() -> {
+            bulkheads.tryEnter(basicProject);
+            try {
+                bulkheads.acquireConnection();
+                holding.countDown();
+                done.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                bulkheads.exit();
+            }
+        });
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        assertTrue(bulkheads.tryEnter(basicProject));
+        assertThrows(TenantBulkheadFullException.class, () -> bulkheads.acquireConnection());
+        bulkheads.exit();
+
+        done.countDown();
+        holder.join();
+        // exit() returned the permit the holder never released
+        assertEquals(0, bulkheads.snapshot().getFirst().connectionsInUse());
+    }
+
+    @Test
+    void connectionsOutsideABoundRequestAreNotCharged() throws Exception {
+        assertSame(TenantBulkheads.ConnectionPermit.NONE, bulkheads.acquireConnection());
+    }
+
+    @Test
+    void disabledBulkheadsAdmitEverything() throws Exception {
+        properties.setEnabled(false);
+
+        for (var i = 0; i < 10; i++) {
+            assertTrue(bulkheads.tryEnter(basicProject));
+        }
+        assertSame(TenantBulkheads.ConnectionPermit.NONE, bulkheads.acquireConnection());
+        assertTrue(bulkheads.snapshot().isEmpty());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheInvalidationBusTest {
+
+    private static final String SECRET = "test-cache-bus-secret";
+
+    private final List<CacheInvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(CacheInvalidationBus::close);
+    }
+
+    @Test
+    void deliversInvalidationsToPeersAndRecordsLag() throws Exception {
+        final var receiverRegistry = new SimpleMeterRegistry();
+        final int receiverPort = freePort();
+        final int senderPort = freePort();
+        final var receiver = bus(receiverPort, List.of(peer(senderPort)), SECRET, receiverRegistry);
+        final var sender = bus(senderPort, List.of(peer(receiverPort)), SECRET, new SimpleMeterRegistry());
+        final var invalidated = new LinkedBlockingQueue<String>();
+        receiver.subscribe("users", invalidated::add);
+
+        sender.publish("users", "user-1");
+
+        assertEquals("user-1", invalidated.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, receiverRegistry.get("cache.invalidation.lag").tag("region", "users").timer().count());
+        assertEquals(1.0, receiverRegistry.get("cache.invalidation.messages")
+                .tag("outcome", "received").counter().count());
+    }
+
+    @Test
+    void routesByRegionAndIgnoresUnknownRegions() throws Exception {
+        final var registry = new SimpleMeterRegistry();
+        final int receiverPort = freePort();
+        final int senderPort = freePort();
+        final var receiver = bus(receiverPort, List.of(peer(senderPort)), SECRET, registry);
+        final var sender = bus(senderPort, List.of(peer(receiverPort)), SECRET, new SimpleMeterRegistry());
+        final var users = new LinkedBlockingQueue<String>();
+        final var apiKeys = new LinkedBlockingQueue<String>();
+        receiver.subscribe("users", users::add);
+        receiver.subscribe("api-keys", apiKeys::add);
+
+        sender.publish("unknown", "x");
+        sender.publish("api-keys", "key-1");
+
+        assertEquals("key-1", apiKeys.poll(5, TimeUnit.SECONDS));
+        assertNull(users.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1.0, registry.get("cache.invalidation.messages").tag("outcome", "ignored").counter().count());
+    }
+
+    @Test
+    void dropsMalformedDatagrams() throws Exception {
+        final var registry = new SimpleMeterRegistry();
+        final int senderPort = freePort();
+        final var receiver = bus(freePort(), List.of(peer(senderPort)), SECRET, registry);
+        final var invalidated = new LinkedBlockingQueue<String>();
+        receiver.subscribe("users", invalidated::add);
+
+        try (final var socket = new DatagramSocket(new InetSocketAddress("127.0.0.1", senderPort))) {
+            final var garbage = "2\tnode\tnot-a-number\tusers\tuser-1".getBytes(StandardCharsets.UTF_8);
+            socket.send(new DatagramPacket(garbage, garbage.length,
+                    new InetSocketAddress("127.0.0.1", receiver.localPort())));
+        }
+
+        assertNull(invalidated.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(1.0, registry.get("cache.invalidation.messages").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void rejectsDatagramsFromInstancesThatAreNotPeers() throws Exception {
+        final var registry = new SimpleMeterRegistry();
+        final int receiverPort = freePort();
+        final var receiver = bus(receiverPort, List.of(peer(freePort())), SECRET, registry);
+        final var stranger = bus(freePort(), List.of(peer(receiverPort)), SECRET, new SimpleMeterRegistry());
+        final var invalidated = new LinkedBlockingQueue<String>();
+        receiver.subscribe("users", invalidated::add);
+
+        stranger.publish("users", "user-1");
+
+        assertNull(invalidated.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(1.0, registry.get("cache.invalidation.messages").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void rejectsDatagramsSignedWithAnotherSecret() throws Exception {
+        final var registry = new SimpleMeterRegistry();
+        final int receiverPort = freePort();
+        final int senderPort = freePort();
+        final var receiver = bus(receiverPort, List.of(peer(senderPort)), SECRET, registry);
+        final var sender = bus(senderPort, List.of(peer(receiverPort)), "another-secret", new SimpleMeterRegistry());
+        final var invalidated = new LinkedBlockingQueue<String>();
+        receiver.subscribe("users", invalidated::add);
+
+        sender.publish("users", "user-1");
+
+        assertNull(invalidated.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(1.0, registry.get("cache.invalidation.messages").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void refusesToStartWithoutASecret() {
+        assertThrows(IllegalArgumentException.class,
+                () -> bus(freePort(), List.of(), "", new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void ignoresItsOwnDatagrams() throws Exception {
+        final int port = freePort();
+        final var self = bus(port, List.of(peer(port)), SECRET, new SimpleMeterRegistry());
+        final var invalidated = new LinkedBlockingQueue<String>();
+        self.subscribe("users", invalidated::add);
+
+        self.publish("users", "user-1");
+
+        assertNull(invalidated.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void disabledBusBindsNothingAndPublishesNothing() throws Exception {
+        final var bus = track(new CacheInvalidationBus(new LookupCacheProperties(), new SimpleMeterRegistry()));
+
+        bus.publish("users", "user-1");
+
+        assertEquals(-1, bus.localPort());
+    }
+
+    @Test
+    void encodesAndDecodesInvalidations() {
+        final var message = new CacheInvalidation("node", 42L, "api-keys", "key-1");
+        final var data = message.encode();
+
+        assertEquals(message, CacheInvalidation.decode(data, data.length).orElseThrow());
+        assertTrue(CacheInvalidation.decode(new byte[]{'1'}, 1).isEmpty());
+    }
+
+    private CacheInvalidationBus bus(int port, List<String> peers, String secret, SimpleMeterRegistry registry)
+            throws SocketException {
+        final var properties = new LookupCacheProperties();
+        properties.getBus().setEnabled(true);
+        properties.getBus().setPort(port);
+        properties.getBus().setPeers(peers);
+        properties.getBus().setSecret(secret);
+        return track(new CacheInvalidationBus(properties, registry));
+    }
+
+    private static String peer(int port) {
+        return "127.0.0.1:" + port;
+    }
+
+    private CacheInvalidationBus track(CacheInvalidationBus bus) {
+        buses.add(bus);
+        return bus;
+    }
+
+    private static int freePort() throws SocketException {
+        try (final var socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
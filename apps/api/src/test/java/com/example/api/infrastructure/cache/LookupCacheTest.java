@@ -0,0 +1,209 @@
+package com.example.api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.DatagramSocket;
+import java.net.SocketException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LookupCacheTest {
+
+    private static final class Account {
+
+        private final String id;
+        private String name;
+
+        private Account(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        private Account copy() {
+            return new Account(id, name);
+        }
+    }
+
+    private final Map<String, Account> database = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CacheInvalidationBus bus;
+    private LookupCache<Account> cache;
+
+    @BeforeEach
+    void setUp() throws SocketException {
+        database.put("a1", new Account("a1", "first"));
+        bus = new CacheInvalidationBus(new LookupCacheProperties(), new SimpleMeterRegistry());
+        cache = newCache(bus, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        bus.close();
+    }
+
+    @Test
+    void servesRepeatedLookupsFromMemoryAsCopies() {
+        final var first = cache.get("a1", this::load).orElseThrow();
+        first.name = "mutated by caller";
+        final var second = cache.get("a1", this::load).orElseThrow();
+
+        assertEquals(1, loads.get());
+        assertEquals("first", second.name);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void doesNotCacheMisses() {
+        assertTrue(cache.get("a2", this::load).isEmpty());
+        database.put("a2", new Account("a2", "new"));
+
+        assertEquals("new", cache.get("a2", this::load).orElseThrow().name);
+    }
+
+    @Test
+    void invalidateDropsTheEntry() {
+        cache.get("a1", this::load);
+        database.get("a1").name = "renamed";
+
+        cache.invalidate("a1");
+
+        assertEquals("renamed", cache.get("a1", this::load).orElseThrow().name);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateByIdFindsEntriesKeyedByAnotherValue() {
+        final var byName = newCache(bus, account -> account.id);
+        byName.get("first", name -> Optional.ofNullable(database.get("a1")).map(Account::copy));
+
+        byName.invalidate("a1");
+
+        assertEquals(0, byName.size());
+    }
+
+    @Test
+    void invalidateByIdCatchesALoadStillInFlight() throws Exception {
+        final var byName = newCache(bus, account -> account.id);
+        final var readOldRow = new CountDownLatch(1);
+        final var committed = new CountDownLatch(1);
+        try (final var executor = Executors.newSingleThreadExecutor()) {
+            final var slowLookup = executor.submit(() -> byName.get("first", name -> {
+                final var row = database.get("a1").copy();
+                readOldRow.countDown();
+                await(committed);
+                return Optional.of(row);
+            }));
+            readOldRow.await();
+
+            database.get("a1").name = "renamed";
+            byName.invalidate("a1");
+            committed.countDown();
+
+            assertEquals("first", slowLookup.get().orElseThrow().name);
+        }
+
+        final var reloaded = byName.get("first", name -> Optional.of(database.get("a1").copy()));
+        assertEquals("renamed", reloaded.orElseThrow().name);
+    }
+
+    @Test
+    void lookupsInsideATransactionReadTheDatabase() {
+        cache.get("a1", this::load);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        cache.get("a1", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidationIsRepeatedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate("a1");
+        // A read before the commit caches the old row again
+        cache.get("a1", this::load);
+        assertEquals(1, cache.size());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidationOnOneInstanceEvictsOnAnother() throws Exception {
+        final int receiverPort = freePort();
+        final int senderPort = freePort();
+        final var receiverBus = enabledBus(receiverPort, "127.0.0.1:" + senderPort);
+        final var senderBus = enabledBus(senderPort, "127.0.0.1:" + receiverPort);
+        try {
+            final var receiver = newCache(receiverBus, null);
+            final var sender = newCache(senderBus, null);
+            receiver.get("a1", this::load);
+
+            sender.invalidate("a1");
+
+            final var deadline = System.nanoTime() + 5_000_000_000L;
+            while (receiver.size() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, receiver.size());
+        } finally {
+            receiverBus.close();
+            senderBus.close();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Optional<Account> load(String id) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(database.get(id)).map(Account::copy);
+    }
+
+    private LookupCache<Account> newCache(CacheInvalidationBus cacheBus, Function<Account, String> idOf) {
+        return new LookupCache<>("accounts", new LookupCacheProperties(), Account::copy, idOf, cacheBus,
+                new SimpleMeterRegistry());
+    }
+
+    private static CacheInvalidationBus enabledBus(int port, String peer) throws SocketException {
+        final var properties = new LookupCacheProperties();
+        properties.getBus().setEnabled(true);
+        properties.getBus().setPort(port);
+        properties.getBus().setPeers(List.of(peer));
+        properties.getBus().setSecret("test-cache-bus-secret");
+        return new CacheInvalidationBus(properties, new SimpleMeterRegistry());
+    }
+
+    private static int freePort() throws SocketException {
+        try (final var socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
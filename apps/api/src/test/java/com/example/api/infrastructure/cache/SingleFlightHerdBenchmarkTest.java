@@ -0,0 +1,137 @@
+package com.example.api.infrastructure.cache;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Thundering-herd comparison: a burst of callers looks up the same API key in
+ * a SQLite database through a connection pool the size of the application's,
+ * once with every caller querying and once coalesced through
+ * {@link SingleFlight}. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class SingleFlightHerdBenchmarkTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int HERD_SIZE = 500;
+    private static final int ROUNDS = 5;
+    private static final String KEY_HASH = "herd-key-hash";
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp(@TempDir Path dir) throws SQLException {
+        final var config = new HikariConfig();
+        config.setJdbcUrl("jdbc:sqlite:" + dir.resolve("herd.db"));
+        config.setMaximumPoolSize(POOL_SIZE);
+        dataSource = new HikariDataSource(config);
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE api_keys (key_hash TEXT PRIMARY KEY, project_id TEXT NOT NULL)");
+            statement.execute("INSERT INTO api_keys VALUES ('" + KEY_HASH + "', 'project-1')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void coalescingCutsQueriesUnderAHerd() throws Exception {
+        // On one core each caller's query finishes before the next caller runs, so no herd forms
+        assumeTrue(Runtime.getRuntime().availableProcessors() > 1, "needs more than one processor");
+        final var flight = new SingleFlight<String, Optional<String>>("benchmark", new SimpleMeterRegistry());
+
+        // Warm the pool and the JIT for both paths before measuring
+        herd(this::query);
+        herd(key -> flight.execute(key, () -> query(key)));
+
+        final var direct = measure("direct", this::query);
+        final var coalesced = measure("single-flight", key -> flight.execute(key, () -> query(key)));
+
+        assertTrue(coalesced.queries() < direct.queries(),
+                "single-flight ran " + coalesced.queries() + " queries, direct ran " + direct.queries());
+    }
+
+    private Result measure(String name, Function<String, Optional<String>> lookup) throws Exception {
+        queries.set(0);
+        final var latencies = new ArrayList<Long>();
+        for (var round = 0; round < ROUNDS; round++) {
+            latencies.addAll(herd(lookup));
+        }
+        final var sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        final var result = new Result(queries.get(), percentile(sorted, 0.50), percentile(sorted, 0.99),
+                sorted[sorted.length - 1]);
+        System.out.printf("%-14s %5d callers  %5d queries  p50 %6.2f ms  p99 %6.2f ms  max %6.2f ms%n",
+                name, sorted.length, result.queries(),
+                result.p50Nanos() / 1e6, result.p99Nanos() / 1e6, result.maxNanos() / 1e6);
+        return result;
+    }
+
+    /**
+     * Releases {@link #HERD_SIZE} callers at once and returns each one's latency in nanoseconds.
+     */
+    private List<Long> herd(Function<String, Optional<String>> lookup) throws Exception {
+        final var start = new CountDownLatch(1);
+        final var calls = new ArrayList<Future<Long>>();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < HERD_SIZE; i++) {
+                calls.add(executor.submit(() -> {
+                    start.await();
+                    final var started = System.nanoTime();
+                    assertEquals(Optional.of("project-1"), lookup.apply(KEY_HASH));
+                    return System.nanoTime() - started;
+                }));
+            }
+            start.countDown();
+        }
+        final var latencies = new ArrayList<Long>(HERD_SIZE);
+        for (final var call : calls) {
+            latencies.add(call.get());
+        }
+        return latencies;
+    }
+
+    private Optional<String> query(String keyHash) {
+        queries.incrementAndGet();
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("SELECT project_id FROM api_keys WHERE key_hash = ?")) {
+            statement.setString(1, keyHash);
+            try (final var rows = statement.executeQuery()) {
+                return rows.next() ? Optional.of(rows.getString(1)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private record Result(int queries, long p50Nanos, long p99Nanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test", registry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void concurrentCallersForOneKeyShareOneLoad() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var results = runConcurrently(CALLERS, () -> flight.execute("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        }), this::allFollowersJoined, release);
+
+        assertEquals(1, loads.get());
+        for (final var result : results) {
+            assertSame(results.getFirst().get(), result.get());
+        }
+        assertEquals(CALLERS - 1, registry.get("repository.lookups.coalesced").counter().count());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void onlyJoinersReceiveCopies() throws Exception {
+        final var copying = new SingleFlight<String, StringBuilder>("copying", StringBuilder::new, registry);
+        final var loaded = new ArrayList<StringBuilder>();
+        final var release = new CountDownLatch(1);
+        final var results = new ArrayList<Future<StringBuilder>>();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> copying.execute("k", () -> {
+                    final var value = new StringBuilder("value");
+                    loaded.add(value);
+                    await(release);
+                    return value;
+                })));
+            }
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.get("repository.lookups.coalesced").tag("lookup", "copying").counter().count() < CALLERS - 1) {
+                assertTrue(System.nanoTime() < deadline, "callers never lined up");
+                Thread.sleep(5);
+            }
+            release.countDown();
+        }
+
+        assertEquals(1, loaded.size());
+        var originals = 0;
+        for (final var result : results) {
+            assertEquals("value", result.get().toString());
+            if (result.get() == loaded.getFirst()) {
+                originals++;
+            }
+        }
+        assertEquals(1, originals);
+    }
+
+    @Test
+    void differentKeysLoadIndependently() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var next = new AtomicInteger();
+        final var results = runConcurrently(4, () -> {
+            final var key = "k" + next.getAndIncrement();
+            return flight.execute(key, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return key;
+            });
+        }, () -> loads.get() == 4, release);
+
+        assertEquals(4, loads.get());
+        assertEquals(4, results.stream().map(SingleFlightTest::get).distinct().count());
+    }
+
+    @Test
+    void followersReceiveTheLeadersException() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var results = runConcurrently(CALLERS, () -> flight.execute("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw new IllegalStateException("database down");
+        }), this::allFollowersJoined, release);
+
+        assertEquals(1, loads.get());
+        for (final var result : results) {
+            final var thrown = assertThrows(ExecutionException.class, result::get);
+            assertTrue(thrown.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void nothingIsKeptAfterTheLoadCompletes() {
+        flight.execute("k", () -> "first" + loads.incrementAndGet());
+
+        assertEquals("first2", flight.execute("k", () -> "first" + loads.incrementAndGet()));
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void callsInsideATransactionNeverJoinAFlight() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var leader = executor.submit(() -> flight.execute("k", () -> {
+                started.countDown();
+                await(release);
+                return "shared";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            assertEquals("own", flight.execute("k", () -> "own"));
+
+            release.countDown();
+            assertEquals("shared", leader.get());
+        }
+    }
+
+    private boolean allFollowersJoined() {
+        return registry.get("repository.lookups.coalesced").counter().count() == CALLERS - 1;
+    }
+
+    /**
+     * Starts {@code callers} concurrent calls and releases the blocked loads
+     * once {@code ready} holds, then waits for every call to finish.
+     */
+    private static List<Future<String>> runConcurrently(int callers, Callable<String> call,
+                                                        BooleanSupplier ready, CountDownLatch release)
+            throws InterruptedException {
+        final var results = new ArrayList<Future<String>>();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < callers; i++) {
+                results.add(executor.submit(call));
+            }
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!ready.getAsBoolean()) {
+                assertTrue(System.nanoTime() < deadline, "callers never lined up");
+                Thread.sleep(5);
+            }
+            release.countDown();
+        }
+        return results;
+    }
+
+    private static String get(Future<String> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Load was never released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.api.infrastructure.metrics;
+
+import com.example.api.domain.user.exception.InvalidCredentialsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuthMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private AuthMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new AuthMetrics(registry, 2);
+    }
+
+    @Test
+    void recordsApiKeyResolutionsByOutcome() {
+        metrics.recordApiKeyResolution(AuthMetrics.ApiKeyOutcome.HIT, 1_000);
+        metrics.recordApiKeyResolution(AuthMetrics.ApiKeyOutcome.HIT, 1_000);
+        metrics.recordApiKeyResolution(AuthMetrics.ApiKeyOutcome.REVOKED, 1_000);
+
+        assertEquals(2, registry.get("auth.api_key.resolution").tag("outcome", "hit").timer().count());
+        assertEquals(1, registry.get("auth.api_key.resolution").tag("outcome", "revoked").timer().count());
+        assertEquals(0, registry.get("auth.api_key.resolution").tag("outcome", "miss").timer().count());
+    }
+
+    @Test
+    void recordsJwtVerificationPerTokenType() {
+        metrics.recordJwtVerification(AuthMetrics.TokenType.ORG, true, 1_000);
+        metrics.recordJwtVerification(AuthMetrics.TokenType.ORG, false, 1_000);
+
+        assertEquals(1, registry.get("auth.jwt.verification").tags("type", "org", "outcome", "valid").timer().count());
+        assertEquals(1, registry.get("auth.jwt.verification").tags("type", "org", "outcome", "invalid").timer().count());
+    }
+
+    @Test
+    void capsProjectTagValues() {
+        metrics.recordSdkAuthOutcome("login", "project-1", "env-1", null);
+        metrics.recordSdkAuthOutcome("login", "project-2", "env-2", null);
+        metrics.recordSdkAuthOutcome("login", "project-3", "env-3", null);
+        metrics.recordSdkAuthOutcome("login", "project-4", "env-4", null);
+
+        assertEquals(1.0, registry.get("auth.sdk.outcomes").tag("project", "project-1").counter().count());
+        assertEquals(2.0, registry.get("auth.sdk.outcomes").tag("project", BoundedTagValues.OVERFLOW).counters()
+                .stream().mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    void derivesOutcomeFromExceptionType() {
+        metrics.recordSdkAuthOutcome("login", "project-1", "env-1", new InvalidCredentialsException());
+
+        assertEquals(1.0, registry.get("auth.sdk.outcomes")
+                .tags("flow", "login", "outcome", "invalid_credentials")
+                .counter().count());
+    }
+}
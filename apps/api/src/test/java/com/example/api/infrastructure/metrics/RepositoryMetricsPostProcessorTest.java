@@ -0,0 +1,60 @@
+package com.example.api.infrastructure.metrics;
+
+import com.example.api.domain.session.SessionId;
+import com.example.api.domain.session.SessionRepository;
+import com.example.api.infrastructure.persistence.JpaSessionRepositoryAdapter;
+import com.example.api.infrastructure.persistence.SessionJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositoryMetricsPostProcessorTest {
+
+    private SimpleMeterRegistry registry;
+    private RepositoryMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        final var beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        postProcessor = new RepositoryMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void timesRepositoryPortMethods() {
+        final var adapter = new JpaSessionRepositoryAdapter(Mockito.mock(SessionJpaRepository.class));
+
+        final var proxied = (SessionRepository) postProcessor.postProcessAfterInitialization(adapter, "sessionRepository");
+        proxied.findById(SessionId.generate());
+
+        assertTrue(AopUtils.isCglibProxy(proxied));
+        assertTrue(proxied instanceof JpaSessionRepositoryAdapter);
+        assertEquals(1, registry.get("repository.calls")
+                .tags("repository", "SessionRepository",
+                        "method", "findById",
+                        "adapter", "JpaSessionRepositoryAdapter",
+                        "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void leavesOtherBeansUntouched() {
+        final var bean = new Object();
+
+        final var result = postProcessor.postProcessAfterInitialization(bean, "other");
+
+        assertSame(bean, result);
+        assertFalse(AopUtils.isAopProxy(result));
+    }
+}
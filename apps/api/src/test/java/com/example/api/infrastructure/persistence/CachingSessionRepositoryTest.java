@@ -0,0 +1,201 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.domain.session.Session;
+import com.example.api.domain.session.SessionId;
+import com.example.api.domain.user.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingSessionRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+
+    private JpaSessionRepositoryAdapter delegate;
+    private CachingSessionRepository repository;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(JpaSessionRepositoryAdapter.class);
+        repository = new CachingSessionRepository(delegate, Clock.fixed(NOW, ZoneOffset.UTC));
+        userId = UserId.generate();
+    }
+
+    @Test
+    void createIsPersistedImmediatelyAndServedFromMemory() {
+        final var session = new Session(SessionId.generate(), userId, NOW, NOW.plus(Duration.ofDays(1)), false);
+
+        repository.save(session);
+
+        verify(delegate).save(session);
+        assertTrue(repository.findById(session.getId()).isPresent());
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    void loadsUserSessionsFromDatabaseOnce() {
+        final var session = activeSession();
+        when(delegate.findActiveSessionsByUserId(userId)).thenReturn(List.of(session));
+
+        assertEquals(1, repository.findActiveSessionsByUserId(userId).size());
+        assertEquals(1, repository.findActiveSessionsByUserId(userId).size());
+
+        verify(delegate, times(1)).findActiveSessionsByUserId(userId);
+    }
+
+    @Test
+    void coalescesExtensionsIntoSingleWrite() {
+        final var session = activeSession();
+        when(delegate.findActiveSessionsByUserId(userId)).thenReturn(List.of(session));
+
+        for (int i = 2; i <= 4; i++) {
+            final var current = repository.findActiveSessionsByUserId(userId).getFirst();
+            current.extendExpiry(NOW.plus(Duration.ofDays(i)));
+            repository.save(current);
+        }
+
+        verify(delegate, never()).save(any());
+        assertEquals(1, repository.pendingExtensionCount());
+
+        repository.flush();
+
+        final var captor = ArgumentCaptor.forClass(Session.class);
+        verify(delegate, times(1)).save(captor.capture());
+        assertEquals(NOW.plus(Duration.ofDays(4)), captor.getValue().getExpiresAt());
+        assertEquals(0, repository.pendingExtensionCount());
+    }
+
+    @Test
+    void revokeTakesEffectImmediatelyAndDropsPendingExtension() {
+        final var session = activeSession();
+        when(delegate.findActiveSessionsByUserId(userId)).thenReturn(List.of(session));
+
+        final var extended = repository.findActiveSessionsByUserId(userId).getFirst();
+        extended.extendExpiry(NOW.plus(Duration.ofDays(2)));
+        repository.save(extended);
+
+        final var revoked = repository.findById(session.getId()).orElseThrow();
+        revoked.revoke();
+        repository.save(revoked);
+
+        assertTrue(repository.findActiveSessionsByUserId(userId).isEmpty());
+        verify(delegate, times(1)).save(any());
+
+        repository.flush();
+
+        verify(delegate, times(1)).save(any());
+        assertEquals(0, repository.cachedSessionCount());
+    }
+
+    @Test
+    void staleCopyCannotUndoRevoke() {
+        final var session = activeSession();
+        when(delegate.findActiveSessionsByUserId(userId)).thenReturn(List.of(session));
+        final var stale = repository.findActiveSessionsByUserId(userId).getFirst();
+
+        final var revoked = repository.findById(session.getId()).orElseThrow();
+        revoked.revoke();
+        repository.save(revoked);
+        stale.extendExpiry(NOW.plus(Duration.ofDays(2)));
+        repository.save(stale);
+
+        assertTrue(repository.findActiveSessionsByUserId(userId).isEmpty());
+        repository.flush();
+        final var captor = ArgumentCaptor.forClass(Session.class);
+        verify(delegate, times(1)).save(captor.capture());
+        assertTrue(captor.getValue().isRevoked());
+    }
+
+    @Test
+    void concurrentRevokeAlwaysWinsOverExtension() throws Exception {
+        final var writes = new ConcurrentHashMap<SessionId, Session>();
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            final Session saved = invocation.getArgument(0);
+            writes.put(saved.getId(), new Session(saved.getId(), saved.getUserId(), saved.getCreatedAt(),
+                    saved.getExpiresAt(), saved.isRevoked()));
+            return saved;
+        });
+
+        try (final var executor = Executors.newFixedThreadPool(2)) {
+            for (var i = 0; i < 500; i++) {
+                final var session = activeSession();
+                repository.save(session);
+                final var start = new CyclicBarrier(2);
+                final var revoke = executor.submit(() -> {
+                    final var copy = repository.findById(session.getId()).orElseThrow();
+                    start.await();
+                    copy.revoke();
+                    return repository.save(copy);
+                });
+                final var extend = executor.submit(() -> {
+                    final var copy = repository.findById(session.getId()).orElseThrow();
+                    start.await();
+                    copy.extendExpiry(NOW.plus(Duration.ofDays(2)));
+                    return repository.save(copy);
+                });
+                revoke.get();
+                extend.get();
+
+                assertTrue(repository.findById(session.getId()).orElseThrow().isRevoked(), "cache, iteration " + i);
+                repository.flush();
+                assertTrue(writes.get(session.getId()).isRevoked(), "database, iteration " + i);
+            }
+        }
+    }
+
+    @Test
+    void failedFlushIsRetried() {
+        final var session = activeSession();
+        when(delegate.findActiveSessionsByUserId(userId)).thenReturn(List.of(session));
+        final var current = repository.findActiveSessionsByUserId(userId).getFirst();
+        current.extendExpiry(NOW.plus(Duration.ofDays(2)));
+        repository.save(current);
+        doThrow(new IllegalStateException("database is locked")).doReturn(current).when(delegate).save(any());
+
+        repository.flush();
+        assertEquals(1, repository.pendingExtensionCount());
+
+        repository.flush();
+        assertEquals(0, repository.pendingExtensionCount());
+        verify(delegate, times(2)).save(any());
+    }
+
+    @Test
+    void purgeFlushesPendingExtensionsFirst() {
+        final var session = activeSession();
+        when(delegate.findActiveSessionsByUserId(userId)).thenReturn(List.of(session));
+        final var current = repository.findActiveSessionsByUserId(userId).getFirst();
+        current.extendExpiry(NOW.plus(Duration.ofDays(2)));
+        repository.save(current);
+
+        repository.deleteExpired(NOW, 100);
+
+        final var inOrder = Mockito.inOrder(delegate);
+        inOrder.verify(delegate).save(any());
+        inOrder.verify(delegate).deleteExpired(NOW, 100);
+    }
+
+    private Session activeSession() {
+        return new Session(SessionId.generate(), userId, NOW.minus(Duration.ofHours(1)), NOW.plus(Duration.ofDays(1)), false);
+    }
+}
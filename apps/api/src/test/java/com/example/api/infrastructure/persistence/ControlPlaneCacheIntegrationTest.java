@@ -0,0 +1,128 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.application.project.GetProjectUseCase;
+import com.example.api.application.project.ListOrganizationProjectsUseCase;
+import com.example.api.domain.environment.Environment;
+import com.example.api.domain.environment.EnvironmentRepository;
+import com.example.api.domain.environment.EnvironmentType;
+import com.example.api.domain.organization.Organization;
+import com.example.api.domain.organization.OrganizationRepository;
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts SQL statements issued by org-dashboard reads against a real SQLite
+ * database with the second-level and query caches enabled.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.security.oauth2.client.registration.github.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "app.sweeper.enabled=false",
+        // Statement statistics are global; keep the outbox poller from adding to the count
+        "app.webhooks.enabled=false"
+})
+class ControlPlaneCacheIntegrationTest {
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        final var database = Files.createTempDirectory("cache-it").resolve("app.db");
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    @Autowired
+    private ListOrganizationProjectsUseCase listOrganizationProjectsUseCase;
+
+    @Autowired
+    private GetProjectUseCase getProjectUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Organization organization;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        organization = organizationRepository.save(Organization.create("Acme", "acme-" + suffix));
+        project = projectRepository.save(Project.create(organization.getId(), "Web", "web", null));
+        environmentRepository.save(Environment.create(project.getId(), EnvironmentType.PROD));
+        environmentRepository.save(Environment.create(project.getId(), EnvironmentType.DEV));
+    }
+
+    @Test
+    void repeatedDashboardReadsIssueNoStatements() {
+        listOrganizationProjectsUseCase.execute(organization.getId());
+        getProjectUseCase.execute(project.getId());
+
+        statistics.clear();
+        final var projects = listOrganizationProjectsUseCase.execute(organization.getId());
+        final var single = getProjectUseCase.execute(project.getId());
+
+        assertEquals(1, projects.size());
+        assertEquals(project.getId().value(), single.id());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void writesThroughRepositoriesInvalidateCachedQueries() {
+        listOrganizationProjectsUseCase.execute(organization.getId());
+
+        final var second = projectRepository.save(Project.create(organization.getId(), "Admin", "admin", null));
+        environmentRepository.save(Environment.create(second.getId(), EnvironmentType.PROD));
+
+        statistics.clear();
+        final var projects = listOrganizationProjectsUseCase.execute(organization.getId());
+
+        assertEquals(2, projects.size());
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+    }
+
+    @Test
+    void projectVersionsComeFromCacheAndChangeOnWrite() {
+        final var listVersion = listOrganizationProjectsUseCase.findVersion(organization.getId()).orElseThrow();
+        final var projectVersion = getProjectUseCase.findVersion(project.getId()).orElseThrow();
+
+        statistics.clear();
+        assertEquals(listVersion, listOrganizationProjectsUseCase.findVersion(organization.getId()).orElseThrow());
+        assertEquals(projectVersion, getProjectUseCase.findVersion(project.getId()).orElseThrow());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        project.rename("Web App");
+        projectRepository.save(project);
+
+        assertNotEquals(projectVersion, getProjectUseCase.findVersion(project.getId()).orElseThrow());
+        assertNotEquals(listVersion, listOrganizationProjectsUseCase.findVersion(organization.getId()).orElseThrow());
+    }
+}
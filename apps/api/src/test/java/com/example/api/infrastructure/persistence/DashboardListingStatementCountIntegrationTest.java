@@ -0,0 +1,135 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.application.platformadmin.ListAllOrganizationsUseCase;
+import com.example.api.application.project.ListOrganizationProjectsUseCase;
+import com.example.api.domain.environment.Environment;
+import com.example.api.domain.environment.EnvironmentRepository;
+import com.example.api.domain.environment.EnvironmentType;
+import com.example.api.domain.organization.Organization;
+import com.example.api.domain.organization.OrganizationMember;
+import com.example.api.domain.organization.OrganizationMemberRepository;
+import com.example.api.domain.organization.OrganizationMemberRole;
+import com.example.api.domain.organization.OrganizationRepository;
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.user.Email;
+import com.example.api.domain.user.Password;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the SQL statements the organization and project listings issue
+ * against a real SQLite database, with caches emptied before each read, and
+ * checks the count does not grow with the number of rows listed.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.security.oauth2.client.registration.github.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "app.sweeper.enabled=false",
+        // Statement statistics are global; keep the outbox poller from adding to the count
+        "app.webhooks.enabled=false"
+})
+class DashboardListingStatementCountIntegrationTest {
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        final var database = Files.createTempDirectory("listing-it").resolve("app.db");
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private OrganizationMemberRepository organizationMemberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EnvironmentRepository environmentRepository;
+
+    @Autowired
+    private ListAllOrganizationsUseCase listAllOrganizationsUseCase;
+
+    @Autowired
+    private ListOrganizationProjectsUseCase listOrganizationProjectsUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void organizationListingIssuesTheSameStatementsForOneOrManyOrganizations() {
+        createOrganizationWithMembers(1);
+        final var fewOrganizations = statementsFor(() -> listAllOrganizationsUseCase.execute().size());
+
+        for (var i = 0; i < 20; i++) {
+            createOrganizationWithMembers(3);
+        }
+        final var manyOrganizations = statementsFor(() -> listAllOrganizationsUseCase.execute().size());
+
+        assertEquals(2, fewOrganizations);
+        assertEquals(fewOrganizations, manyOrganizations);
+    }
+
+    @Test
+    void projectListingIssuesTheSameStatementsForOneOrManyProjects() {
+        final var organization = createOrganizationWithMembers(1);
+        createProjectWithEnvironments(organization, "p0");
+        final var fewProjects = statementsFor(() -> listOrganizationProjectsUseCase.execute(organization.getId()).size());
+
+        for (var i = 1; i <= 20; i++) {
+            createProjectWithEnvironments(organization, "p" + i);
+        }
+        final var manyProjects = statementsFor(() -> listOrganizationProjectsUseCase.execute(organization.getId()).size());
+
+        assertEquals(2, fewProjects);
+        assertEquals(fewProjects, manyProjects);
+    }
+
+    /**
+     * Runs {@code listing} with empty caches and returns the number of statements it prepared.
+     */
+    private long statementsFor(Supplier<Integer> listing) {
+        final var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        final var statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        listing.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Organization createOrganizationWithMembers(int members) {
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        final var organization = organizationRepository.save(Organization.create("Acme", "acme-" + suffix));
+        for (var i = 0; i < members; i++) {
+            organizationMemberRepository.save(OrganizationMember.createMember(
+                    organization.getId(),
+                    new Email("member" + i + "-" + suffix + "@example.com"),
+                    Password.fromHash("hash"),
+                    "Member " + i,
+                    OrganizationMemberRole.MEMBER
+            ));
+        }
+        return organization;
+    }
+
+    private void createProjectWithEnvironments(Organization organization, String slug) {
+        final var project = projectRepository.save(Project.create(organization.getId(), slug, slug, null));
+        environmentRepository.save(Environment.create(project.getId(), EnvironmentType.PROD));
+        environmentRepository.save(Environment.create(project.getId(), EnvironmentType.DEV));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Backs up a real SQLite file, restores the result and counts its rows.
+ */
+class DatabaseBackupsTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+    private static final int ROWS = 2_000;
+
+    @TempDir
+    Path dir;
+
+    private String url;
+    private DatabaseBackupProperties properties;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:sqlite:" + dir.resolve("app.db");
+        try (final var connection = DriverManager.getConnection(url);
+             final var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE events (id INTEGER PRIMARY KEY, payload TEXT NOT NULL)");
+            statement.execute("""
+                    WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < %d)
+                    INSERT INTO events (payload) SELECT printf('%%0200d', i) FROM n""".formatted(ROWS));
+        }
+        properties = new DatabaseBackupProperties();
+        properties.setDirectory(dir.resolve("backups"));
+        properties.setPagesPerStep(8);
+        properties.setStepPause(Duration.ofMillis(1));
+        properties.setRetention(2);
+    }
+
+    @Test
+    void writesACompressedCopyThatRestores() throws Exception {
+        final var report = backups(NOW).backupToDirectory();
+
+        assertEquals("app-20260601T000000Z.db.gz", report.file().getFileName().toString());
+        assertEquals(Files.size(report.file()), report.bytes());
+        assertTrue(report.steps() > 1, "copied in " + report.steps() + " steps");
+        assertEquals(ROWS, restoredRows(Files.newInputStream(report.file())));
+        assertEquals(1, registry.get("sqlite.backup").tag("outcome", "success").timer().count());
+        try (final var files = Files.list(properties.getDirectory())) {
+            assertEquals(1, files.count(), "temporary files were left behind");
+        }
+    }
+
+    @Test
+    void keepsOnlyTheNewestBackups() throws Exception {
+        backups(NOW).backupToDirectory();
+        backups(NOW.plus(Duration.ofDays(1))).backupToDirectory();
+        backups(NOW.plus(Duration.ofDays(2))).backupToDirectory();
+
+        final var names = DatabaseBackups.listBackups(properties.getDirectory()).stream()
+                .map(file -> file.getFileName().toString())
+                .toList();
+        assertEquals(List.of("app-20260603T000000Z.db.gz", "app-20260602T000000Z.db.gz"), names);
+    }
+
+    @Test
+    void streamsACompressedSnapshot() throws Exception {
+        final var output = new ByteArrayOutputStream();
+
+        backups(NOW).streamCompressed(output);
+
+        assertEquals(ROWS, restoredRows(new ByteArrayInputStream(output.toByteArray())));
+        assertTrue(DatabaseBackups.listBackups(properties.getDirectory()).isEmpty());
+    }
+
+    @Test
+    void deletesStagingFilesLeftBehindByEarlierRuns() throws Exception {
+        final var directory = Files.createDirectories(properties.getDirectory());
+        final var staleCopy = Files.createFile(directory.resolve("snapshot-123.db"));
+        final var stalePartial = Files.createFile(directory.resolve("app-20260531T000000Z.db.gz.partial"));
+        final var freshCopy = Files.createFile(directory.resolve("snapshot-456.db"));
+        Files.setLastModifiedTime(staleCopy, FileTime.from(NOW.minus(Duration.ofDays(1))));
+        Files.setLastModifiedTime(stalePartial, FileTime.from(NOW.minus(Duration.ofDays(1))));
+        Files.setLastModifiedTime(freshCopy, FileTime.from(NOW.minus(Duration.ofMinutes(5))));
+
+        backups(NOW).backupToDirectory();
+
+        assertTrue(Files.notExists(staleCopy), "stale snapshot copy survived");
+        assertTrue(Files.notExists(stalePartial), "stale partial backup survived");
+        assertTrue(Files.exists(freshCopy), "a snapshot that may still be streaming was deleted");
+    }
+
+    @Test
+    void rejectsASecondBackupWhileOneIsRunning() throws Exception {
+        properties.setStepPause(Duration.ofMillis(50));
+        final var backups = backups(NOW);
+        try (final var executor = Executors.newSingleThreadExecutor()) {
+            final var first = executor.submit(backups::backupToDirectory);
+            while (registry.get("sqlite.backup.step").timer().count() == 0) {
+                Thread.sleep(5);
+            }
+
+            assertThrows(BackupAlreadyRunningException.class, () -> backups.streamCompressed(new ByteArrayOutputStream()));
+
+            assertEquals(ROWS, restoredRows(Files.newInputStream(first.get().file())));
+        }
+        try (final var files = Files.list(properties.getDirectory())) {
+            assertEquals(1, files.count(), "the rejected snapshot left its copy behind");
+        }
+    }
+
+    @Test
+    void completesWhileAnotherConnectionKeepsWriting() throws Exception {
+        properties.setMaxPausedRestarts(2);
+        final var writing = new AtomicBoolean(true);
+        try (final var executor = Executors.newSingleThreadExecutor()) {
+            final var writer = executor.submit(() -> {
+                var written = 0;
+                try (final var connection = DriverManager.getConnection(url);
+                     final var statement = connection.createStatement()) {
+                    statement.execute("PRAGMA busy_timeout = 5000");
+                    while (writing.get()) {
+                        statement.executeUpdate("INSERT INTO events (payload) VALUES ('concurrent')");
+                        written++;
+                        Thread.sleep(2);
+                    }
+                }
+                return written;
+            });
+
+            final DatabaseBackups.BackupReport report;
+            try {
+                report = backups(NOW).backupToDirectory();
+            } finally {
+                writing.set(false);
+            }
+            final int written = writer.get();
+
+            final var restored = restoredRows(Files.newInputStream(report.file()));
+            assertTrue(restored >= ROWS && restored <= ROWS + written,
+                    "restored " + restored + " rows, " + written + " written during the backup");
+        }
+    }
+
+    private DatabaseBackups backups(Instant now) {
+        return new DatabaseBackups(url, properties, registry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private long restoredRows(InputStream compressed) throws IOException, SQLException {
+        final var restored = Files.createTempFile(dir, "restored-", ".db");
+        try (final var input = new GZIPInputStream(compressed)) {
+            Files.copy(input, restored, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (final var connection = DriverManager.getConnection("jdbc:sqlite:" + restored);
+             final var statement = connection.createStatement();
+             final var result = statement.executeQuery("SELECT count(*) FROM events")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
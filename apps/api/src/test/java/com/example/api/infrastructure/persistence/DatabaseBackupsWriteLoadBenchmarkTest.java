@@ -0,0 +1,130 @@
+package com.example.api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Backs up a SQLite database while writers keep inserting, once copying a few
+ * pages per step and once copying everything in a single step, and reports
+ * backup throughput, the longest step (how long the backup held the read lock)
+ * and the slowest writer commit. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class DatabaseBackupsWriteLoadBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int WRITERS = 2;
+    private static final Duration WRITE_INTERVAL = Duration.ofMillis(100);
+
+    @TempDir
+    Path dir;
+
+    private String url;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:sqlite:" + dir.resolve("app.db");
+        try (final var connection = DriverManager.getConnection(url);
+             final var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE events (id INTEGER PRIMARY KEY, payload TEXT NOT NULL)");
+            statement.execute("""
+                    WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < %d)
+                    INSERT INTO events (payload) SELECT printf('%%0200d', i) FROM n""".formatted(ROWS));
+        }
+    }
+
+    @Test
+    void incrementalStepsHoldTheLockForLessTimeThanOneShotCopies() throws Exception {
+        // Warm up the driver and the page cache
+        run("warmup", 256, Duration.ofMillis(2));
+
+        final var incremental = run("incremental", 256, Duration.ofMillis(2));
+        final var oneShot = run("one-step", -1, Duration.ZERO);
+
+        assertTrue(incremental.report().longestStep().compareTo(oneShot.report().longestStep()) < 0,
+                "incremental longest step " + incremental.report().longestStep()
+                        + ", one-step " + oneShot.report().longestStep());
+    }
+
+    private Result run(String name, int pagesPerStep, Duration stepPause) throws Exception {
+        final var properties = new DatabaseBackupProperties();
+        properties.setDirectory(dir.resolve("backups-" + name));
+        properties.setPagesPerStep(pagesPerStep);
+        properties.setStepPause(stepPause);
+        final var backups = new DatabaseBackups(url, properties, new SimpleMeterRegistry());
+
+        final var writing = new AtomicBoolean(true);
+        final var writers = new ArrayList<Future<List<Long>>>();
+        final DatabaseBackups.BackupReport report;
+        try (final var executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (var i = 0; i < WRITERS; i++) {
+                writers.add(executor.submit(() -> write(writing)));
+            }
+            try {
+                report = backups.backupToDirectory();
+            } finally {
+                writing.set(false);
+            }
+        }
+
+        final var commits = new ArrayList<Long>();
+        for (final var writer : writers) {
+            commits.addAll(writer.get());
+        }
+        final var slowestCommit = commits.stream().mapToLong(Long::longValue).max().orElse(0);
+        final var uncompressed = (double) report.pages() * pageSize();
+        System.out.printf(
+                "%-12s %6d pages  %5d steps  %3d restarts  single step %-5b  %7.1f ms  %6.1f MB/s  "
+                        + "longest step %6.2f ms  %5d commits  slowest commit %6.2f ms%n",
+                name, report.pages(), report.steps(), report.restarts(), report.singleStep(),
+                report.elapsed().toNanos() / 1e6, uncompressed / 1e6 / (report.elapsed().toNanos() / 1e9),
+                report.longestStep().toNanos() / 1e6, commits.size(), slowestCommit / 1e6);
+        return new Result(report, slowestCommit);
+    }
+
+    /**
+     * Inserts a row every {@link #WRITE_INTERVAL} until told to stop and
+     * returns each commit's latency in nanoseconds.
+     */
+    private List<Long> write(AtomicBoolean writing) throws SQLException, InterruptedException {
+        final var latencies = new ArrayList<Long>();
+        try (final var connection = DriverManager.getConnection(url);
+             final var statement = connection.createStatement()) {
+            statement.execute("PRAGMA busy_timeout = 30000");
+            while (writing.get()) {
+                final var started = System.nanoTime();
+                statement.executeUpdate("INSERT INTO events (payload) VALUES ('concurrent')");
+                latencies.add(System.nanoTime() - started);
+                Thread.sleep(WRITE_INTERVAL);
+            }
+        }
+        return latencies;
+    }
+
+    private long pageSize() throws SQLException {
+        try (final var connection = DriverManager.getConnection(url);
+             final var statement = connection.createStatement();
+             final var result = statement.executeQuery("PRAGMA page_size")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private record Result(DatabaseBackups.BackupReport report, long slowestCommitNanos) {
+    }
+}
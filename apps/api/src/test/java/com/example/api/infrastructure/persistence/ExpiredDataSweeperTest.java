@@ -0,0 +1,151 @@
+package com.example.api.infrastructure.persistence;
+
+import com.example.api.application.maintenance.PurgeExpiredDataUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExpiredDataSweeperTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+
+    private PurgeExpiredDataUseCase purgeUseCase;
+    private JdbcTemplate jdbcTemplate;
+    private SweeperProperties properties;
+    private ExpiredDataSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        purgeUseCase = Mockito.mock(PurgeExpiredDataUseCase.class);
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        properties = new SweeperProperties();
+        properties.setBatchSize(100);
+        properties.setMaxBatchesPerRun(5);
+        properties.setBatchPause(Duration.ZERO);
+        properties.setVacuumEveryRuns(2);
+        sweeper = new ExpiredDataSweeper(purgeUseCase, jdbcTemplate, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void deletesInBatchesUntilPartialBatch() {
+        when(purgeUseCase.purgeSessionBatch(any(), eq(100))).thenReturn(100, 100, 40);
+        when(purgeUseCase.purgeInvitationBatch(any(), eq(100))).thenReturn(3);
+
+        final var report = sweeper.sweep();
+
+        assertEquals(240, report.sessionsPurged());
+        assertEquals(3, report.invitationsPurged());
+        verify(purgeUseCase, times(3)).purgeSessionBatch(any(), anyInt());
+        verify(purgeUseCase, times(1)).purgeInvitationBatch(any(), anyInt());
+    }
+
+    @Test
+    void stopsAtMaxBatchesPerRun() {
+        when(purgeUseCase.purgeSessionBatch(any(), anyInt())).thenReturn(100);
+
+        final var report = sweeper.sweep();
+
+        assertEquals(500, report.sessionsPurged());
+        verify(purgeUseCase, times(5)).purgeSessionBatch(any(), anyInt());
+    }
+
+    @Test
+    void appliesConfiguredSessionRetention() {
+        properties.setSessionRetention(Duration.ofDays(3));
+
+        sweeper.sweep();
+
+        verify(purgeUseCase).purgeSessionBatch(NOW.minus(Duration.ofDays(3)), 100);
+    }
+
+    @Test
+    void purgesAuditEventsPastRetention() {
+        properties.setAuditEventRetention(Duration.ofDays(90));
+        when(purgeUseCase.purgeAuditEventBatch(any(), eq(100))).thenReturn(100, 7);
+
+        final var report = sweeper.sweep();
+
+        assertEquals(107, report.auditEventsPurged());
+        assertEquals(107, sweeper.getAuditEventsPurged());
+        verify(purgeUseCase, times(2)).purgeAuditEventBatch(NOW.minus(Duration.ofDays(90)), 100);
+    }
+
+    @Test
+    void runsIncrementalVacuumEveryConfiguredRuns() {
+        when(jdbcTemplate.queryForObject("pragma auto_vacuum", Integer.class)).thenReturn(2);
+
+        assertFalse(sweeper.sweep().vacuumed());
+        assertTrue(sweeper.sweep().vacuumed());
+
+        verify(jdbcTemplate).execute(any(ConnectionCallback.class));
+        verify(jdbcTemplate, never()).execute("vacuum");
+    }
+
+    @Test
+    void incrementalVacuumReleasesTheConfiguredNumberOfPages(@TempDir Path tempDir) {
+        final var dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("app.db"));
+        final var database = new JdbcTemplate(dataSource);
+        database.execute("pragma auto_vacuum = incremental");
+        database.execute("create table items (id integer primary key, payload text)");
+        database.execute("""
+                with recursive n(i) as (select 1 union all select i + 1 from n where i < 2000)
+                insert into items (payload) select printf('%0500d', i) from n""");
+        database.execute("delete from items");
+        final int freeBefore = database.queryForObject("pragma freelist_count", Integer.class);
+        properties.setVacuumEveryRuns(1);
+        properties.setVacuumPages(50);
+
+        assertTrue(new ExpiredDataSweeper(purgeUseCase, database, properties, Clock.fixed(NOW, ZoneOffset.UTC))
+                .sweep().vacuumed());
+
+        assertTrue(freeBefore > 50, "only " + freeBefore + " free pages");
+        assertEquals(freeBefore - 50, database.queryForObject("pragma freelist_count", Integer.class));
+    }
+
+    @Test
+    void skipsVacuumWithoutConvertingWhenAutoVacuumIsNotIncremental() {
+        when(jdbcTemplate.queryForObject("pragma auto_vacuum", Integer.class)).thenReturn(0);
+        properties.setVacuumEveryRuns(1);
+
+        assertFalse(sweeper.sweep().vacuumed());
+        assertFalse(sweeper.sweep().vacuumed());
+
+        verify(jdbcTemplate, never()).execute("pragma auto_vacuum = incremental");
+        verify(jdbcTemplate, never()).execute("vacuum");
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    void accumulatesPurgedTotals() {
+        when(purgeUseCase.purgeSessionBatch(any(), anyInt())).thenReturn(7);
+        when(purgeUseCase.purgeInvitationBatch(any(), anyInt())).thenReturn(2);
+
+        sweeper.sweep();
+        sweeper.sweep();
+
+        assertEquals(14, sweeper.getSessionsPurged());
+        assertEquals(4, sweeper.getInvitationsPurged());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.api.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Converts a real SQLite file; each JdbcTemplate call opens its own connection.
+ */
+class IncrementalVacuumCliCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        final var dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("app.db"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table items (id integer primary key, payload text)");
+        jdbcTemplate.execute("insert into items (payload) values ('a'), ('b')");
+    }
+
+    @Test
+    void convertsOnceAndKeepsRows() {
+        final var command = new IncrementalVacuumCliCommand(jdbcTemplate);
+        assertEquals(0, autoVacuum());
+
+        assertTrue(command.enableIncrementalAutoVacuum());
+        assertFalse(command.enableIncrementalAutoVacuum());
+
+        assertEquals(IncrementalVacuumCliCommand.AUTO_VACUUM_INCREMENTAL, autoVacuum());
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from items", Integer.class));
+    }
+
+    private int autoVacuum() {
+        return jdbcTemplate.queryForObject("pragma auto_vacuum", Integer.class);
+    }
+}
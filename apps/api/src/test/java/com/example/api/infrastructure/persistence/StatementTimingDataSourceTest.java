@@ -0,0 +1,164 @@
+package com.example.api.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteDataSource;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementTimingDataSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry registry;
+    private SlowQueryLog slowQueryLog;
+    private StatementTimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final var properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ZERO);
+        properties.setCapacity(3);
+        registry = new SimpleMeterRegistry();
+        slowQueryLog = new SlowQueryLog(properties, registry);
+
+        final var sqlite = new SQLiteDataSource();
+        sqlite.setUrl("jdbc:sqlite:" + tempDir.resolve("timing.db"));
+        dataSource = new StatementTimingDataSource(sqlite, () -> slowQueryLog);
+
+        try (final var connection = sqlite.getConnection(); final var statement = connection.createStatement()) {
+            statement.executeUpdate("create table items (id integer primary key, name text)");
+            statement.executeUpdate("insert into items (name) values ('a'), ('b'), ('c')");
+        }
+    }
+
+    @Test
+    void recordsQueryWithRowsBindsAndCaller() throws Exception {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("select   name from items where id > ? and name <> 'zzz'")) {
+            statement.setInt(1, 1);
+            try (final var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getString(1);
+                }
+            }
+        }
+
+        final var query = slowQueryLog.recent().getFirst();
+        assertEquals(SlowQueryLog.StatementType.QUERY, query.type());
+        assertEquals("select name from items where id > ? and name <> ?", query.sql());
+        assertEquals(1, query.bindCount());
+        assertEquals(2, query.rows());
+        assertEquals("StatementTimingDataSourceTest.recordsQueryWithRowsBindsAndCaller", query.caller());
+        assertFalse(query.failed());
+        assertEquals(1, registry.get("db.statements").tag("type", "query").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void recordsUpdateRowCount() throws Exception {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("update items set name = ? where id in (1, 2)")) {
+            statement.setString(1, "x");
+            statement.executeUpdate();
+        }
+
+        final var update = slowQueryLog.recent().getFirst();
+        assertEquals(SlowQueryLog.StatementType.UPDATE, update.type());
+        assertEquals("update items set name = ? where id in (?...)", update.sql());
+        assertEquals(2, update.rows());
+    }
+
+    @Test
+    void recordsStatementsThatThrow() throws Exception {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("insert into items (id, name) values (?, ?)")) {
+            statement.setInt(1, 1);
+            statement.setString(2, "duplicate");
+            assertThrows(SQLException.class, statement::executeUpdate);
+        }
+
+        final var update = slowQueryLog.recent().getFirst();
+        assertEquals("insert into items (id, name) values (?...)", update.sql());
+        assertEquals(-1, update.rows());
+        assertTrue(update.failed());
+        assertEquals(1, registry.get("db.statements").tag("type", "update").tag("outcome", "error").timer().count());
+        assertEquals(1, registry.get("db.statements.slow").tag("outcome", "error").counter().count());
+    }
+
+    @Test
+    void clearParametersResetsBindCount() throws Exception {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("select name from items where id > ? or id = ?")) {
+            statement.setInt(1, 1);
+            statement.setInt(2, 1);
+            statement.clearParameters();
+            statement.setInt(1, 2);
+            try (final var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getString(1);
+                }
+            }
+        }
+
+        final var query = slowQueryLog.recent().getFirst();
+        assertEquals(1, query.bindCount());
+        assertEquals(1, query.rows());
+    }
+
+    @Test
+    void wrapsWithoutReflectiveProxies() throws Exception {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.createStatement();
+             final var resultSet = statement.executeQuery("select name from items")) {
+            assertFalse(Proxy.isProxyClass(connection.getClass()));
+            assertFalse(Proxy.isProxyClass(statement.getClass()));
+            assertFalse(Proxy.isProxyClass(resultSet.getClass()));
+            assertTrue(connection.isWrapperFor(SQLiteConnection.class));
+            while (resultSet.next()) {
+                resultSet.getString(1);
+            }
+        }
+
+        assertEquals(3, slowQueryLog.recent().getFirst().rows());
+    }
+
+    @Test
+    void keepsOnlyMostRecentEntries() throws Exception {
+        try (final var connection = dataSource.getConnection(); final var statement = connection.createStatement()) {
+            for (var i = 1; i <= 5; i++) {
+                statement.executeUpdate("update items set name = 'n" + i + "' where id = " + i);
+            }
+        }
+
+        final var recent = slowQueryLog.recent();
+        assertEquals(3, recent.size());
+        assertEquals(5, slowQueryLog.getSlowQueryCount());
+        assertTrue(recent.stream().allMatch(entry -> entry.sql().equals("update items set name = ? where id = ?")));
+    }
+
+    @Test
+    void ignoresStatementsUnderThreshold() throws Exception {
+        final var properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMinutes(1));
+        final var quietLog = new SlowQueryLog(properties, registry);
+        final var quiet = new StatementTimingDataSource(dataSource.getTargetDataSource(), () -> quietLog);
+
+        try (final var connection = quiet.getConnection(); final var statement = connection.createStatement()) {
+            statement.executeQuery("select count(*) from items").close();
+        }
+
+        assertTrue(quietLog.recent().isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.api.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserEmailSearchIndexTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UserEmailSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:sqlite::memory:", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                create table users (
+                    id varchar(36) primary key,
+                    email varchar(255) not null unique,
+                    project_id varchar(36)
+                )
+                """);
+        insertUser("existing", "legacy@alice.io", "p1");
+
+        index = new UserEmailSearchIndex(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        index.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void backfillsExistingUsersWhenIndexIsCreated() {
+        assertEquals(List.of("existing"), index.search("legacy", null, 0, 10));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenSubstringMatches() {
+        insertUser("substring", "bob@alice.dev", "p1");
+        insertUser("prefix", "alice.smith@example.com", "p1");
+        insertUser("exact", "alice@example.com", "p2");
+
+        final var results = index.search("alice@example.com", null, 0, 10);
+        assertEquals("exact", results.getFirst());
+
+        final var ranked = index.search("alice", null, 0, 10);
+        assertEquals(4, ranked.size());
+        assertEquals(Set.of("prefix", "exact"), Set.copyOf(ranked.subList(0, 2)));
+        assertEquals(Set.of("substring", "existing"), Set.copyOf(ranked.subList(2, 4)));
+    }
+
+    @Test
+    void filtersByProject() {
+        insertUser("u1", "carol@example.com", "p1");
+        insertUser("u2", "carol@example.org", "p2");
+
+        assertEquals(List.of("u2"), index.search("carol", "p2", 0, 10));
+    }
+
+    @Test
+    void tracksEmailChangesAndDeletes() {
+        insertUser("u1", "dave@example.com", "p1");
+
+        jdbcTemplate.update("update users set email = ? where id = ?", "david@example.net", "u1");
+        assertTrue(index.search("dave@", null, 0, 10).isEmpty());
+        assertEquals(List.of("u1"), index.search("david", null, 0, 10));
+
+        jdbcTemplate.update("delete from users where id = ?", "u1");
+        assertTrue(index.search("david", null, 0, 10).isEmpty());
+    }
+
+    @Test
+    void fallsBackToPrefixScanForShortTerms() {
+        insertUser("u1", "zed@example.com", "p1");
+        insertUser("u2", "amy@zed.io", "p1");
+
+        assertEquals(List.of("u1"), index.search("ze", null, 0, 10));
+    }
+
+    @Test
+    void paginatesResults() {
+        for (var i = 0; i < 5; i++) {
+            insertUser("u" + i, "page" + i + "@example.com", "p1");
+        }
+
+        final var first = index.search("page", null, 0, 3);
+        final var second = index.search("page", null, 3, 3);
+
+        assertEquals(3, first.size());
+        assertEquals(2, second.size());
+        assertTrue(first.stream().noneMatch(second::contains));
+    }
+
+    private void insertUser(String id, String email, String projectId) {
+        jdbcTemplate.update("insert into users (id, email, project_id) values (?, ?, ?)", id, email, projectId);
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.api.infrastructure.quota;
+
+import com.example.api.domain.organization.OrganizationId;
+import com.example.api.domain.project.Project;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.project.ProjectRepository;
+import com.example.api.domain.quota.MonthlyActiveUser;
+import com.example.api.domain.quota.MonthlyActiveUserRepository;
+import com.example.api.domain.quota.QuotaType;
+import com.example.api.domain.quota.exception.QuotaExceededException;
+import com.example.api.domain.subscription.SubscriptionPlan;
+import com.example.api.domain.user.UserId;
+import com.example.api.domain.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InMemoryProjectQuotasTest {
+
+    private static final Instant START = Instant.parse("2026-03-31T23:59:00Z");
+
+    private final ProjectId projectId = ProjectId.generate();
+    private final OrganizationId organizationId = OrganizationId.generate();
+
+    private ProjectRepository projectRepository;
+    private UserRepository userRepository;
+    private MonthlyActiveUserRepository activeUserRepository;
+    private QuotaProperties properties;
+    private MutableClock clock;
+    private InMemoryProjectQuotas quotas;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = Mockito.mock(ProjectRepository.class);
+        userRepository = Mockito.mock(UserRepository.class);
+        activeUserRepository = Mockito.mock(MonthlyActiveUserRepository.class);
+
+        final var project = Mockito.mock(Project.class);
+        when(project.getOrganizationId()).thenReturn(organizationId);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(userRepository.countByProjectIds(anyCollection())).thenReturn(Map.of(projectId, 1L));
+        when(activeUserRepository.findUserIds(any(), any())).thenReturn(new HashSet<>());
+
+        properties = new QuotaProperties();
+        properties.setBasic(new QuotaProperties.Plan(2, 2, 3));
+        clock = new MutableClock(START);
+        quotas = new InMemoryProjectQuotas(
+                properties, projectRepository, userRepository, activeUserRepository, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void sdkRequestsAreLimitedPerMinute() {
+        clock.advance(Duration.ofSeconds(1));
+        for (var i = 0; i < 3; i++) {
+            assertTrue(quotas.tryAcquireSdkRequest(projectId));
+        }
+        assertFalse(quotas.tryAcquireSdkRequest(projectId));
+
+        clock.advance(Duration.ofMinutes(1));
+
+        assertTrue(quotas.tryAcquireSdkRequest(projectId));
+    }
+
+    @Test
+    void concurrentSdkRequestsNeverExceedTheLimit() throws Exception {
+        properties.setBasic(new QuotaProperties.Plan(2, 2, 1000));
+        final var accepted = new AtomicInteger();
+        try (final var executor = Executors.newFixedThreadPool(8)) {
+            final var start = new CountDownLatch(1);
+            for (var thread = 0; thread < 8; thread++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (var i = 0; i < 500; i++) {
+                        if (quotas.tryAcquireSdkRequest(projectId)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(1000, accepted.get());
+    }
+
+    @Test
+    void countersAreLoadedOncePerProject() {
+        for (var i = 0; i < 3; i++) {
+            quotas.tryAcquireSdkRequest(projectId);
+        }
+        quotas.checkEndUserCapacity(projectId);
+
+        verify(userRepository, times(1)).countByProjectIds(anyCollection());
+        verify(activeUserRepository, times(1)).findUserIds(any(), any());
+    }
+
+    @Test
+    void registrationIsRejectedAtEndUserLimit() {
+        assertDoesNotThrow(() -> quotas.checkEndUserCapacity(projectId));
+        quotas.recordEndUserRegistered(projectId, UserId.generate());
+
+        final var exception = assertThrows(QuotaExceededException.class,
+                () -> quotas.checkEndUserCapacity(projectId));
+        assertEquals(QuotaType.END_USERS, exception.getQuotaType());
+        assertEquals(2, exception.getLimit());
+    }
+
+    @Test
+    void onlyNewUsersAreRejectedAtMonthlyActiveLimit() {
+        final var first = UserId.generate();
+        final var second = UserId.generate();
+        quotas.recordActiveUser(projectId, first);
+        quotas.recordActiveUser(projectId, second);
+
+        final var exception = assertThrows(QuotaExceededException.class,
+                () -> quotas.recordActiveUser(projectId, UserId.generate()));
+        assertEquals(QuotaType.MONTHLY_ACTIVE_USERS, exception.getQuotaType());
+        assertDoesNotThrow(() -> quotas.recordActiveUser(projectId, first));
+    }
+
+    @Test
+    void monthlyActiveUsersResetWhenTheMonthTurns() {
+        quotas.recordActiveUser(projectId, UserId.generate());
+        quotas.recordActiveUser(projectId, UserId.generate());
+
+        clock.advance(Duration.ofMinutes(2));
+
+        assertDoesNotThrow(() -> quotas.recordActiveUser(projectId, UserId.generate()));
+    }
+
+    @Test
+    void activeUsersFromSnapshotCountAfterRestart() {
+        final var returning = UserId.generate();
+        when(activeUserRepository.findUserIds(projectId, YearMonth.of(2026, 3)))
+                .thenReturn(new HashSet<>(Set.of(returning, UserId.generate())));
+
+        assertDoesNotThrow(() -> quotas.recordActiveUser(projectId, returning));
+        assertThrows(QuotaExceededException.class, () -> quotas.recordActiveUser(projectId, UserId.generate()));
+    }
+
+    @Test
+    void snapshotWritesEachNewActiveUserOnce() {
+        final var userId = UserId.generate();
+        quotas.recordActiveUser(projectId, userId);
+        quotas.recordActiveUser(projectId, userId);
+
+        quotas.snapshot();
+        quotas.snapshot();
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<MonthlyActiveUser>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activeUserRepository, times(1)).appendAll(captor.capture());
+        final var entry = captor.getValue().getFirst();
+        assertEquals(1, captor.getValue().size());
+        assertEquals(userId, entry.userId());
+        assertEquals(YearMonth.of(2026, 3), entry.month());
+    }
+
+    @Test
+    void reconcileResetsCountsAndPicksUpPlanChanges() {
+        quotas.recordEndUserRegistered(projectId, UserId.generate());
+        assertThrows(QuotaExceededException.class, () -> quotas.checkEndUserCapacity(projectId));
+
+        properties.setOrganizationPlans(Map.of(organizationId.value(), SubscriptionPlan.PRO));
+        when(userRepository.countByProjectIds(anyCollection())).thenReturn(Map.of(projectId, 2L));
+        quotas.reconcile();
+
+        assertDoesNotThrow(() -> quotas.checkEndUserCapacity(projectId));
+    }
+
+    @Test
+    void disabledQuotasAllowEverything() {
+        properties.setEnabled(false);
+
+        for (var i = 0; i < 10; i++) {
+            assertTrue(quotas.tryAcquireSdkRequest(projectId));
+            quotas.recordEndUserRegistered(projectId, UserId.generate());
+        }
+        assertDoesNotThrow(() -> quotas.checkEndUserCapacity(projectId));
+        verify(userRepository, Mockito.never()).countByProjectIds(anyCollection());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
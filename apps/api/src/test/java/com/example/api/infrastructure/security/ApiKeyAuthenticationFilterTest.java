@@ -0,0 +1,89 @@
+package com.example.api.infrastructure.security;
+
+import com.example.api.domain.apikey.ApiKey;
+import com.example.api.domain.apikey.ApiKeyRepository;
+import com.example.api.domain.environment.EnvironmentId;
+import com.example.api.domain.environment.EnvironmentType;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.quota.ProjectQuotas;
+import com.example.api.infrastructure.bulkhead.TenantBulkheads;
+import com.example.api.infrastructure.metrics.AuthMetrics;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApiKeyAuthenticationFilterTest {
+
+    private final ProjectId projectId = ProjectId.generate();
+
+    private ProjectQuotas projectQuotas;
+    private TenantBulkheads tenantBulkheads;
+    private FilterChain chain;
+    private ApiKeyAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        final var apiKeyRepository = Mockito.mock(ApiKeyRepository.class);
+        when(apiKeyRepository.findByKeyHash(any())).thenReturn(Optional.of(
+                ApiKey.create(projectId, EnvironmentId.generate(), EnvironmentType.DEV, "sdk", "hash")));
+        projectQuotas = Mockito.mock(ProjectQuotas.class);
+        tenantBulkheads = Mockito.mock(TenantBulkheads.class);
+        chain = Mockito.mock(FilterChain.class);
+        filter = new ApiKeyAuthenticationFilter(apiKeyRepository, Mockito.mock(AuthMetrics.class),
+                projectQuotas, tenantBulkheads);
+    }
+
+    @Test
+    void busyProjectIsNotChargedToTheQuota() throws Exception {
+        when(tenantBulkheads.tryEnter(projectId)).thenReturn(false);
+
+        final var response = dispatch();
+
+        assertEquals(503, response.getStatus());
+        verify(projectQuotas, never()).tryAcquireSdkRequest(any());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void quotaRejectionReleasesTheBulkheadPermit() throws Exception {
+        when(tenantBulkheads.tryEnter(projectId)).thenReturn(true);
+        when(projectQuotas.tryAcquireSdkRequest(projectId)).thenReturn(false);
+
+        final var response = dispatch();
+
+        assertEquals(429, response.getStatus());
+        verify(tenantBulkheads).exit();
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void admittedRequestReleasesThePermitAfterTheChain() throws Exception {
+        when(tenantBulkheads.tryEnter(projectId)).thenReturn(true);
+        when(projectQuotas.tryAcquireSdkRequest(projectId)).thenReturn(true);
+
+        final var response = dispatch();
+
+        assertEquals(200, response.getStatus());
+        verify(chain).doFilter(any(), any());
+        verify(tenantBulkheads).exit();
+    }
+
+    private MockHttpServletResponse dispatch() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/end-users/me");
+        request.addHeader("X-API-Key", "pk_dev_key");
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.api.infrastructure.security;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the client against a local stub of the GitHub emails API whose latency
+ * and status can be changed per test.
+ */
+class GithubEmailClientTest {
+
+    private static final String EMAILS = """
+            [{"email":"secondary@example.com","primary":false,"verified":true},
+             {"email":"user@example.com","primary":true,"verified":true}]""";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int status = 200;
+    private volatile String accept;
+    private volatile Error clientError;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private GithubEmailClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/user/emails", exchange -> {
+            requests.incrementAndGet();
+            accept = exchange.getRequestHeaders().getFirst("Accept");
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final var body = EMAILS.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            try {
+                exchange.sendResponseHeaders(status, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (IOException e) {
+                // The client gave up and closed the connection
+            }
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        final var properties = new GithubEmailProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setReadTimeout(Duration.ofSeconds(1));
+        properties.setFailureThreshold(2);
+        properties.setOpenDuration(Duration.ofSeconds(30));
+        final var builder = RestClient.builder().requestInterceptor((request, body, execution) -> {
+            if (clientError != null) {
+                throw clientError;
+            }
+            return execution.execute(request, body);
+        });
+        client = new GithubEmailClient(builder, properties, registry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void returnsVerifiedPrimaryEmailAndCachesItPerUser() {
+        assertEquals(Optional.of("user@example.com"), client.fetchPrimaryEmail("42", "token"));
+        assertEquals(Optional.of("user@example.com"), client.fetchPrimaryEmail("42", "another-token"));
+
+        assertEquals(1, requests.get());
+        assertEquals("application/vnd.github+json", accept);
+        assertEquals(1, registry.get("github.email.lookups").tag("outcome", "cached").counter().count());
+    }
+
+    @Test
+    void slowResponseTimesOutAtTheReadTimeout() {
+        latency = Duration.ofSeconds(3);
+
+        final var started = System.nanoTime();
+        final var email = client.fetchPrimaryEmail("42", "token");
+        final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertEquals(Optional.empty(), email);
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) < 0, "took " + elapsed);
+    }
+
+    @Test
+    void repeatedTimeoutsOpenTheCircuitAndLaterCallsFailFast() {
+        latency = Duration.ofSeconds(3);
+        client.fetchPrimaryEmail("1", "token");
+        client.fetchPrimaryEmail("2", "token");
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        final var started = System.nanoTime();
+        final var email = client.fetchPrimaryEmail("3", "token");
+        final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertEquals(Optional.empty(), email);
+        assertTrue(elapsed.compareTo(Duration.ofMillis(100)) < 0, "took " + elapsed);
+        assertEquals(2, requests.get());
+        assertEquals(1, registry.get("github.email.lookups").tag("outcome", "rejected").counter().count());
+        assertEquals(1, registry.get("github.email.circuit.open").gauge().value());
+    }
+
+    @Test
+    void cachedEmailsAreServedWhileTheCircuitIsOpen() {
+        assertEquals(Optional.of("user@example.com"), client.fetchPrimaryEmail("42", "token"));
+        status = 503;
+        client.fetchPrimaryEmail("1", "token");
+        client.fetchPrimaryEmail("2", "token");
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        assertEquals(Optional.of("user@example.com"), client.fetchPrimaryEmail("42", "token"));
+    }
+
+    @Test
+    void trialCallAfterTheOpenPeriodClosesTheCircuitWhenGithubRecovers() {
+        status = 503;
+        client.fetchPrimaryEmail("1", "token");
+        client.fetchPrimaryEmail("2", "token");
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        status = 200;
+        clock.advance(Duration.ofSeconds(31));
+
+        assertEquals(Optional.of("user@example.com"), client.fetchPrimaryEmail("3", "token"));
+        assertEquals(CircuitBreaker.State.CLOSED, client.circuitState());
+    }
+
+    @Test
+    void failedTrialCallReopensTheCircuit() {
+        status = 503;
+        client.fetchPrimaryEmail("1", "token");
+        client.fetchPrimaryEmail("2", "token");
+        clock.advance(Duration.ofSeconds(31));
+
+        assertEquals(Optional.empty(), client.fetchPrimaryEmail("3", "token"));
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void errorDuringTrialCallReopensTheCircuit() {
+        status = 503;
+        client.fetchPrimaryEmail("1", "token");
+        client.fetchPrimaryEmail("2", "token");
+        clock.advance(Duration.ofSeconds(31));
+
+        clientError = new OutOfMemoryError("simulated");
+        assertThrows(OutOfMemoryError.class, () -> client.fetchPrimaryEmail("3", "token"));
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+    }
+
+    @Test
+    void rejectedTokensDoNotOpenTheCircuit() {
+        status = 401;
+        client.fetchPrimaryEmail("1", "bad-token");
+        client.fetchPrimaryEmail("2", "bad-token");
+        client.fetchPrimaryEmail("3", "bad-token");
+
+        assertEquals(CircuitBreaker.State.CLOSED, client.circuitState());
+        assertEquals(3, requests.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
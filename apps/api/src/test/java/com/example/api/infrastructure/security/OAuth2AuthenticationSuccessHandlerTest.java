@@ -93,7 +93,7 @@ class OAuth2AuthenticationSuccessHandlerTest {
                 .thenReturn(new OAuth2UserInfo("", "GitHub User"));
         when(authorizedClientService.loadAuthorizedClient("github", authentication.getName()))
                 .thenReturn(authorizedClient);
-        when(githubEmailClient.fetchPrimaryEmail("token"))
+        when(githubEmailClient.fetchPrimaryEmail(authentication.getName(), "token"))
                 .thenReturn(Optional.of("user@example.com"));
         when(oAuthLoginUseCase.execute("user@example.com", "GitHub User"))
                 .thenReturn(new AuthResponse(
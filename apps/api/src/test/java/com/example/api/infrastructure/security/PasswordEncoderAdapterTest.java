@@ -0,0 +1,75 @@
+package com.example.api.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class PasswordEncoderAdapterTest {
+
+    @Test
+    void limitsConcurrentHashing() throws Exception {
+        final var bcrypt = Mockito.mock(BCryptPasswordEncoder.class);
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+        when(bcrypt.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return true;
+        });
+        final var adapter = new PasswordEncoderAdapter(bcrypt, 2, new SimpleMeterRegistry());
+        final var done = new CountDownLatch(16);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 16; i++) {
+                executor.submit(() -> {
+                    adapter.matches("password", "hash");
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void releasesPermitWhenHashingFails() {
+        final var bcrypt = Mockito.mock(BCryptPasswordEncoder.class);
+        when(bcrypt.encode(anyString())).thenThrow(new IllegalArgumentException("boom")).thenReturn("hash");
+        final var adapter = new PasswordEncoderAdapter(bcrypt, 1, new SimpleMeterRegistry());
+
+        try {
+            adapter.encode("password");
+        } catch (IllegalArgumentException expected) {
+            // permit must still be released
+        }
+
+        assertEquals("hash", adapter.encode("password"));
+    }
+
+    @Test
+    void recordsHashingDurations() {
+        final var bcrypt = Mockito.mock(BCryptPasswordEncoder.class);
+        when(bcrypt.encode(anyString())).thenReturn("hash");
+        final var registry = new SimpleMeterRegistry();
+        final var adapter = new PasswordEncoderAdapter(bcrypt, 1, registry);
+
+        adapter.encode("password");
+
+        assertEquals(1, registry.get("auth.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(0, registry.get("auth.password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(1, registry.get("auth.password.permit.wait").timer().count());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.api.infrastructure.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AdaptiveConcurrencyFilterTest {
+
+    private ConcurrencyLimiters limiters;
+    private AdaptiveConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        final var properties = new ConcurrencyLimitProperties();
+        properties.setSdkAuth(new ConcurrencyLimitProperties.Limit(1, 1, 1));
+        limiters = new ConcurrencyLimiters(properties);
+        filter = new AdaptiveConcurrencyFilter(limiters);
+    }
+
+    @Test
+    void shedsRequestsWhenClassIsSaturated() throws Exception {
+        limiters.get(TrafficClass.SDK_AUTH).tryAcquire();
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/end-users/auth/login"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        assertEquals(1, limiters.get(TrafficClass.SDK_AUTH).getRejected());
+    }
+
+    @Test
+    void otherClassesAreUnaffected() throws Exception {
+        limiters.get(TrafficClass.SDK_AUTH).tryAcquire();
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/end-users/me"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void releasesSlotAfterRequest() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/end-users/auth/login"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(0, limiters.get(TrafficClass.SDK_AUTH).getInflight());
+    }
+}
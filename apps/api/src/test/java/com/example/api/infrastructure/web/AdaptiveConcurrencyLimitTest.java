@@ -0,0 +1,91 @@
+package com.example.api.infrastructure.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofMillis(20).toNanos();
+
+    @Test
+    void rejectsOnceLimitIsReached() {
+        final var limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        assertEquals(2, limit.getInflight());
+        assertEquals(1, limit.getRejected());
+
+        limit.release(FAST);
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() {
+        final var limit = new AdaptiveConcurrencyLimit(100, 10, 200, 2.0);
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(FAST);
+        }
+        assertEquals(100, limit.getLimit());
+
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW);
+        }
+
+        assertTrue(limit.getLimit() < 50, "limit was " + limit.getLimit());
+    }
+
+    @Test
+    void growsWhenSaturatedAndLatencyIsStable() {
+        final var limit = new AdaptiveConcurrencyLimit(10, 1, 100, 2.0);
+
+        for (int round = 0; round < 5; round++) {
+            final var acquired = limit.getLimit();
+            for (int i = 0; i < acquired; i++) {
+                assertTrue(limit.tryAcquire());
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(FAST);
+            }
+        }
+
+        assertTrue(limit.getLimit() > 10, "limit was " + limit.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhileUnderused() {
+        final var limit = new AdaptiveConcurrencyLimit(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(FAST);
+        }
+
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void staysWithinBounds() {
+        final var limit = new AdaptiveConcurrencyLimit(5, 3, 8, 2.0);
+        for (int i = 0; i < 200; i++) {
+            final var acquired = limit.getLimit();
+            for (int j = 0; j < acquired; j++) {
+                limit.tryAcquire();
+            }
+            for (int j = 0; j < acquired; j++) {
+                limit.release(i < 100 ? FAST : SLOW * (i - 99));
+            }
+            assertTrue(limit.getLimit() >= 3 && limit.getLimit() <= 8, "limit was " + limit.getLimit());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.api.infrastructure.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PreEncodedErrorTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void apiErrorBodyHasApiErrorShapeWithFreshTimestamp() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var before = Instant.now();
+
+        PreEncodedError.apiError(401, "Invalid email or password").writeTo(response);
+
+        final var body = jsonMapper.readTree(response.getContentAsByteArray());
+        assertEquals(401, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertEquals(401, body.path("status").asInt());
+        assertEquals("Invalid email or password", body.path("message").asString());
+        assertFalse(Instant.parse(body.path("timestamp").asString()).isBefore(before));
+    }
+
+    @Test
+    void errorFieldBodyEscapesMessage() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        PreEncodedError.errorField(503, "Say \"retry\"\\later").writeTo(response);
+
+        final var body = jsonMapper.readTree(response.getContentAsByteArray());
+        assertEquals(503, response.getStatus());
+        assertEquals("Say \"retry\"\\later", body.path("error").asString());
+    }
+}
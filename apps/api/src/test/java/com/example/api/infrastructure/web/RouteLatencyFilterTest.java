@@ -0,0 +1,94 @@
+package com.example.api.infrastructure.web;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteLatencyFilterTest {
+
+    private RouteLatencyHistograms histograms;
+    private RouteLatencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        histograms = new RouteLatencyHistograms(new RouteLatencyProperties());
+        filter = new RouteLatencyFilter(histograms);
+    }
+
+    @Test
+    void recordsRouteTemplateAndProjectFromPathVariable() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/customers/orgs/o1/projects/p1/keys");
+        filter.doFilter(request, new MockHttpServletResponse(), dispatch(request, 200));
+        histograms.rotate();
+
+        final var stats = histograms.projects("p1").getFirst();
+        assertEquals("/api/v1/customers/orgs/{orgId}/projects/{projectId}/keys", stats.route());
+        assertEquals("GET", stats.method());
+        assertEquals(1, stats.count());
+    }
+
+    @Test
+    void leavesProjectUntaggedWhenRequestIsRejected() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/customers/orgs/o1/projects/made-up/keys");
+        filter.doFilter(request, new MockHttpServletResponse(), dispatch(request, 404));
+        histograms.rotate();
+
+        assertTrue(histograms.projects(null).isEmpty());
+        assertEquals(1, histograms.routes().getFirst().count());
+    }
+
+    @Test
+    void groupsUnmatchedRequests() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/unknown/abc"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        histograms.rotate();
+
+        assertEquals(RouteLatencyFilter.UNMATCHED_ROUTE, histograms.routes().getFirst().route());
+        assertTrue(histograms.projects(null).isEmpty());
+    }
+
+    @Test
+    void foldsNonStandardMethodsIntoOneSeries() throws Exception {
+        for (final var method : new String[]{"FOO", "BAR", "X-RANDOM"}) {
+            filter.doFilter(new MockHttpServletRequest(method, "/api/unknown/abc"),
+                    new MockHttpServletResponse(), new MockFilterChain());
+        }
+        histograms.rotate();
+
+        final var routes = histograms.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RouteLatencyFilter.OTHER_METHOD, routes.getFirst().method());
+        assertEquals(3, routes.getFirst().count());
+    }
+
+    /**
+     * Simulates dispatch to the keys route, completing with {@code status}.
+     */
+    private static MockFilterChain dispatch(MockHttpServletRequest request, int status) {
+        return new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                final var route = "/api/v1/customers/orgs/{orgId}/projects/{projectId}/keys";
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+                req.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                        Map.of("orgId", "o1", "projectId", request.getRequestURI().split("/")[7]));
+                final var response = (HttpServletResponse) res;
+                final var interceptor = new RouteLatencyProjectInterceptor();
+                interceptor.preHandle(request, response, new Object());
+                response.setStatus(status);
+                interceptor.afterCompletion(request, response, new Object(), null);
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.api.infrastructure.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteLatencyHistogramsTest {
+
+    private static final String ROUTE = "/api/v1/end-users/me";
+
+    private RouteLatencyHistograms histograms;
+
+    @BeforeEach
+    void setUp() {
+        final var properties = new RouteLatencyProperties();
+        properties.setSlice(Duration.ofSeconds(10));
+        properties.setSlices(3);
+        properties.setMaxSeries(3);
+        histograms = new RouteLatencyHistograms(properties);
+    }
+
+    @Test
+    void reportsPercentilesAndThroughputAfterRotation() {
+        for (var i = 1; i <= 1000; i++) {
+            histograms.record("GET", ROUTE, "project-1", TimeUnit.MICROSECONDS.toNanos(i * 10L));
+        }
+        assertTrue(histograms.routes().isEmpty());
+
+        histograms.rotate();
+
+        final var stats = histograms.routes().getFirst();
+        assertEquals(1000, stats.count());
+        assertEquals(100.0, stats.requestsPerSecond(), 0.001);
+        assertEquals(5.0, stats.p50Millis(), 0.1);
+        assertEquals(9.9, stats.p99Millis(), 0.1);
+        assertEquals(10.0, stats.p999Millis(), 0.1);
+    }
+
+    @Test
+    void keepsPerProjectSeries() {
+        histograms.record("GET", ROUTE, "project-1", TimeUnit.MILLISECONDS.toNanos(1));
+        histograms.record("GET", ROUTE, "project-2", TimeUnit.MILLISECONDS.toNanos(50));
+        histograms.rotate();
+
+        final var slowest = histograms.projects(null).getFirst();
+        assertEquals("project-2", slowest.projectId());
+        assertEquals(1, histograms.projects("project-1").size());
+        assertEquals(2, histograms.routes().getFirst().count());
+    }
+
+    @Test
+    void foldsProjectsBeyondCap() {
+        histograms.record("GET", ROUTE, "project-1", 1_000);
+        histograms.record("GET", ROUTE, "project-2", 1_000);
+        histograms.record("GET", ROUTE, "project-3", 1_000);
+        histograms.record("GET", ROUTE, "project-4", 1_000);
+        histograms.rotate();
+
+        assertEquals(1, histograms.projects("project-3").size());
+        assertEquals(1, histograms.projects(RouteLatencyHistograms.OTHER_PROJECTS).size());
+        assertTrue(histograms.projects("project-4").isEmpty());
+    }
+
+    @Test
+    void capCountsProjectsNotRoutes() {
+        for (var i = 0; i < 5; i++) {
+            histograms.record("GET", ROUTE + "/" + i, "project-1", 1_000);
+        }
+        histograms.record("GET", ROUTE, "project-2", 1_000);
+        histograms.rotate();
+
+        assertEquals(5, histograms.projects("project-1").size());
+        assertEquals(1, histograms.projects("project-2").size());
+        assertTrue(histograms.projects(RouteLatencyHistograms.OTHER_PROJECTS).isEmpty());
+    }
+
+    @Test
+    void releasesCapOnceProjectSeriesExpire() {
+        histograms.record("GET", ROUTE, "project-1", 1_000);
+        histograms.record("GET", ROUTE, "project-2", 1_000);
+        histograms.record("GET", ROUTE, "project-3", 1_000);
+        for (var i = 0; i <= 3; i++) {
+            histograms.rotate();
+        }
+
+        histograms.record("GET", ROUTE, "project-4", 1_000);
+        histograms.rotate();
+
+        assertEquals(1, histograms.projects("project-4").size());
+    }
+
+    @Test
+    void stopsCreatingSeriesAtTheTotalCap() {
+        final var properties = new RouteLatencyProperties();
+        properties.setMaxTotalSeries(2);
+        final var capped = new RouteLatencyHistograms(properties);
+
+        capped.record("GET", ROUTE, null, 1_000);
+        capped.record("POST", ROUTE, null, 1_000);
+        capped.record("PUT", ROUTE, null, 1_000);
+        capped.record("GET", ROUTE, null, 1_000);
+        capped.rotate();
+
+        assertEquals(2, capped.routes().size());
+        assertEquals(3, capped.routes().stream().mapToLong(RouteLatencyHistograms.RouteStats::count).sum());
+    }
+
+    @Test
+    void dropsSamplesOnceOutsideWindow() {
+        histograms.record("GET", ROUTE, null, 1_000);
+        histograms.rotate();
+        histograms.rotate();
+        histograms.rotate();
+        assertEquals(1, histograms.routes().getFirst().count());
+
+        histograms.rotate();
+
+        assertTrue(histograms.routes().isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.api.infrastructure.webhook;
+
+import org.apache.hc.client5.http.DnsResolver;
+import org.junit.jupiter.api.Test;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WebhookAddressGuardTest {
+
+    @Test
+    void treatsInternalRangesAsInternal() throws UnknownHostException {
+        final var addresses = List.of(
+                "127.0.0.1", "10.0.0.5", "172.16.0.1", "192.168.1.10", "169.254.169.254", "0.0.0.0",
+                "0.1.2.3", "100.64.0.1", "100.127.255.254", "224.0.0.1",
+                "::1", "::", "fe80::1", "fd00::1", "ff02::1");
+
+        for (final var address : addresses) {
+            assertTrue(WebhookAddressGuard.isInternal(InetAddress.getByName(address)), address);
+        }
+    }
+
+    @Test
+    void treatsIpv4MappedInternalAddressesAsInternal() throws UnknownHostException {
+        // Built from raw bytes, because parsing the text form already yields an IPv4 address
+        final var mapped = Inet6Address.getByAddress(null,
+                new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff, (byte) 0xff, 10, 0, 0, 1}, -1);
+
+        assertTrue(WebhookAddressGuard.isInternal(mapped));
+        assertTrue(WebhookAddressGuard.isInternal(InetAddress.getByName("::ffff:10.0.0.1")));
+        assertTrue(WebhookAddressGuard.isInternal(InetAddress.getByName("::ffff:127.0.0.1")));
+    }
+
+    @Test
+    void treatsPublicAddressesAsExternal() throws UnknownHostException {
+        for (final var address : List.of("93.184.216.34", "100.63.255.255", "100.128.0.1", "2606:2800:220:1::1")) {
+            assertFalse(WebhookAddressGuard.isInternal(InetAddress.getByName(address)), address);
+        }
+    }
+
+    @Test
+    void rejectsAHostWithAnyInternalAddress() throws UnknownHostException {
+        final var guard = new WebhookAddressGuard(resolvingTo("93.184.216.34", "10.0.0.1"), false);
+
+        assertThrows(WebhookAddressBlockedException.class, () -> guard.resolve("hooks.example.test"));
+    }
+
+    @Test
+    void returnsTheCheckedAddresses() throws UnknownHostException {
+        final var guard = new WebhookAddressGuard(resolvingTo("93.184.216.34"), false);
+
+        assertArrayEquals(new InetAddress[]{InetAddress.getByName("93.184.216.34")},
+                guard.resolve("hooks.example.test"));
+    }
+
+    @Test
+    void allowsInternalAddressesInLocalDevelopment() throws UnknownHostException {
+        final var guard = new WebhookAddressGuard(resolvingTo("127.0.0.1"), true);
+
+        assertArrayEquals(new InetAddress[]{InetAddress.getLoopbackAddress()}, guard.resolve("localhost"));
+    }
+
+    private static DnsResolver resolvingTo(String... literals) throws UnknownHostException {
+        final var addresses = new InetAddress[literals.length];
+        for (var i = 0; i < literals.length; i++) {
+            addresses[i] = InetAddress.getByName(literals[i]);
+        }
+        return new DnsResolver() {
+            @Override
+            public InetAddress[] resolve(String host) {
+                return addresses.clone();
+            }
+
+            @Override
+            public String resolveCanonicalHostname(String host) {
+                return host;
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.api.infrastructure.webhook;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.webhook.WebhookDelivery;
+import com.example.api.domain.webhook.WebhookDeliveryId;
+import com.example.api.domain.webhook.WebhookDeliveryRepository;
+import com.example.api.domain.webhook.WebhookDeliveryStatus;
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import com.example.api.domain.webhook.WebhookEventType;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs two dispatchers against the same outbox table, as two instances would,
+ * and checks each row is sent by only one of them.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.security.oauth2.client.registration.github.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "app.sweeper.enabled=false",
+        "app.webhooks.enabled=false"
+})
+class WebhookDispatcherLeaseIntegrationTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        final var database = Files.createTempDirectory("webhook-lease-it").resolve("app.db");
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @Autowired
+    private WebhookDeliveryRepository deliveryRepository;
+
+    @Autowired
+    private WebhookEndpointRepository endpointRepository;
+
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private WebhookProperties properties;
+    private WebhookDispatcher first;
+    private WebhookDispatcher second;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            requests.incrementAndGet();
+            try {
+                gate.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        properties = new WebhookProperties();
+        // The test server listens on loopback
+        properties.setAllowInsecureHttp(true);
+        properties.setLease(Duration.ofMinutes(2));
+        first = dispatcher(Clock.fixed(NOW, ZoneOffset.UTC));
+        second = dispatcher(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        gate.countDown();
+        first.shutdown();
+        second.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void aLeasedBatchIsNotSentByAnotherInstance() throws InterruptedException {
+        final var endpoint = endpoint();
+        deliveryRepository.appendAll(List.of(delivery(endpoint, "e1"), delivery(endpoint, "e2")));
+
+        assertEquals(1, first.dispatch());
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (requests.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        // Still in flight on the first instance
+        assertEquals(0, second.dispatch());
+
+        gate.countDown();
+        // Looking past the lease, so rows are only missing once the first instance deleted them
+        final var pastLease = NOW.plus(properties.getLease()).plusSeconds(1);
+        while (!deliveryRepository.findDue(pastLease, 100, Set.of(), 100).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(deliveryRepository.findDue(pastLease, 100, Set.of(), 100).isEmpty());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void anExpiredLeaseIsTakenOver() {
+        final var endpoint = endpoint();
+        final var delivery = delivery(endpoint, "e1");
+        deliveryRepository.appendAll(List.of(delivery));
+        final var ids = List.of(delivery.getId());
+        // An instance that claimed the row and then died
+        assertEquals(Set.of(delivery.getId()),
+                deliveryRepository.claim(ids, "crashed", NOW, NOW.plus(properties.getLease())));
+
+        assertTrue(deliveryRepository.claim(ids, "other", NOW.plusSeconds(60), NOW.plusSeconds(180)).isEmpty());
+        assertTrue(deliveryRepository.findDue(NOW.plusSeconds(60), 100, Set.of(), 100).isEmpty());
+
+        final var afterExpiry = NOW.plus(properties.getLease()).plusSeconds(1);
+        assertEquals(1, deliveryRepository.findDue(afterExpiry, 100, Set.of(), 100).size());
+        assertEquals(Set.of(delivery.getId()),
+                deliveryRepository.claim(ids, "other", afterExpiry, afterExpiry.plus(properties.getLease())));
+    }
+
+    private WebhookDispatcher dispatcher(Clock clock) {
+        return new WebhookDispatcher(deliveryRepository, endpointRepository, properties,
+                new SimpleMeterRegistry(), clock);
+    }
+
+    private WebhookEndpoint endpoint() {
+        return endpointRepository.save(new WebhookEndpoint(
+                WebhookEndpointId.generate(),
+                ProjectId.generate(),
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/hook",
+                "whsec_test",
+                Set.of(WebhookEventType.END_USER_REGISTERED),
+                LocalDateTime.now()));
+    }
+
+    private static WebhookDelivery delivery(WebhookEndpoint endpoint, String eventId) {
+        return new WebhookDelivery(
+                WebhookDeliveryId.generate(),
+                endpoint.getId(),
+                eventId,
+                WebhookEventType.END_USER_REGISTERED,
+                "{\"id\":\"" + eventId + "\"}",
+                WebhookDeliveryStatus.PENDING,
+                0,
+                NOW.minusSeconds(60),
+                null,
+                NOW.minusSeconds(60));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.api.infrastructure.webhook;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.webhook.WebhookDelivery;
+import com.example.api.domain.webhook.WebhookDeliveryId;
+import com.example.api.domain.webhook.WebhookDeliveryRepository;
+import com.example.api.domain.webhook.WebhookDeliveryStatus;
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import com.example.api.domain.webhook.WebhookEventType;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the dispatcher against the real outbox table with one endpoint that
+ * never answers and holds more due rows than a poll reads, and checks a second
+ * endpoint still gets all of its deliveries.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.security.oauth2.client.registration.github.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "app.sweeper.enabled=false",
+        "app.webhooks.enabled=false"
+})
+class WebhookDispatcherStarvationIntegrationTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final int POLL_LIMIT = 5;
+    private static final int STUCK_ROWS = 20;
+    private static final int HEALTHY_ROWS = 3;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        final var database = Files.createTempDirectory("webhook-it").resolve("app.db");
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @Autowired
+    private WebhookDeliveryRepository deliveryRepository;
+
+    @Autowired
+    private WebhookEndpointRepository endpointRepository;
+
+    private final CountDownLatch stuckGate = new CountDownLatch(1);
+    private final AtomicInteger healthyRequests = new AtomicInteger();
+    private HttpServer server;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/stuck", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                stuckGate.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/healthy", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            healthyRequests.incrementAndGet();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        final var properties = new WebhookProperties();
+        // The test servers listen on loopback
+        properties.setAllowInsecureHttp(true);
+        properties.setPollLimit(POLL_LIMIT);
+        properties.setBatchSize(1);
+        properties.setMaxConcurrencyPerEndpoint(1);
+        properties.setRequestTimeout(Duration.ofSeconds(30));
+        dispatcher = new WebhookDispatcher(deliveryRepository, endpointRepository, properties,
+                new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        stuckGate.countDown();
+        dispatcher.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void stuckEndpointBacklogDoesNotStarveOtherEndpoints() throws InterruptedException {
+        final var stuck = endpoint("/stuck");
+        final var healthy = endpoint("/healthy");
+        final var deliveries = new ArrayList<WebhookDelivery>();
+        // The stuck endpoint's rows are all older, so an oldest-first page would hold only them
+        for (var i = 0; i < STUCK_ROWS; i++) {
+            deliveries.add(delivery(stuck, "stuck-" + i, NOW.minusSeconds(600 - i)));
+        }
+        for (var i = 0; i < HEALTHY_ROWS; i++) {
+            deliveries.add(delivery(healthy, "healthy-" + i, NOW.minusSeconds(60 - i)));
+        }
+        deliveryRepository.appendAll(deliveries);
+
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (healthyRequests.get() < HEALTHY_ROWS && System.nanoTime() < deadline) {
+            dispatcher.dispatch();
+            Thread.sleep(20);
+        }
+
+        assertEquals(HEALTHY_ROWS, healthyRequests.get());
+        assertEquals(1, stuckGate.getCount());
+        final var remaining = deliveryRepository.findDue(NOW, STUCK_ROWS + HEALTHY_ROWS, Set.of(), 100);
+        assertTrue(remaining.stream().allMatch(delivery -> delivery.getEndpointId().equals(stuck.getId())));
+    }
+
+    private WebhookEndpoint endpoint(String path) {
+        return endpointRepository.save(new WebhookEndpoint(
+                WebhookEndpointId.generate(),
+                ProjectId.generate(),
+                "http://127.0.0.1:" + server.getAddress().getPort() + path,
+                "whsec_test",
+                Set.of(WebhookEventType.END_USER_REGISTERED),
+                LocalDateTime.now()));
+    }
+
+    private static WebhookDelivery delivery(WebhookEndpoint endpoint, String eventId, Instant due) {
+        return new WebhookDelivery(
+                WebhookDeliveryId.generate(),
+                endpoint.getId(),
+                eventId,
+                WebhookEventType.END_USER_REGISTERED,
+                "{\"id\":\"" + eventId + "\"}",
+                WebhookDeliveryStatus.PENDING,
+                0,
+                due,
+                null,
+                due);
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.api.infrastructure.webhook;
+
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.webhook.WebhookDelivery;
+import com.example.api.domain.webhook.WebhookDeliveryId;
+import com.example.api.domain.webhook.WebhookDeliveryRepository;
+import com.example.api.domain.webhook.WebhookDeliveryStatus;
+import com.example.api.domain.webhook.WebhookEndpoint;
+import com.example.api.domain.webhook.WebhookEndpointId;
+import com.example.api.domain.webhook.WebhookEndpointRepository;
+import com.example.api.domain.webhook.WebhookEventType;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.DnsResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebhookDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String SECRET = "whsec_test";
+
+    private record ReceivedRequest(String signature, String contentType, byte[] body) {
+    }
+
+    private HttpServer server;
+    private final LinkedBlockingQueue<ReceivedRequest> received = new LinkedBlockingQueue<>();
+    private volatile int responseStatus = 204;
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    private WebhookDeliveryRepository deliveryRepository;
+    private WebhookEndpointRepository endpointRepository;
+    private WebhookProperties properties;
+    private WebhookDispatcher dispatcher;
+    private WebhookEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            final var body = exchange.getRequestBody().readAllBytes();
+            received.add(new ReceivedRequest(
+                    exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER),
+                    exchange.getRequestHeaders().getFirst("Content-Type"),
+                    body));
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(responseStatus, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        deliveryRepository = Mockito.mock(WebhookDeliveryRepository.class);
+        endpointRepository = Mockito.mock(WebhookEndpointRepository.class);
+        endpoint = new WebhookEndpoint(
+                WebhookEndpointId.generate(),
+                ProjectId.generate(),
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/hook",
+                SECRET,
+                Set.of(WebhookEventType.END_USER_REGISTERED),
+                LocalDateTime.now());
+        when(endpointRepository.findById(endpoint.getId())).thenReturn(Optional.of(endpoint));
+        // No other instance holds a lease
+        when(deliveryRepository.claim(any(), any(), any(), any()))
+                .thenAnswer(invocation -> Set.copyOf(invocation.<Collection<WebhookDeliveryId>>getArgument(0)));
+
+        properties = new WebhookProperties();
+        // The test server listens on loopback
+        properties.setAllowInsecureHttp(true);
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxAttempts(3);
+        dispatcher = newDispatcher();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        gate.countDown();
+        dispatcher.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void deliversDueEventsAsOneSignedBatchAndDeletesThem() throws InterruptedException {
+        final var first = delivery("e1", 0);
+        final var second = delivery("e2", 0);
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(List.of(first, second));
+
+        assertEquals(1, dispatcher.dispatch());
+
+        final var request = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request);
+        final var body = new String(request.body(), StandardCharsets.UTF_8);
+        assertEquals("{\"events\":[{\"id\":\"e1\"},{\"id\":\"e2\"}]}", body);
+        assertEquals("application/json", request.contentType());
+        assertEquals(WebhookSigner.sign(SECRET, NOW.getEpochSecond(), request.body()), request.signature());
+        assertTrue(request.signature().startsWith("t=" + NOW.getEpochSecond() + ",v1="));
+
+        verify(deliveryRepository, timeout(5000)).deleteAll(List.of(first.getId(), second.getId()));
+        verify(deliveryRepository, never()).save(any());
+    }
+
+    @Test
+    void sendsOnlyTheDeliveriesItClaimed() throws InterruptedException {
+        final var mine = delivery("e1", 0);
+        final var leasedElsewhere = delivery("e2", 0);
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(List.of(mine, leasedElsewhere));
+        doReturn(Set.of(mine.getId())).when(deliveryRepository).claim(any(), any(), any(), any());
+
+        assertEquals(1, dispatcher.dispatch());
+
+        final var request = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertEquals("{\"events\":[{\"id\":\"e1\"}]}", new String(request.body(), StandardCharsets.UTF_8));
+        verify(deliveryRepository, timeout(5000)).deleteAll(List.of(mine.getId()));
+        verify(deliveryRepository).claim(eq(List.of(mine.getId(), leasedElsewhere.getId())), any(), eq(NOW),
+                eq(NOW.plus(properties.getLease())));
+    }
+
+    @Test
+    void skipsABatchAnotherInstanceIsSending() {
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(List.of(delivery("e1", 0)));
+        doReturn(Set.of()).when(deliveryRepository).claim(any(), any(), any(), any());
+
+        assertEquals(0, dispatcher.dispatch());
+
+        assertNull(received.poll());
+        verify(deliveryRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void serverErrorReschedulesWithBackoff() {
+        responseStatus = 500;
+        final var delivery = delivery("e1", 0);
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(List.of(delivery));
+
+        dispatcher.dispatch();
+
+        final var saved = ArgumentCaptor.forClass(WebhookDelivery.class);
+        verify(deliveryRepository, timeout(5000)).save(saved.capture());
+        final var retried = saved.getValue();
+        assertEquals(1, retried.getAttempts());
+        assertEquals(WebhookDeliveryStatus.PENDING, retried.getStatus());
+        assertEquals("HTTP 500", retried.getLastError());
+        final var delay = Duration.between(NOW, retried.getNextAttemptAt());
+        assertTrue(delay.compareTo(Duration.ofSeconds(5)) >= 0 && delay.compareTo(Duration.ofSeconds(10)) <= 0,
+                "delay " + delay);
+        verify(deliveryRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void lastAttemptMarksDeliveryFailed() {
+        responseStatus = 503;
+        final var delivery = delivery("e1", properties.getMaxAttempts() - 1);
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(List.of(delivery));
+
+        dispatcher.dispatch();
+
+        final var saved = ArgumentCaptor.forClass(WebhookDelivery.class);
+        verify(deliveryRepository, timeout(5000)).save(saved.capture());
+        assertEquals(WebhookDeliveryStatus.FAILED, saved.getValue().getStatus());
+        assertEquals(properties.getMaxAttempts(), saved.getValue().getAttempts());
+    }
+
+    @Test
+    void capsConcurrentRequestsPerEndpoint() throws InterruptedException {
+        properties.setBatchSize(1);
+        properties.setMaxConcurrencyPerEndpoint(2);
+        dispatcher.shutdown();
+        dispatcher = newDispatcher();
+        gate = new CountDownLatch(1);
+
+        final var deliveries = List.of(
+                delivery("e1", 0),
+                delivery("e2", 0),
+                delivery("e3", 0));
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(deliveries);
+
+        assertEquals(2, dispatcher.dispatch());
+        // Both slots are taken and the first two rows are in flight
+        assertEquals(0, dispatcher.dispatch());
+        verify(deliveryRepository).findDue(NOW, 2, List.of(endpoint.getId()), properties.getPollLimit());
+
+        gate.countDown();
+        final var deleted = new ArrayList<WebhookDeliveryId>();
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<WebhookDeliveryId>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(deliveryRepository, timeout(5000).times(2)).deleteAll(captor.capture());
+        captor.getAllValues().forEach(deleted::addAll);
+        assertEquals(Set.of(deliveries.get(0).getId(), deliveries.get(1).getId()), Set.copyOf(deleted));
+    }
+
+    @Test
+    void refusesHostThatResolvesToLoopbackAtSendTime() throws Exception {
+        properties.setAllowInsecureHttp(false);
+        dispatcher.shutdown();
+        // Accepted when created, repointed at this machine afterwards
+        final var rebound = new WebhookEndpoint(
+                WebhookEndpointId.generate(),
+                ProjectId.generate(),
+                "http://hooks.example.test:" + server.getAddress().getPort() + "/hook",
+                SECRET,
+                Set.of(WebhookEventType.END_USER_REGISTERED),
+                LocalDateTime.now());
+        when(endpointRepository.findById(rebound.getId())).thenReturn(Optional.of(rebound));
+        dispatcher = new WebhookDispatcher(deliveryRepository, endpointRepository, properties,
+                new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC), new DnsResolver() {
+                    @Override
+                    public InetAddress[] resolve(String host) throws UnknownHostException {
+                        return new InetAddress[]{InetAddress.getLoopbackAddress()};
+                    }
+
+                    @Override
+                    public String resolveCanonicalHostname(String host) {
+                        return host;
+                    }
+                });
+        final var delivery = new WebhookDelivery(
+                WebhookDeliveryId.generate(), rebound.getId(), "e1", WebhookEventType.END_USER_REGISTERED,
+                "{\"id\":\"e1\"}", WebhookDeliveryStatus.PENDING, 0, NOW, null, NOW);
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(List.of(delivery));
+
+        dispatcher.dispatch();
+
+        final var saved = ArgumentCaptor.forClass(WebhookDelivery.class);
+        verify(deliveryRepository, timeout(5000)).save(saved.capture());
+        assertTrue(saved.getValue().getLastError().startsWith("WebhookAddressBlockedException"),
+                saved.getValue().getLastError());
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void refusesLoopbackLiteral() throws Exception {
+        properties.setAllowInsecureHttp(false);
+        dispatcher.shutdown();
+        dispatcher = newDispatcher();
+        when(deliveryRepository.findDue(eq(NOW), anyInt(), any(), eq(properties.getPollLimit())))
+                .thenReturn(List.of(delivery("e1", 0)));
+
+        dispatcher.dispatch();
+
+        final var saved = ArgumentCaptor.forClass(WebhookDelivery.class);
+        verify(deliveryRepository, timeout(5000)).save(saved.capture());
+        assertTrue(saved.getValue().getLastError().startsWith("WebhookAddressBlockedException"),
+                saved.getValue().getLastError());
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void dropsDeliveriesOfDeletedEndpoint() {
+        final var orphan = new WebhookDelivery(
+                WebhookDeliveryId.generate(), WebhookEndpointId.generate(), "e1",
+                WebhookEventType.END_USER_REGISTERED, "{}", WebhookDeliveryStatus.PENDING, 0, NOW, null, NOW);
+        when(endpointRepository.findById(orphan.getEndpointId())).thenReturn(Optional.empty());
+        when(deliveryRepository.findDue(any(), anyInt(), any(), anyInt())).thenReturn(List.of(orphan));
+
+        assertEquals(0, dispatcher.dispatch());
+
+        verify(deliveryRepository).deleteAll(List.of(orphan.getId()));
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToMax() {
+        properties.setMaxBackoff(Duration.ofSeconds(60));
+
+        for (var attempt = 1; attempt <= 8; attempt++) {
+            final var ceiling = Math.min(60_000L, 10_000L << (attempt - 1));
+            final var delay = dispatcher.backoff(attempt).toMillis();
+            assertTrue(delay >= ceiling / 2 && delay <= ceiling, "attempt " + attempt + " delay " + delay);
+        }
+    }
+
+    private WebhookDispatcher newDispatcher() {
+        return new WebhookDispatcher(deliveryRepository, endpointRepository, properties,
+                new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private WebhookDelivery delivery(String eventId, int attempts) {
+        return new WebhookDelivery(
+                WebhookDeliveryId.generate(),
+                endpoint.getId(),
+                eventId,
+                WebhookEventType.END_USER_REGISTERED,
+                "{\"id\":\"" + eventId + "\"}",
+                WebhookDeliveryStatus.PENDING,
+                attempts,
+                NOW,
+                null,
+                NOW);
+    }
+}
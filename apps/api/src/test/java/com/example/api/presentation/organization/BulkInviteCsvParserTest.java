@@ -0,0 +1,48 @@
+package com.example.api.presentation.organization;
+
+import com.example.api.application.organization.dto.BulkInviteMembersRequest.Invitee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkInviteCsvParserTest {
+
+    @Test
+    void readsColumnsByHeaderName() {
+        final var invitees = BulkInviteCsvParser.parse("""
+                role,email
+                ADMIN,a@acme.com
+                "MEMBER" , "b@acme.com"
+
+                ,c@acme.com
+                """);
+
+        assertEquals(List.of(
+                new Invitee("a@acme.com", "ADMIN"),
+                new Invitee("b@acme.com", "MEMBER"),
+                new Invitee("c@acme.com", "")), invitees);
+    }
+
+    @Test
+    void roleColumnIsOptional() {
+        final var invitees = BulkInviteCsvParser.parse("\uFEFFEmail\r\na@acme.com\r\n");
+
+        assertEquals(List.of(new Invitee("a@acme.com", null)), invitees);
+    }
+
+    @Test
+    void shortRowsKeepTheirPlaceAsInvalidRows() {
+        final var invitees = BulkInviteCsvParser.parse("role,email\nADMIN\n");
+
+        assertEquals(List.of(new Invitee(null, "ADMIN")), invitees);
+    }
+
+    @Test
+    void rejectsMissingEmailColumn() {
+        assertThrows(IllegalArgumentException.class, () -> BulkInviteCsvParser.parse("name,role\nA,ADMIN\n"));
+        assertThrows(IllegalArgumentException.class, () -> BulkInviteCsvParser.parse(""));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.api.presentation.platformadmin;
+
+import com.example.api.infrastructure.persistence.BackupAlreadyRunningException;
+import com.example.api.infrastructure.persistence.DatabaseBackups;
+import com.example.api.presentation.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PlatformBackupControllerTest {
+
+    private MockMvc mockMvc;
+
+    private DatabaseBackups databaseBackups;
+
+    @BeforeEach
+    void setUp() {
+        databaseBackups = Mockito.mock(DatabaseBackups.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PlatformBackupController(databaseBackups))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void returnsOnlyTheBackupFileName() throws Exception {
+        when(databaseBackups.backupToDirectory()).thenReturn(new DatabaseBackups.BackupReport(
+                Path.of("/srv/api/data/backups/app-20260601T000000Z.db.gz"),
+                1024, 10, 2, 0, false, Duration.ofMillis(30), Duration.ofMillis(5)));
+
+        mockMvc.perform(post("/api/platform/admin/backups"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fileName").value("app-20260601T000000Z.db.gz"))
+                .andExpect(jsonPath("$.file").doesNotExist());
+    }
+
+    @Test
+    void rejectsBackupWhileAnotherIsRunning() throws Exception {
+        when(databaseBackups.backupToDirectory()).thenThrow(new BackupAlreadyRunningException());
+
+        mockMvc.perform(post("/api/platform/admin/backups"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void deletesTheStagedSnapshotOnceStreamed(@TempDir Path dir) throws Exception {
+        final var copy = Files.writeString(dir.resolve("snapshot-1.db"), "snapshot");
+        when(databaseBackups.stageSnapshot()).thenReturn(new DatabaseBackups.StagedSnapshot(copy, null));
+
+        final var result = mockMvc.perform(get("/api/platform/admin/backups/snapshot"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        assertTrue(Files.notExists(copy), "the staged snapshot was left on disk");
+    }
+
+    @Test
+    void rejectsSnapshotWhileAnotherIsRunning() throws Exception {
+        when(databaseBackups.stageSnapshot()).thenThrow(new BackupAlreadyRunningException());
+
+        mockMvc.perform(get("/api/platform/admin/backups/snapshot"))
+                .andExpect(status().isConflict());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.api.presentation.project;
+
+import com.example.api.application.project.ExportProjectUsersUseCase;
+import com.example.api.domain.environment.EnvironmentId;
+import com.example.api.domain.project.ProjectId;
+import com.example.api.domain.user.Email;
+import com.example.api.domain.user.Password;
+import com.example.api.domain.user.User;
+import com.example.api.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exports a million users seeded into SQLite through the real use case,
+ * repository cursor and writer pipeline.
+ *
+ * <p>Runs in the {@code memoryTest} Gradle task with a 64 MB heap; if any stage
+ * buffered the result set the export would fail with an OutOfMemoryError.</p>
+ */
+@Tag("memory")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.security.oauth2.client.registration.github.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "app.sweeper.enabled=false",
+        "app.webhooks.enabled=false"
+})
+class ProjectUserExportMemoryTest {
+
+    private static final long ROWS = 1_000_000;
+    private static final ProjectId PROJECT_ID = ProjectId.generate();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        final var database = Files.createTempDirectory("export-memory").resolve("app.db");
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database);
+    }
+
+    @Autowired
+    private ExportProjectUsersUseCase exportUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedUsers() {
+        if (projectUserCount() == ROWS) {
+            return;
+        }
+        // One user through the adapter fixes the stored column formats, then SQLite copies it
+        final var template = userRepository.save(User.registerEndUser(
+                new Email("template@example.com"),
+                Password.fromHash("hash"),
+                "Template",
+                PROJECT_ID,
+                EnvironmentId.generate()
+        ));
+        jdbcTemplate.update("""
+                insert into users (id, email, password_hash, name, role, banned, ban_reason,
+                                   project_id, environment_id, created_at, row_version)
+                with recursive n(i) as (select 1 union all select i + 1 from n where i < ?)
+                select printf('user-%07d', n.i), printf('user%d@example.com', n.i), t.password_hash,
+                       printf('User %d', n.i), t.role, t.banned, t.ban_reason,
+                       t.project_id, t.environment_id, t.created_at, t.row_version
+                from n, users t
+                where t.id = ?""", ROWS - 1, template.getId().value());
+        assertEquals(ROWS, projectUserCount());
+    }
+
+    @Test
+    void exportsMillionRowsAsNdjson() throws Exception {
+        final var counter = new LineCountingOutputStream();
+        try (final var writer = UserExportWriter.open(UserExportFormat.NDJSON, JsonMapper.builder().build(), counter, false)) {
+            exportUseCase.export(PROJECT_ID, writer);
+        }
+
+        assertEquals(ROWS, counter.lines);
+    }
+
+    @Test
+    void exportsMillionRowsAsGzipCsv(@TempDir Path tempDir) throws Exception {
+        final var file = tempDir.resolve("users.csv.gz");
+        try (final var output = Files.newOutputStream(file);
+             final var writer = UserExportWriter.open(UserExportFormat.CSV, JsonMapper.builder().build(), output, true)) {
+            exportUseCase.export(PROJECT_ID, writer);
+        }
+
+        final var counter = new LineCountingOutputStream();
+        try (final var input = new GZIPInputStream(Files.newInputStream(file))) {
+            input.transferTo(counter);
+        }
+        assertEquals(ROWS + 1, counter.lines);
+    }
+
+    private long projectUserCount() {
+        final var count = jdbcTemplate.queryForObject(
+                "select count(*) from users where project_id = ?", Long.class, PROJECT_ID.value());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Discards output while counting newline bytes.
+     */
+    private static final class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (var i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.api.presentation.project;
+
+import com.example.api.application.project.dto.ProjectUserExportRow;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserExportWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 1, 12, 30);
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void writesOneJsonObjectPerLine() throws Exception {
+        final var output = new ByteArrayOutputStream();
+        try (final var writer = UserExportWriter.open(UserExportFormat.NDJSON, jsonMapper, output, false)) {
+            writer.accept(row("u1", "a@example.com", "Alice"));
+            writer.accept(row("u2", "b@example.com", "Bob"));
+        }
+
+        final var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("u1", jsonMapper.readTree(lines[0]).get("id").asString());
+        assertEquals("b@example.com", jsonMapper.readTree(lines[1]).get("email").asString());
+    }
+
+    @Test
+    void writesCsvWithHeaderAndQuotedFields() throws Exception {
+        final var output = new ByteArrayOutputStream();
+        try (final var writer = UserExportWriter.open(UserExportFormat.CSV, jsonMapper, output, false)) {
+            writer.accept(row("u1", "a@example.com", "Smith, \"Al\""));
+        }
+
+        assertEquals("""
+                id,email,name,banned,environment_id,created_at
+                u1,a@example.com,"Smith, ""Al""\",false,env-1,2026-03-01T12:30
+                """, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void neutralisesSpreadsheetFormulasInCsv() throws Exception {
+        final var output = new ByteArrayOutputStream();
+        try (final var writer = UserExportWriter.open(UserExportFormat.CSV, jsonMapper, output, false)) {
+            writer.accept(row("u1", "@a@example.com", "=HYPERLINK(\"http://x\")"));
+            writer.accept(row("u2", "b@example.com", "-1+2"));
+            writer.accept(row("u3", "c@example.com", "Ann-Marie"));
+        }
+
+        assertEquals("""
+                id,email,name,banned,environment_id,created_at
+                u1,'@a@example.com,"'=HYPERLINK(""http://x"")",false,env-1,2026-03-01T12:30
+                u2,b@example.com,'-1+2,false,env-1,2026-03-01T12:30
+                u3,c@example.com,Ann-Marie,false,env-1,2026-03-01T12:30
+                """, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void compressesOutputWhenRequested() throws Exception {
+        final var output = new ByteArrayOutputStream();
+        try (final var writer = UserExportWriter.open(UserExportFormat.CSV, jsonMapper, output, true)) {
+            writer.accept(row("u1", "a@example.com", "Alice"));
+        }
+
+        try (final var input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            final var content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(content.startsWith("id,email"));
+            assertTrue(content.contains("u1,a@example.com,Alice"));
+        }
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () -> UserExportFormat.parse("xml"));
+        assertEquals(UserExportFormat.NDJSON, UserExportFormat.parse(null));
+        assertEquals(UserExportFormat.CSV, UserExportFormat.parse("csv"));
+    }
+
+    private static ProjectUserExportRow row(String id, String email, String name) {
+        return new ProjectUserExportRow(id, email, name, false, "env-1", CREATED_AT);
+    }
+}
@@ -10,12 +10,16 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,9 +57,55 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.id").value("user-id"));
     }
 
+    @Test
+    void getCurrentUserReturnsEtag() throws Exception {
+        when(getUserUseCase.findVersion("user-id")).thenReturn(Optional.of("v1"));
+        when(getUserUseCase.execute("user-id"))
+                .thenReturn(new UserDto("user-id", "user@example.com", "User", "USER"));
+
+        mockMvc.perform(get("/api/user/me").principal(userAuthentication()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"v1\""))
+                .andExpect(jsonPath("$.id").value("user-id"));
+    }
+
+    @Test
+    void getCurrentUserReturnsNotModifiedWithoutLoadingUser() throws Exception {
+        when(getUserUseCase.findVersion("user-id")).thenReturn(Optional.of("v1"));
+
+        mockMvc.perform(get("/api/user/me")
+                        .principal(userAuthentication())
+                        .header("If-None-Match", "W/\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"v1\""));
+
+        verify(getUserUseCase, never()).execute("user-id");
+    }
+
+    @Test
+    void getCurrentUserIgnoresStaleEtag() throws Exception {
+        when(getUserUseCase.findVersion("user-id")).thenReturn(Optional.of("v2"));
+        when(getUserUseCase.execute("user-id"))
+                .thenReturn(new UserDto("user-id", "user@example.com", "User", "USER"));
+
+        mockMvc.perform(get("/api/user/me")
+                        .principal(userAuthentication())
+                        .header("If-None-Match", "W/\"v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"v2\""));
+    }
+
     @Test
     void adminEndpointRespondsOkWithoutSecurityFilter() throws Exception {
         mockMvc.perform(get("/api/user/admin/check"))
                 .andExpect(status().isOk());
     }
+
+    private static UsernamePasswordAuthenticationToken userAuthentication() {
+        return new UsernamePasswordAuthenticationToken(
+                "user-id",
+                "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+    }
 }